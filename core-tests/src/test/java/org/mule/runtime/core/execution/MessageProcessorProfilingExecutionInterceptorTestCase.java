@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.execution;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.MuleEvent;
+import org.mule.runtime.core.api.MuleException;
+import org.mule.runtime.core.api.construct.Pipeline;
+import org.mule.runtime.core.api.processor.MessageProcessor;
+import org.mule.runtime.core.exception.MessagingException;
+import org.mule.runtime.core.management.stats.AllStatistics;
+import org.mule.runtime.core.management.stats.ProcessorProfiler;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@SmallTest
+@RunWith(MockitoJUnitRunner.class)
+public class MessageProcessorProfilingExecutionInterceptorTestCase extends AbstractMuleTestCase {
+
+  private static final String PROCESSOR_PATH = "/flow/processors/0";
+
+  @Mock
+  private MessageProcessorExecutionInterceptor mockNextInterceptor;
+  @Mock
+  private MessageProcessor mockMessageProcessor;
+  @Mock
+  private MuleContext mockMuleContext;
+  @Mock
+  private Pipeline mockPipeline;
+  @Mock
+  private MuleEvent mockMuleEvent;
+  @Mock
+  private MuleEvent mockResultMuleEvent;
+  @Mock
+  private MessagingException mockMessagingException;
+
+  private final AllStatistics statistics = new AllStatistics();
+  private ProcessorProfiler profiler;
+  private MessageProcessorProfilingExecutionInterceptor interceptor;
+
+  @Before
+  public void setUpTest() {
+    profiler = statistics.getProcessorProfiler();
+    when(mockMuleContext.getStatistics()).thenReturn(statistics);
+    when(mockPipeline.getProcessorPath(mockMessageProcessor)).thenReturn(PROCESSOR_PATH);
+    interceptor = new MessageProcessorProfilingExecutionInterceptor(mockNextInterceptor);
+    interceptor.setMuleContext(mockMuleContext);
+    interceptor.setFlowConstruct(mockPipeline);
+  }
+
+  @Test
+  public void notProfiledWhenDisabled() throws MuleException {
+    when(mockNextInterceptor.execute(mockMessageProcessor, mockMuleEvent)).thenReturn(mockResultMuleEvent);
+
+    assertThat(interceptor.execute(mockMessageProcessor, mockMuleEvent), is(mockResultMuleEvent));
+    assertThat(profiler.getProfiles().isEmpty(), is(true));
+    verify(mockPipeline, never()).getProcessorPath(mockMessageProcessor);
+  }
+
+  @Test
+  public void profiledWhenEnabled() throws MuleException {
+    profiler.setEnabled(true);
+    when(mockNextInterceptor.execute(mockMessageProcessor, mockMuleEvent)).thenReturn(mockResultMuleEvent);
+
+    assertThat(interceptor.execute(mockMessageProcessor, mockMuleEvent), is(mockResultMuleEvent));
+    assertThat(interceptor.execute(mockMessageProcessor, mockMuleEvent), is(mockResultMuleEvent));
+    assertThat(profiler.getProfiles().get(PROCESSOR_PATH).getExecutionTimeHistogram().getCount(), is(2L));
+  }
+
+  @Test
+  public void failedExecutionIsProfiled() throws MuleException {
+    profiler.setEnabled(true);
+    when(mockNextInterceptor.execute(mockMessageProcessor, mockMuleEvent)).thenThrow(mockMessagingException);
+
+    try {
+      interceptor.execute(mockMessageProcessor, mockMuleEvent);
+      fail("Exception expected");
+    } catch (MessagingException e) {
+      assertThat(e, is(mockMessagingException));
+    }
+    assertThat(profiler.getProfiles().get(PROCESSOR_PATH).getExecutionTimeHistogram().getCount(), is(1L));
+  }
+}
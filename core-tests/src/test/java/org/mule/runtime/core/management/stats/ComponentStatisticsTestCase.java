@@ -12,6 +12,9 @@ import static org.hamcrest.Matchers.equalTo;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.junit4.rule.SystemProperty;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -149,4 +152,44 @@ public class ComponentStatisticsTestCase extends AbstractMuleTestCase {
     stats.addExecutionBranchTime(true, 100L, 100L);
     assertValues(stats, 2L, 200L, 100L, 100L, 100L);
   }
+
+  @Test
+  public void executionTimesAreRecordedInHistogram() {
+    ComponentStatistics stats = new ComponentStatistics();
+    for (long i = 1; i <= 100; i++) {
+      stats.addExecutionTime(i);
+    }
+    stats.addExecutionBranchTime(true, 1000L, 1000L);
+    stats.addCompleteExecutionTime(1000L);
+
+    Histogram histogram = stats.getExecutionTimeHistogram();
+    assertThat(histogram.getCount(), equalTo(101L));
+    assertThat(histogram.getMax(), equalTo(1000L));
+    assertThat(histogram.getPercentile(50) >= 50 && histogram.getPercentile(50) < 57, equalTo(true));
+
+    stats.clear();
+    assertThat(histogram.getCount(), equalTo(0L));
+  }
+
+  @Test
+  public void concurrentExecutionTimes() throws Exception {
+    ComponentStatistics stats = new ComponentStatistics();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      threads.add(new Thread(() -> {
+        for (long time = 1; time <= 1000; time++) {
+          stats.addExecutionTime(time);
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertValues(stats, 4000L, 4 * 500500L, 500L, 1000L, 1L);
+    assertThat(stats.getExecutionTimeHistogram().getCount(), equalTo(4000L));
+  }
 }
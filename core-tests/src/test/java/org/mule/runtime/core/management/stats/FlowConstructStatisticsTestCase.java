@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.management.stats;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.core.management.stats.printers.MetricsTextPrinter;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+@SmallTest
+public class FlowConstructStatisticsTestCase extends AbstractMuleTestCase {
+
+  private final FlowConstructStatistics statistics = new FlowConstructStatistics("Flow", "test");
+
+  @Test
+  public void queuedEvents() {
+    statistics.incQueuedEvent();
+    statistics.incQueuedEvent();
+    statistics.decQueuedEvent();
+    statistics.incQueuedEvent();
+    statistics.decQueuedEvent();
+
+    assertThat(statistics.getQueuedEvents(), is(1L));
+    assertThat(statistics.getMaxQueueSize(), is(2L));
+
+    statistics.clear();
+    assertThat(statistics.getMaxQueueSize(), is(0L));
+    assertThat(statistics.getAverageQueueSize(), is(0L));
+  }
+
+  @Test
+  public void componentStatisticsFollowFlowStatistics() {
+    ComponentStatistics componentStatistics = new ComponentStatistics();
+    statistics.setEnabled(true);
+    statistics.addComponentStatistics("component", componentStatistics);
+    assertThat(componentStatistics.isEnabled(), is(true));
+
+    componentStatistics.addExecutionTime(10);
+    statistics.clear();
+    assertThat(componentStatistics.getExecutedEvents(), is(0L));
+
+    statistics.setEnabled(false);
+    assertThat(componentStatistics.isEnabled(), is(false));
+
+    statistics.removeComponentStatistics("component");
+    assertThat(statistics.getComponentStatistics().isEmpty(), is(true));
+  }
+
+  @Test
+  public void printMetrics() {
+    ComponentStatistics componentStatistics = new ComponentStatistics();
+    statistics.addComponentStatistics("component", componentStatistics);
+    componentStatistics.addExecutionTime(7);
+    statistics.addFlowExecutionBranchTime(5, 5);
+    statistics.addCompleteFlowExecutionTime(5);
+
+    StringWriter writer = new StringWriter();
+    new MetricsTextPrinter(writer).print(singletonList(statistics));
+    String metrics = writer.toString();
+
+    assertThat(metrics, containsString("mule_flow_processing_time_ms{flow=\"test\",quantile=\"0.99\"} 5\n"));
+    assertThat(metrics, containsString("mule_flow_processing_time_ms_count{flow=\"test\"} 1\n"));
+    assertThat(metrics,
+               containsString("mule_component_execution_time_ms{flow=\"test\",component=\"component\",quantile=\"0.5\"} 7\n"));
+  }
+}
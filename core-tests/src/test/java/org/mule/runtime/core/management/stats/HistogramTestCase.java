@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.management.stats;
+
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Test;
+
+@SmallTest
+public class HistogramTestCase extends AbstractMuleTestCase {
+
+  private final Histogram histogram = new Histogram();
+
+  @Test
+  public void emptyHistogram() {
+    assertThat(histogram.getCount(), is(0L));
+    assertThat(histogram.getPercentile(99), is(0L));
+    assertThat(histogram.getMean(), is(0d));
+  }
+
+  @Test
+  public void smallValuesAreExact() {
+    for (long i = 0; i < 8; i++) {
+      histogram.record(i);
+    }
+
+    assertThat(histogram.getPercentile(50), is(3L));
+    assertThat(histogram.getPercentile(100), is(7L));
+    assertThat(histogram.getMax(), is(7L));
+  }
+
+  @Test
+  public void percentilesAreWithinBucketPrecision() {
+    for (long i = 1; i <= 10000; i++) {
+      histogram.record(i);
+    }
+
+    assertThat(histogram.getCount(), is(10000L));
+    assertThat(histogram.getMean(), is(5000.5));
+    assertThat(histogram.getPercentile(50), is(both(greaterThanOrEqualTo(5000L)).and(lessThanOrEqualTo(5625L))));
+    assertThat(histogram.getPercentile(99), is(both(greaterThanOrEqualTo(9900L)).and(lessThanOrEqualTo(10000L))));
+    assertThat(histogram.getPercentile(100), is(10000L));
+  }
+
+  @Test
+  public void bucketsCoverEveryValue() {
+    for (long value : new long[] {8, 9, 15, 16, 1000, Integer.MAX_VALUE, Long.MAX_VALUE}) {
+      int index = Histogram.indexOf(value);
+      assertThat(Histogram.highestValueOf(index), is(greaterThanOrEqualTo(value)));
+      assertThat(index == 0 || Histogram.highestValueOf(index - 1) < value, is(true));
+    }
+  }
+
+  @Test
+  public void negativeValuesAreRecordedAsZero() {
+    histogram.record(-5);
+
+    assertThat(histogram.getMax(), is(0L));
+    assertThat(histogram.getPercentile(100), is(0L));
+  }
+
+  @Test
+  public void reset() {
+    histogram.record(100);
+    histogram.reset();
+
+    assertThat(histogram.getCount(), is(0L));
+    assertThat(histogram.getMax(), is(0L));
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.management.stats;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.core.management.stats.ProcessorProfiler.ProcessorProfile;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.List;
+
+import org.junit.Test;
+
+@SmallTest
+public class ProcessorProfilerTestCase extends AbstractMuleTestCase {
+
+  private final ProcessorProfiler profiler = new ProcessorProfiler();
+
+  @Test
+  public void disabledByDefault() {
+    assertThat(profiler.isEnabled(), is(false));
+    assertThat(profiler.isAllocationProfilingEnabled(), is(false));
+    assertThat(profiler.getCurrentThreadAllocatedBytes(), is(-1L));
+  }
+
+  @Test
+  public void recordsExecutionTimesInMicros() {
+    profiler.record("/flow/processors/0", MILLISECONDS.toNanos(2), -1);
+    profiler.record("/flow/processors/0", MILLISECONDS.toNanos(4), 100);
+
+    ProcessorProfile profile = profiler.getProfiles().get("/flow/processors/0");
+    assertThat(profile.getTotalTime(), is(6000L));
+    assertThat(profile.getExecutionTimeHistogram().getCount(), is(2L));
+    assertThat(profile.getExecutionTimeHistogram().getMax(), is(4000L));
+    assertThat(profile.getAllocatedBytesHistogram().getCount(), is(1L));
+    assertThat(profile.getAllocatedBytesHistogram().getMax(), is(100L));
+
+    profiler.clear();
+    assertThat(profiler.getProfiles().isEmpty(), is(true));
+  }
+
+  @Test
+  public void hotProcessorsOfFlow() {
+    profiler.record("/flow/processors/0", 10, -1);
+    profiler.record("/flow/processors/1", 3000, -1);
+    profiler.record("/flow/processors/2", 2000, -1);
+    profiler.record("/flow/processors/2", 2000, -1);
+    profiler.record("/otherFlow/processors/0", 10000, -1);
+
+    List<String> hotProcessors =
+        profiler.getHotProcessors("flow", 2).stream().map(ProcessorProfile::getProcessorPath).collect(toList());
+    assertThat(hotProcessors, contains("/flow/processors/2", "/flow/processors/1"));
+  }
+
+  @Test
+  public void allocationProfiling() {
+    profiler.setAllocationProfilingEnabled(true);
+    assertThat(profiler.isAllocationProfilingEnabled(), is(profiler.isAllocationProfilingSupported()));
+    if (profiler.isAllocationProfilingEnabled()) {
+      long before = profiler.getCurrentThreadAllocatedBytes();
+      byte[] allocated = new byte[1024 * 1024];
+      assertThat(profiler.getCurrentThreadAllocatedBytes() - before >= allocated.length, is(true));
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.model.streaming;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class ReassemblingInputStreamTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void readsChunksInSequenceOrder() throws Exception {
+    ReassemblingInputStream stream = new ReassemblingInputStream(temporaryFolder.newFile(), 0);
+
+    assertThat(stream.addChunk(3, bytes("ef")), is(false));
+    assertThat(stream.addChunk(1, bytes("ab")), is(false));
+    assertThat(stream.setChunkCount(3), is(false));
+    assertThat(stream.addChunk(2, bytes("cd")), is(true));
+
+    assertThat(IOUtils.toString(stream, UTF_8), equalTo("abcdef"));
+  }
+
+  @Test
+  public void ignoresDuplicateChunks() throws Exception {
+    ReassemblingInputStream stream = new ReassemblingInputStream(temporaryFolder.newFile(), 0);
+
+    stream.addChunk(1, bytes("ab"));
+    stream.addChunk(1, bytes("xx"));
+    stream.setChunkCount(2);
+    assertThat(stream.addChunk(2, bytes("cd")), is(true));
+
+    assertThat(IOUtils.toString(stream, UTF_8), equalTo("abcd"));
+  }
+
+  @Test
+  public void readBlocksUntilNextChunkArrives() throws Exception {
+    final ReassemblingInputStream stream = new ReassemblingInputStream(temporaryFolder.newFile(), 0);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      stream.addChunk(1, bytes("ab"));
+      Future<String> content = executor.submit(() -> IOUtils.toString(stream, UTF_8));
+
+      Thread.sleep(50);
+      stream.addChunk(2, bytes("cd"));
+      stream.setChunkCount(2);
+
+      assertThat(content.get(), equalTo("abcd"));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void readTimesOutWhenChunkIsMissing() throws Exception {
+    ReassemblingInputStream stream = new ReassemblingInputStream(temporaryFolder.newFile(), 50);
+    stream.addChunk(2, bytes("cd"));
+
+    stream.read();
+  }
+
+  @Test
+  public void closeDeletesSpoolFile() throws Exception {
+    File file = temporaryFolder.newFile();
+    ReassemblingInputStream stream = new ReassemblingInputStream(file, 0);
+    stream.addChunk(1, bytes("ab"));
+
+    stream.close();
+
+    assertThat(file.exists(), is(false));
+    stream.setChunkCount(2);
+    assertThat(stream.addChunk(2, bytes("cd")), is(true));
+  }
+
+  private byte[] bytes(String value) {
+    return value.getBytes(UTF_8);
+  }
+}
@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.registry;
 
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
@@ -75,6 +77,40 @@ public class TransientRegistryTestCase extends AbstractMuleContextTestCase {
     assertThat(registryMap.getLostObjects(), is(empty()));
   }
 
+  @Test
+  public void typeIndexFollowsChanges() throws Exception {
+    final TransientRegistry.RegistryMap registryMap = new TransientRegistry.RegistryMap(mock(Logger.class));
+    Disposable disposable = mock(Disposable.class);
+    registryMap.putAndLogWarningIfDuplicate("disposable", disposable);
+    registryMap.putAndLogWarningIfDuplicate("other", new Object());
+
+    assertThat(registryMap.selectByType(Disposable.class), is(singletonMap("disposable", (Object) disposable)));
+
+    Disposable anotherDisposable = mock(Disposable.class);
+    registryMap.putAndLogWarningIfDuplicate("anotherDisposable", anotherDisposable);
+    assertThat(registryMap.selectByType(Disposable.class).size(), is(2));
+
+    registryMap.putAndLogWarningIfDuplicate("disposable", new Object());
+    assertThat(registryMap.selectByType(Disposable.class), is(singletonMap("anotherDisposable", (Object) anotherDisposable)));
+
+    registryMap.remove("anotherDisposable");
+    assertThat(registryMap.selectByType(Disposable.class).isEmpty(), is(true));
+    assertThat(registryMap.selectByType(Object.class).size(), is(2));
+  }
+
+  @Test
+  public void lookupObjectsByType() throws Exception {
+    TransientRegistry registry = new TransientRegistry(muleContext);
+    InterfaceBasedTracker tracker = new InterfaceBasedTracker();
+    registry.registerObject(TEST_KEY, tracker);
+
+    assertThat(registry.lookupObjects(InterfaceBasedTracker.class), contains(tracker));
+    assertThat(registry.lookupByType(Disposable.class).get(TEST_KEY), is((Object) tracker));
+
+    registry.unregisterObject(TEST_KEY);
+    assertThat(registry.lookupObjects(InterfaceBasedTracker.class), is(empty()));
+  }
+
 
   @Test
   public void testJSR250ObjectLifecycle() throws Exception {
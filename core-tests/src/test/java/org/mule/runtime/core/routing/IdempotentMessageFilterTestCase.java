@@ -6,8 +6,10 @@
  */
 package org.mule.runtime.core.routing;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 
 import org.mule.runtime.core.DefaultMessageContext;
@@ -17,6 +19,7 @@ import org.mule.runtime.core.api.MuleMessage;
 import org.mule.runtime.core.api.MuleSession;
 import org.mule.runtime.core.construct.Flow;
 import org.mule.runtime.core.util.store.InMemoryObjectStore;
+import org.mule.runtime.core.util.store.SimpleMemoryObjectStore;
 import org.mule.tck.junit4.AbstractMuleContextTestCase;
 
 import org.junit.Test;
@@ -51,4 +54,37 @@ public class IdempotentMessageFilterTestCase extends AbstractMuleContextTestCase
     processedEvent = ir.process(event);
     assertNull(processedEvent);
   }
+
+  @Test
+  public void bloomFilterSkipsStoreLookupForNewIds() throws Exception {
+    SimpleMemoryObjectStore<String> store = new SimpleMemoryObjectStore<>();
+    store.store("0", "0");
+
+    IdempotentMessageFilter ir = new IdempotentMessageFilter();
+    ir.setIdExpression("#[message.inboundProperties.id]");
+    ir.setFlowConstruct(getTestFlow());
+    ir.setThrowOnUnaccepted(false);
+    ir.setStorePrefix("foo");
+    ir.setStore(store);
+    ir.setBloomFilterExpectedInsertions(100);
+    ir.initialise();
+
+    // Known from the store on initialisation
+    assertNull(ir.process(eventWithId("0")));
+    assertThat(ir.getBloomFilterPossibleDuplicates(), is(1L));
+
+    assertNotNull(ir.process(eventWithId("1")));
+    assertThat(ir.getBloomFilterSkippedLookups(), is(1L));
+
+    assertNull(ir.process(eventWithId("1")));
+    assertThat(ir.getBloomFilterPossibleDuplicates(), is(2L));
+    assertThat(ir.getBloomFilterFalsePositives(), is(0L));
+  }
+
+  private MuleEvent eventWithId(String id) throws Exception {
+    Flow flow = getTestFlow();
+    MuleMessage message = MuleMessage.builder().payload("OK").addInboundProperty("id", id).build();
+    return MuleEvent.builder(DefaultMessageContext.create(flow, TEST_CONNECTOR)).message(message).flow(flow)
+        .session(mock(MuleSession.class)).build();
+  }
 }
@@ -6,8 +6,12 @@
  */
 package org.mule.runtime.core.routing;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import org.mule.runtime.core.DefaultMessageContext;
@@ -17,9 +21,16 @@ import org.mule.runtime.core.api.MuleMessage;
 import org.mule.runtime.core.api.MuleSession;
 import org.mule.runtime.core.construct.Flow;
 import org.mule.runtime.core.message.Correlation;
+import org.mule.runtime.core.model.streaming.ReassemblingInputStream;
 import org.mule.tck.junit4.AbstractMuleContextTestCase;
+import org.mule.tck.probe.JUnitLambdaProbe;
+import org.mule.tck.probe.PollingProber;
 import org.mule.tck.testmodels.fruit.Apple;
 
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 
 public class MessageChunkAggregatorTestCase extends AbstractMuleContextTestCase {
@@ -63,4 +74,97 @@ public class MessageChunkAggregatorTestCase extends AbstractMuleContextTestCase
     assertTrue(payload.contains("test event C"));
     assertTrue(payload.matches("test event [A,B,C]test event [A,B,C]test event [A,B,C]"));
   }
+
+  @Test
+  public void streamingForwardsFirstChunkAndAppendsTheRest() throws Exception {
+    MuleSession session = getTestSession(null, muleContext);
+    Flow flow = getTestFlow("test", Apple.class);
+
+    MessageChunkAggregator router = new MessageChunkAggregator();
+    router.setMuleContext(muleContext);
+    router.setFlowConstruct(flow);
+    router.setStreaming(true);
+    router.initialise();
+
+    MessageContext context = DefaultMessageContext.create(flow, TEST_CONNECTOR, "foo");
+
+    MuleEvent event1 = MuleEvent.builder(context).message(MuleMessage.of("ab".getBytes(UTF_8)))
+        .correlation(new Correlation(null, 1)).flow(getTestFlow()).session(session).build();
+    MuleEvent event2 = MuleEvent.builder(context).message(MuleMessage.of("cd".getBytes(UTF_8)))
+        .correlation(new Correlation(null, 2)).flow(getTestFlow()).session(session).build();
+    MuleEvent event3 = MuleEvent.builder(context).message(MuleMessage.of("ef".getBytes(UTF_8)))
+        .correlation(new Correlation(3, 3)).flow(getTestFlow()).session(session).build();
+
+    MuleEvent resultEvent = router.process(event1);
+    assertNotNull(resultEvent);
+    assertThat(resultEvent.getMessage().getPayload(), instanceOf(ReassemblingInputStream.class));
+    assertNull(router.process(event3));
+    assertNull(router.process(event2));
+
+    try (InputStream payload = (InputStream) resultEvent.getMessage().getPayload()) {
+      assertThat(IOUtils.toString(payload, UTF_8), equalTo("abcdef"));
+    }
+    router.dispose();
+  }
+
+  @Test
+  public void streamingDiscardsChunksOfCompletedGroup() throws Exception {
+    MessageChunkAggregator router = createStreamingAggregator(0);
+    MessageContext context = DefaultMessageContext.create(router.flowConstruct, TEST_CONNECTOR, "foo");
+
+    MuleEvent resultEvent = router.process(createChunk(context, "ab", 1, null));
+    assertNotNull(resultEvent);
+    assertNull(router.process(createChunk(context, "cd", 2, 2)));
+
+    assertNull(router.process(createChunk(context, "ab", 1, null)));
+    assertNull(router.process(createChunk(context, "cd", 2, 2)));
+
+    try (InputStream payload = (InputStream) resultEvent.getMessage().getPayload()) {
+      assertThat(IOUtils.toString(payload, UTF_8), equalTo("abcd"));
+    }
+    router.dispose();
+  }
+
+  @Test
+  public void streamingExpiresIncompleteGroup() throws Exception {
+    MessageChunkAggregator router = createStreamingAggregator(100);
+    MessageContext context = DefaultMessageContext.create(router.flowConstruct, TEST_CONNECTOR, "foo");
+
+    InputStream payload = (InputStream) router.process(createChunk(context, "ab", 1, null)).getMessage().getPayload();
+    new PollingProber(5000, 50).check(new JUnitLambdaProbe(() -> {
+      try {
+        payload.available();
+        return false;
+      } catch (IOException e) {
+        return true;
+      }
+    }, "The stream of the incomplete group was not closed"));
+
+    assertNull(router.process(createChunk(context, "cd", 2, 2)));
+    router.dispose();
+  }
+
+  @Test
+  public void streamingTimeoutDefaultsToResponseTimeout() throws Exception {
+    MessageChunkAggregator router = createStreamingAggregator(0);
+
+    assertThat(router.getStreamingTimeout(), equalTo((long) muleContext.getConfiguration().getDefaultResponseTimeout()));
+    router.dispose();
+  }
+
+  private MessageChunkAggregator createStreamingAggregator(long timeout) throws Exception {
+    MessageChunkAggregator router = new MessageChunkAggregator();
+    router.setMuleContext(muleContext);
+    router.setFlowConstruct(getTestFlow("test", Apple.class));
+    router.setStreaming(true);
+    router.setTimeout(timeout);
+    router.initialise();
+    return router;
+  }
+
+  private MuleEvent createChunk(MessageContext context, String data, int sequence, Integer groupSize) throws Exception {
+    return MuleEvent.builder(context).message(MuleMessage.of(data.getBytes(UTF_8)))
+        .correlation(new Correlation(groupSize, sequence)).flow(getTestFlow()).session(getTestSession(null, muleContext))
+        .build();
+  }
 }
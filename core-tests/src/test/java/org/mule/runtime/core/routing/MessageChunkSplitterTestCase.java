@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.routing;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import org.mule.runtime.core.api.MuleEvent;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class MessageChunkSplitterTestCase extends AbstractMuleContextTestCase {
+
+  private final List<MuleEvent> chunks = new ArrayList<>();
+  private MessageChunkSplitter splitter;
+
+  @Override
+  protected void doSetUp() throws Exception {
+    super.doSetUp();
+    splitter = new MessageChunkSplitter();
+    splitter.setMuleContext(muleContext);
+    splitter.setMessageSize(2);
+    splitter.setListener(event -> {
+      chunks.add(event);
+      return event;
+    });
+  }
+
+  @Test
+  public void splitsStreamLazily() throws Exception {
+    splitter.setStreaming(true);
+
+    splitter.process(getTestEvent(new ByteArrayInputStream("abcde".getBytes(UTF_8))));
+
+    assertThat(chunkPayloads(), equalTo(asList("ab", "cd", "e")));
+    assertThat(chunks.get(0).getCorrelation().getSequence(), equalTo(Optional.of(1)));
+    assertThat(chunks.get(0).getCorrelation().getGroupSize().isPresent(), is(false));
+    assertThat(chunks.get(2).getCorrelation().getSequence(), equalTo(Optional.of(3)));
+    assertThat(chunks.get(2).getCorrelation().getGroupSize(), equalTo(Optional.of(3)));
+  }
+
+  @Test
+  public void splitsWholeStreamWhenNotStreaming() throws Exception {
+    splitter.process(getTestEvent(new ByteArrayInputStream("abcd".getBytes(UTF_8))));
+
+    assertThat(chunkPayloads(), equalTo(asList("ab", "cd")));
+    assertThat(chunks.get(0).getCorrelation().getGroupSize(), equalTo(Optional.of(2)));
+  }
+
+  private List<String> chunkPayloads() throws Exception {
+    List<String> payloads = new ArrayList<>();
+    for (MuleEvent chunk : chunks) {
+      payloads.add(new String((byte[]) chunk.getMessage().getPayload(), UTF_8));
+    }
+    return payloads;
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Test;
+
+@SmallTest
+public class RotatingBloomFilterTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void containsPutKeys() {
+    RotatingBloomFilter filter = new RotatingBloomFilter(100, 0.01, 0);
+    filter.put("a");
+    filter.put("b");
+
+    assertThat(filter.mightContain("a"), is(true));
+    assertThat(filter.mightContain("b"), is(true));
+    assertThat(filter.mightContain("c"), is(false));
+  }
+
+  @Test
+  public void forgetsKeysTwoGenerationsOld() {
+    RotatingBloomFilter filter = new RotatingBloomFilter(1, 0.01, 0);
+    filter.put("a");
+    filter.put("b");
+
+    assertThat(filter.mightContain("a"), is(true));
+
+    filter.put("c");
+
+    assertThat(filter.mightContain("a"), is(false));
+    assertThat(filter.mightContain("b"), is(true));
+    assertThat(filter.mightContain("c"), is(true));
+  }
+
+  @Test
+  public void rotatesExpiredGenerations() throws Exception {
+    RotatingBloomFilter filter = new RotatingBloomFilter(100, 0.01, 10);
+    filter.put("a");
+    Thread.sleep(20);
+    filter.put("b");
+    Thread.sleep(20);
+    filter.put("c");
+
+    assertThat(filter.mightContain("a"), is(false));
+    assertThat(filter.mightContain("b"), is(true));
+  }
+
+  @Test
+  public void clearForgetsAllKeys() {
+    RotatingBloomFilter filter = new RotatingBloomFilter(100, 0.01, 0);
+    filter.put("a");
+    filter.clear();
+
+    assertThat(filter.mightContain("a"), is(false));
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.util.buffer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import org.mule.runtime.core.util.IOUtils;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+@SmallTest
+public class ByteBufferPoolTestCase extends AbstractMuleTestCase {
+
+  private final ByteBufferPool pool = new ByteBufferPool(false, 16, 256, 2);
+
+  @Test
+  public void roundsUpToSizeClass() {
+    ByteBuffer buffer = pool.acquire(17);
+    assertThat(buffer.capacity(), is(32));
+    assertThat(buffer.limit(), is(17));
+    assertThat(buffer.position(), is(0));
+  }
+
+  @Test
+  public void smallRequestsUseSmallestClass() {
+    assertThat(pool.acquire(1).capacity(), is(16));
+  }
+
+  @Test
+  public void releasedBufferIsReused() {
+    ByteBuffer buffer = pool.acquire(100);
+    pool.release(buffer);
+    assertThat(pool.getIdleCount(), is(1));
+
+    assertThat(pool.acquire(65), is(sameInstance(buffer)));
+    assertThat(pool.getIdleCount(), is(0));
+  }
+
+  @Test
+  public void oversizedBuffersAreNotPooled() {
+    ByteBuffer buffer = pool.acquire(1000);
+    assertThat(buffer.capacity(), is(1000));
+
+    pool.release(buffer);
+    assertThat(pool.getIdleCount(), is(0));
+  }
+
+  @Test
+  public void idleBuffersAreBounded() {
+    pool.release(pool.acquire(16));
+    pool.release(pool.acquire(16));
+    pool.release(ByteBuffer.allocate(16));
+    assertThat(pool.getIdleCount(), is(2));
+  }
+
+  @Test
+  public void foreignBuffersAreIgnored() {
+    pool.release(ByteBuffer.allocateDirect(16));
+    pool.release(ByteBuffer.allocate(20));
+    assertThat(pool.getIdleCount(), is(0));
+  }
+
+  @Test
+  public void growKeepsContents() {
+    ByteBuffer buffer = pool.acquire(16);
+    buffer.put("0123456789".getBytes());
+
+    ByteBuffer larger = pool.grow(buffer, 64);
+    assertThat(larger, is(not(sameInstance(buffer))));
+    assertThat(larger.position(), is(10));
+    assertThat(larger.limit(), is(64));
+    assertThat(pool.getIdleCount(), is(1));
+
+    larger.flip();
+    byte[] contents = new byte[larger.remaining()];
+    larger.get(contents);
+    assertThat(new String(contents), equalTo("0123456789"));
+  }
+
+  @Test
+  public void inputStreamReleasesOnClose() throws Exception {
+    ByteBuffer buffer = pool.acquire(16);
+    buffer.put("payload".getBytes());
+    buffer.flip();
+
+    PooledByteBufferInputStream stream = new PooledByteBufferInputStream(pool, buffer);
+    assertThat(IOUtils.toString(stream), equalTo("payload"));
+    assertThat(pool.getIdleCount(), is(0));
+
+    stream.close();
+    stream.close();
+    assertThat(pool.getIdleCount(), is(1));
+    assertThat(stream.read(), is(-1));
+  }
+
+  @Test
+  public void outputStreamHandsOverWrittenBytes() throws Exception {
+    PooledByteBufferOutputStream stream = new PooledByteBufferOutputStream(pool, 16);
+    byte[] data = new byte[100];
+    for (int i = 0; i < data.length; ++i) {
+      data[i] = (byte) i;
+    }
+    stream.write(data);
+
+    ByteBuffer written = stream.toByteBuffer();
+    assertThat(written.remaining(), is(100));
+    assertThat(written.get(99), is((byte) 99));
+    assertThat(pool.getIdleCount(), is(1));
+  }
+}
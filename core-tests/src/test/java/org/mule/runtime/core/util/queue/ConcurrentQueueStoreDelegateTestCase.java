@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.util.queue;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+@SmallTest
+public class ConcurrentQueueStoreDelegateTestCase extends AbstractMuleTestCase {
+
+  private final ConcurrentQueueStoreDelegate delegate = new ConcurrentQueueStoreDelegate();
+
+  @Test
+  public void keepsOrderAndUntakesToFront() throws Exception {
+    delegate.putNow("1");
+    delegate.offer("2", 0, 0);
+    delegate.untake("0");
+
+    assertThat(delegate.getSize(), is(3));
+    assertThat(delegate.peek(), equalTo("0"));
+    assertThat(delegate.poll(0), equalTo("0"));
+    assertThat(delegate.poll(0), equalTo("1"));
+    assertThat(delegate.poll(0), equalTo("2"));
+    assertThat(delegate.poll(0), is(nullValue()));
+  }
+
+  @Test
+  public void drainIsBoundedByMaxItems() throws Exception {
+    delegate.addAll(asList("1", "2", "3"));
+    List<Serializable> drained = new ArrayList<>();
+
+    assertThat(delegate.drainTo(drained, 2, 0), is(2));
+    assertThat(drained, equalTo(asList("1", "2")));
+    assertThat(delegate.getSize(), is(1));
+  }
+
+  @Test
+  public void drainWaitsForFirstItemOnly() throws Exception {
+    List<Serializable> drained = new ArrayList<>();
+    long start = System.currentTimeMillis();
+
+    assertThat(delegate.drainTo(drained, 10, 50), is(0));
+    assertThat(System.currentTimeMillis() - start >= 40, is(true));
+  }
+
+  @Test
+  public void clearDiscardsEverything() throws Exception {
+    delegate.addAll(asList("1", "2"));
+    delegate.clear();
+
+    assertThat(delegate.getSize(), is(0));
+    assertThat(delegate.poll(0), is(nullValue()));
+  }
+
+  @Test
+  public void concurrentProducersAndConsumers() throws Exception {
+    final int producers = 4;
+    final int itemsPerProducer = 10000;
+    final AtomicInteger consumed = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(producers * 2);
+
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < producers; i++) {
+        futures.add(executor.submit(() -> {
+          for (int j = 0; j < itemsPerProducer; j++) {
+            delegate.putNow(j);
+          }
+        }));
+        futures.add(executor.submit(() -> {
+          List<Serializable> batch = new ArrayList<>();
+          while (consumed.get() < producers * itemsPerProducer) {
+            batch.clear();
+            consumed.addAndGet(delegate.drainTo(batch, 16, 10));
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(consumed.get(), is(producers * itemsPerProducer));
+    assertThat(delegate.getSize(), is(0));
+  }
+}
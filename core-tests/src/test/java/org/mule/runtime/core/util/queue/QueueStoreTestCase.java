@@ -19,6 +19,7 @@ import org.mule.tck.junit4.AbstractMuleContextTestCase;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.hamcrest.core.Is;
 import org.junit.Rule;
@@ -114,6 +115,21 @@ public abstract class QueueStoreTestCase extends AbstractMuleContextTestCase {
     }
   }
 
+  @Test
+  public void drainToRetrievesAvailableValuesInOrder() throws Exception {
+    QueueStore queue = createQueue();
+    for (int i = 0; i < NUMBER_OF_ITEMS; i++) {
+      queue.offer(String.valueOf(i), 0, NUMBER_OF_ITEMS);
+    }
+
+    List<Serializable> drained = new ArrayList<>();
+    assertThat(queue.drainTo(drained, NUMBER_OF_ITEMS - 1, SHORT_POLL_TIMEOUT), is(NUMBER_OF_ITEMS - 1));
+    for (int i = 0; i < NUMBER_OF_ITEMS - 1; i++) {
+      assertThat((String) drained.get(i), is(String.valueOf(i)));
+    }
+    assertThat(queue.getSize(), is(1));
+  }
+
   @Test
   public void offerSeveralRetrieveAllMuleEvents() throws Exception {
     QueueStore queue = createQueue();
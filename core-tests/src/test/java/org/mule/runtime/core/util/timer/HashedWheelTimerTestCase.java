@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.util.timer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import org.mule.runtime.core.util.timer.HashedWheelTimer.Timeout;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+@SmallTest
+public class HashedWheelTimerTestCase extends AbstractMuleTestCase {
+
+  private static final long TIMEOUT = 5000;
+
+  private final HashedWheelTimer timer = new HashedWheelTimer("test-wheel", 10, MILLISECONDS, 8);
+
+  @After
+  public void after() {
+    timer.stop();
+  }
+
+  @Test
+  public void firesAfterDelay() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    long start = System.nanoTime();
+
+    Timeout timeout = timer.newTimeout(latch::countDown, 50, MILLISECONDS);
+
+    assertThat(latch.await(TIMEOUT, MILLISECONDS), is(true));
+    assertThat(MILLISECONDS.convert(System.nanoTime() - start, NANOSECONDS), greaterThanOrEqualTo(50L));
+    assertThat(timeout.isExpired(), is(true));
+    assertThat(timeout.cancel(), is(false));
+  }
+
+  @Test
+  public void firesDelaysLongerThanOneRound() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    long start = System.nanoTime();
+
+    timer.newTimeout(latch::countDown, 250, MILLISECONDS);
+
+    assertThat(latch.await(TIMEOUT, MILLISECONDS), is(true));
+    assertThat(MILLISECONDS.convert(System.nanoTime() - start, NANOSECONDS), greaterThanOrEqualTo(250L));
+  }
+
+  @Test
+  public void cancelledTimeoutDoesNotFire() throws Exception {
+    AtomicBoolean fired = new AtomicBoolean(false);
+    CountDownLatch later = new CountDownLatch(1);
+
+    Timeout timeout = timer.newTimeout(() -> fired.set(true), 30, MILLISECONDS);
+    assertThat(timeout.cancel(), is(true));
+    assertThat(timer.getPendingCount(), is(0));
+
+    timer.newTimeout(later::countDown, 60, MILLISECONDS);
+    assertThat(later.await(TIMEOUT, MILLISECONDS), is(true));
+    assertThat(fired.get(), is(false));
+    assertThat(timeout.isCancelled(), is(true));
+  }
+
+  @Test
+  public void failingTaskDoesNotStopTimer() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicInteger runs = new AtomicInteger();
+
+    timer.newTimeout(() -> {
+      runs.incrementAndGet();
+      throw new RuntimeException("expected");
+    }, 10, MILLISECONDS);
+    timer.newTimeout(latch::countDown, 40, MILLISECONDS);
+
+    assertThat(latch.await(TIMEOUT, MILLISECONDS), is(true));
+    assertThat(runs.get(), is(1));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void rejectsAfterStop() {
+    timer.stop();
+    timer.newTimeout(() -> {
+    }, 10, MILLISECONDS);
+  }
+}
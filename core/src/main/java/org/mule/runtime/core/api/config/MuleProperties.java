@@ -194,4 +194,6 @@ public class MuleProperties {
   public static final String MULE_DEFAULT_PROCESSING_STRATEGY = SYSTEM_PROPERTY_PREFIX + "default.processing.strategy";
   public static final String MULE_FLOW_TRACE = SYSTEM_PROPERTY_PREFIX + "flowTrace";
   public static final String MULE_LOG_VERBOSE_CLASSLOADING = SYSTEM_PROPERTY_PREFIX + "classloading.verbose";
+  public static final String MULE_LIFECYCLE_PARALLELISM = SYSTEM_PROPERTY_PREFIX + "lifecycle.parallelism";
+  public static final String MULE_LAZY_INIT = SYSTEM_PROPERTY_PREFIX + "lazyInit";
 }
@@ -19,6 +19,7 @@ import org.mule.runtime.core.api.MuleException;
 import org.mule.runtime.core.api.MuleMessage;
 import org.mule.runtime.core.api.component.Component;
 import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.api.construct.MessageProcessorPathResolver;
 import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.context.notification.ServerNotificationHandler;
 import org.mule.runtime.core.api.exception.MessagingExceptionHandler;
@@ -58,6 +59,7 @@ public abstract class AbstractComponent extends AbstractAnnotatedObject
 
   protected FlowConstruct flowConstruct;
   protected ComponentStatistics statistics = null;
+  private String statisticsKey;
   protected ServerNotificationHandler notificationHandler;
   protected List<Interceptor> interceptors = new ArrayList<>();
   protected MessageProcessorChain interceptorChain;
@@ -212,7 +214,12 @@ public abstract class AbstractComponent extends AbstractAnnotatedObject
 
   @Override
   public void dispose() {
-    lifecycleManager.fireDisposePhase((phaseName, object) -> doDispose());
+    lifecycleManager.fireDisposePhase((phaseName, object) -> {
+      if (statisticsKey != null) {
+        flowConstruct.getStatistics().removeComponentStatistics(statisticsKey);
+      }
+      doDispose();
+    });
   }
 
   protected void doDispose() {
@@ -238,11 +245,33 @@ public abstract class AbstractComponent extends AbstractAnnotatedObject
     lifecycleManager.fireStartPhase((phaseName, object) -> {
       notificationHandler = new OptimisedNotificationHandler(muleContext.getNotificationManager(),
                                                              ComponentMessageNotification.class);
+      registerStatistics();
       doStart();
     });
 
   }
 
+  /**
+   * Registers the statistics of this component with those of its flow. It is done on start rather than on initialise because
+   * the processor paths of the flow are only resolved once all of its processors are initialised.
+   */
+  private void registerStatistics() {
+    if (flowConstruct != null && flowConstruct.getStatistics() != null) {
+      statisticsKey = getStatisticsKey();
+      flowConstruct.getStatistics().addComponentStatistics(statisticsKey, statistics);
+    }
+  }
+
+  /**
+   * @return the processor path of this component, so that its statistics keep their name across restarts, or the names of its
+   *         flow and class if the flow can't resolve it
+   */
+  protected String getStatisticsKey() {
+    String path = flowConstruct instanceof MessageProcessorPathResolver
+        ? ((MessageProcessorPathResolver) flowConstruct).getProcessorPath(this) : null;
+    return path != null ? path : flowConstruct.getName() + "." + ClassUtils.getSimpleName(getClass());
+  }
+
   protected void doStop() throws MuleException {
     // Default implementation is no-op
   }
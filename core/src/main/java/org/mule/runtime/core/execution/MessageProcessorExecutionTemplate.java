@@ -32,7 +32,8 @@ public class MessageProcessorExecutionTemplate implements MuleContextAware, Flow
   }
 
   public static MessageProcessorExecutionTemplate createExecutionTemplate() {
-    return new MessageProcessorExecutionTemplate(new MessageProcessorNotificationExecutionInterceptor(new ExceptionToMessagingExceptionExecutionInterceptor()));
+    return new MessageProcessorExecutionTemplate(new MessageProcessorNotificationExecutionInterceptor(
+        new MessageProcessorProfilingExecutionInterceptor(new ExceptionToMessagingExceptionExecutionInterceptor())));
   }
 
   public static MessageProcessorExecutionTemplate createNotificationExecutionTemplate() {
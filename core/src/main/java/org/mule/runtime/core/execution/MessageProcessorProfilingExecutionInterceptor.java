@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.execution;
+
+import org.mule.runtime.core.NonBlockingVoidMuleEvent;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.MuleEvent;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.api.construct.MessageProcessorPathResolver;
+import org.mule.runtime.core.api.processor.MessageProcessor;
+import org.mule.runtime.core.exception.MessagingException;
+import org.mule.runtime.core.management.stats.ProcessorProfiler;
+
+/**
+ * Intercepts MessageProcessor execution to record its time and allocated memory in the {@link ProcessorProfiler} of the
+ * application, when it is enabled. Executions of non blocking processors which complete asynchronously are not recorded.
+ *
+ * @since 4.0
+ */
+class MessageProcessorProfilingExecutionInterceptor implements MessageProcessorExecutionInterceptor {
+
+  private final MessageProcessorExecutionInterceptor next;
+  private MuleContext muleContext;
+  private FlowConstruct flowConstruct;
+
+  MessageProcessorProfilingExecutionInterceptor(MessageProcessorExecutionInterceptor next) {
+    this.next = next;
+  }
+
+  @Override
+  public MuleEvent execute(MessageProcessor messageProcessor, MuleEvent event) throws MessagingException {
+    ProcessorProfiler profiler = getProfiler();
+    String processorPath = profiler != null && profiler.isEnabled() && flowConstruct instanceof MessageProcessorPathResolver
+        ? ((MessageProcessorPathResolver) flowConstruct).getProcessorPath(messageProcessor) : null;
+    if (processorPath == null) {
+      return next.execute(messageProcessor, event);
+    }
+
+    long allocatedBytes = profiler.getCurrentThreadAllocatedBytes();
+    long startTime = System.nanoTime();
+    MuleEvent result = null;
+    try {
+      result = next.execute(messageProcessor, event);
+      return result;
+    } finally {
+      if (!NonBlockingVoidMuleEvent.getInstance().equals(result)) {
+        long elapsedTime = System.nanoTime() - startTime;
+        if (allocatedBytes >= 0) {
+          allocatedBytes = profiler.getCurrentThreadAllocatedBytes() - allocatedBytes;
+        }
+        profiler.record(processorPath, elapsedTime, allocatedBytes);
+      }
+    }
+  }
+
+  private ProcessorProfiler getProfiler() {
+    return muleContext != null && muleContext.getStatistics() != null ? muleContext.getStatistics().getProcessorProfiler() : null;
+  }
+
+  @Override
+  public void setMuleContext(MuleContext context) {
+    this.muleContext = context;
+    next.setMuleContext(context);
+  }
+
+  @Override
+  public void setFlowConstruct(FlowConstruct flowConstruct) {
+    this.flowConstruct = flowConstruct;
+    next.setFlowConstruct(flowConstruct);
+  }
+}
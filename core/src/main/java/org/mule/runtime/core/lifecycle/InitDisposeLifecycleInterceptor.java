@@ -11,8 +11,8 @@ import org.mule.runtime.core.api.lifecycle.Initialisable;
 import org.mule.runtime.core.api.lifecycle.LifecycleInterceptor;
 import org.mule.runtime.core.api.lifecycle.LifecyclePhase;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,7 +27,7 @@ public class InitDisposeLifecycleInterceptor implements LifecycleInterceptor {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(InitDisposeLifecycleInterceptor.class);
 
-  private Set<Integer> initialisedObjects = new HashSet<>();
+  private Set<Integer> initialisedObjects = ConcurrentHashMap.newKeySet();
   private boolean initialiseCompleted = false;
 
   /**
@@ -6,18 +6,33 @@
  */
 package org.mule.runtime.core.lifecycle;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.mule.runtime.core.api.config.MuleProperties.MULE_LIFECYCLE_PARALLELISM;
 import org.mule.runtime.core.api.MuleException;
 import org.mule.runtime.core.api.lifecycle.HasLifecycleInterceptor;
+import org.mule.runtime.core.api.lifecycle.Initialisable;
 import org.mule.runtime.core.api.lifecycle.LifecycleCallback;
 import org.mule.runtime.core.api.lifecycle.LifecycleException;
 import org.mule.runtime.core.api.lifecycle.LifecycleInterceptor;
 import org.mule.runtime.core.api.lifecycle.LifecyclePhase;
+import org.mule.runtime.core.api.lifecycle.Startable;
 import org.mule.runtime.core.api.registry.Registry;
 import org.mule.runtime.core.lifecycle.phases.ContainerManagedLifecyclePhase;
+import org.mule.runtime.core.util.concurrent.NamedThreadFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.slf4j.Logger;
@@ -25,6 +40,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * An implementation of {@link LifecycleCallback} for applying {@link Registry} lifecycles
+ * <p/>
+ * When the {@link org.mule.runtime.core.api.config.MuleProperties#MULE_LIFECYCLE_PARALLELISM} system property is greater than 1,
+ * the {@link Initialisable} and {@link Startable} phases are applied concurrently, with that many threads, to the objects which
+ * {@link #lookupIndependentObjectsForLifecycle(LifecycleObject)} reports as not depending on each other.
  *
  * @since 3.7.0
  */
@@ -34,9 +53,11 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
 
   protected final RegistryLifecycleManager registryLifecycleManager;
   private LifecycleInterceptor interceptor = new NullLifecycleInterceptor();
+  private final int parallelism;
 
   public RegistryLifecycleCallback(RegistryLifecycleManager registryLifecycleManager) {
     this.registryLifecycleManager = registryLifecycleManager;
+    this.parallelism = getInteger(MULE_LIFECYCLE_PARALLELISM, 1);
   }
 
   @Override
@@ -55,50 +76,99 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
     // overlapping interfaces can cause duplicates
     // TODO: each LifecycleManager should keep this set per executing phase
     // and clear it when the phase is fully applied
-    Set<Object> duplicates = new HashSet<>();
+    Set<Object> duplicates = Collections.synchronizedSet(new HashSet<>());
+    ExecutorService executor = createExecutor(phase);
 
-    for (LifecycleObject lifecycleObject : phase.getOrderedLifecycleObjects()) {
-      lifecycleObject.firePreNotification(registryLifecycleManager.muleContext);
+    try {
+      for (LifecycleObject lifecycleObject : phase.getOrderedLifecycleObjects()) {
+        lifecycleObject.firePreNotification(registryLifecycleManager.muleContext);
 
-      // TODO Collection -> List API refactoring
-      Collection<?> targetsObj = lookupObjectsForLifecycle(lifecycleObject);
-      doApplyLifecycle(phase, duplicates, lifecycleObject, targetsObj);
-      lifecycleObject.firePostNotification(registryLifecycleManager.muleContext);
+        if (executor != null) {
+          doApplyLifecycleInParallel(phase, duplicates, lifecycleObject, executor);
+        }
+
+        // TODO Collection -> List API refactoring
+        Collection<?> targetsObj = lookupObjectsForLifecycle(lifecycleObject);
+        doApplyLifecycle(phase, duplicates, lifecycleObject, targetsObj);
+        lifecycleObject.firePostNotification(registryLifecycleManager.muleContext);
+      }
+    } finally {
+      if (executor != null) {
+        executor.shutdownNow();
+      }
     }
 
     interceptor.onPhaseCompleted(phase);
   }
 
-  private void doApplyLifecycle(LifecyclePhase phase, Set<Object> duplicates, LifecycleObject lifecycleObject,
-                                Collection<?> targetObjects)
-      throws LifecycleException {
-    if (CollectionUtils.isEmpty(targetObjects)) {
-      return;
+  private ExecutorService createExecutor(LifecyclePhase phase) {
+    if (parallelism <= 1 || !(Initialisable.PHASE_NAME.equals(phase.getName()) || Startable.PHASE_NAME.equals(phase.getName()))) {
+      return null;
     }
+    return newFixedThreadPool(parallelism, new NamedThreadFactory("lifecycle." + phase.getName(),
+                                                                  currentThread().getContextClassLoader()));
+  }
 
-    for (Object target : targetObjects) {
-      if (duplicates.contains(target)) {
+  /**
+   * Applies the phase to each group of independent objects in turn, to all the objects of a group at once. Objects registered
+   * while doing so are left for {@link #doApplyLifecycle(LifecyclePhase, Set, LifecycleObject, Collection)} to pick up.
+   */
+  private void doApplyLifecycleInParallel(LifecyclePhase phase, Set<Object> duplicates, LifecycleObject lifecycleObject,
+                                          ExecutorService executor)
+      throws LifecycleException {
+    for (Collection<?> independentObjects : lookupIndependentObjectsForLifecycle(lifecycleObject)) {
+      if (independentObjects.size() == 1) {
+        applyLifecycle(phase, duplicates, independentObjects.iterator().next());
         continue;
       }
 
-      if (LOGGER.isDebugEnabled()) {
-        LOGGER.debug("lifecycle phase: " + phase.getName() + " for object: " + target);
+      List<Callable<Object>> tasks = new ArrayList<>(independentObjects.size());
+      for (Object target : independentObjects) {
+        tasks.add(() -> {
+          applyLifecycle(phase, duplicates, target);
+          return null;
+        });
+      }
+
+      List<Future<Object>> futures;
+      try {
+        futures = executor.invokeAll(tasks);
+      } catch (InterruptedException e) {
+        currentThread().interrupt();
+        throw new LifecycleException(e, this);
       }
 
-      if (interceptor.beforeLifecycle(phase, target)) {
-        phase.applyLifecycle(target);
-        duplicates.add(target);
-        interceptor.afterLifecycle(phase, target);
-      } else {
-        if (LOGGER.isDebugEnabled()) {
-          LOGGER.debug(String.format(
-                                     "Skipping the application of the '%s' lifecycle phase over a certain object "
-                                         + "because a %s interceptor of type [%s] indicated so. Object is: %s",
-                                     phase.getName(), LifecycleInterceptor.class.getSimpleName(),
-                                     interceptor.getClass().getName(), target));
+      // all the tasks are done, so the interceptor has seen every object the phase was applied to before failing
+      for (Future<Object> future : futures) {
+        try {
+          future.get();
+        } catch (InterruptedException e) {
+          currentThread().interrupt();
+          throw new LifecycleException(e, this);
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof LifecycleException) {
+            throw (LifecycleException) e.getCause();
+          } else if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+          } else if (e.getCause() instanceof Error) {
+            throw (Error) e.getCause();
+          }
+          throw new LifecycleException(e.getCause(), this);
         }
       }
     }
+  }
+
+  private void doApplyLifecycle(LifecyclePhase phase, Set<Object> duplicates, LifecycleObject lifecycleObject,
+                                Collection<?> targetObjects)
+      throws LifecycleException {
+    if (CollectionUtils.isEmpty(targetObjects)) {
+      return;
+    }
+
+    for (Object target : targetObjects) {
+      applyLifecycle(phase, duplicates, target);
+    }
 
     // the target object might have created and registered a new object
     // (e.g.: an endpoint which registers a connector)
@@ -110,10 +180,52 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
     }
   }
 
+  private void applyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Object target) throws LifecycleException {
+    if (duplicates.contains(target)) {
+      return;
+    }
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("lifecycle phase: " + phase.getName() + " for object: " + target);
+    }
+
+    if (interceptor.beforeLifecycle(phase, target)) {
+      phase.applyLifecycle(target);
+      duplicates.add(target);
+      interceptor.afterLifecycle(phase, target);
+    } else {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(String.format(
+                                   "Skipping the application of the '%s' lifecycle phase over a certain object "
+                                       + "because a %s interceptor of type [%s] indicated so. Object is: %s",
+                                   phase.getName(), LifecycleInterceptor.class.getSimpleName(),
+                                   interceptor.getClass().getName(), target));
+      }
+    }
+  }
+
   protected Collection<?> lookupObjectsForLifecycle(LifecycleObject lo) {
     return registryLifecycleManager.getLifecycleObject().lookupObjectsForLifecycle(lo.getType());
   }
 
+  /**
+   * Looks up the objects for a lifecycle phase grouped so that the objects of a group don't depend on each other, and only
+   * depend on objects of the previous groups. The phase may then be applied to all the objects of a group concurrently.
+   * <p/>
+   * This implementation doesn't know about the dependencies between the objects, so each of them is in a group of its own, in
+   * the order given by {@link #lookupObjectsForLifecycle(LifecycleObject)}.
+   *
+   * @param lo the type of the objects to look up
+   * @return the groups of objects, in the order in which the phase has to be applied to them
+   */
+  protected List<? extends Collection<?>> lookupIndependentObjectsForLifecycle(LifecycleObject lo) {
+    List<Collection<?>> groups = new ArrayList<>();
+    for (Object object : lookupObjectsForLifecycle(lo)) {
+      groups.add(singletonList(object));
+    }
+    return groups;
+  }
+
   @Override
   public void setLifecycleInterceptor(LifecycleInterceptor interceptor) {
     this.interceptor = interceptor;
@@ -11,18 +11,19 @@ import org.mule.runtime.core.management.stats.printers.SimplePrinter;
 
 import java.io.PrintWriter;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <code>AllStatistics</code> TODO
  */
 public class AllStatistics {
 
-  private boolean isStatisticsEnabled;
+  private volatile boolean isStatisticsEnabled;
   private long startTime;
   private ApplicationStatistics appStats;
-  private Map<String, FlowConstructStatistics> flowConstructStats = new HashMap<String, FlowConstructStatistics>();
+  private final ProcessorProfiler processorProfiler = new ProcessorProfiler();
+  private Map<String, FlowConstructStatistics> flowConstructStats = new ConcurrentHashMap<>();
 
   /**
    * 
@@ -85,23 +86,32 @@ public class AllStatistics {
     this.startTime = startTime;
   }
 
-  public synchronized void add(FlowConstructStatistics stat) {
-    if (stat != null) {
+  public void add(FlowConstructStatistics stat) {
+    if (stat != null && stat.getName() != null) {
       flowConstructStats.put(stat.getName(), stat);
     }
   }
 
-  public synchronized void remove(FlowConstructStatistics stat) {
-    if (stat != null) {
+  public void remove(FlowConstructStatistics stat) {
+    if (stat != null && stat.getName() != null) {
       flowConstructStats.remove(stat.getName());
     }
   }
 
-  public synchronized Collection<FlowConstructStatistics> getServiceStatistics() {
+  public Collection<FlowConstructStatistics> getServiceStatistics() {
     return flowConstructStats.values();
   }
 
   public FlowConstructStatistics getApplicationStatistics() {
     return appStats;
   }
+
+  /**
+   * @return the profiler of the processors of this application, disabled unless switched on through
+   *         {@link ProcessorProfiler#setEnabled(boolean)}
+   * @since 4.0
+   */
+  public ProcessorProfiler getProcessorProfiler() {
+    return processorProfiler;
+  }
 }
@@ -11,13 +11,17 @@ import org.mule.runtime.core.management.stats.printers.SimplePrinter;
 import org.mule.runtime.core.util.StringUtils;
 
 import java.io.PrintWriter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * ComponentStatistics is a basic metrics aggregation class that is accessible via the JMX api. This class is not thread-safe -
- * occasional errors in reported statistics should be expected, especially when the {@link #clear()} method is used.
+ * ComponentStatistics is a basic metrics aggregation class that is accessible via the JMX api. Measurements are recorded without
+ * locking, so concurrent events do not contend on it, and every complete execution time is also recorded in a {@link Histogram}
+ * from which latency percentiles can be read. Reads are not atomic with respect to concurrent recordings - occasional errors in
+ * reported statistics should be expected, especially when the {@link #clear()} method is used.
  */
 public class ComponentStatistics implements Statistics {
 
@@ -28,14 +32,14 @@ public class ComponentStatistics implements Statistics {
    */
   private static final long serialVersionUID = -2086999226732861674L;
 
-  private long minExecutionTime = 0;
-  private long maxExecutionTime = 0;
-  private long averageExecutionTime = 0;
-  private long executedEvent = 0;
-  private long totalExecTime = 0;
-  private boolean enabled = false;
+  private final AtomicLong minExecutionTime = new AtomicLong(0);
+  private final AtomicLong maxExecutionTime = new AtomicLong(0);
+  private final LongAdder executedEvent = new LongAdder();
+  private final LongAdder totalExecTime = new LongAdder();
+  private final Histogram executionTimeHistogram = new Histogram();
+  private volatile boolean enabled = false;
   private long intervalTime = 0;
-  private long currentIntervalStartTime = 0;
+  private final AtomicLong currentIntervalStartTime = new AtomicLong(0);
   private boolean statIntervalTimeEnabled = false;
 
   /**
@@ -67,11 +71,11 @@ public class ComponentStatistics implements Statistics {
    * If called while a branch is being executed, then statistics may be slightly erroneous.
    */
   public void clear() {
-    minExecutionTime = 0;
-    maxExecutionTime = 0;
-    executedEvent = 0;
-    totalExecTime = 0;
-    averageExecutionTime = 0;
+    minExecutionTime.set(0);
+    maxExecutionTime.set(0);
+    executedEvent.reset();
+    totalExecTime.reset();
+    executionTimeHistogram.reset();
   }
 
   /**
@@ -112,7 +116,7 @@ public class ComponentStatistics implements Statistics {
    * @return The maximum time, or zero if no events have been started.
    */
   public long getMaxExecutionTime() {
-    return maxExecutionTime;
+    return maxExecutionTime.get();
   }
 
   /**
@@ -121,7 +125,7 @@ public class ComponentStatistics implements Statistics {
    * @return The maximum time, or zero if no events have been completed.
    */
   public long getMinExecutionTime() {
-    return minExecutionTime;
+    return minExecutionTime.get();
   }
 
   /**
@@ -131,7 +135,7 @@ public class ComponentStatistics implements Statistics {
    * @return The total cumulative execution time, in milliseconds.
    */
   public long getTotalExecutionTime() {
-    return totalExecTime;
+    return totalExecTime.sum();
   }
 
   /**
@@ -143,7 +147,7 @@ public class ComponentStatistics implements Statistics {
    * @return The number of events executed since last cleared.
    */
   public long getExecutedEvents() {
-    return executedEvent;
+    return executedEvent.sum();
   }
 
   /**
@@ -153,34 +157,19 @@ public class ComponentStatistics implements Statistics {
    * @param branch the time to execute this branch
    * @param total the total time (so far) for processing this event
    */
-  public synchronized void addExecutionBranchTime(boolean first, long branch, long total) {
+  public void addExecutionBranchTime(boolean first, long branch, long total) {
     // TODO MULE-9151 - ComponentStatistics should really create distinct Event
     // objects that can be used to aggregate statistics and then atomically
     // log them at completion time.
-
-    if (statIntervalTimeEnabled) {
-      long currentTime = System.currentTimeMillis();
-      if (currentIntervalStartTime == 0) {
-        currentIntervalStartTime = currentTime;
-      }
-
-      if ((currentTime - currentIntervalStartTime) > intervalTime) {
-        clear();
-        currentIntervalStartTime = currentTime;
-      }
-    }
+    checkInterval();
 
     if (first) {
-      executedEvent++;
+      executedEvent.increment();
     }
 
-    if (executedEvent > 0) {
-      totalExecTime += ProcessingTime.getEffectiveTime(branch);
-      long effectiveTotal = ProcessingTime.getEffectiveTime(total);
-      if (maxExecutionTime == 0 || effectiveTotal > maxExecutionTime) {
-        maxExecutionTime = effectiveTotal;
-      }
-      averageExecutionTime = totalExecTime / executedEvent;
+    if (executedEvent.sum() > 0) {
+      totalExecTime.add(ProcessingTime.getEffectiveTime(branch));
+      updateMax(ProcessingTime.getEffectiveTime(total));
     }
   }
 
@@ -191,12 +180,11 @@ public class ComponentStatistics implements Statistics {
    * 
    * @param time the total time required to process this event
    */
-  public synchronized void addCompleteExecutionTime(long time) {
-    if (executedEvent > 0) {
+  public void addCompleteExecutionTime(long time) {
+    if (executedEvent.sum() > 0) {
       long effectiveTime = ProcessingTime.getEffectiveTime(time);
-      if (minExecutionTime == 0 || effectiveTime < minExecutionTime) {
-        minExecutionTime = effectiveTime;
-      }
+      updateMin(effectiveTime);
+      executionTimeHistogram.record(effectiveTime);
     }
   }
 
@@ -207,31 +195,17 @@ public class ComponentStatistics implements Statistics {
    *
    * @param time The total event time to be logged/recorded.
    */
-  public synchronized void addExecutionTime(long time) {
-    if (statIntervalTimeEnabled) {
-      long currentTime = System.currentTimeMillis();
-      if (currentIntervalStartTime == 0) {
-        currentIntervalStartTime = currentTime;
-      }
+  public void addExecutionTime(long time) {
+    checkInterval();
 
-      if ((currentTime - currentIntervalStartTime) > intervalTime) {
-        clear();
-        currentIntervalStartTime = currentTime;
-      }
-    }
-
-    executedEvent++;
+    executedEvent.increment();
 
     long effectiveTime = ProcessingTime.getEffectiveTime(time);
-    totalExecTime += effectiveTime;
+    totalExecTime.add(effectiveTime);
+    executionTimeHistogram.record(effectiveTime);
 
-    if (minExecutionTime == 0 || effectiveTime < minExecutionTime) {
-      minExecutionTime = time;
-    }
-    if (maxExecutionTime == 0 || effectiveTime > maxExecutionTime) {
-      maxExecutionTime = time;
-    }
-    averageExecutionTime = totalExecTime / executedEvent;
+    updateMin(time);
+    updateMax(time);
   }
 
   /**
@@ -240,7 +214,45 @@ public class ComponentStatistics implements Statistics {
    * @return the total event time accumulated to this point, divided by the total number of events recorded.
    */
   public long getAverageExecutionTime() {
-    return averageExecutionTime;
+    long executed = executedEvent.sum();
+    return executed == 0 ? 0 : totalExecTime.sum() / executed;
+  }
+
+  /**
+   * The complete execution times recorded since last cleared, from which latency percentiles can be read.
+   *
+   * @return the histogram of execution times, in milliseconds.
+   * @since 4.0
+   */
+  public Histogram getExecutionTimeHistogram() {
+    return executionTimeHistogram;
+  }
+
+  private void checkInterval() {
+    if (statIntervalTimeEnabled) {
+      long currentTime = System.currentTimeMillis();
+      currentIntervalStartTime.compareAndSet(0, currentTime);
+
+      long intervalStartTime = currentIntervalStartTime.get();
+      if ((currentTime - intervalStartTime) > intervalTime
+          && currentIntervalStartTime.compareAndSet(intervalStartTime, currentTime)) {
+        clear();
+      }
+    }
+  }
+
+  private void updateMin(long time) {
+    long currentMin = minExecutionTime.get();
+    while ((currentMin == 0 || time < currentMin) && !minExecutionTime.compareAndSet(currentMin, time)) {
+      currentMin = minExecutionTime.get();
+    }
+  }
+
+  private void updateMax(long time) {
+    long currentMax = maxExecutionTime.get();
+    while ((currentMax == 0 || time > currentMax) && !maxExecutionTime.compareAndSet(currentMax, time)) {
+      currentMax = maxExecutionTime.get();
+    }
   }
 
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.management.stats;
+
+/**
+ * Statistics about the configuration instances cached by a {@link ConfigurationCacheStatisticsProvider}.
+ *
+ * @since 4.0
+ */
+public interface ConfigurationCacheStatistics {
+
+  /**
+   * @return the amount of instances currently cached
+   */
+  int getInstances();
+
+  /**
+   * @return how many times an event was served with an already cached instance
+   */
+  long getHits();
+
+  /**
+   * @return how many instances were created because no equivalent one was cached
+   */
+  long getCreatedInstances();
+
+  /**
+   * @return how many instances were evicted from the cache because the maximum amount of instances was reached
+   */
+  long getEvictedInstances();
+
+  /**
+   * @return how many instances were removed from the cache because they had been idle for too long
+   */
+  long getExpiredInstances();
+
+  /**
+   * @return how many evicted or expired instances were handed over to be stopped and disposed
+   */
+  long getReleasedInstances();
+}
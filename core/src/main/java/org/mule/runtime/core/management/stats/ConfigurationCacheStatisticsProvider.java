@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.management.stats;
+
+/**
+ * Implemented by the configuration providers which cache the configuration instances they create, so that the statistics of
+ * their caches can be monitored.
+ *
+ * @since 4.0
+ */
+public interface ConfigurationCacheStatisticsProvider {
+
+  /**
+   * @return the name of the configuration
+   */
+  String getName();
+
+  /**
+   * @return the statistics of the cache of configuration instances
+   */
+  ConfigurationCacheStatistics getCacheStats();
+}
@@ -6,10 +6,15 @@
  */
 package org.mule.runtime.core.management.stats;
 
+import static java.util.Collections.unmodifiableMap;
+
 import org.mule.runtime.core.api.processor.ProcessingStrategy;
 import org.mule.runtime.core.processor.strategy.AsynchronousProcessingStrategy;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 public class FlowConstructStatistics extends AbstractFlowConstructStatistics implements QueueStatistics {
 
@@ -18,14 +23,11 @@ public class FlowConstructStatistics extends AbstractFlowConstructStatistics imp
   private final AtomicLong fatalError = new AtomicLong(0);
   private int threadPoolSize = 0;
   protected final ComponentStatistics flowStatistics = new ComponentStatistics();
+  private final Map<String, ComponentStatistics> componentStatistics = new ConcurrentHashMap<>();
 
-  // these can't sensibly converted to AtomicLong as they are processed together
-  // in incQueuedEvent
-  private long queuedEvent = 0;
-  private long maxQueuedEvent = 0;
-  private long averageQueueSize = 0;
-  private long totalQueuedEvent = 0;
-
+  private final AtomicLong queuedEvent = new AtomicLong(0);
+  private final AtomicLong maxQueuedEvent = new AtomicLong(0);
+  private final LongAdder totalQueuedEvent = new LongAdder();
 
   public FlowConstructStatistics(String flowConstructType, String name, ProcessingStrategy processingStrategy) {
     super(flowConstructType, name);
@@ -72,6 +74,9 @@ public class FlowConstructStatistics extends AbstractFlowConstructStatistics imp
   public synchronized void setEnabled(boolean b) {
     super.setEnabled(b);
     flowStatistics.setEnabled(enabled);
+    for (ComponentStatistics statistics : componentStatistics.values()) {
+      statistics.setEnabled(enabled);
+    }
   }
 
   public synchronized void clear() {
@@ -79,9 +84,16 @@ public class FlowConstructStatistics extends AbstractFlowConstructStatistics imp
 
     executionError.set(0);
     fatalError.set(0);
+    maxQueuedEvent.set(0);
+    totalQueuedEvent.reset();
     if (flowStatistics != null) {
       flowStatistics.clear();
     }
+    if (componentStatistics != null) {
+      for (ComponentStatistics statistics : componentStatistics.values()) {
+        statistics.clear();
+      }
+    }
   }
 
   public void addCompleteFlowExecutionTime(long time) {
@@ -112,6 +124,44 @@ public class FlowConstructStatistics extends AbstractFlowConstructStatistics imp
     return flowStatistics.getTotalExecutionTime();
   }
 
+  /**
+   * @return the histogram of the complete processing times of the events of this flow, in milliseconds.
+   * @since 4.0
+   */
+  public Histogram getProcessingTimeHistogram() {
+    return flowStatistics.getExecutionTimeHistogram();
+  }
+
+  /**
+   * Registers the statistics of one of the components of this flow, which are enabled and cleared along with the statistics of
+   * the flow. Only components keep statistics of their own, the time spent in every other processor is recorded by the
+   * {@link ProcessorProfiler} when it is enabled.
+   *
+   * @param name the processor path of the component, or a name that identifies it within the flow
+   * @param statistics the statistics of the component
+   * @since 4.0
+   */
+  public void addComponentStatistics(String name, ComponentStatistics statistics) {
+    statistics.setEnabled(enabled);
+    componentStatistics.put(name, statistics);
+  }
+
+  /**
+   * @param name the name of a component which statistics are no longer needed
+   * @since 4.0
+   */
+  public void removeComponentStatistics(String name) {
+    componentStatistics.remove(name);
+  }
+
+  /**
+   * @return the statistics of the components of this flow, by component name
+   * @since 4.0
+   */
+  public Map<String, ComponentStatistics> getComponentStatistics() {
+    return unmodifiableMap(componentStatistics);
+  }
+
   public long getExecutionErrors() {
     return executionError.get();
   }
@@ -124,21 +174,31 @@ public class FlowConstructStatistics extends AbstractFlowConstructStatistics imp
     return threadPoolSize;
   }
 
-  public synchronized void incQueuedEvent() {
-    queuedEvent++;
-    totalQueuedEvent++;
-    if (queuedEvent > maxQueuedEvent) {
-      maxQueuedEvent = queuedEvent;
+  public void incQueuedEvent() {
+    long queued = queuedEvent.incrementAndGet();
+    totalQueuedEvent.increment();
+
+    long currentMax = maxQueuedEvent.get();
+    while (queued > currentMax && !maxQueuedEvent.compareAndSet(currentMax, queued)) {
+      currentMax = maxQueuedEvent.get();
     }
-    averageQueueSize = receivedEventASync.get() / totalQueuedEvent;
   }
 
-  public synchronized void decQueuedEvent() {
-    queuedEvent--;
+  public void decQueuedEvent() {
+    queuedEvent.decrementAndGet();
+  }
+
+  public long getAverageQueueSize() {
+    long total = totalQueuedEvent.sum();
+    return total == 0 ? 0 : receivedEventASync.get() / total;
+  }
+
+  public long getMaxQueueSize() {
+    return maxQueuedEvent.get();
   }
 
-  public synchronized long getAverageQueueSize() {
-    return averageQueueSize;
+  public long getQueuedEvents() {
+    return queuedEvent.get();
   }
 
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.management.stats;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non negative {@code long} values which can be recorded concurrently without locking.
+ * <p>
+ * Values are counted in log-linear buckets: every power of two range is split in {@value #SUB_BUCKETS} equally sized buckets, so
+ * percentiles are reported with a relative error of at most 12.5% whatever the magnitude of the values. Values below
+ * {@value #SUB_BUCKETS} are counted exactly. Negative values are recorded as 0.
+ * <p>
+ * Reads are not atomic with respect to concurrent recordings, so the percentiles of a histogram which is being recorded on are
+ * an approximation of the values recorded by the time they are read.
+ *
+ * @since 4.0
+ */
+public class Histogram implements Serializable {
+
+  private static final long serialVersionUID = 2618342905861722947L;
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Records a value
+   *
+   * @param value the value to record
+   */
+  public void record(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+
+    counts.incrementAndGet(indexOf(value));
+    count.increment();
+    sum.add(value);
+
+    long currentMax = max.get();
+    while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+      currentMax = max.get();
+    }
+  }
+
+  /**
+   * @return how many values were recorded
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * @return the highest value recorded, or 0 if none was
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * @return the average of the values recorded, or 0 if none was
+   */
+  public double getMean() {
+    long total = count.sum();
+    return total == 0 ? 0 : (double) sum.sum() / total;
+  }
+
+  /**
+   * Returns the value below which the given percentage of the recorded values fall. The value returned is the upper bound of the
+   * bucket in which the percentile falls, never higher than the highest value recorded.
+   *
+   * @param percentile the percentile, between 0 and 100
+   * @return the value at the given percentile, or 0 if no value was recorded
+   */
+  public long getPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100, but was " + percentile);
+    }
+
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      total += counts.get(i);
+    }
+    if (total == 0) {
+      return 0;
+    }
+
+    long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long accumulated = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      accumulated += counts.get(i);
+      if (accumulated >= target) {
+        return Math.min(highestValueOf(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * Discards all the values recorded so far
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts.set(i, 0);
+    }
+    count.reset();
+    sum.reset();
+    max.set(0);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("count=%d, mean=%.2f, p50=%d, p99=%d, p999=%d, max=%d", getCount(), getMean(), getPercentile(50),
+                         getPercentile(99), getPercentile(99.9), getMax());
+  }
+
+  static int indexOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+  }
+
+  static long highestValueOf(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int shift = index / SUB_BUCKETS - 1;
+    long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+}
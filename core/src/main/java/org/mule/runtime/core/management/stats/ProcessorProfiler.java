@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.management.stats;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Comparator.comparingLong;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the time spent in, and optionally the memory allocated by, every message processor executed while it is enabled.
+ * <p>
+ * Measurements are kept per processor path (see {@link org.mule.runtime.core.api.construct.MessageProcessorPathResolver}) in
+ * {@link Histogram}s, so recording does not lock and does not depend on notifications being enabled. Times are inclusive: the
+ * time of a processor which contains other processors, such as a router, includes the time of the processors it executes.
+ * <p>
+ * Allocation profiling relies on the HotSpot {@code com.sun.management.ThreadMXBean} extension and is only available where the
+ * JVM supports measuring the bytes allocated by a thread.
+ *
+ * @since 4.0
+ */
+public class ProcessorProfiler {
+
+  private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+  private volatile boolean enabled = false;
+  private volatile boolean allocationProfilingEnabled = false;
+  private final Map<String, ProcessorProfile> profiles = new ConcurrentHashMap<>();
+
+  /**
+   * @return whether processor executions are being profiled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Starts or stops profiling processor executions. Profiles already recorded are kept until {@link #clear()} is called.
+   *
+   * @param enabled whether processor executions should be profiled
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * @return whether the memory allocated by processors is being profiled along with their time
+   */
+  public boolean isAllocationProfilingEnabled() {
+    return allocationProfilingEnabled;
+  }
+
+  /**
+   * Starts or stops profiling the memory allocated by processors. It has no effect if the JVM can't measure it.
+   *
+   * @param allocationProfilingEnabled whether the memory allocated by processors should be profiled
+   */
+  public void setAllocationProfilingEnabled(boolean allocationProfilingEnabled) {
+    this.allocationProfilingEnabled = allocationProfilingEnabled && isAllocationProfilingSupported();
+  }
+
+  /**
+   * @return whether the JVM can measure the memory allocated by a thread
+   */
+  public boolean isAllocationProfilingSupported() {
+    return threadMXBean instanceof com.sun.management.ThreadMXBean
+        && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()
+        && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemoryEnabled();
+  }
+
+  /**
+   * @return the bytes allocated so far by the current thread, or -1 if allocation profiling is not enabled
+   */
+  public long getCurrentThreadAllocatedBytes() {
+    if (!allocationProfilingEnabled) {
+      return -1;
+    }
+    return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * Records one execution of a processor.
+   *
+   * @param processorPath the path of the processor
+   * @param elapsedNanos the time the execution took, in nanoseconds
+   * @param allocatedBytes the bytes allocated during the execution, or a negative value if they were not measured
+   */
+  public void record(String processorPath, long elapsedNanos, long allocatedBytes) {
+    profiles.computeIfAbsent(processorPath, ProcessorProfile::new).record(elapsedNanos, allocatedBytes);
+  }
+
+  /**
+   * @return the profiles recorded so far, by processor path
+   */
+  public Map<String, ProcessorProfile> getProfiles() {
+    return unmodifiableMap(profiles);
+  }
+
+  /**
+   * Returns the processors of a flow in which most time was spent.
+   *
+   * @param flowName the name of the flow
+   * @param count how many processors to return at most
+   * @return the profiles of the processors of the flow, sorted by the total time spent in them, highest first
+   */
+  public List<ProcessorProfile> getHotProcessors(String flowName, int count) {
+    String flowPath = "/" + flowName + "/";
+    return profiles.values().stream()
+        .filter(profile -> profile.getProcessorPath().startsWith(flowPath))
+        .sorted(comparingLong(ProcessorProfile::getTotalTime).reversed())
+        .limit(count)
+        .collect(toList());
+  }
+
+  /**
+   * Discards all the profiles recorded so far
+   */
+  public void clear() {
+    profiles.clear();
+  }
+
+  /**
+   * The measurements recorded for a single processor
+   */
+  public static class ProcessorProfile {
+
+    private final String processorPath;
+    private final LongAdder totalTime = new LongAdder();
+    private final Histogram executionTimeHistogram = new Histogram();
+    private final Histogram allocatedBytesHistogram = new Histogram();
+
+    ProcessorProfile(String processorPath) {
+      this.processorPath = processorPath;
+    }
+
+    void record(long elapsedNanos, long allocatedBytes) {
+      long elapsedMicros = NANOSECONDS.toMicros(elapsedNanos);
+      totalTime.add(elapsedMicros);
+      executionTimeHistogram.record(elapsedMicros);
+      if (allocatedBytes >= 0) {
+        allocatedBytesHistogram.record(allocatedBytes);
+      }
+    }
+
+    public String getProcessorPath() {
+      return processorPath;
+    }
+
+    /**
+     * @return the total time spent executing the processor, in microseconds
+     */
+    public long getTotalTime() {
+      return totalTime.sum();
+    }
+
+    /**
+     * @return the execution times of the processor, in microseconds
+     */
+    public Histogram getExecutionTimeHistogram() {
+      return executionTimeHistogram;
+    }
+
+    /**
+     * @return the bytes allocated by each execution of the processor, empty if allocation profiling was never enabled
+     */
+    public Histogram getAllocatedBytesHistogram() {
+      return allocatedBytesHistogram;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder(processorPath).append(": totalTimeMicros=").append(getTotalTime())
+          .append(", timeMicros=[").append(executionTimeHistogram).append("]");
+      if (allocatedBytesHistogram.getCount() > 0) {
+        builder.append(", allocatedBytes=[").append(allocatedBytesHistogram).append("]");
+      }
+      return builder.toString();
+    }
+  }
+}
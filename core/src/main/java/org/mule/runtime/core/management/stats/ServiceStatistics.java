@@ -20,13 +20,6 @@ public class ServiceStatistics extends FlowConstructStatistics implements QueueS
   private final AtomicLong sentReplyToEvent = new AtomicLong(0);
   private final AtomicLong sentEventASync = new AtomicLong(0);
 
-  // these can't sensibly converted to AtomicLong as they are processed together
-  // in incQueuedEvent
-  private long queuedEvent = 0;
-  private long maxQueuedEvent = 0;
-  private long averageQueueSize = 0;
-  private long totalQueuedEvent = 0;
-
   private RouterStatistics inboundRouterStat = null;
   private ComponentStatistics componentStat = null;
   private RouterStatistics outboundRouterStat = null;
@@ -70,31 +63,10 @@ public class ServiceStatistics extends FlowConstructStatistics implements QueueS
     sentReplyToEvent.addAndGet(1);
   }
 
-  public synchronized void incQueuedEvent() {
-    queuedEvent++;
-    totalQueuedEvent++;
-    if (queuedEvent > maxQueuedEvent) {
-      maxQueuedEvent = queuedEvent;
-    }
-    averageQueueSize = receivedEventASync.get() / totalQueuedEvent;
-  }
-
-  public synchronized void decQueuedEvent() {
-    queuedEvent--;
-  }
-
   public long getAverageExecutionTime() {
     return componentStat.getAverageExecutionTime();
   }
 
-  public synchronized long getAverageQueueSize() {
-    return averageQueueSize;
-  }
-
-  public synchronized long getMaxQueueSize() {
-    return maxQueuedEvent;
-  }
-
   /**
    * @deprecated
    */
@@ -119,10 +91,6 @@ public class ServiceStatistics extends FlowConstructStatistics implements QueueS
     return componentStat.getTotalExecutionTime();
   }
 
-  public synchronized long getQueuedEvents() {
-    return queuedEvent;
-  }
-
   public long getReplyToEventsSent() {
     return sentReplyToEvent.get();
   }
@@ -154,11 +122,6 @@ public class ServiceStatistics extends FlowConstructStatistics implements QueueS
   @Override
   public synchronized void clear() {
     super.clear();
-    queuedEvent = 0;
-    maxQueuedEvent = 0;
-    totalQueuedEvent = 0;
-    averageQueueSize = 0;
-
     sentEventSync.set(0);
     sentEventASync.set(0);
     sentReplyToEvent.set(0);
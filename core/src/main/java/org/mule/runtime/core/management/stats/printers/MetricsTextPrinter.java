@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.management.stats.printers;
+
+import org.mule.runtime.core.management.stats.ComponentStatistics;
+import org.mule.runtime.core.management.stats.FlowConstructStatistics;
+import org.mule.runtime.core.management.stats.Histogram;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * <code>MetricsTextPrinter</code> prints event processing stats as plain text, one sample per line in the
+ * {@code name{labels} value} layout that metrics collectors scrape. Processing times are reported as the 50th, 99th and 99.9th
+ * percentiles, in milliseconds, for every flow and for every component registered in its statistics.
+ *
+ * @since 4.0
+ */
+public class MetricsTextPrinter extends AbstractTablePrinter {
+
+  private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+
+  public MetricsTextPrinter(Writer out) {
+    super(out);
+  }
+
+  public MetricsTextPrinter(OutputStream out) {
+    super(out);
+  }
+
+  @Override
+  public void print(Collection stats) {
+    for (Object stat : stats) {
+      if (stat instanceof FlowConstructStatistics) {
+        print((FlowConstructStatistics) stat);
+      }
+    }
+    flush();
+  }
+
+  protected void print(FlowConstructStatistics stats) {
+    String flowLabels = "flow=\"" + escape(stats.getName()) + "\"";
+
+    printSample("mule_flow_events_received_total", flowLabels, stats.getTotalEventsReceived());
+    printSample("mule_flow_execution_errors_total", flowLabels, stats.getExecutionErrors());
+    printSample("mule_flow_fatal_errors_total", flowLabels, stats.getFatalErrors());
+    printSample("mule_flow_queued_events", flowLabels, stats.getQueuedEvents());
+    printHistogram("mule_flow_processing_time_ms", flowLabels, stats.getProcessingTimeHistogram());
+
+    for (Map.Entry<String, ComponentStatistics> entry : stats.getComponentStatistics().entrySet()) {
+      String componentLabels = flowLabels + ",component=\"" + escape(entry.getKey()) + "\"";
+      printSample("mule_component_executed_events_total", componentLabels, entry.getValue().getExecutedEvents());
+      printHistogram("mule_component_execution_time_ms", componentLabels, entry.getValue().getExecutionTimeHistogram());
+    }
+  }
+
+  private void printHistogram(String name, String labels, Histogram histogram) {
+    for (double quantile : QUANTILES) {
+      printSample(name, labels + ",quantile=\"" + quantile + "\"", histogram.getPercentile(quantile * 100));
+    }
+    printSample(name + "_count", labels, histogram.getCount());
+    printSample(name + "_max", labels, histogram.getMax());
+  }
+
+  private void printSample(String name, String labels, long value) {
+    print(name);
+    print('{');
+    print(labels);
+    print("} ");
+    print(value);
+    print('\n');
+  }
+
+  private static String escape(String value) {
+    return value == null ? "" : value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.model.streaming;
+
+import static java.lang.System.currentTimeMillis;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An {@link InputStream} over a sequence of chunks which may arrive out of order and while the stream is being read.
+ * <p>
+ * Chunks are appended to a spool file as they are added, so the memory used does not depend on the size of the chunks. Reads
+ * return the chunks in sequence order, starting at sequence 1, and block until the next chunk in sequence is added. The stream
+ * ends after the last chunk, whose sequence is set by {@link #setChunkCount(int)}.
+ * <p>
+ * The spool file is deleted when the stream is closed. Chunks added after that are counted but discarded.
+ *
+ * @since 4.0
+ */
+public class ReassemblingInputStream extends InputStream {
+
+  private final File file;
+  private final RandomAccessFile spool;
+  private final long timeout;
+
+  // sequence -> {offset, length} in the spool file
+  private final Map<Integer, long[]> chunks = new HashMap<>();
+  private long spoolLength;
+  private int received;
+  private int chunkCount = -1;
+
+  private int current = 1;
+  private long positionInChunk;
+  private boolean closed;
+
+  /**
+   * Builds a {@link ReassemblingInputStream}.
+   *
+   * @param file the spool file, which is created if it doesn't exist and deleted when the stream is closed
+   * @param timeout how long in milliseconds a read waits for the next chunk to be added, or 0 to wait indefinitely
+   * @throws IOException if the spool file cannot be opened
+   */
+  public ReassemblingInputStream(File file, long timeout) throws IOException {
+    this.file = file;
+    this.spool = new RandomAccessFile(file, "rw");
+    this.timeout = timeout;
+  }
+
+  /**
+   * Adds a chunk. Chunks with a sequence that was already added are ignored.
+   *
+   * @param sequence the position of the chunk in the stream, starting at 1
+   * @param data the content of the chunk
+   * @return whether all the chunks of the stream have been added
+   * @throws IOException if the chunk cannot be written to the spool file
+   */
+  public synchronized boolean addChunk(int sequence, byte[] data) throws IOException {
+    if (sequence < 1 || chunks.containsKey(sequence)) {
+      return isComplete();
+    }
+
+    if (!closed) {
+      spool.seek(spoolLength);
+      spool.write(data);
+    }
+    chunks.put(sequence, new long[] {spoolLength, data.length});
+    spoolLength += data.length;
+    received++;
+    notifyAll();
+    return isComplete();
+  }
+
+  /**
+   * Sets how many chunks the stream is made of, once it is known.
+   *
+   * @param chunkCount the sequence of the last chunk
+   * @return whether all the chunks of the stream have been added
+   */
+  public synchronized boolean setChunkCount(int chunkCount) {
+    this.chunkCount = chunkCount;
+    notifyAll();
+    return isComplete();
+  }
+
+  /**
+   * @return whether all the chunks of the stream have been added
+   */
+  public synchronized boolean isComplete() {
+    return chunkCount >= 0 && received >= chunkCount;
+  }
+
+  @Override
+  public int read() throws IOException {
+    byte[] single = new byte[1];
+    int read = read(single, 0, 1);
+    return read == -1 ? -1 : single[0] & 0xFF;
+  }
+
+  @Override
+  public synchronized int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+
+    long[] chunk = awaitCurrentChunk();
+    if (chunk == null) {
+      return -1;
+    }
+
+    int count = (int) Math.min(len, chunk[1] - positionInChunk);
+    spool.seek(chunk[0] + positionInChunk);
+    spool.readFully(b, off, count);
+    positionInChunk += count;
+    if (positionInChunk == chunk[1]) {
+      current++;
+      positionInChunk = 0;
+    }
+    return count;
+  }
+
+  @Override
+  public synchronized int available() throws IOException {
+    checkOpen();
+    long[] chunk = chunks.get(current);
+    return chunk == null ? 0 : (int) (chunk[1] - positionInChunk);
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    notifyAll();
+    try {
+      spool.close();
+    } finally {
+      file.delete();
+    }
+  }
+
+  private long[] awaitCurrentChunk() throws IOException {
+    long deadline = timeout > 0 ? currentTimeMillis() + timeout : 0;
+    while (true) {
+      checkOpen();
+      if (chunkCount >= 0 && current > chunkCount) {
+        return null;
+      }
+
+      long[] chunk = chunks.get(current);
+      if (chunk != null && chunk[1] > 0) {
+        return chunk;
+      } else if (chunk != null) {
+        current++;
+        continue;
+      }
+
+      long remaining = timeout > 0 ? deadline - currentTimeMillis() : 0;
+      if (timeout > 0 && remaining <= 0) {
+        throw new IOException(String.format("Timed out after %d ms waiting for chunk %d", timeout, current));
+      }
+      try {
+        wait(remaining);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for chunk " + current);
+      }
+    }
+  }
+
+  private void checkOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+  }
+}
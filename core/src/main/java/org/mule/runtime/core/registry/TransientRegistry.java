@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.registry;
 
+import static java.util.Collections.unmodifiableMap;
+
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.MuleException;
 import org.mule.runtime.core.api.agent.Agent;
@@ -25,6 +27,7 @@ import org.mule.runtime.core.util.CollectionUtils;
 import org.mule.runtime.core.util.ExceptionUtils;
 import org.mule.runtime.core.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -32,12 +35,13 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.apache.commons.collections.Predicate;
-import org.apache.commons.collections.functors.InstanceofPredicate;
 import org.slf4j.Logger;
 
 /**
@@ -132,21 +136,7 @@ public class TransientRegistry extends AbstractRegistry {
   @Override
   @SuppressWarnings("unchecked")
   public <T> Map<String, T> lookupByType(Class<T> type) {
-    final Map<String, T> results = new HashMap<String, T>();
-    try {
-      registryMap.lockForReading();
-
-      for (Map.Entry<String, Object> entry : registryMap.entrySet()) {
-        final Class<?> clazz = entry.getValue().getClass();
-        if (type.isAssignableFrom(clazz)) {
-          results.put(entry.getKey(), (T) entry.getValue());
-        }
-      }
-    } finally {
-      registryMap.unlockForReading();
-    }
-
-    return results;
+    return new HashMap<>((Map<String, T>) registryMap.selectByType(type));
   }
 
   @Override
@@ -162,7 +152,7 @@ public class TransientRegistry extends AbstractRegistry {
   @Override
   @SuppressWarnings("unchecked")
   public <T> Collection<T> lookupObjects(Class<T> returntype) {
-    return (Collection<T>) registryMap.select(new InstanceofPredicate(returntype));
+    return new ArrayList<>((Collection<T>) registryMap.selectByType(returntype).values());
   }
 
   @Override
@@ -303,10 +293,15 @@ public class TransientRegistry extends AbstractRegistry {
   /**
    * This class encapsulates the {@link HashMap} that's used for storing the objects in the transient registry and also shields
    * client code from having to deal with locking the {@link ReadWriteLock} for the exposed Map operations.
+   * <p/>
+   * It also keeps an index of the objects of each type that has been selected with {@link #selectByType(Class)}. Each entry of
+   * the index is an immutable snapshot which is replaced, while holding the write lock, whenever an object of its type is put or
+   * removed, so selecting by type doesn't scan the registry nor lock once the type is indexed.
    */
   protected static class RegistryMap {
 
     private final Map<String, Object> registry = new HashMap<String, Object>();
+    private final ConcurrentMap<Class<?>, Map<String, Object>> typeIndex = new ConcurrentHashMap<>();
     private final ReadWriteLock registryLock = new ReentrantReadWriteLock();
     private final Set<Object> lostObjects = new TreeSet<Object>(new Comparator<Object>() {
 
@@ -337,11 +332,60 @@ public class TransientRegistry extends AbstractRegistry {
       }
     }
 
+    /**
+     * @param type the type of the objects to select
+     * @return an immutable snapshot of the objects in the registry which are instances of {@code type}, by key
+     */
+    public Map<String, Object> selectByType(Class<?> type) {
+      Map<String, Object> objects = typeIndex.get(type);
+      if (objects != null) {
+        return objects;
+      }
+
+      Lock readLock = registryLock.readLock();
+      try {
+        readLock.lock();
+        objects = new HashMap<>();
+        for (Entry<String, Object> entry : registry.entrySet()) {
+          if (type.isInstance(entry.getValue())) {
+            objects.put(entry.getKey(), entry.getValue());
+          }
+        }
+        objects = unmodifiableMap(objects);
+        // Every object is an instance of Object, so indexing it would copy the whole registry on each change
+        if (type != Object.class) {
+          // Published while holding the read lock so no change can be missed by the index
+          Map<String, Object> indexed = typeIndex.putIfAbsent(type, objects);
+          return indexed != null ? indexed : objects;
+        }
+        return objects;
+      } finally {
+        readLock.unlock();
+      }
+    }
+
+    private void updateTypeIndex(String key, Object previousObject, Object object) {
+      for (Entry<Class<?>, Map<String, Object>> indexEntry : typeIndex.entrySet()) {
+        boolean removed = previousObject != null && indexEntry.getKey().isInstance(previousObject);
+        boolean added = object != null && indexEntry.getKey().isInstance(object);
+        if (removed || added) {
+          Map<String, Object> objects = new HashMap<>(indexEntry.getValue());
+          if (added) {
+            objects.put(key, object);
+          } else {
+            objects.remove(key);
+          }
+          indexEntry.setValue(unmodifiableMap(objects));
+        }
+      }
+    }
+
     public void clear() {
       Lock writeLock = registryLock.writeLock();
       try {
         writeLock.lock();
         registry.clear();
+        typeIndex.clear();
         lostObjects.clear();
       } finally {
         writeLock.unlock();
@@ -354,6 +398,7 @@ public class TransientRegistry extends AbstractRegistry {
         writeLock.lock();
 
         final Object previousObject = registry.put(key, object);
+        updateTypeIndex(key, previousObject, object);
         if (previousObject != null && previousObject != object) {
           if (previousObject instanceof Disposable) {
             lostObjects.add(previousObject);
@@ -374,7 +419,9 @@ public class TransientRegistry extends AbstractRegistry {
       Lock writeLock = registryLock.writeLock();
       try {
         writeLock.lock();
-        registry.putAll(map);
+        for (Entry<String, Object> entry : map.entrySet()) {
+          updateTypeIndex(entry.getKey(), registry.put(entry.getKey(), entry.getValue()), entry.getValue());
+        }
       } finally {
         writeLock.unlock();
       }
@@ -395,7 +442,9 @@ public class TransientRegistry extends AbstractRegistry {
       Lock writeLock = registryLock.writeLock();
       try {
         writeLock.lock();
-        return registry.remove(key);
+        Object previousObject = registry.remove(key);
+        updateTypeIndex(key, previousObject, null);
+        return previousObject;
       } finally {
         writeLock.unlock();
       }
@@ -183,6 +183,14 @@ public abstract class AbstractAggregator extends AbstractInterceptingMessageProc
     this.flowConstruct = flowConstruct;
   }
 
+  /**
+   * @return the store with the ids of the groups that were already aggregated or expired
+   * @since 4.0
+   */
+  protected ObjectStore<Long> getProcessedGroupsObjectStore() {
+    return processedGroupsObjectStore;
+  }
+
   public void setProcessedGroupsObjectStore(ObjectStore<Long> processedGroupsObjectStore) {
     this.processedGroupsObjectStore =
         new ProvidedObjectStoreWrapper<>(processedGroupsObjectStore, internalProcessedGroupsObjectStoreFactory());
@@ -20,6 +20,7 @@ import org.mule.runtime.core.api.lifecycle.Disposable;
 import org.mule.runtime.core.api.lifecycle.Initialisable;
 import org.mule.runtime.core.api.lifecycle.InitialisationException;
 import org.mule.runtime.core.api.lifecycle.LifecycleUtils;
+import org.mule.runtime.core.api.store.ListableObjectStore;
 import org.mule.runtime.core.api.store.ObjectAlreadyExistsException;
 import org.mule.runtime.core.api.store.ObjectStore;
 import org.mule.runtime.core.api.store.ObjectStoreException;
@@ -27,8 +28,11 @@ import org.mule.runtime.core.api.store.ObjectStoreManager;
 import org.mule.runtime.core.api.store.ObjectStoreNotAvaliableException;
 import org.mule.runtime.core.exception.MessagingException;
 import org.mule.runtime.core.processor.AbstractFilteringMessageProcessor;
+import org.mule.runtime.core.util.RotatingBloomFilter;
 
+import java.io.Serializable;
 import java.text.MessageFormat;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,6 +42,11 @@ import org.slf4j.LoggerFactory;
  * the incoming message. Note that the underlying endpoint must support unique message IDs for this to work, otherwise a
  * <code>UniqueIdNotSupportedException</code> is thrown.<br>
  * <p>
+ * When {@link #setBloomFilterExpectedInsertions(int) bloomFilterExpectedInsertions} is set, the IDs accepted are also kept in a
+ * {@link RotatingBloomFilter} which is checked before the store, so that the store is only looked up for possible duplicates.
+ * The filter is populated with the keys of the store on initialisation if the store is listable. IDs the filter has forgotten are
+ * still rejected by the store when they are stored, so the filter never lets a duplicate through.
+ * <p>
  * <b>EIP Reference:</b> <a href="http://www.eaipatterns.com/IdempotentReceiver.html">
  * http://www.eaipatterns.com/IdempotentReceiver.html</a>
  */
@@ -54,6 +63,15 @@ public class IdempotentMessageFilter extends AbstractFilteringMessageProcessor i
   protected String valueExpression = MessageFormat.format("{0}message:id{1}", DEFAULT_EXPRESSION_PREFIX,
                                                           DEFAULT_EXPRESSION_POSTFIX);
 
+  protected int bloomFilterExpectedInsertions = 0;
+  protected double bloomFilterFalsePositiveProbability = 0.01;
+  protected long bloomFilterGenerationTtl = 0;
+
+  private RotatingBloomFilter bloomFilter;
+  private final LongAdder bloomFilterSkippedLookups = new LongAdder();
+  private final LongAdder bloomFilterPossibleDuplicates = new LongAdder();
+  private final LongAdder bloomFilterFalsePositives = new LongAdder();
+
   public IdempotentMessageFilter() {
     super();
   }
@@ -68,6 +86,26 @@ public class IdempotentMessageFilter extends AbstractFilteringMessageProcessor i
     }
 
     LifecycleUtils.initialiseIfNeeded(store);
+
+    if (bloomFilterExpectedInsertions > 0) {
+      bloomFilter = new RotatingBloomFilter(bloomFilterExpectedInsertions, bloomFilterFalsePositiveProbability,
+                                            bloomFilterGenerationTtl);
+      populateBloomFilter();
+    }
+  }
+
+  private void populateBloomFilter() {
+    if (!(store instanceof ListableObjectStore)) {
+      return;
+    }
+    try {
+      for (Serializable key : ((ListableObjectStore<String>) store).allKeys()) {
+        bloomFilter.put(key.toString());
+      }
+    } catch (ObjectStoreException e) {
+      LOGGER.warn("Could not populate the bloom filter from the keys of the store, disabling it: " + e.getMessage());
+      bloomFilter = null;
+    }
   }
 
   @Override
@@ -117,8 +155,10 @@ public class IdempotentMessageFilter extends AbstractFilteringMessageProcessor i
         String value = getValueForEvent(event);
         try {
           store.store(id, value);
+          putInBloomFilter(id);
           return true;
         } catch (ObjectAlreadyExistsException ex) {
+          putInBloomFilter(id);
           return false;
         } catch (ObjectStoreNotAvaliableException e) {
           logger.error("ObjectStore not available: " + e.getMessage());
@@ -144,7 +184,20 @@ public class IdempotentMessageFilter extends AbstractFilteringMessageProcessor i
           initialise();
         }
       }
-      return !store.contains(id);
+
+      if (bloomFilter != null && !bloomFilter.mightContain(id)) {
+        bloomFilterSkippedLookups.increment();
+        return true;
+      }
+
+      boolean contained = store.contains(id);
+      if (bloomFilter != null) {
+        bloomFilterPossibleDuplicates.increment();
+        if (!contained) {
+          bloomFilterFalsePositives.increment();
+        }
+      }
+      return !contained;
     } catch (MuleException e) {
       logger.error("Exception attempting to determine idempotency of incoming message for " + flowConstruct.getName()
           + " from the connector " + event.getContext().getOriginatingConnectorName(), e);
@@ -163,4 +216,62 @@ public class IdempotentMessageFilter extends AbstractFilteringMessageProcessor i
   public void setStorePrefix(String storePrefix) {
     this.storePrefix = storePrefix;
   }
+
+  public int getBloomFilterExpectedInsertions() {
+    return bloomFilterExpectedInsertions;
+  }
+
+  /**
+   * @param bloomFilterExpectedInsertions how many IDs each generation of the bloom filter holds, or 0 to disable the bloom filter
+   */
+  public void setBloomFilterExpectedInsertions(int bloomFilterExpectedInsertions) {
+    this.bloomFilterExpectedInsertions = bloomFilterExpectedInsertions;
+  }
+
+  public double getBloomFilterFalsePositiveProbability() {
+    return bloomFilterFalsePositiveProbability;
+  }
+
+  public void setBloomFilterFalsePositiveProbability(double bloomFilterFalsePositiveProbability) {
+    this.bloomFilterFalsePositiveProbability = bloomFilterFalsePositiveProbability;
+  }
+
+  public long getBloomFilterGenerationTtl() {
+    return bloomFilterGenerationTtl;
+  }
+
+  /**
+   * @param bloomFilterGenerationTtl the maximum age in milliseconds of a generation of the bloom filter, or 0 to only rotate
+   *        generations when full. Setting it to the entry TTL of the store keeps the bloom filter from remembering expired IDs.
+   */
+  public void setBloomFilterGenerationTtl(long bloomFilterGenerationTtl) {
+    this.bloomFilterGenerationTtl = bloomFilterGenerationTtl;
+  }
+
+  /**
+   * @return how many messages were accepted without looking up the store, because the bloom filter knew they were new
+   */
+  public long getBloomFilterSkippedLookups() {
+    return bloomFilterSkippedLookups.sum();
+  }
+
+  /**
+   * @return how many messages the bloom filter reported as possible duplicates, so that the store was looked up
+   */
+  public long getBloomFilterPossibleDuplicates() {
+    return bloomFilterPossibleDuplicates.sum();
+  }
+
+  /**
+   * @return how many of the possible duplicates turned out not to be in the store
+   */
+  public long getBloomFilterFalsePositives() {
+    return bloomFilterFalsePositives.sum();
+  }
+
+  private void putInBloomFilter(String id) {
+    if (bloomFilter != null) {
+      bloomFilter.put(id);
+    }
+  }
 }
@@ -6,33 +6,211 @@
  */
 package org.mule.runtime.core.routing;
 
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.MuleEvent;
+import org.mule.runtime.core.api.MuleException;
 import org.mule.runtime.core.api.MuleMessage;
 import org.mule.runtime.core.api.MuleMessage.Builder;
+import org.mule.runtime.core.api.MuleRuntimeException;
+import org.mule.runtime.core.api.lifecycle.InitialisationException;
+import org.mule.runtime.core.api.routing.RoutingException;
 import org.mule.runtime.core.api.serialization.SerializationException;
 import org.mule.runtime.core.api.store.ObjectStoreException;
+import org.mule.runtime.core.config.i18n.CoreMessages;
+import org.mule.runtime.core.model.streaming.ReassemblingInputStream;
 import org.mule.runtime.core.routing.correlation.CollectionCorrelatorCallback;
 import org.mule.runtime.core.routing.correlation.CorrelationSequenceComparator;
 import org.mule.runtime.core.routing.correlation.EventCorrelatorCallback;
+import org.mule.runtime.core.util.monitor.Expirable;
+import org.mule.runtime.core.util.monitor.ExpiryMonitor;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Optional;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.output.ByteArrayOutputStream;
 
+/**
+ * Rebuilds a message split by a {@link MessageChunkSplitter}.
+ * <p>
+ * By default the chunks of a message are held in an event group until all of them arrived, and then concatenated in a single
+ * byte array payload. When {@link #setStreaming(boolean) streaming} is enabled, the message is forwarded as soon as its first
+ * chunk arrives, with a {@link ReassemblingInputStream} payload backed by a file in the working directory. The chunks are
+ * appended to the stream as they arrive and the payload can be read while they do, so the memory used doesn't depend on the size
+ * of the message. Since reading the stream blocks until the next chunk arrives, streaming requires the chunks to be received on
+ * other threads than the one processing the message. The {@link #getStreamingTimeout() streaming timeout} bounds how long a
+ * read waits for a chunk, and a group that receives no chunk for that long is discarded along with its stream. Chunks of a
+ * group that was completed or discarded are dropped.
+ */
 public class MessageChunkAggregator extends AbstractAggregator {
 
   public static final int DEFAULT_BUFFER_SIZE = 4096;
 
   protected Comparator eventComparator;
+  protected boolean streaming = false;
+
+  private final Map<String, StreamingGroup> streams = new HashMap<>();
+  private final Object groupsLock = new Object();
+  private ExpiryMonitor streamsExpiryMonitor;
 
   public MessageChunkAggregator() {
     super();
     eventComparator = new CorrelationSequenceComparator();
   }
 
+  public boolean isStreaming() {
+    return streaming;
+  }
+
+  public void setStreaming(boolean streaming) {
+    this.streaming = streaming;
+  }
+
+  @Override
+  public void initialise() throws InitialisationException {
+    super.initialise();
+    if (streaming) {
+      streamsExpiryMonitor = new ExpiryMonitor(storePrefix + "streams", (int) Math.min(getStreamingTimeout(), 1000),
+                                               muleContext, false);
+    }
+  }
+
+  @Override
+  public MuleEvent process(MuleEvent event) throws MuleException {
+    final String groupId = event.getContext().getCorrelationId();
+    final Optional<Integer> sequence = event.getCorrelation().getSequence();
+    if (!streaming || groupId == null || !sequence.isPresent()) {
+      return super.process(event);
+    }
+
+    boolean first = false;
+    StreamingGroup group;
+    try {
+      synchronized (groupsLock) {
+        if (getProcessedGroupsObjectStore().contains(groupId)) {
+          if (logger.isDebugEnabled()) {
+            logger.debug(String.format("Discarding chunk %d of group %s, which is already complete or expired", sequence.get(),
+                                       groupId));
+          }
+          return null;
+        }
+
+        group = streams.get(groupId);
+        if (group == null) {
+          group = new StreamingGroup(groupId, createStream());
+          streams.put(groupId, group);
+          streamsExpiryMonitor.addExpirable(getStreamingTimeout(), MILLISECONDS, group);
+          first = true;
+        } else {
+          streamsExpiryMonitor.resetExpirable(group);
+        }
+      }
+
+      boolean complete = group.stream.addChunk(sequence.get(), event.getMessageAsBytes(muleContext));
+      if (event.getCorrelation().getGroupSize().isPresent()) {
+        complete = group.stream.setChunkCount(event.getCorrelation().getGroupSize().get());
+      }
+      if (complete) {
+        removeGroup(group);
+      }
+    } catch (MuleRuntimeException e) {
+      throw new RoutingException(CoreMessages.failedToReadPayload(), event, this, e.getCause());
+    } catch (Exception e) {
+      throw new RoutingException(CoreMessages.failedToReadPayload(), event, this, e);
+    }
+
+    if (!first) {
+      return null;
+    }
+    return processNext(MuleEvent.builder(event).message(MuleMessage.builder(event.getMessage()).payload(group.stream).build())
+        .build());
+  }
+
+  /**
+   * @return how long in milliseconds a streamed group may go without receiving a chunk before it expires, which is the
+   *         {@link #getTimeout() timeout} of this aggregator or, if none was set, the default response timeout
+   */
+  protected long getStreamingTimeout() {
+    return getTimeout() > 0 ? getTimeout() : muleContext.getConfiguration().getDefaultResponseTimeout();
+  }
+
+  private ReassemblingInputStream createStream() throws IOException {
+    File directory = new File(muleContext.getConfiguration().getWorkingDirectory(), "chunks");
+    directory.mkdirs();
+    return new ReassemblingInputStream(File.createTempFile("chunks", ".tmp", directory), getStreamingTimeout());
+  }
+
+  /**
+   * Stops tracking a streamed group, and records it as processed so that late or duplicated chunks of it are discarded
+   * instead of starting a new group.
+   *
+   * @return whether the group was still being tracked
+   */
+  private boolean removeGroup(StreamingGroup group) throws ObjectStoreException {
+    synchronized (groupsLock) {
+      if (!streams.remove(group.groupId, group)) {
+        return false;
+      }
+      streamsExpiryMonitor.removeExpirable(group);
+      if (!getProcessedGroupsObjectStore().contains(group.groupId)) {
+        getProcessedGroupsObjectStore().store(group.groupId, currentTimeMillis());
+      }
+      return true;
+    }
+  }
+
+  @Override
+  public void dispose() {
+    if (streamsExpiryMonitor != null) {
+      // expires every group still being tracked, which closes their streams
+      streamsExpiryMonitor.dispose();
+    }
+    streams.clear();
+    super.dispose();
+  }
+
+  /**
+   * A group of chunks being reassembled into a stream, which expires when no chunk of it arrives for the
+   * {@link #getStreamingTimeout() streaming timeout}.
+   */
+  private class StreamingGroup implements Expirable {
+
+    private final String groupId;
+    private final ReassemblingInputStream stream;
+
+    private StreamingGroup(String groupId, ReassemblingInputStream stream) {
+      this.groupId = groupId;
+      this.stream = stream;
+    }
+
+    @Override
+    public void expired() {
+      try {
+        if (!removeGroup(this)) {
+          return;
+        }
+      } catch (ObjectStoreException e) {
+        logger.warn("Could not record expired chunk group " + groupId + " as processed", e);
+      }
+
+      logger.warn(String.format("Chunk group %s expired after %d ms without receiving chunks, discarding it", groupId,
+                                getStreamingTimeout()));
+      try {
+        stream.close();
+      } catch (IOException e) {
+        logger.warn("Could not close the stream of an incomplete chunk group", e);
+      }
+    }
+  }
+
   @Override
   protected EventCorrelatorCallback getCorrelatorCallback(MuleContext muleContext) {
     return new CollectionCorrelatorCallback(muleContext, storePrefix) {
@@ -8,23 +8,37 @@ package org.mule.runtime.core.routing;
 
 import org.mule.runtime.core.DefaultMuleEvent;
 import org.mule.runtime.core.api.MuleEvent;
+import org.mule.runtime.core.api.MuleException;
 import org.mule.runtime.core.api.MuleMessage;
+import org.mule.runtime.core.api.MuleRuntimeException;
 import org.mule.runtime.core.api.routing.RoutingException;
 import org.mule.runtime.core.config.i18n.CoreMessages;
 import org.mule.runtime.core.message.Correlation;
+import org.mule.runtime.core.routing.outbound.EventBuilderConfigurer;
+import org.mule.runtime.core.routing.outbound.EventBuilderConfigurerIterator;
+import org.mule.runtime.core.routing.outbound.IteratorMessageSequence;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * A router that breaks up the current message onto smaller parts and sends them to the same destination. The Destination service
  * needs to have a MessageChunkingAggregator inbound router in order to rebuild the message at the other end.
  * <p>
+ * When {@link #setStreaming(boolean) streaming} is enabled and the payload is an {@link InputStream}, the stream is read one
+ * chunk at a time as the parts are processed instead of being loaded in memory first. As the number of parts is not known until
+ * the stream is exhausted, only the last part carries the group size of its correlation.
+ * <p>
  * <b>EIP Reference:</b> <a href="http://www.eaipatterns.com/Sequencer.html">http://www.eaipatterns.com/Sequencer.html</a>
  */
 public class MessageChunkSplitter extends AbstractSplitter {
 
   protected int messageSize = 0;
+  protected boolean streaming = false;
 
   public int getMessageSize() {
     return messageSize;
@@ -34,11 +48,27 @@ public class MessageChunkSplitter extends AbstractSplitter {
     this.messageSize = messageSize;
   }
 
+  public boolean isStreaming() {
+    return streaming;
+  }
+
+  public void setStreaming(boolean streaming) {
+    this.streaming = streaming;
+  }
+
   @Override
   protected boolean isSplitRequired(MuleEvent event) {
     return messageSize != 0;
   }
 
+  @Override
+  protected MessageSequence<?> splitMessageIntoSequence(MuleEvent event) throws MuleException {
+    if (streaming && event.getMessage().getPayload() instanceof InputStream) {
+      return new IteratorMessageSequence(new ChunkIterator(event.getMessage()));
+    }
+    return super.splitMessageIntoSequence(event);
+  }
+
   @Override
   protected List<MuleEvent> splitMessage(MuleEvent event) throws RoutingException {
     List<MuleEvent> messageParts = new ArrayList<>();
@@ -74,4 +104,78 @@ public class MessageChunkSplitter extends AbstractSplitter {
     return messageParts;
   }
 
+  /**
+   * Reads the payload stream of a message one chunk at a time, closing it once it is exhausted.
+   */
+  private class ChunkIterator implements EventBuilderConfigurerIterator<byte[]> {
+
+    private final MuleMessage message;
+    private final PushbackInputStream stream;
+    private int sequence = 0;
+    private boolean exhausted = false;
+
+    public ChunkIterator(MuleMessage message) {
+      this.message = message;
+      this.stream = new PushbackInputStream((InputStream) message.getPayload());
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (exhausted) {
+        return false;
+      }
+      try {
+        int next = stream.read();
+        if (next == -1) {
+          exhausted = true;
+          stream.close();
+          return false;
+        }
+        stream.unread(next);
+        return true;
+      } catch (IOException e) {
+        throw new MuleRuntimeException(CoreMessages.failedToReadPayload(), e);
+      }
+    }
+
+    @Override
+    public byte[] next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      byte[] buffer = new byte[messageSize];
+      int length = 0;
+      try {
+        while (length < messageSize) {
+          int read = stream.read(buffer, length, messageSize - length);
+          if (read == -1) {
+            break;
+          }
+          length += read;
+        }
+      } catch (IOException e) {
+        throw new MuleRuntimeException(CoreMessages.failedToReadPayload(), e);
+      }
+      sequence++;
+      if (length < messageSize) {
+        byte[] chunk = new byte[length];
+        System.arraycopy(buffer, 0, chunk, 0, length);
+        return chunk;
+      }
+      return buffer;
+    }
+
+    @Override
+    public EventBuilderConfigurer nextEventBuilderConfigurer() {
+      final byte[] chunk = next();
+      final int chunkSequence = sequence;
+      final boolean last = !hasNext();
+      return builder -> {
+        builder.message(MuleMessage.builder(message).payload(chunk).build());
+        if (last) {
+          builder.correlation(new Correlation(chunkSequence, chunkSequence));
+        }
+      };
+    }
+  }
 }
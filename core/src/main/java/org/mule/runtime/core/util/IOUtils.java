@@ -16,6 +16,7 @@ import org.mule.runtime.core.message.PartAttributes;
 import org.mule.runtime.core.message.ds.ByteArrayDataSource;
 import org.mule.runtime.core.message.ds.InputStreamDataSource;
 import org.mule.runtime.core.message.ds.StringDataSource;
+import org.mule.runtime.core.util.buffer.ByteBufferPool;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -26,6 +27,7 @@ import java.io.Reader;
 import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 
@@ -200,6 +202,32 @@ public class IOUtils extends org.apache.commons.io.IOUtils {
     return count;
   }
 
+  /**
+   * Copies a stream through a transfer buffer borrowed from {@link ByteBufferPool#heap()}, instead of allocating a new one for
+   * each copy.
+   *
+   * @param input the stream to read from
+   * @param output the stream to write to
+   * @param bufferSize the size of the transfer buffer
+   * @return the amount of copied bytes
+   * @throws IOException if reading or writing fails
+   */
+  public static long copyPooled(InputStream input, OutputStream output, int bufferSize) throws IOException {
+    ByteBuffer buffer = ByteBufferPool.heap().acquire(bufferSize);
+    try {
+      byte[] array = buffer.array();
+      long count = 0;
+      int n;
+      while (-1 != (n = input.read(array, buffer.arrayOffset(), buffer.limit()))) {
+        output.write(array, buffer.arrayOffset(), n);
+        count += n;
+      }
+      return count;
+    } finally {
+      ByteBufferPool.heap().release(buffer);
+    }
+  }
+
   /**
    * Re-implement copy method to allow buffer size to be configured. This won't impact all methods because there is no
    * polymorphism for static methods, but rather just direct use of these two methods.
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.util;
+
+import static java.lang.System.currentTimeMillis;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+/**
+ * A Bloom filter of strings which forgets old keys by rotating generations.
+ * <p>
+ * Keys are put in the current generation, and looked up in both the current and the previous one. When the current generation
+ * holds as many keys as it was sized for, or is older than the generation TTL, it becomes the previous generation and the former
+ * previous one is discarded. A key is so remembered for at least one generation and at most two.
+ * <p>
+ * Like any Bloom filter, {@link #mightContain(String)} can return {@code true} for a key which was never put, with the false
+ * positive probability given at construction. A {@code false} result means that the key was not put during the last two
+ * generations, unless it is being put concurrently.
+ *
+ * @since 4.0
+ */
+public class RotatingBloomFilter {
+
+  private final int expectedInsertions;
+  private final double falsePositiveProbability;
+  private final long generationTtl;
+
+  private volatile Generation current;
+  private volatile Generation previous;
+
+  /**
+   * Builds a {@link RotatingBloomFilter}.
+   *
+   * @param expectedInsertions how many keys each generation holds
+   * @param falsePositiveProbability the false positive probability of each generation when full
+   * @param generationTtl the maximum age in milliseconds of the current generation, or 0 to only rotate it when full
+   */
+  public RotatingBloomFilter(int expectedInsertions, double falsePositiveProbability, long generationTtl) {
+    if (expectedInsertions <= 0) {
+      throw new IllegalArgumentException("Expected insertions must be positive, but was " + expectedInsertions);
+    }
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveProbability = falsePositiveProbability;
+    this.generationTtl = generationTtl;
+    this.current = new Generation();
+  }
+
+  /**
+   * @param key the key to look up
+   * @return {@code false} if the key was definitely not put during the last two generations, {@code true} if it might have been
+   */
+  public boolean mightContain(String key) {
+    Generation previousGeneration = previous;
+    return current.filter.mightContain(key) || (previousGeneration != null && previousGeneration.filter.mightContain(key));
+  }
+
+  /**
+   * Puts a key in the current generation, rotating it first if it is full or expired.
+   *
+   * @param key the key to put
+   */
+  public synchronized void put(String key) {
+    if (current.insertions >= expectedInsertions || (generationTtl > 0 && currentTimeMillis() - current.createdAt > generationTtl)) {
+      previous = current;
+      current = new Generation();
+    }
+    if (current.filter.put(key)) {
+      current.insertions++;
+    }
+  }
+
+  /**
+   * Forgets all the keys.
+   */
+  public synchronized void clear() {
+    previous = null;
+    current = new Generation();
+  }
+
+  private class Generation {
+
+    private final BloomFilter<CharSequence> filter =
+        BloomFilter.create(Funnels.stringFunnel(UTF_8), expectedInsertions, falsePositiveProbability);
+    private final long createdAt = currentTimeMillis();
+    private int insertions;
+  }
+}
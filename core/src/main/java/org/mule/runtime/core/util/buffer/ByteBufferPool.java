@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.util.buffer;
+
+import static org.mule.runtime.core.util.Preconditions.checkArgument;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of {@link ByteBuffer}s organized in power of two size classes, so a buffer released after reading a message can be
+ * reused for any later message of up to the same size.
+ * <p>
+ * Requests larger than the biggest size class are served with plain allocations which are simply dropped on release. Each size
+ * class keeps a bounded amount of idle buffers, so a burst of large messages cannot pin memory forever. Buffers which are
+ * acquired but never released are just garbage collected.
+ * <p>
+ * Instances are thread-safe. {@link #heap()} and {@link #direct()} return pools shared by the whole container, which is what
+ * protocol implementations are expected to use.
+ *
+ * @since 4.0
+ */
+public final class ByteBufferPool {
+
+  private static final int DEFAULT_MIN_SIZE = 512;
+  private static final int DEFAULT_MAX_SIZE = 1024 * 1024;
+  private static final int DEFAULT_MAX_IDLE_PER_CLASS = 32;
+
+  private static final ByteBufferPool HEAP = new ByteBufferPool(false, DEFAULT_MIN_SIZE, DEFAULT_MAX_SIZE,
+                                                                DEFAULT_MAX_IDLE_PER_CLASS);
+  private static final ByteBufferPool DIRECT = new ByteBufferPool(true, DEFAULT_MIN_SIZE, DEFAULT_MAX_SIZE,
+                                                                  DEFAULT_MAX_IDLE_PER_CLASS);
+
+  private final boolean direct;
+  private final int minShift;
+  private final int maxSize;
+  private final int maxIdlePerClass;
+  private final Queue<ByteBuffer>[] idle;
+  private final AtomicInteger[] idleCount;
+
+  /**
+   * @return the shared pool of heap buffers
+   */
+  public static ByteBufferPool heap() {
+    return HEAP;
+  }
+
+  /**
+   * @return the shared pool of direct buffers, meant for buffers which are read from or written to channels
+   */
+  public static ByteBufferPool direct() {
+    return DIRECT;
+  }
+
+  /**
+   * Creates a new pool
+   *
+   * @param direct whether to allocate direct buffers
+   * @param minSize the size of the smallest class. Rounded up to a power of two
+   * @param maxSize the size of the biggest class. Rounded up to a power of two
+   * @param maxIdlePerClass how many released buffers to keep per size class
+   */
+  @SuppressWarnings("unchecked")
+  public ByteBufferPool(boolean direct, int minSize, int maxSize, int maxIdlePerClass) {
+    checkArgument(minSize > 0, "Minimum buffer size must be greater than zero");
+    checkArgument(maxSize >= minSize, "Maximum buffer size cannot be smaller than the minimum");
+
+    this.direct = direct;
+    this.minShift = shiftFor(minSize);
+    int maxShift = shiftFor(maxSize);
+    this.maxSize = 1 << maxShift;
+    this.maxIdlePerClass = maxIdlePerClass;
+
+    int classes = maxShift - minShift + 1;
+    idle = new Queue[classes];
+    idleCount = new AtomicInteger[classes];
+    for (int i = 0; i < classes; ++i) {
+      idle[i] = new ConcurrentLinkedQueue<>();
+      idleCount[i] = new AtomicInteger();
+    }
+  }
+
+  /**
+   * Obtains a buffer able to hold at least {@code size} bytes. Its position is zero and its limit is {@code size}, although its
+   * capacity may be larger.
+   *
+   * @param size the amount of bytes needed
+   * @return a {@link ByteBuffer} which should be {@link #release(ByteBuffer) released} once it is no longer used
+   */
+  public ByteBuffer acquire(int size) {
+    checkArgument(size >= 0, "Buffer size cannot be negative");
+
+    ByteBuffer buffer;
+    if (size > maxSize) {
+      buffer = allocate(size);
+    } else {
+      int index = classFor(size);
+      buffer = idle[index].poll();
+      if (buffer != null) {
+        idleCount[index].decrementAndGet();
+      } else {
+        buffer = allocate(1 << (index + minShift));
+      }
+    }
+
+    buffer.clear();
+    buffer.limit(size);
+    return buffer;
+  }
+
+  /**
+   * Obtains a buffer able to hold at least {@code size} bytes, with the contents of {@code buffer} copied at its beginning, and
+   * releases the given one. Meant for growing a buffer which is being filled.
+   *
+   * @param buffer a buffer in write mode previously obtained from this pool
+   * @param size the amount of bytes needed
+   * @return a buffer in write mode, positioned right after the copied contents and with its limit set to its capacity
+   */
+  public ByteBuffer grow(ByteBuffer buffer, int size) {
+    ByteBuffer larger = acquire(size);
+    larger.limit(larger.capacity());
+    buffer.flip();
+    larger.put(buffer);
+    release(buffer);
+    return larger;
+  }
+
+  /**
+   * Returns a buffer to the pool. Buffers which do not belong to any size class of this pool are ignored.
+   *
+   * @param buffer the buffer to release. It must not be used by the caller anymore
+   */
+  public void release(ByteBuffer buffer) {
+    if (buffer == null || buffer.isDirect() != direct || buffer.capacity() > maxSize || buffer.isReadOnly()) {
+      return;
+    }
+
+    int capacity = buffer.capacity();
+    if (Integer.bitCount(capacity) != 1 || capacity < (1 << minShift)) {
+      return;
+    }
+
+    int index = classFor(capacity);
+    if (idleCount[index].incrementAndGet() > maxIdlePerClass) {
+      idleCount[index].decrementAndGet();
+      return;
+    }
+    idle[index].offer(buffer);
+  }
+
+  /**
+   * @return how many released buffers are currently kept
+   */
+  public int getIdleCount() {
+    int count = 0;
+    for (AtomicInteger classCount : idleCount) {
+      count += classCount.get();
+    }
+    return count;
+  }
+
+  private ByteBuffer allocate(int capacity) {
+    return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+  }
+
+  private int classFor(int size) {
+    return Math.max(0, shiftFor(size) - minShift);
+  }
+
+  private static int shiftFor(int size) {
+    return size <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(size - 1);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.util.buffer;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link InputStream} over the readable bytes of a {@link ByteBuffer} obtained from a {@link ByteBufferPool}. This is how a
+ * message read into a pooled buffer is handed over as a payload without copying it: the buffer goes back to the pool once the
+ * stream is closed.
+ * <p>
+ * As with any other stream, consumers are expected to close it. One which is not simply leaves its buffer to the garbage
+ * collector.
+ *
+ * @since 4.0
+ */
+public final class PooledByteBufferInputStream extends InputStream {
+
+  private final ByteBufferPool pool;
+  private ByteBuffer buffer;
+  private int mark;
+
+  /**
+   * @param pool the {@link ByteBufferPool} the buffer belongs to
+   * @param buffer a buffer in read mode. This stream takes ownership of it
+   */
+  public PooledByteBufferInputStream(ByteBufferPool pool, ByteBuffer buffer) {
+    this.pool = pool;
+    this.buffer = buffer;
+    this.mark = buffer.position();
+  }
+
+  @Override
+  public synchronized int read() {
+    if (buffer == null || !buffer.hasRemaining()) {
+      return -1;
+    }
+    return buffer.get() & 0xFF;
+  }
+
+  @Override
+  public synchronized int read(byte[] b, int off, int len) {
+    if (len == 0) {
+      return 0;
+    }
+    if (buffer == null || !buffer.hasRemaining()) {
+      return -1;
+    }
+
+    int count = Math.min(len, buffer.remaining());
+    buffer.get(b, off, count);
+    return count;
+  }
+
+  @Override
+  public synchronized long skip(long n) {
+    if (buffer == null || n <= 0) {
+      return 0;
+    }
+
+    int count = (int) Math.min(n, buffer.remaining());
+    buffer.position(buffer.position() + count);
+    return count;
+  }
+
+  @Override
+  public synchronized int available() {
+    return buffer == null ? 0 : buffer.remaining();
+  }
+
+  @Override
+  public boolean markSupported() {
+    return true;
+  }
+
+  @Override
+  public synchronized void mark(int readlimit) {
+    if (buffer != null) {
+      mark = buffer.position();
+    }
+  }
+
+  @Override
+  public synchronized void reset() {
+    if (buffer != null) {
+      buffer.position(mark);
+    }
+  }
+
+  /**
+   * Releases the buffer back to its pool. Reading afterwards behaves as if the end of the stream had been reached.
+   */
+  @Override
+  public synchronized void close() {
+    if (buffer != null) {
+      pool.release(buffer);
+      buffer = null;
+    }
+  }
+}
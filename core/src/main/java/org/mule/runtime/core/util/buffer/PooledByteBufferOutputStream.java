@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.util.buffer;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link OutputStream} which writes into a growing {@link ByteBuffer} obtained from a {@link ByteBufferPool}. The written
+ * bytes are handed over through {@link #toByteBuffer()} without being copied into a new array, so an encoded message can be
+ * written straight to a channel and then released.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @since 4.0
+ */
+public final class PooledByteBufferOutputStream extends OutputStream {
+
+  private final ByteBufferPool pool;
+  private ByteBuffer buffer;
+
+  /**
+   * @param pool the {@link ByteBufferPool} to take buffers from
+   * @param initialSize the expected amount of bytes to be written
+   */
+  public PooledByteBufferOutputStream(ByteBufferPool pool, int initialSize) {
+    this.pool = pool;
+    this.buffer = pool.acquire(initialSize);
+    buffer.limit(buffer.capacity());
+  }
+
+  @Override
+  public void write(int b) {
+    ensureCapacity(1);
+    buffer.put((byte) b);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    ensureCapacity(len);
+    buffer.put(b, off, len);
+  }
+
+  /**
+   * Hands over the written bytes. The stream must not be used afterwards.
+   *
+   * @return a buffer in read mode with the written bytes, which should be {@link ByteBufferPool#release(ByteBuffer) released}
+   *         to the pool once it has been consumed
+   */
+  public ByteBuffer toByteBuffer() {
+    ByteBuffer written = buffer;
+    buffer = null;
+    written.flip();
+    return written;
+  }
+
+  /**
+   * Releases the buffer, unless it has already been handed over through {@link #toByteBuffer()}
+   */
+  @Override
+  public void close() {
+    if (buffer != null) {
+      pool.release(buffer);
+      buffer = null;
+    }
+  }
+
+  private void ensureCapacity(int needed) {
+    if (buffer.remaining() < needed) {
+      buffer = pool.grow(buffer, Math.max(buffer.capacity() * 2, buffer.position() + needed));
+    }
+  }
+}
@@ -74,6 +74,30 @@ public abstract class AbstractQueueStoreDelegate implements QueueStoreDelegate {
     }
   }
 
+  @Override
+  public final int drainTo(Collection<? super Serializable> target, int maxItems, long timeout) throws InterruptedException {
+    checkInterrupted();
+    synchronized (this) {
+      long l1 = timeout > 0L ? System.currentTimeMillis() : 0L;
+      long l2 = timeout;
+      while (isEmpty()) {
+        if (l2 <= 0L || maxItems <= 0) {
+          return 0;
+        }
+        this.wait(l2);
+        l2 = timeout - (System.currentTimeMillis() - l1);
+      }
+
+      int count = 0;
+      while (count < maxItems && !isEmpty()) {
+        target.add(removeFirst());
+        count++;
+      }
+      this.notifyAll();
+      return count;
+    }
+  }
+
   @Override
   public final Serializable peek() throws InterruptedException {
     checkInterrupted();
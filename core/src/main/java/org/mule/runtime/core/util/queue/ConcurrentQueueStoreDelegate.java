@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.util.queue;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+
+/**
+ * A QueueStoreDelegate for unbounded, non-persistent queues which many threads put into and poll from concurrently.
+ * <p>
+ * Members are held on a lock-free {@link ConcurrentLinkedDeque} and counted by a {@link Semaphore} which only blocks pollers
+ * when the queue is empty. Unlike {@link DefaultQueueStoreDelegate}, producers and consumers never contend on a single monitor
+ * nor wake up every waiting thread on each operation.
+ * <p>
+ * A member is always added to the deque before its permit is released, and a permit is always acquired before a member is
+ * removed, so a poller which got a permit is guaranteed to find a member.
+ *
+ * @since 4.0
+ */
+public class ConcurrentQueueStoreDelegate implements QueueStoreDelegate {
+
+  private final ConcurrentLinkedDeque<Serializable> deque = new ConcurrentLinkedDeque<>();
+  private final Semaphore available = new Semaphore(0);
+
+  @Override
+  public void putNow(Serializable o) {
+    deque.addLast(o);
+    available.release();
+  }
+
+  @Override
+  public boolean offer(Serializable o, int room, long timeout) throws InterruptedException {
+    checkInterrupted();
+    if (o != null) {
+      putNow(o);
+    }
+    return true;
+  }
+
+  @Override
+  public Serializable poll(long timeout) throws InterruptedException {
+    checkInterrupted();
+    if (!acquire(timeout)) {
+      return null;
+    }
+    return deque.pollFirst();
+  }
+
+  @Override
+  public int drainTo(Collection<? super Serializable> target, int maxItems, long timeout) throws InterruptedException {
+    checkInterrupted();
+    if (maxItems <= 0 || !acquire(timeout)) {
+      return 0;
+    }
+
+    int count = 1;
+    target.add(deque.pollFirst());
+    while (count < maxItems && available.tryAcquire()) {
+      target.add(deque.pollFirst());
+      count++;
+    }
+    return count;
+  }
+
+  @Override
+  public Serializable peek() throws InterruptedException {
+    checkInterrupted();
+    return deque.peekFirst();
+  }
+
+  @Override
+  public void untake(Serializable item) throws InterruptedException {
+    checkInterrupted();
+    deque.addFirst(item);
+    available.release();
+  }
+
+  @Override
+  public int getSize() {
+    return available.availablePermits();
+  }
+
+  @Override
+  public void clear() throws InterruptedException {
+    checkInterrupted();
+    for (int i = available.drainPermits(); i > 0; i--) {
+      deque.pollFirst();
+    }
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends Serializable> items) {
+    int count = 0;
+    for (Serializable item : items) {
+      deque.addLast(item);
+      count++;
+    }
+    available.release(count);
+    return count > 0;
+  }
+
+  @Override
+  public void dispose() {
+    for (int i = available.drainPermits(); i > 0; i--) {
+      deque.pollFirst();
+    }
+  }
+
+  private boolean acquire(long timeout) throws InterruptedException {
+    return timeout > 0 ? available.tryAcquire(timeout, MILLISECONDS) : available.tryAcquire();
+  }
+
+  private void checkInterrupted() throws InterruptedException {
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+  }
+}
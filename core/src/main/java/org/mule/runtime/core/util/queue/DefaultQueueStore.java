@@ -9,6 +9,7 @@ package org.mule.runtime.core.util.queue;
 import org.mule.runtime.core.api.MuleContext;
 
 import java.io.Serializable;
+import java.util.Collection;
 
 import org.apache.commons.lang.NotImplementedException;
 
@@ -43,6 +44,8 @@ public class DefaultQueueStore implements RecoverableQueueStore {
     if (this.config.isPersistent()) {
       delegate = new DualRandomAccessFileQueueStoreDelegate(this.name, muleContext.getConfiguration().getWorkingDirectory(),
                                                             muleContext, this.config.getCapacity());
+    } else if (this.config.getCapacity() <= 0) {
+      delegate = new ConcurrentQueueStoreDelegate();
     } else {
       delegate = new DefaultQueueStoreDelegate(this.config.getCapacity());
     }
@@ -74,6 +77,11 @@ public class DefaultQueueStore implements RecoverableQueueStore {
     return delegate.poll(timeout);
   }
 
+  @Override
+  public int drainTo(Collection<? super Serializable> target, int maxItems, long timeout) throws InterruptedException {
+    return delegate.drainTo(target, maxItems, timeout);
+  }
+
   public Serializable peek() throws InterruptedException {
     return delegate.peek();
   }
@@ -12,6 +12,7 @@ import org.mule.runtime.api.meta.NamedObject;
 import org.mule.runtime.core.api.store.ObjectStoreException;
 
 import java.io.Serializable;
+import java.util.Collection;
 
 /**
  * Interface for mule queues used for VM.
@@ -41,6 +42,19 @@ public interface Queue extends NamedObject {
 
   Serializable poll(long timeout) throws InterruptedException;
 
+  /**
+   * Removes up to {@code maxItems} objects from this queue and adds them to {@code target}, waiting up to {@code timeout}
+   * milliseconds for the first one but not for the rest.
+   *
+   * @param target the collection to add the objects to
+   * @param maxItems the maximum amount of objects to remove
+   * @param timeout how many milliseconds to wait for the first object
+   * @return how many objects were added to {@code target}
+   */
+  default int drainTo(Collection<? super Serializable> target, int maxItems, long timeout) throws InterruptedException {
+    return QueueUtils.drainTo(this::poll, target, maxItems, timeout);
+  }
+
   boolean offer(Serializable object, long timeout) throws InterruptedException, ObjectStoreException;
 
   /**
@@ -7,6 +7,7 @@
 package org.mule.runtime.core.util.queue;
 
 import java.io.Serializable;
+import java.util.Collection;
 
 import org.apache.commons.lang.NotImplementedException;
 
@@ -24,6 +25,16 @@ public interface QueueStore {
 
   Serializable poll(long timeout) throws InterruptedException;
 
+  /**
+   * Removes up to {@code maxItems} items from the front of the queue and adds them to {@code target}, waiting up to
+   * {@code timeout} milliseconds for the first one but not for the rest
+   *
+   * @return how many items were added to {@code target}
+   */
+  default int drainTo(Collection<? super Serializable> target, int maxItems, long timeout) throws InterruptedException {
+    return QueueUtils.drainTo(this::poll, target, maxItems, timeout);
+  }
+
   Serializable peek() throws InterruptedException;
 
   void untake(Serializable item) throws InterruptedException;
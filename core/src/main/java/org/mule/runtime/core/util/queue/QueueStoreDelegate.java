@@ -30,6 +30,16 @@ public interface QueueStoreDelegate {
    */
   Serializable poll(long timeout) throws InterruptedException;
 
+  /**
+   * Removes up to {@code maxItems} members from the front of the queue and adds them to {@code target}, waiting up to
+   * {@code timeout} milliseconds for the first one but not for the rest
+   *
+   * @return how many members were added to {@code target}
+   */
+  default int drainTo(Collection<? super Serializable> target, int maxItems, long timeout) throws InterruptedException {
+    return QueueUtils.drainTo(this::poll, target, maxItems, timeout);
+  }
+
   /**
    * return, but do not remove, the first member of the queue
    */
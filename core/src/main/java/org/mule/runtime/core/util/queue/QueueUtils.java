@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.util.queue;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+/**
+ * Helper methods shared by the {@link Queue}, {@link QueueStore} and {@link QueueStoreDelegate} contracts.
+ *
+ * @since 4.0
+ */
+public final class QueueUtils {
+
+  private QueueUtils() {}
+
+  /**
+   * Retrieves one item from a queue, waiting up to a timeout for it.
+   */
+  @FunctionalInterface
+  public interface Poller {
+
+    /**
+     * @param timeout how many milliseconds to wait for an item
+     * @return the retrieved item, or {@code null} if none was available in time
+     */
+    Serializable poll(long timeout) throws InterruptedException;
+  }
+
+  /**
+   * Drains a queue through successive polls: waits up to {@code timeout} milliseconds for the first item, and then takes
+   * whatever else is available without waiting, up to {@code maxItems} items.
+   *
+   * @param poller the poll operation of the drained queue
+   * @param target the collection to add the items to
+   * @param maxItems the maximum amount of items to remove
+   * @param timeout how many milliseconds to wait for the first item
+   * @return how many items were added to {@code target}
+   */
+  public static int drainTo(Poller poller, Collection<? super Serializable> target, int maxItems, long timeout)
+      throws InterruptedException {
+    int count = 0;
+    Serializable item = maxItems > 0 ? poller.poll(timeout) : null;
+    while (item != null) {
+      target.add(item);
+      item = ++count < maxItems ? poller.poll(0) : null;
+    }
+    return count;
+  }
+}
@@ -12,6 +12,9 @@ import org.mule.runtime.core.api.store.ObjectStoreException;
 import org.mule.runtime.core.util.store.DeserializationPostInitialisable;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -91,6 +94,34 @@ public class TransactionAwareQueueStore implements Queue {
     }
   }
 
+  @Override
+  public int drainTo(Collection<? super Serializable> target, int maxItems, long timeout) throws InterruptedException {
+    if (transactionContextProvider.isTransactional()) {
+      return Queue.super.drainTo(target, maxItems, timeout);
+    }
+
+    List<Serializable> items = new ArrayList<>(Math.max(0, Math.min(maxItems, 64)));
+    try {
+      queue.drainTo(items, maxItems, timeout);
+    } catch (InterruptedException iex) {
+      if (!muleContext.isStopping()) {
+        throw iex;
+      }
+      // if stopping, ignore
+      return 0;
+    }
+
+    int count = 0;
+    for (Serializable item : items) {
+      Serializable processed = postProcessIfNeeded(item);
+      if (processed != null) {
+        target.add(processed);
+        count++;
+      }
+    }
+    return count;
+  }
+
   @Override
   public Serializable peek() throws InterruptedException {
     if (transactionContextProvider.isTransactional()) {
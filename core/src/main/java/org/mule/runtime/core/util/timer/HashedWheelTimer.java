@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.util.timer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A timer which holds its timeouts on a wheel of buckets, in the fashion of George Varghese's hashed timing wheels.
+ * <p>
+ * Scheduling and cancelling a timeout are constant time operations which do not contend on a shared lock, which makes this
+ * timer suitable for holding a great amount of timeouts that are most likely to be cancelled before they expire, such as the
+ * ones guarding request-response exchanges. The price is accuracy: timeouts are only checked once per tick, so they might
+ * fire up to one tick later than requested.
+ * <p>
+ * Tasks are run by the single thread which advances the wheel, so they are expected to be short.
+ *
+ * @since 4.0
+ */
+public class HashedWheelTimer {
+
+  private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+  private final long tickNanos;
+  private final List<WheelTimeout>[] wheel;
+  private final int mask;
+  private final Queue<WheelTimeout> scheduled = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pending = new AtomicInteger();
+  private final long startTime;
+  private final Thread worker;
+  private volatile boolean stopped = false;
+
+  /**
+   * Creates a new timer and starts its worker thread
+   *
+   * @param name the name of the worker thread
+   * @param tickDuration the duration of each tick, which is the resolution of the timer
+   * @param unit the {@link TimeUnit} of {@code tickDuration}
+   * @param ticksPerWheel the amount of buckets in the wheel. Rounded up to the next power of two
+   */
+  @SuppressWarnings("unchecked")
+  public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+    checkArgument(tickDuration > 0, "tickDuration must be greater than zero");
+    checkArgument(ticksPerWheel > 0 && ticksPerWheel <= 1 << 30, "ticksPerWheel must be between 1 and 2^30");
+
+    int size = Integer.highestOneBit(ticksPerWheel);
+    if (size < ticksPerWheel) {
+      size <<= 1;
+    }
+
+    tickNanos = unit.toNanos(tickDuration);
+    wheel = new List[size];
+    for (int i = 0; i < size; i++) {
+      wheel[i] = new ArrayList<>();
+    }
+    mask = size - 1;
+
+    startTime = System.nanoTime();
+    worker = new Thread(this::run, name);
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  /**
+   * Creates a new timer with a resolution of 100 milliseconds and 512 buckets
+   *
+   * @param name the name of the worker thread
+   */
+  public HashedWheelTimer(String name) {
+    this(name, 100, MILLISECONDS, 512);
+  }
+
+  /**
+   * Schedules the given {@code task} to run once after the given {@code delay}
+   *
+   * @param task the task to run
+   * @param delay how long to wait before running it
+   * @param unit the {@link TimeUnit} of {@code delay}
+   * @return a {@link Timeout} which allows to cancel the task
+   * @throws IllegalStateException if the timer was already stopped
+   */
+  public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+    if (stopped) {
+      throw new IllegalStateException("Timer has already been stopped");
+    }
+
+    WheelTimeout timeout = new WheelTimeout(task, System.nanoTime() - startTime + Math.max(0, unit.toNanos(delay)));
+    pending.incrementAndGet();
+    scheduled.add(timeout);
+    return timeout;
+  }
+
+  /**
+   * @return how many timeouts are waiting to either fire or be cancelled
+   */
+  public int getPendingCount() {
+    return pending.get();
+  }
+
+  /**
+   * Stops the worker thread. Timeouts which have not fired yet are discarded.
+   */
+  public void stop() {
+    stopped = true;
+    worker.interrupt();
+  }
+
+  private void run() {
+    long tick = 0;
+
+    while (!stopped) {
+      if (!waitForTick(tick)) {
+        break;
+      }
+
+      transferScheduled(tick);
+      expire(wheel[(int) (tick & mask)]);
+      tick++;
+    }
+
+    scheduled.clear();
+    for (List<WheelTimeout> bucket : wheel) {
+      bucket.clear();
+    }
+  }
+
+  private boolean waitForTick(long tick) {
+    long deadline = (tick + 1) * tickNanos;
+
+    for (;;) {
+      long sleepNanos = deadline - (System.nanoTime() - startTime);
+      if (sleepNanos <= 0) {
+        return true;
+      }
+
+      try {
+        MILLISECONDS.sleep(Math.max(1, TimeUnit.NANOSECONDS.toMillis(sleepNanos)));
+      } catch (InterruptedException e) {
+        if (stopped) {
+          return false;
+        }
+      }
+    }
+  }
+
+  private void transferScheduled(long tick) {
+    WheelTimeout timeout;
+    while ((timeout = scheduled.poll()) != null) {
+      if (timeout.isCancelled()) {
+        continue;
+      }
+
+      long expirationTick = timeout.deadline / tickNanos;
+      timeout.remainingRounds = (expirationTick - tick) / wheel.length;
+      wheel[(int) (Math.max(expirationTick, tick) & mask)].add(timeout);
+    }
+  }
+
+  private void expire(List<WheelTimeout> bucket) {
+    Iterator<WheelTimeout> timeouts = bucket.iterator();
+    while (timeouts.hasNext()) {
+      WheelTimeout timeout = timeouts.next();
+      if (timeout.isCancelled()) {
+        timeouts.remove();
+      } else if (timeout.remainingRounds <= 0) {
+        timeouts.remove();
+        timeout.expire();
+      } else {
+        timeout.remainingRounds--;
+      }
+    }
+  }
+
+  /**
+   * A handle to a task scheduled on a {@link HashedWheelTimer}
+   */
+  public interface Timeout {
+
+    /**
+     * Cancels the task, unless it has already run
+     *
+     * @return whether this invocation cancelled the task
+     */
+    boolean cancel();
+
+    /**
+     * @return whether the task was cancelled
+     */
+    boolean isCancelled();
+
+    /**
+     * @return whether the task was run
+     */
+    boolean isExpired();
+  }
+
+  private class WheelTimeout implements Timeout {
+
+    private static final int WAITING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final Runnable task;
+    private final long deadline;
+    private final AtomicInteger state = new AtomicInteger(WAITING);
+    private long remainingRounds;
+
+    private WheelTimeout(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    @Override
+    public boolean cancel() {
+      if (state.compareAndSet(WAITING, CANCELLED)) {
+        pending.decrementAndGet();
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return state.get() == CANCELLED;
+    }
+
+    @Override
+    public boolean isExpired() {
+      return state.get() == EXPIRED;
+    }
+
+    private void expire() {
+      if (!state.compareAndSet(WAITING, EXPIRED)) {
+        return;
+      }
+
+      pending.decrementAndGet();
+      try {
+        task.run();
+      } catch (Throwable t) {
+        logger.warn("Timeout task threw an exception", t);
+      }
+    }
+  }
+}
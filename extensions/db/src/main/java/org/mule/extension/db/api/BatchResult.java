@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.db.api;
+
+import java.io.Serializable;
+
+/**
+ * Information about the execution of one of the JDBC batches in which a bulk operation was split
+ *
+ * @since 4.0
+ */
+public class BatchResult implements Serializable {
+
+  private static final long serialVersionUID = -2409187432146349731L;
+
+  /**
+   * The update counts returned by the database for the parameter sets of the batch
+   */
+  private final int[] updateCounts;
+
+  /**
+   * How long the database took to execute the batch, in milliseconds
+   */
+  private final long executionTime;
+
+  /**
+   * Creates a new instance
+   *
+   * @param updateCounts the update counts of the batch
+   * @param executionTime the execution time of the batch, in milliseconds
+   */
+  public BatchResult(int[] updateCounts, long executionTime) {
+    this.updateCounts = updateCounts.clone();
+    this.executionTime = executionTime;
+  }
+
+  /**
+   * @return a copy of the update counts of the batch, ordered as its parameter sets
+   */
+  public int[] getUpdateCounts() {
+    return updateCounts.clone();
+  }
+
+  /**
+   * @return the amount of parameter sets in the batch
+   */
+  public int getSize() {
+    return updateCounts.length;
+  }
+
+  /**
+   * @return how long the database took to execute the batch, in milliseconds
+   */
+  public long getExecutionTime() {
+    return executionTime;
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.db.api;
+
+import org.mule.runtime.core.message.BaseAttributes;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+/**
+ * Attributes of the message produced by a bulk operation, which describe how it was split into JDBC batches
+ *
+ * @since 4.0
+ */
+public class BulkAttributes extends BaseAttributes {
+
+  private static final long serialVersionUID = 5178465541563427617L;
+
+  /**
+   * The {@link BatchResult}s of the executed batches, in execution order
+   */
+  private final List<BatchResult> batches;
+
+  /**
+   * Creates a new instance
+   *
+   * @param batches the results of the executed batches
+   */
+  public BulkAttributes(List<BatchResult> batches) {
+    this.batches = ImmutableList.copyOf(batches);
+  }
+
+  /**
+   * @return an immutable {@link List} with the {@link BatchResult}s of the executed batches, in execution order
+   */
+  public List<BatchResult> getBatches() {
+    return batches;
+  }
+
+  /**
+   * @return the amount of executed batches
+   */
+  public int getBatchCount() {
+    return batches.size();
+  }
+}
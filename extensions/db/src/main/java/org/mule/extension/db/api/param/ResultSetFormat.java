@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.db.api.param;
+
+/**
+ * The formats in which the rows returned by a select can be serialized.
+ *
+ * @since 4.0
+ */
+public enum ResultSetFormat {
+
+  /**
+   * Rows are streamed as UTF-8 encoded comma separated values, preceded by a header line
+   */
+  CSV,
+
+  /**
+   * Rows are streamed as a UTF-8 encoded JSON array of objects
+   */
+  JSON
+}
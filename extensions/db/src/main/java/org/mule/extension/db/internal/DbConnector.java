@@ -21,8 +21,10 @@ import org.mule.extension.db.internal.domain.type.StaticDbTypeManager;
 import org.mule.extension.db.internal.operation.BulkOperations;
 import org.mule.extension.db.internal.operation.DdlOperations;
 import org.mule.extension.db.internal.operation.DmlOperations;
+import org.mule.runtime.core.api.lifecycle.Disposable;
 import org.mule.runtime.core.api.lifecycle.Initialisable;
 import org.mule.runtime.core.api.lifecycle.InitialisationException;
+import org.mule.runtime.core.util.concurrent.NamedThreadFactory;
 import org.mule.runtime.extension.api.annotation.Export;
 import org.mule.runtime.extension.api.annotation.Extension;
 import org.mule.runtime.extension.api.annotation.Operations;
@@ -31,6 +33,8 @@ import org.mule.runtime.extension.api.annotation.dsl.xml.Xml;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Connector for connecting to relation Databases through the JDBC API
@@ -44,19 +48,37 @@ import java.util.List;
 @Export(classes = {StatementStreamingResultSetCloser.class, QueryDefinition.class, StoredProcedureCall.class,
     BulkQueryDefinition.class},
     resources = {"/META-INF/services/org/mule/runtime/core/config/registry-bootstrap.properties"})
-public class DbConnector implements Initialisable {
+public class DbConnector implements Initialisable, Disposable {
 
   private DbTypeManager typeManager;
+  private ExecutorService prefetchExecutor;
 
   @Override
   public void initialise() throws InitialisationException {
     typeManager = createBaseTypeManager();
+    prefetchExecutor = Executors.newCachedThreadPool(new NamedThreadFactory("db.bulk.prefetch", Thread.currentThread()
+        .getContextClassLoader()));
+  }
+
+  @Override
+  public void dispose() {
+    if (prefetchExecutor != null) {
+      prefetchExecutor.shutdownNow();
+      prefetchExecutor = null;
+    }
   }
 
   public DbTypeManager getTypeManager() {
     return typeManager;
   }
 
+  /**
+   * @return the executor in which the parameter sets of pipelined bulk operations are prepared
+   */
+  public ExecutorService getPrefetchExecutor() {
+    return prefetchExecutor;
+  }
+
   private DbTypeManager createBaseTypeManager() {
     List<DbTypeManager> typeManagers = new ArrayList<>();
 
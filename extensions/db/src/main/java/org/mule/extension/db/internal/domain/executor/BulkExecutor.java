@@ -8,6 +8,9 @@
 package org.mule.extension.db.internal.domain.executor;
 
 import org.mule.extension.db.internal.domain.connection.DbConnection;
+import org.mule.extension.db.internal.domain.executor.batch.BatchListener;
+import org.mule.extension.db.internal.domain.executor.batch.BatchSizePolicy;
+import org.mule.extension.db.internal.domain.executor.batch.ParamSetBatchSource;
 import org.mule.extension.db.internal.domain.query.BulkQuery;
 import org.mule.extension.db.internal.domain.query.Query;
 import org.mule.extension.db.internal.domain.query.QueryParamValue;
@@ -40,4 +43,19 @@ public interface BulkExecutor {
    * @throws SQLException if a database access error occurs or this method is called on a closed connection
    */
   Object execute(DbConnection connection, Query query, List<List<QueryParamValue>> paramValues) throws SQLException;
+
+  /**
+   * Executes a parameterized query using parameter sets which are consumed and sent to the database one batch at a time
+   *
+   * @param connection connection to the database where the query will be executed. Non null
+   * @param query parameterized query to executed using the sets of parameters
+   * @param paramSets provides the parameters to use to execute the query. It is closed once the execution finishes
+   * @param batchSizePolicy policy notified after each executed batch
+   * @param batchListener listener notified of the result of each executed batch
+   * @return a non null result of the query execution
+   * @throws SQLException if a database access error occurs or this method is called on a closed connection
+   */
+  Object execute(DbConnection connection, Query query, ParamSetBatchSource paramSets, BatchSizePolicy batchSizePolicy,
+                 BatchListener batchListener)
+      throws SQLException;
 }
@@ -8,6 +8,9 @@
 package org.mule.extension.db.internal.domain.executor;
 
 import org.mule.extension.db.internal.domain.connection.DbConnection;
+import org.mule.extension.db.internal.domain.executor.batch.BatchListener;
+import org.mule.extension.db.internal.domain.executor.batch.BatchSizePolicy;
+import org.mule.extension.db.internal.domain.executor.batch.ParamSetBatchSource;
 import org.mule.extension.db.internal.domain.logger.BulkQueryLogger;
 import org.mule.extension.db.internal.domain.logger.PreparedBulkQueryLogger;
 import org.mule.extension.db.internal.domain.query.BulkQuery;
@@ -19,6 +22,7 @@ import org.mule.extension.db.internal.domain.statement.StatementFactory;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -79,4 +83,55 @@ public class BulkUpdateExecutor extends AbstractExecutor implements BulkExecutor
       statement.close();
     }
   }
+
+  @Override
+  public Object execute(DbConnection connection, Query query, ParamSetBatchSource paramSets, BatchSizePolicy batchSizePolicy,
+                        BatchListener batchListener)
+      throws SQLException {
+    try (ParamSetBatchSource source = paramSets) {
+      Statement statement = statementFactory.create(connection, query.getQueryTemplate());
+
+      if (!(statement instanceof PreparedStatement)) {
+        statement.close();
+        throw new IllegalArgumentException("Bulk update must be executed on a prepared statement");
+      }
+
+      PreparedStatement preparedStatement = (PreparedStatement) statement;
+      int[] updateCounts = new int[0];
+      int updateCountsSize = 0;
+      int batchNumber = 0;
+
+      try {
+        List<List<QueryParamValue>> batch;
+        while (!(batch = source.nextBatch()).isEmpty()) {
+          PreparedBulkQueryLogger queryLogger =
+              queryLoggerFactory.createBulkQueryLogger(LOGGER, query.getQueryTemplate(), batch.size());
+          for (List<QueryParamValue> params : batch) {
+            doProcessParameters(preparedStatement, query.getQueryTemplate(), params, queryLogger);
+            preparedStatement.addBatch();
+            queryLogger.addParameterSet();
+          }
+          queryLogger.logQuery();
+
+          long start = System.nanoTime();
+          int[] batchCounts = preparedStatement.executeBatch();
+          long elapsed = System.nanoTime() - start;
+
+          batchSizePolicy.onBatchExecuted(batch.size(), elapsed);
+          batchListener.onBatch(++batchNumber, batchCounts, elapsed);
+
+          if (updateCountsSize + batchCounts.length > updateCounts.length) {
+            updateCounts = Arrays.copyOf(updateCounts, Math.max(updateCounts.length * 2, updateCountsSize + batchCounts.length));
+          }
+          System.arraycopy(batchCounts, 0, updateCounts, updateCountsSize, batchCounts.length);
+          updateCountsSize += batchCounts.length;
+        }
+
+        return Arrays.copyOf(updateCounts, updateCountsSize);
+      } finally {
+        preparedStatement.clearParameters();
+        statement.close();
+      }
+    }
+  }
 }
@@ -14,7 +14,7 @@ import org.mule.extension.db.internal.domain.connection.DbConnection;
 import org.mule.extension.db.internal.domain.query.Query;
 import org.mule.extension.db.internal.domain.statement.StatementFactory;
 import org.mule.extension.db.internal.result.resultset.ListResultSetHandler;
-import org.mule.extension.db.internal.result.row.InsensitiveMapRowHandler;
+import org.mule.extension.db.internal.result.row.ColumnIndexRowHandler;
 
 import java.math.BigInteger;
 import java.sql.ResultSet;
@@ -48,7 +48,7 @@ public class UpdateExecutor extends AbstractSingleQueryExecutor {
 
       if (autoGeneratedKeyStrategy.returnsAutoGeneratedKeys()) {
         ResultSet generatedKeys = statement.getGeneratedKeys();
-        ListResultSetHandler listResultSetHandler = new ListResultSetHandler(new InsensitiveMapRowHandler());
+        ListResultSetHandler listResultSetHandler = new ListResultSetHandler(new ColumnIndexRowHandler());
 
         List generatedKeyList = listResultSetHandler.processResultSet(dbConnection, generatedKeys);
         Map<String, BigInteger> keyMap = generatedKeyList.isEmpty() ? null : (Map<String, BigInteger>) generatedKeyList.get(0);
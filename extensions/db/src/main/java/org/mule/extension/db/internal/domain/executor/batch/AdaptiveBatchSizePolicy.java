@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.domain.executor.batch;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * {@link BatchSizePolicy} which adapts the batch size so that each batch takes roughly a target time to execute.
+ * <p/>
+ * After each full batch, the per parameter set latency is used to estimate the batch size that would match the target
+ * latency. The next size moves halfway towards that estimate, never more than doubling or halving at once, and is always
+ * kept between the configured bounds. Partial batches (such as the last one) do not change the size.
+ *
+ * @since 4.0
+ */
+public class AdaptiveBatchSizePolicy implements BatchSizePolicy {
+
+  private final long targetLatencyNanos;
+  private final int minBatchSize;
+  private final int maxBatchSize;
+  private volatile int batchSize;
+
+  /**
+   * Creates a new instance
+   *
+   * @param initialBatchSize the size of the first batch
+   * @param minBatchSize the minimum batch size
+   * @param maxBatchSize the maximum batch size
+   * @param targetLatencyNanos the time each batch should take to execute, in nanoseconds
+   */
+  public AdaptiveBatchSizePolicy(int initialBatchSize, int minBatchSize, int maxBatchSize, long targetLatencyNanos) {
+    if (minBatchSize <= 0 || maxBatchSize < minBatchSize) {
+      throw new IllegalArgumentException(String.format("Invalid batch size bounds [%d, %d]", minBatchSize, maxBatchSize));
+    }
+    if (targetLatencyNanos <= 0) {
+      throw new IllegalArgumentException("Target latency must be greater than zero but was " + targetLatencyNanos);
+    }
+
+    this.targetLatencyNanos = targetLatencyNanos;
+    this.minBatchSize = minBatchSize;
+    this.maxBatchSize = maxBatchSize;
+    this.batchSize = clamp(initialBatchSize);
+  }
+
+  @Override
+  public int nextBatchSize() {
+    return batchSize;
+  }
+
+  @Override
+  public void onBatchExecuted(int size, long elapsedNanos) {
+    int current = batchSize;
+    if (size < current || size == 0) {
+      return;
+    }
+
+    long nanosPerParamSet = max(1, elapsedNanos / size);
+    long ideal = targetLatencyNanos / nanosPerParamSet;
+    long next = (current + ideal) / 2;
+    next = min(next, (long) current * 2);
+    next = max(next, current / 2);
+
+    batchSize = clamp(next);
+  }
+
+  private int clamp(long size) {
+    return (int) min(maxBatchSize, max(minBatchSize, size));
+  }
+}
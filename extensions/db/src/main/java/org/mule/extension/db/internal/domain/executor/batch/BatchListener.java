@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.domain.executor.batch;
+
+/**
+ * Gets notified of the outcome of each batch of a bulk execution
+ *
+ * @since 4.0
+ */
+@FunctionalInterface
+public interface BatchListener {
+
+  /**
+   * Invoked after a batch has been executed
+   *
+   * @param batchNumber the one based position of the batch in the bulk execution
+   * @param updateCounts the update counts returned by the database for the batch
+   * @param elapsedNanos time it took the database to execute the batch, in nanoseconds
+   */
+  void onBatch(int batchNumber, int[] updateCounts, long elapsedNanos);
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.domain.executor.batch;
+
+/**
+ * Decides how many parameter sets are sent to the database in each JDBC batch of a bulk execution.
+ * <p/>
+ * Implementations must be thread safe as, when batches are prefetched, the size of the next batch may be requested while
+ * the previous one is being executed.
+ *
+ * @since 4.0
+ */
+public interface BatchSizePolicy {
+
+  /**
+   * @return the maximum number of parameter sets to include in the next batch. Greater than zero.
+   */
+  int nextBatchSize();
+
+  /**
+   * Notifies that a batch has been executed
+   *
+   * @param size number of parameter sets in the executed batch
+   * @param elapsedNanos time it took the database to execute the batch, in nanoseconds
+   */
+  void onBatchExecuted(int size, long elapsedNanos);
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.domain.executor.batch;
+
+/**
+ * {@link BatchSizePolicy} which always uses the same batch size
+ *
+ * @since 4.0
+ */
+public class FixedBatchSizePolicy implements BatchSizePolicy {
+
+  private final int batchSize;
+
+  /**
+   * Creates a new instance
+   *
+   * @param batchSize the batch size to use. Must be greater than zero.
+   */
+  public FixedBatchSizePolicy(int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be greater than zero but was " + batchSize);
+    }
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public int nextBatchSize() {
+    return batchSize;
+  }
+
+  @Override
+  public void onBatchExecuted(int size, long elapsedNanos) {
+    // Nothing to adapt
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.domain.executor.batch;
+
+import org.mule.extension.db.internal.domain.query.QueryParamValue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * {@link ParamSetBatchSource} which lazily consumes an {@link Iterator}, taking as many parameter sets as the
+ * {@link BatchSizePolicy} indicates for each batch.
+ *
+ * @since 4.0
+ */
+public class IteratorParamSetBatchSource implements ParamSetBatchSource {
+
+  private static final int MAX_INITIAL_CAPACITY = 1024;
+
+  private final Iterator<List<QueryParamValue>> paramSets;
+  private final BatchSizePolicy batchSizePolicy;
+
+  public IteratorParamSetBatchSource(Iterator<List<QueryParamValue>> paramSets, BatchSizePolicy batchSizePolicy) {
+    this.paramSets = paramSets;
+    this.batchSizePolicy = batchSizePolicy;
+  }
+
+  @Override
+  public List<List<QueryParamValue>> nextBatch() {
+    int size = batchSizePolicy.nextBatchSize();
+    List<List<QueryParamValue>> batch = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+
+    while (batch.size() < size && paramSets.hasNext()) {
+      batch.add(paramSets.next());
+    }
+
+    return batch;
+  }
+
+  @Override
+  public void close() {
+    // Nothing to release
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.domain.executor.batch;
+
+import org.mule.extension.db.internal.domain.query.QueryParamValue;
+
+import java.util.List;
+
+/**
+ * Provides the parameter sets of a bulk execution one batch at a time, so the whole input never needs to be held in
+ * memory.
+ *
+ * @since 4.0
+ */
+public interface ParamSetBatchSource extends AutoCloseable {
+
+  /**
+   * @return the next batch of parameter sets. An empty list indicates that there are no more parameter sets.
+   */
+  List<List<QueryParamValue>> nextBatch();
+
+  /**
+   * Releases any resource held by this source. Pending parameter sets are discarded.
+   */
+  @Override
+  void close();
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.domain.executor.batch;
+
+import static java.util.Collections.emptyList;
+import org.mule.extension.db.internal.domain.query.QueryParamValue;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * {@link ParamSetBatchSource} which prepares the next batch on a separate thread while the current one is being executed.
+ * <p/>
+ * At most one batch is prepared ahead of time, so memory usage stays bounded to two batches. Parameter binding and
+ * statement execution still happen on the caller thread, as JDBC statements must not be shared across threads.
+ * <p/>
+ * The batches are prepared on a thread of a shared {@link ExecutorService}, which is owned by the caller. Instances
+ * must always be {@link #close() closed} so that the preparing task is cancelled.
+ *
+ * @since 4.0
+ */
+public class PrefetchingParamSetBatchSource implements ParamSetBatchSource {
+
+  private final ParamSetBatchSource delegate;
+  private final BlockingQueue<PreparedBatch> preparedBatches = new ArrayBlockingQueue<>(1);
+  private final Future<?> preparation;
+  private boolean finished = false;
+
+  /**
+   * Creates a new instance and starts preparing the first batch
+   *
+   * @param delegate the source providing the batches
+   * @param executor executor in which the batches are prepared
+   */
+  public PrefetchingParamSetBatchSource(ParamSetBatchSource delegate, ExecutorService executor) {
+    this.delegate = delegate;
+    preparation = executor.submit(this::prepareBatches);
+  }
+
+  @Override
+  public List<List<QueryParamValue>> nextBatch() {
+    if (finished) {
+      return emptyList();
+    }
+
+    PreparedBatch prepared;
+    try {
+      prepared = preparedBatches.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new IllegalStateException("Interrupted while waiting for the next batch of parameter sets", e);
+    }
+
+    if (prepared.error != null) {
+      finished = true;
+      throw prepared.error;
+    }
+
+    if (prepared.paramSets.isEmpty()) {
+      finished = true;
+    }
+
+    return prepared.paramSets;
+  }
+
+  @Override
+  public void close() {
+    finished = true;
+    preparation.cancel(true);
+    // Unblocks the preparing task if it is waiting for room in the queue
+    preparedBatches.clear();
+    delegate.close();
+  }
+
+  private void prepareBatches() {
+    PreparedBatch terminal = new PreparedBatch(emptyList(), null);
+    try {
+      List<List<QueryParamValue>> batch;
+      while (!(batch = delegate.nextBatch()).isEmpty()) {
+        preparedBatches.put(new PreparedBatch(batch, null));
+      }
+    } catch (InterruptedException e) {
+      // Closed before all the batches were consumed, nobody is waiting for more batches
+      return;
+    } catch (RuntimeException e) {
+      terminal = new PreparedBatch(emptyList(), e);
+    } catch (Throwable e) {
+      terminal = new PreparedBatch(emptyList(), new IllegalStateException("Unable to prepare batch of parameter sets", e));
+    }
+
+    try {
+      preparedBatches.put(terminal);
+    } catch (InterruptedException e) {
+      // Closed, nobody is waiting for the last batch
+    }
+  }
+
+  private static class PreparedBatch {
+
+    private final List<List<QueryParamValue>> paramSets;
+    private final RuntimeException error;
+
+    private PreparedBatch(List<List<QueryParamValue>> paramSets, RuntimeException error) {
+      this.paramSets = paramSets;
+      this.error = error;
+    }
+  }
+}
@@ -13,7 +13,7 @@ import static org.mule.extension.db.api.param.JdbcType.STRUCT;
 import org.mule.extension.db.internal.domain.connection.DbConnection;
 import org.mule.extension.db.internal.result.resultset.ResultSetIterator;
 import org.mule.extension.db.internal.result.resultset.SingleResultResultSetCloser;
-import org.mule.extension.db.internal.result.row.InsensitiveMapRowHandler;
+import org.mule.extension.db.internal.result.row.ColumnIndexRowHandler;
 
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
@@ -79,7 +79,7 @@ public class MetadataDbTypeManager implements DbTypeManager {
       DatabaseMetaData metaData = connection.getJdbcConnection().getMetaData();
       ResultSet typeInfo = metaData.getTypeInfo();
       ResultSetIterator resultSetIterator =
-          new ResultSetIterator(connection, typeInfo, new InsensitiveMapRowHandler(), new SingleResultResultSetCloser(false));
+          new ResultSetIterator(connection, typeInfo, new ColumnIndexRowHandler(), new SingleResultResultSetCloser(false));
       while (resultSetIterator.hasNext()) {
         Map<String, Object> typeRecord = resultSetIterator.next();
 
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.db.internal.operation;
+
+import static org.mule.runtime.extension.api.annotation.param.display.Placement.ADVANCED;
+import org.mule.runtime.extension.api.annotation.Parameter;
+import org.mule.runtime.extension.api.annotation.param.Optional;
+import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
+
+/**
+ * Parameters to configure how the parameter sets of a bulk operation are split
+ * into JDBC batches
+ *
+ * @since 4.0
+ */
+public class BulkBatchingAttributes {
+
+  /**
+   * The maximum number of parameter sets sent to the database in one
+   * JDBC batch. If not set, all the parameter sets are sent in a single
+   * batch, unless {@code adaptiveBatchSize} is enabled.
+   */
+  @Parameter
+  @Optional
+  @Placement(group = ADVANCED)
+  @DisplayName("Batch Size")
+  private Integer batchSize;
+
+  /**
+   * If enabled, the batch size is adjusted after each batch so that
+   * batches take about {@code targetBatchLatency} to execute. When
+   * set, {@code batchSize} is used as the initial batch size.
+   */
+  @Parameter
+  @Optional(defaultValue = "false")
+  @Placement(group = ADVANCED)
+  @DisplayName("Adaptive Batch Size")
+  private boolean adaptiveBatchSize;
+
+  /**
+   * The time in milliseconds each batch should take to execute when
+   * {@code adaptiveBatchSize} is enabled
+   */
+  @Parameter
+  @Optional(defaultValue = "1000")
+  @Placement(group = ADVANCED)
+  @DisplayName("Target Batch Latency")
+  private long targetBatchLatency;
+
+  /**
+   * If enabled, the next batch of parameter sets is prepared on a separate
+   * thread while the current one is being executed
+   */
+  @Parameter
+  @Optional(defaultValue = "false")
+  @Placement(group = ADVANCED)
+  @DisplayName("Pipelined")
+  private boolean pipelined;
+
+  public Integer getBatchSize() {
+    return batchSize;
+  }
+
+  public boolean isAdaptiveBatchSize() {
+    return adaptiveBatchSize;
+  }
+
+  public long getTargetBatchLatency() {
+    return targetBatchLatency;
+  }
+
+  public boolean isPipelined() {
+    return pipelined;
+  }
+}
@@ -6,17 +6,29 @@
  */
 package org.mule.extension.db.internal.operation;
 
+import static java.lang.Integer.MAX_VALUE;
 import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang.StringUtils.isEmpty;
 import static org.mule.extension.db.internal.domain.query.QueryType.DELETE;
 import static org.mule.extension.db.internal.domain.query.QueryType.INSERT;
 import static org.mule.extension.db.internal.domain.query.QueryType.UPDATE;
+import org.mule.extension.db.api.BatchResult;
+import org.mule.extension.db.api.BulkAttributes;
 import org.mule.extension.db.api.param.BulkQueryDefinition;
 import org.mule.extension.db.api.param.BulkScript;
 import org.mule.extension.db.internal.DbConnector;
 import org.mule.extension.db.internal.domain.connection.DbConnection;
 import org.mule.extension.db.internal.domain.executor.BulkUpdateExecutor;
+import org.mule.extension.db.internal.domain.executor.batch.AdaptiveBatchSizePolicy;
+import org.mule.extension.db.internal.domain.executor.batch.BatchListener;
+import org.mule.extension.db.internal.domain.executor.batch.BatchSizePolicy;
+import org.mule.extension.db.internal.domain.executor.batch.FixedBatchSizePolicy;
+import org.mule.extension.db.internal.domain.executor.batch.IteratorParamSetBatchSource;
+import org.mule.extension.db.internal.domain.executor.batch.ParamSetBatchSource;
+import org.mule.extension.db.internal.domain.executor.batch.PrefetchingParamSetBatchSource;
 import org.mule.extension.db.internal.domain.metadata.BaseDbMetadataResolver;
 import org.mule.extension.db.internal.domain.query.BulkQuery;
 import org.mule.extension.db.internal.domain.query.Query;
@@ -33,11 +45,16 @@ import org.mule.runtime.extension.api.annotation.ParameterGroup;
 import org.mule.runtime.extension.api.annotation.metadata.MetadataScope;
 import org.mule.runtime.extension.api.annotation.param.Connection;
 import org.mule.runtime.extension.api.annotation.param.UseConfig;
+import org.mule.runtime.extension.api.runtime.operation.OperationResult;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * Contains a set of operations for performing bulk
  * DML operations from a single statement.
@@ -47,6 +64,11 @@ import java.util.Map;
 @MetadataScope(contentResolver = BaseDbMetadataResolver.class)
 public class BulkOperations extends BaseDbOperations {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(BulkOperations.class);
+  private static final int DEFAULT_ADAPTIVE_BATCH_SIZE = 1000;
+  private static final int MIN_ADAPTIVE_BATCH_SIZE = 1;
+  private static final int MAX_ADAPTIVE_BATCH_SIZE = 50000;
+
   private BulkQueryResolver bulkQueryResolver = new BulkQueryResolver();
 
   /**
@@ -58,19 +80,22 @@ public class BulkOperations extends BaseDbOperations {
    * @param parameterValues A {@link List} of {@link Map}s in which every list item represents a row
    *                        to be inserted, and the map contains the parameter names as keys and
    *                        the value the parameter is bound to.
+   * @param batching        a {@link BulkBatchingAttributes} as a parameter group
    * @param connector       the acting connector
    * @param connection      the acting connection
    * @return an array of update counts containing one element for each executed command. The elements
-   * of the array are ordered according to the order in which commands were added to the batch.
+   * of the array are ordered according to the order in which commands were added to the batch. The
+   * {@link BulkAttributes} hold the update counts of each of the JDBC batches it was split into.
    * @throws SQLException if an error is produced
    */
-  public int[] bulkInsert(@ParameterGroup BulkQueryDefinition query,
+  public OperationResult<int[], BulkAttributes> bulkInsert(@ParameterGroup BulkQueryDefinition query,
                           List<Map<String, Object>> parameterValues,
+                          @ParameterGroup BulkBatchingAttributes batching,
                           @UseConfig DbConnector connector,
                           @Connection DbConnection connection)
       throws SQLException {
 
-    return singleQueryBulk(query, parameterValues, INSERT, connector, connection);
+    return singleQueryBulk(query, parameterValues, batching, INSERT, connector, connection);
   }
 
   /**
@@ -82,19 +107,22 @@ public class BulkOperations extends BaseDbOperations {
    * @param parameterValues A {@link List} of {@link Map}s in which every list item represents a row
    *                        to be inserted, and the map contains the parameter names as keys and
    *                        the value the parameter is bound to.
+   * @param batching        a {@link BulkBatchingAttributes} as a parameter group
    * @param connector       the acting connector
    * @param connection      the acting connection
    * @return an array of update counts containing one element for each executed command. The elements
-   * of the array are ordered according to the order in which commands were added to the batch.
+   * of the array are ordered according to the order in which commands were added to the batch. The
+   * {@link BulkAttributes} hold the update counts of each of the JDBC batches it was split into.
    * @throws SQLException if an error is produced
    */
-  public int[] bulkUpdate(@ParameterGroup BulkQueryDefinition query,
+  public OperationResult<int[], BulkAttributes> bulkUpdate(@ParameterGroup BulkQueryDefinition query,
                           List<Map<String, Object>> parameterValues,
+                          @ParameterGroup BulkBatchingAttributes batching,
                           @UseConfig DbConnector connector,
                           @Connection DbConnection connection)
       throws SQLException {
 
-    return singleQueryBulk(query, parameterValues, UPDATE, connector, connection);
+    return singleQueryBulk(query, parameterValues, batching, UPDATE, connector, connection);
   }
 
   /**
@@ -106,19 +134,22 @@ public class BulkOperations extends BaseDbOperations {
    * @param parameterValues A {@link List} of {@link Map}s in which every list item represents a row
    *                        to be inserted, and the map contains the parameter names as keys and
    *                        the value the parameter is bound to.
+   * @param batching        a {@link BulkBatchingAttributes} as a parameter group
    * @param connector       the acting connector
    * @param connection      the acting connection
    * @return an array of update counts containing one element for each executed command. The elements
-   * of the array are ordered according to the order in which commands were added to the batch.
+   * of the array are ordered according to the order in which commands were added to the batch. The
+   * {@link BulkAttributes} hold the update counts of each of the JDBC batches it was split into.
    * @throws SQLException if an error is produced
    */
-  public int[] bulkDelete(@ParameterGroup BulkQueryDefinition query,
+  public OperationResult<int[], BulkAttributes> bulkDelete(@ParameterGroup BulkQueryDefinition query,
                           List<Map<String, Object>> parameterValues,
+                          @ParameterGroup BulkBatchingAttributes batching,
                           @UseConfig DbConnector connector,
                           @Connection DbConnection connection)
       throws SQLException {
 
-    return singleQueryBulk(query, parameterValues, DELETE, connector, connection);
+    return singleQueryBulk(query, parameterValues, batching, DELETE, connector, connection);
   }
 
   /**
@@ -155,20 +186,57 @@ public class BulkOperations extends BaseDbOperations {
   }
 
 
-  private int[] singleQueryBulk(BulkQueryDefinition query,
-                                List<Map<String, Object>> values,
-                                QueryType queryType,
-                                DbConnector connector,
-                                DbConnection connection)
+  private OperationResult<int[], BulkAttributes> singleQueryBulk(BulkQueryDefinition query,
+                                                                 List<Map<String, Object>> values,
+                                                                 BulkBatchingAttributes batching,
+                                                                 QueryType queryType,
+                                                                 DbConnector connector,
+                                                                 DbConnection connection)
       throws SQLException {
 
     final Query resolvedQuery = resolveQuery(query, connector, connection, queryType);
 
-    List<List<QueryParamValue>> paramSets = resolveParamSets(values);
-
+    BatchSizePolicy batchSizePolicy = getBatchSizePolicy(batching);
     BulkUpdateExecutor bulkUpdateExecutor =
         new BulkUpdateExecutor(getStatementFactory(null, false, query.getSettings()));
-    return (int[]) bulkUpdateExecutor.execute(connection, resolvedQuery, paramSets);
+
+    // Created right before executing, which always closes it
+    ParamSetBatchSource paramSets =
+        new IteratorParamSetBatchSource(values.stream().map(this::resolveParamSet).iterator(), batchSizePolicy);
+    if (batching != null && batching.isPipelined()) {
+      paramSets = new PrefetchingParamSetBatchSource(paramSets, connector.getPrefetchExecutor());
+    }
+
+    List<BatchResult> batches = new ArrayList<>();
+    BatchListener batchListener =
+        (batchNumber, batchCounts, elapsedNanos) -> batches.add(toBatchResult(batchNumber, batchCounts, elapsedNanos));
+    int[] updateCounts = (int[]) bulkUpdateExecutor.execute(connection, resolvedQuery, paramSets, batchSizePolicy, batchListener);
+
+    return OperationResult.<int[], BulkAttributes>builder().output(updateCounts).attributes(new BulkAttributes(batches)).build();
+  }
+
+  private BatchResult toBatchResult(int batchNumber, int[] updateCounts, long elapsedNanos) {
+    long executionTime = NANOSECONDS.toMillis(elapsedNanos);
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(String.format("Executed batch %d with %d parameter sets in %d ms", batchNumber, updateCounts.length,
+                                 executionTime));
+    }
+
+    return new BatchResult(updateCounts, executionTime);
+  }
+
+  private BatchSizePolicy getBatchSizePolicy(BulkBatchingAttributes batching) {
+    if (batching == null) {
+      return new FixedBatchSizePolicy(MAX_VALUE);
+    }
+
+    if (batching.isAdaptiveBatchSize()) {
+      int initialBatchSize = batching.getBatchSize() != null ? batching.getBatchSize() : DEFAULT_ADAPTIVE_BATCH_SIZE;
+      return new AdaptiveBatchSizePolicy(initialBatchSize, MIN_ADAPTIVE_BATCH_SIZE, MAX_ADAPTIVE_BATCH_SIZE,
+                                         MILLISECONDS.toNanos(batching.getTargetBatchLatency()));
+    }
+
+    return new FixedBatchSizePolicy(batching.getBatchSize() != null ? batching.getBatchSize() : MAX_VALUE);
   }
 
   private Query resolveQuery(BulkQueryDefinition query, DbConnector connector, DbConnection connection, QueryType... validTypes) {
@@ -178,10 +246,9 @@ public class BulkOperations extends BaseDbOperations {
     return resolvedQuery;
   }
 
-  private List<List<QueryParamValue>> resolveParamSets(List<Map<String, Object>> values) {
-    return values.stream().map(map -> map.entrySet().stream()
+  private List<QueryParamValue> resolveParamSet(Map<String, Object> values) {
+    return values.entrySet().stream()
         .map(entry -> new QueryParamValue(entry.getKey(), entry.getValue()))
-        .collect(toList()))
         .collect(toList());
   }
 }
@@ -18,6 +18,7 @@ import static org.mule.runtime.extension.api.introspection.parameter.ExpressionS
 import org.mule.extension.db.api.StatementResult;
 import org.mule.extension.db.api.StatementStreamingResultSetCloser;
 import org.mule.extension.db.api.param.QueryDefinition;
+import org.mule.extension.db.api.param.ResultSetFormat;
 import org.mule.extension.db.api.param.StoredProcedureCall;
 import org.mule.extension.db.internal.DbConnector;
 import org.mule.extension.db.internal.domain.connection.DbConnection;
@@ -33,7 +34,10 @@ import org.mule.extension.db.internal.resolver.query.StoredProcedureQueryResolve
 import org.mule.extension.db.internal.result.resultset.IteratorResultSetHandler;
 import org.mule.extension.db.internal.result.resultset.ListResultSetHandler;
 import org.mule.extension.db.internal.result.resultset.ResultSetHandler;
-import org.mule.extension.db.internal.result.row.InsensitiveMapRowHandler;
+import org.mule.extension.db.internal.result.resultset.SerializingResultSetHandler;
+import org.mule.extension.db.internal.result.row.ColumnIndexRowHandler;
+import org.mule.extension.db.internal.result.row.CsvRowSerializer;
+import org.mule.extension.db.internal.result.row.JsonRowSerializer;
 import org.mule.extension.db.internal.result.statement.EagerStatementResultHandler;
 import org.mule.extension.db.internal.result.statement.StatementResultHandler;
 import org.mule.extension.db.internal.result.statement.StreamingStatementResultHandler;
@@ -45,6 +49,7 @@ import org.mule.runtime.extension.api.annotation.param.Optional;
 import org.mule.runtime.extension.api.annotation.param.UseConfig;
 import org.mule.runtime.extension.api.runtime.operation.InterceptingCallback;
 
+import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.List;
@@ -89,7 +94,7 @@ public class DmlOperations extends BaseDbOperations {
     final Query resolvedQuery = resolveQuery(query, connector, connection, SELECT, STORE_PROCEDURE_CALL);
 
     QueryStatementFactory statementFactory = getStatementFactory(statementAttributes, streaming, query.getSettings());
-    InsensitiveMapRowHandler recordHandler = new InsensitiveMapRowHandler();
+    ColumnIndexRowHandler recordHandler = new ColumnIndexRowHandler();
     ResultSetHandler resultSetHandler = streaming
         ? new IteratorResultSetHandler(recordHandler, resultSetCloser)
         : new ListResultSetHandler(recordHandler);
@@ -99,6 +104,40 @@ public class DmlOperations extends BaseDbOperations {
     return interceptingCallback(result, connection);
   }
 
+  /**
+   * Selects data from a database and serializes the returned rows into an {@link InputStream}.
+   * <p>
+   * Rows are always streamed straight from the result set into the returned stream, without building
+   * any intermediate representation of them.
+   *
+   * @param query               a {@link QueryDefinition} as a parameter group
+   * @param outputFormat        the {@link ResultSetFormat} in which rows are serialized
+   * @param statementAttributes a {@link StatementAttributes} as a parameter group
+   * @param connector           the acting connector
+   * @param connection          the acting connection
+   * @return an {@link InputStream} with the serialized rows
+   * @throws SQLException if an error is produced
+   */
+  public InterceptingCallback<InputStream> selectAsStream(@ParameterGroup QueryDefinition query,
+                                                          @Optional(defaultValue = "JSON") @Expression(
+                                                              NOT_SUPPORTED) ResultSetFormat outputFormat,
+                                                          @ParameterGroup StatementAttributes statementAttributes,
+                                                          @UseConfig DbConnector connector,
+                                                          @Connection DbConnection connection)
+      throws SQLException {
+
+    final Query resolvedQuery = resolveQuery(query, connector, connection, SELECT, STORE_PROCEDURE_CALL);
+
+    QueryStatementFactory statementFactory = getStatementFactory(statementAttributes, true, query.getSettings());
+    ResultSetHandler resultSetHandler = new SerializingResultSetHandler(outputFormat == ResultSetFormat.CSV
+        ? new CsvRowSerializer()
+        : new JsonRowSerializer(), resultSetCloser);
+
+    InputStream result = (InputStream) new SelectExecutor(statementFactory, resultSetHandler).execute(connection, resolvedQuery);
+
+    return interceptingCallback(result, connection);
+  }
+
   /**
    * Inserts data into a Database
    *
@@ -182,7 +221,7 @@ public class DmlOperations extends BaseDbOperations {
 
     QueryStatementFactory statementFactory = getStatementFactory(statementAttributes, streaming, call.getSettings());
 
-    InsensitiveMapRowHandler recordHandler = new InsensitiveMapRowHandler();
+    ColumnIndexRowHandler recordHandler = new ColumnIndexRowHandler();
 
     StatementResultHandler resultHandler = streaming
         ? new StreamingStatementResultHandler(new IteratorResultSetHandler(recordHandler, resultSetCloser))
@@ -12,7 +12,7 @@ import org.mule.extension.db.internal.result.row.RowHandler;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -31,7 +31,7 @@ public class ListResultSetHandler implements ResultSetHandler {
 
   @Override
   public List<Map<String, Object>> processResultSet(DbConnection connection, ResultSet resultSet) throws SQLException {
-    List<Map<String, Object>> results = new LinkedList<>();
+    List<Map<String, Object>> results = new ArrayList<>();
     try {
       while (resultSet.next()) {
         results.add(rowHandler.process(resultSet));
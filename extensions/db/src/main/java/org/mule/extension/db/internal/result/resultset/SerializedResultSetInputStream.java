@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.result.resultset;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import org.mule.extension.db.internal.domain.connection.DbConnection;
+import org.mule.extension.db.internal.result.row.ColumnIndex;
+import org.mule.extension.db.internal.result.row.RowSerializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@link InputStream} which lazily serializes the rows of a {@link ResultSet} through a {@link RowSerializer}.
+ * <p/>
+ * Rows are read from the cursor only as the stream is consumed, a chunk of roughly {@link #CHUNK_SIZE} characters at a
+ * time, so no per row {@link java.util.Map} is created and memory usage does not depend on the size of the result set.
+ * The {@link ResultSet} is closed through the given {@link StreamingResultSetCloser} once the last row has been read or
+ * when this stream is closed, whatever happens first.
+ *
+ * @since 4.0
+ */
+public class SerializedResultSetInputStream extends InputStream {
+
+  static final int CHUNK_SIZE = 8 * 1024;
+
+  private final DbConnection connection;
+  private final ResultSet resultSet;
+  private final ColumnIndex columnIndex;
+  private final RowSerializer serializer;
+  private final StreamingResultSetCloser streamingResultSetCloser;
+  private final StringBuilder text = new StringBuilder(CHUNK_SIZE + 256);
+
+  private byte[] buffer = new byte[0];
+  private int position = 0;
+  private boolean started = false;
+  private boolean exhausted = false;
+  private boolean firstRow = true;
+  private boolean closed = false;
+
+  public SerializedResultSetInputStream(DbConnection connection, ResultSet resultSet, ColumnIndex columnIndex,
+                                        RowSerializer serializer, StreamingResultSetCloser streamingResultSetCloser) {
+    this.connection = connection;
+    this.resultSet = resultSet;
+    this.columnIndex = columnIndex;
+    this.serializer = serializer;
+    this.streamingResultSetCloser = streamingResultSetCloser;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!ensureAvailable()) {
+      return -1;
+    }
+
+    return buffer[position++] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+
+    if (!ensureAvailable()) {
+      return -1;
+    }
+
+    int count = Math.min(len, buffer.length - position);
+    System.arraycopy(buffer, position, b, off, count);
+    position += count;
+
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return buffer.length - position;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!closed) {
+      closed = true;
+      exhausted = true;
+      streamingResultSetCloser.close(connection, resultSet);
+    }
+  }
+
+  private boolean ensureAvailable() throws IOException {
+    while (position >= buffer.length) {
+      if (exhausted) {
+        return false;
+      }
+      fill();
+    }
+
+    return true;
+  }
+
+  private void fill() throws IOException {
+    text.setLength(0);
+
+    try {
+      if (!started) {
+        serializer.writeStart(columnIndex, text);
+        started = true;
+      }
+
+      while (text.length() < CHUNK_SIZE) {
+        if (resultSet.next()) {
+          serializer.writeRow(columnIndex, resultSet, firstRow, text);
+          firstRow = false;
+        } else {
+          serializer.writeEnd(text);
+          close();
+          break;
+        }
+      }
+    } catch (SQLException e) {
+      close();
+      throw new IOException("Unable to serialize resultSet", e);
+    }
+
+    buffer = text.toString().getBytes(UTF_8);
+    position = 0;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.result.resultset;
+
+import org.mule.extension.db.api.StatementStreamingResultSetCloser;
+import org.mule.extension.db.internal.domain.connection.DbConnection;
+import org.mule.extension.db.internal.result.row.ColumnIndex;
+import org.mule.extension.db.internal.result.row.RowSerializer;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Processes a {@link ResultSet} returning a {@link SerializedResultSetInputStream} which streams the rows straight into
+ * the given {@link RowSerializer}.
+ * <p/>
+ * As in {@link IteratorResultSetHandler}, the {@link ResultSet} backing the returned stream is tracked so it gets closed
+ * when the connection it came from is closed.
+ *
+ * @since 4.0
+ */
+public class SerializingResultSetHandler implements ResultSetHandler {
+
+  private final RowSerializer serializer;
+  private final StatementStreamingResultSetCloser streamingResultSetCloser;
+
+  public SerializingResultSetHandler(RowSerializer serializer, StatementStreamingResultSetCloser streamingResultSetCloser) {
+    this.serializer = serializer;
+    this.streamingResultSetCloser = streamingResultSetCloser;
+  }
+
+  @Override
+  public SerializedResultSetInputStream processResultSet(DbConnection connection, ResultSet resultSet) throws SQLException {
+    streamingResultSetCloser.trackResultSet(connection, resultSet);
+    connection.beginStreaming();
+
+    ColumnIndex columnIndex;
+    try {
+      columnIndex = ColumnIndex.of(resultSet.getMetaData());
+    } catch (SQLException | RuntimeException e) {
+      streamingResultSetCloser.close(connection, resultSet);
+      throw e;
+    }
+
+    return new SerializedResultSetInputStream(connection, resultSet, columnIndex, serializer, streamingResultSetCloser);
+  }
+
+  @Override
+  public boolean requiresMultipleOpenedResults() {
+    return true;
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.result.row;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Base64;
+
+/**
+ * Base class for {@link RowSerializer} implementations which provides a common text representation for column values
+ *
+ * @since 4.0
+ */
+public abstract class AbstractRowSerializer implements RowSerializer {
+
+  /**
+   * Reads a column value and converts it to text.
+   *
+   * @param resultSet the result set positioned on the row to read
+   * @param column the one based column position
+   * @return the text representation of the value or {@code null} if the value is {@code null}
+   * @throws SQLException if the value cannot be read
+   */
+  protected String getText(ResultSet resultSet, int column) throws SQLException {
+    return toText(ColumnIndexRowHandler.getValue(resultSet, column));
+  }
+
+  /**
+   * Converts a column value to text.
+   * <p/>
+   * Binary values ({@code byte[]} and {@link Blob}) are encoded in base 64. Any other value is represented by its
+   * {@link Object#toString()} output.
+   *
+   * @param value a value read from a result set
+   * @return the text representation of the value or {@code null} if the value is {@code null}
+   * @throws SQLException if a LOB value cannot be read
+   */
+  protected String toText(Object value) throws SQLException {
+    if (value == null) {
+      return null;
+    } else if (value instanceof byte[]) {
+      return Base64.getEncoder().encodeToString((byte[]) value);
+    } else if (value instanceof Blob) {
+      Blob blob = (Blob) value;
+      return Base64.getEncoder().encodeToString(blob.getBytes(1, (int) blob.length()));
+    } else if (value instanceof Clob) {
+      Clob clob = (Clob) value;
+      return clob.getSubString(1, (int) clob.length());
+    }
+
+    return value.toString();
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.result.row;
+
+import org.mule.runtime.core.util.CaseInsensitiveHashMap;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact, case insensitive {@link Map} view of a single row.
+ * <p/>
+ * Values are kept in an array indexed by column position and the column labels are resolved through a {@link ColumnIndex}
+ * which is shared by all the rows of the same result set, so each row only costs the array of its values.
+ * <p/>
+ * Values of existing columns can be replaced in place. Any other structural modification (adding a new key or removing one)
+ * transparently copies the row into a {@link CaseInsensitiveHashMap} which is used from then on.
+ *
+ * @since 4.0
+ */
+public class ArrayRowMap extends AbstractMap<String, Object> implements Serializable {
+
+  private static final long serialVersionUID = -3120936148212094762L;
+
+  private final ColumnIndex columnIndex;
+  private final Object[] values;
+  private Map<String, Object> detached;
+
+  /**
+   * Creates a new row
+   *
+   * @param columnIndex the shared column dictionary
+   * @param values the row values, in column order. The array is not copied.
+   */
+  public ArrayRowMap(ColumnIndex columnIndex, Object[] values) {
+    if (columnIndex.size() != values.length) {
+      throw new IllegalArgumentException("Row has " + values.length + " values but " + columnIndex.size()
+          + " columns were expected");
+    }
+    this.columnIndex = columnIndex;
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return detached != null ? detached.size() : values.length;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return detached != null ? detached.containsKey(key) : columnIndex.indexOf(key) >= 0;
+  }
+
+  @Override
+  public Object get(Object key) {
+    if (detached != null) {
+      return detached.get(key);
+    }
+
+    int index = columnIndex.indexOf(key);
+    return index >= 0 ? values[index] : null;
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    if (detached == null) {
+      int index = columnIndex.indexOf(key);
+      if (index >= 0) {
+        Object previous = values[index];
+        values[index] = value;
+        return previous;
+      }
+    }
+
+    return detach().put(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    if (detached == null && columnIndex.indexOf(key) < 0) {
+      return null;
+    }
+
+    return detach().remove(key);
+  }
+
+  @Override
+  public void clear() {
+    detach().clear();
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return detached != null ? detached.entrySet() : new RowEntrySet();
+  }
+
+  private Map<String, Object> detach() {
+    if (detached == null) {
+      Map<String, Object> copy = new CaseInsensitiveHashMap(values.length * 2);
+      for (int i = 0; i < values.length; i++) {
+        copy.put(columnIndex.getLabel(i), values[i]);
+      }
+      detached = copy;
+    }
+
+    return detached;
+  }
+
+  private class RowEntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      return new Iterator<Entry<String, Object>>() {
+
+        private int next = 0;
+
+        @Override
+        public boolean hasNext() {
+          return next < values.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          return new RowEntry(next++);
+        }
+      };
+    }
+  }
+
+  private class RowEntry implements Entry<String, Object> {
+
+    private final int index;
+
+    private RowEntry(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public String getKey() {
+      return columnIndex.getLabel(index);
+    }
+
+    @Override
+    public Object getValue() {
+      return values[index];
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      Object previous = values[index];
+      values[index] = value;
+      return previous;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> other = (Entry<?, ?>) o;
+      Object value = getValue();
+      return getKey().equals(other.getKey()) && (value == null ? other.getValue() == null : value.equals(other.getValue()));
+    }
+
+    @Override
+    public int hashCode() {
+      Object value = getValue();
+      return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.result.row;
+
+import static java.util.Locale.ENGLISH;
+
+import java.io.Serializable;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable dictionary of the columns of a {@link java.sql.ResultSet}.
+ * <p/>
+ * It is resolved once per result set from its {@link ResultSetMetaData} and shared by all the {@link ArrayRowMap}
+ * instances created for the rows of that result set. Column lookups are case insensitive.
+ *
+ * @since 4.0
+ */
+public final class ColumnIndex implements Serializable {
+
+  private static final long serialVersionUID = 4581234786723468972L;
+
+  private final String[] labels;
+  private final Map<String, Integer> positions;
+
+  /**
+   * Creates a new instance from the given {@code metaData}
+   *
+   * @param metaData metadata of the result set to index. Non null
+   * @return a new {@link ColumnIndex}
+   * @throws SQLException if the metadata cannot be read
+   * @throws IllegalArgumentException if the result set contains more than one column with the same label
+   */
+  public static ColumnIndex of(ResultSetMetaData metaData) throws SQLException {
+    int columnCount = metaData.getColumnCount();
+    String[] labels = new String[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      labels[i] = metaData.getColumnLabel(i + 1);
+    }
+
+    return new ColumnIndex(labels);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param labels the column labels, in result set order
+   * @throws IllegalArgumentException if {@code labels} contains duplicated values (ignoring case)
+   */
+  public ColumnIndex(String[] labels) {
+    this.labels = labels.clone();
+    positions = new HashMap<>(labels.length * 2);
+
+    for (int i = 0; i < labels.length; i++) {
+      if (positions.put(normalize(labels[i]), i) != null) {
+        throw new IllegalArgumentException("Record cannot be mapped as it contains multiple columns with the same label. Define column aliases to solve this problem");
+      }
+    }
+  }
+
+  /**
+   * @return the number of indexed columns
+   */
+  public int size() {
+    return labels.length;
+  }
+
+  /**
+   * @param index zero based position of the column
+   * @return the label of the column at the given {@code index}
+   */
+  public String getLabel(int index) {
+    return labels[index];
+  }
+
+  /**
+   * @param label a column label, in any case
+   * @return the zero based position of the column or {@code -1} if there is no such column
+   */
+  public int indexOf(Object label) {
+    if (!(label instanceof String)) {
+      return -1;
+    }
+
+    Integer position = positions.get(normalize((String) label));
+    return position != null ? position : -1;
+  }
+
+  private static String normalize(String label) {
+    return label.toLowerCase(ENGLISH);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.result.row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.util.Map;
+
+/**
+ * Maps rows into {@link ArrayRowMap} instances.
+ * <p/>
+ * Unlike {@link InsensitiveMapRowHandler}, the {@link java.sql.ResultSetMetaData} is only read once per result set: the
+ * resulting {@link ColumnIndex} is kept and shared by all the rows read from the same {@link ResultSet}, so mapping a row
+ * only allocates the array holding its values.
+ * <p/>
+ * Instances are not thread safe and are meant to process the result sets of a single statement execution.
+ *
+ * @since 4.0
+ */
+public class ColumnIndexRowHandler implements RowHandler {
+
+  private ResultSet currentResultSet;
+  private ColumnIndex columnIndex;
+
+  @Override
+  public Map<String, Object> process(ResultSet resultSet) throws SQLException {
+    ColumnIndex columnIndex = getColumnIndex(resultSet);
+    Object[] values = new Object[columnIndex.size()];
+
+    for (int i = 0; i < values.length; i++) {
+      values[i] = getValue(resultSet, i + 1);
+    }
+
+    return new ArrayRowMap(columnIndex, values);
+  }
+
+  /**
+   * Returns the {@link ColumnIndex} of the given {@code resultSet}, resolving it only the first time a row of that
+   * result set is processed
+   *
+   * @param resultSet the result set being processed
+   * @return a {@link ColumnIndex}
+   * @throws SQLException if the result set metadata cannot be read
+   */
+  public ColumnIndex getColumnIndex(ResultSet resultSet) throws SQLException {
+    if (resultSet != currentResultSet) {
+      columnIndex = ColumnIndex.of(resultSet.getMetaData());
+      currentResultSet = resultSet;
+    }
+
+    return columnIndex;
+  }
+
+  /**
+   * Reads the value of a column, resolving {@link SQLXML} values to their string representation
+   *
+   * @param resultSet the result set positioned on the row to read
+   * @param column the one based column position
+   * @return the column value
+   * @throws SQLException if the value cannot be read
+   */
+  public static Object getValue(ResultSet resultSet, int column) throws SQLException {
+    Object value = resultSet.getObject(column);
+
+    if (value instanceof SQLXML) {
+      return ((SQLXML) value).getString();
+    }
+
+    return value;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.result.row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@link RowSerializer} which writes rows as comma separated values, preceded by a header line with the column labels.
+ * <p/>
+ * Values containing separators, quotes or line breaks are quoted as defined in RFC 4180. {@code null} values are written as
+ * empty fields.
+ *
+ * @since 4.0
+ */
+public class CsvRowSerializer extends AbstractRowSerializer {
+
+  private static final char SEPARATOR = ',';
+  private static final char QUOTE = '"';
+  private static final String LINE_BREAK = "\r\n";
+
+  @Override
+  public void writeStart(ColumnIndex columnIndex, StringBuilder output) {
+    for (int i = 0; i < columnIndex.size(); i++) {
+      if (i > 0) {
+        output.append(SEPARATOR);
+      }
+      writeField(columnIndex.getLabel(i), output);
+    }
+    output.append(LINE_BREAK);
+  }
+
+  @Override
+  public void writeRow(ColumnIndex columnIndex, ResultSet resultSet, boolean first, StringBuilder output)
+      throws SQLException {
+    for (int i = 0; i < columnIndex.size(); i++) {
+      if (i > 0) {
+        output.append(SEPARATOR);
+      }
+
+      String text = getText(resultSet, i + 1);
+      if (text != null) {
+        writeField(text, output);
+      }
+    }
+    output.append(LINE_BREAK);
+  }
+
+  @Override
+  public void writeEnd(StringBuilder output) {}
+
+  private void writeField(String text, StringBuilder output) {
+    if (!requiresQuoting(text)) {
+      output.append(text);
+      return;
+    }
+
+    output.append(QUOTE);
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == QUOTE) {
+        output.append(QUOTE);
+      }
+      output.append(c);
+    }
+    output.append(QUOTE);
+  }
+
+  private boolean requiresQuoting(String text) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == SEPARATOR || c == QUOTE || c == '\r' || c == '\n') {
+        return true;
+      }
+    }
+
+    return false;
+  }
+}
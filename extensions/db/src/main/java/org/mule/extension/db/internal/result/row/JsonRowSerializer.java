@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.result.row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@link RowSerializer} which writes rows as a JSON array of objects, using the column labels as field names.
+ * <p/>
+ * Finite numbers and booleans are written as JSON numbers and booleans, any other value is written as a string.
+ *
+ * @since 4.0
+ */
+public class JsonRowSerializer extends AbstractRowSerializer {
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  @Override
+  public void writeStart(ColumnIndex columnIndex, StringBuilder output) {
+    output.append('[');
+  }
+
+  @Override
+  public void writeRow(ColumnIndex columnIndex, ResultSet resultSet, boolean first, StringBuilder output)
+      throws SQLException {
+    if (!first) {
+      output.append(',');
+    }
+
+    output.append('{');
+    for (int i = 0; i < columnIndex.size(); i++) {
+      if (i > 0) {
+        output.append(',');
+      }
+      writeString(columnIndex.getLabel(i), output);
+      output.append(':');
+      writeValue(resultSet, i + 1, output);
+    }
+    output.append('}');
+  }
+
+  @Override
+  public void writeEnd(StringBuilder output) {
+    output.append(']');
+  }
+
+  private void writeValue(ResultSet resultSet, int column, StringBuilder output) throws SQLException {
+    Object value = ColumnIndexRowHandler.getValue(resultSet, column);
+
+    if (value == null) {
+      output.append("null");
+    } else if (value instanceof Boolean || isFiniteNumber(value)) {
+      output.append(value);
+    } else {
+      writeString(toText(value), output);
+    }
+  }
+
+  private boolean isFiniteNumber(Object value) {
+    if (value instanceof Double) {
+      return !((Double) value).isNaN() && !((Double) value).isInfinite();
+    } else if (value instanceof Float) {
+      return !((Float) value).isNaN() && !((Float) value).isInfinite();
+    }
+
+    return value instanceof Number;
+  }
+
+  private void writeString(String text, StringBuilder output) {
+    output.append('"');
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      switch (c) {
+        case '"':
+          output.append("\\\"");
+          break;
+        case '\\':
+          output.append("\\\\");
+          break;
+        case '\n':
+          output.append("\\n");
+          break;
+        case '\r':
+          output.append("\\r");
+          break;
+        case '\t':
+          output.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            output.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+          } else {
+            output.append(c);
+          }
+      }
+    }
+    output.append('"');
+  }
+}
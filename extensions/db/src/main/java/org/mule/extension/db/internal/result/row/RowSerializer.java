@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.internal.result.row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Serializes the rows of a {@link ResultSet} straight from the current cursor position into text, without creating an
+ * intermediate {@link java.util.Map} per row.
+ *
+ * @since 4.0
+ */
+public interface RowSerializer {
+
+  /**
+   * Writes whatever must precede the first row
+   *
+   * @param columnIndex the columns of the result set being serialized
+   * @param output where the text is appended
+   */
+  void writeStart(ColumnIndex columnIndex, StringBuilder output);
+
+  /**
+   * Writes the row the {@code resultSet} is currently positioned on
+   *
+   * @param columnIndex the columns of the result set being serialized
+   * @param resultSet the result set positioned on the row to write
+   * @param first whether this is the first written row
+   * @param output where the text is appended
+   * @throws SQLException if a value cannot be read from the result set
+   */
+  void writeRow(ColumnIndex columnIndex, ResultSet resultSet, boolean first, StringBuilder output) throws SQLException;
+
+  /**
+   * Writes whatever must follow the last row
+   *
+   * @param output where the text is appended
+   */
+  void writeEnd(StringBuilder output);
+}
@@ -13,6 +13,8 @@ import static org.hamcrest.core.AnyOf.anyOf;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mule.extension.db.integration.TestDbConfig.getResources;
+import org.mule.extension.db.api.BatchResult;
+import org.mule.extension.db.api.BulkAttributes;
 import org.mule.extension.db.integration.AbstractDbIntegrationTestCase;
 import org.mule.extension.db.integration.model.AbstractTestDatabase;
 import org.mule.runtime.api.message.MuleMessage;
@@ -55,6 +57,25 @@ public class BulkInsertTestCase extends AbstractDbIntegrationTestCase {
     assertBulkInsert(response.getPayload());
   }
 
+  @Test
+  public void bulkInsertInBatches() throws Exception {
+    MuleMessage response = flowRunner("bulkInsertInBatches").withPayload(values()).run().getMessage();
+    assertBulkInsert(response.getPayload());
+
+    BulkAttributes attributes = (BulkAttributes) response.getAttributes();
+    assertThat(attributes.getBatchCount(), is(2));
+    for (BatchResult batch : attributes.getBatches()) {
+      assertThat(batch.getSize(), is(1));
+      assertThat(batch.getUpdateCounts()[0], anyOf(equalTo(1), equalTo(Statement.SUCCESS_NO_INFO)));
+    }
+  }
+
+  @Test
+  public void bulkInsertPipelinedAdaptiveBatches() throws Exception {
+    MuleMessage response = flowRunner("bulkInsertPipelinedAdaptiveBatches").withPayload(values()).run().getMessage();
+    assertBulkInsert(response.getPayload());
+  }
+
   private List<Map<String, Object>> values() {
     List<Map<String, Object>> values = new ArrayList<>();
     addRecord(values, "name", "Pluto");
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.extension.db.integration.select;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.mule.extension.db.integration.model.Planet.EARTH;
+import static org.mule.extension.db.integration.model.Planet.MARS;
+import static org.mule.extension.db.integration.model.Planet.VENUS;
+import org.mule.extension.db.integration.AbstractDbIntegrationTestCase;
+import org.mule.extension.db.integration.TestDbConfig;
+import org.mule.extension.db.integration.model.AbstractTestDatabase;
+import org.mule.extension.db.integration.model.Planet;
+import org.mule.runtime.api.message.MuleMessage;
+
+import java.io.InputStream;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+import org.junit.runners.Parameterized;
+
+public class SelectOutputFormatTestCase extends AbstractDbIntegrationTestCase {
+
+  public SelectOutputFormatTestCase(String dataSourceConfigResource, AbstractTestDatabase testDatabase) {
+    super(dataSourceConfigResource, testDatabase);
+  }
+
+  @Parameterized.Parameters
+  public static List<Object[]> parameters() {
+    return TestDbConfig.getResources();
+  }
+
+  @Override
+  protected String[] getFlowConfigurationResources() {
+    return new String[] {"integration/select/select-output-format-config.xml"};
+  }
+
+  @Test
+  public void streamsCsv() throws Exception {
+    String csv = readPayload(flowRunner("selectCsv").run().getMessage());
+
+    assertThat(csv, is("NAME,POSITION\r\n" + csvRow(VENUS) + csvRow(EARTH) + csvRow(MARS)));
+  }
+
+  @Test
+  public void streamsJson() throws Exception {
+    String json = readPayload(flowRunner("selectJson").run().getMessage());
+
+    assertThat(json, is("[" + jsonRow(VENUS) + "," + jsonRow(EARTH) + "," + jsonRow(MARS) + "]"));
+  }
+
+  @Test
+  public void streamsEmptyJson() throws Exception {
+    String json = readPayload(flowRunner("selectEmptyJson").run().getMessage());
+
+    assertThat(json, is("[]"));
+  }
+
+  private String readPayload(MuleMessage response) throws Exception {
+    assertThat(response.getPayload(), is(instanceOf(InputStream.class)));
+
+    try (InputStream payload = response.getPayload()) {
+      return IOUtils.toString(payload, UTF_8);
+    }
+  }
+
+  private String csvRow(Planet planet) {
+    return planet.getName() + "," + planet.getPosition() + "\r\n";
+  }
+
+  private String jsonRow(Planet planet) {
+    return "{\"NAME\":\"" + planet.getName() + "\",\"POSITION\":" + planet.getPosition() + "}";
+  }
+}
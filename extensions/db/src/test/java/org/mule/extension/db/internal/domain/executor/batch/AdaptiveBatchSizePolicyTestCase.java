@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.db.internal.domain.executor.batch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Test;
+
+@SmallTest
+public class AdaptiveBatchSizePolicyTestCase extends AbstractMuleTestCase {
+
+  private static final int MIN_BATCH_SIZE = 10;
+  private static final int MAX_BATCH_SIZE = 1000;
+  private static final int INITIAL_BATCH_SIZE = 100;
+  private static final long TARGET_LATENCY_NANOS = 140_000;
+
+  private final AdaptiveBatchSizePolicy policy =
+      new AdaptiveBatchSizePolicy(INITIAL_BATCH_SIZE, MIN_BATCH_SIZE, MAX_BATCH_SIZE, TARGET_LATENCY_NANOS);
+
+  @Test
+  public void startsWithInitialBatchSize() {
+    assertThat(policy.nextBatchSize(), is(INITIAL_BATCH_SIZE));
+  }
+
+  @Test
+  public void initialBatchSizeIsKeptWithinBounds() {
+    assertThat(new AdaptiveBatchSizePolicy(1, MIN_BATCH_SIZE, MAX_BATCH_SIZE, TARGET_LATENCY_NANOS).nextBatchSize(),
+               is(MIN_BATCH_SIZE));
+    assertThat(new AdaptiveBatchSizePolicy(5000, MIN_BATCH_SIZE, MAX_BATCH_SIZE, TARGET_LATENCY_NANOS).nextBatchSize(),
+               is(MAX_BATCH_SIZE));
+  }
+
+  @Test
+  public void movesHalfwayTowardsTargetLatency() {
+    // 1000 ns per parameter set, so 140 of them match the target latency
+    policy.onBatchExecuted(INITIAL_BATCH_SIZE, 100_000);
+    assertThat(policy.nextBatchSize(), is(120));
+  }
+
+  @Test
+  public void growsAtMostTwiceAtOnce() {
+    policy.onBatchExecuted(INITIAL_BATCH_SIZE, 100);
+    assertThat(policy.nextBatchSize(), is(200));
+  }
+
+  @Test
+  public void shrinksAtMostHalfAtOnce() {
+    policy.onBatchExecuted(INITIAL_BATCH_SIZE, 1_000_000_000);
+    assertThat(policy.nextBatchSize(), is(50));
+  }
+
+  @Test
+  public void neverLeavesBounds() {
+    for (int i = 0; i < 10; ++i) {
+      policy.onBatchExecuted(policy.nextBatchSize(), 1);
+    }
+    assertThat(policy.nextBatchSize(), is(MAX_BATCH_SIZE));
+
+    for (int i = 0; i < 10; ++i) {
+      policy.onBatchExecuted(policy.nextBatchSize(), 1_000_000_000);
+    }
+    assertThat(policy.nextBatchSize(), is(MIN_BATCH_SIZE));
+  }
+
+  @Test
+  public void partialBatchesDoNotChangeSize() {
+    policy.onBatchExecuted(INITIAL_BATCH_SIZE / 2, 1_000_000_000);
+    policy.onBatchExecuted(0, 0);
+    assertThat(policy.nextBatchSize(), is(INITIAL_BATCH_SIZE));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsInvalidBounds() {
+    new AdaptiveBatchSizePolicy(INITIAL_BATCH_SIZE, MAX_BATCH_SIZE, MIN_BATCH_SIZE, TARGET_LATENCY_NANOS);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsNonPositiveTargetLatency() {
+    new AdaptiveBatchSizePolicy(INITIAL_BATCH_SIZE, MIN_BATCH_SIZE, MAX_BATCH_SIZE, 0);
+  }
+}
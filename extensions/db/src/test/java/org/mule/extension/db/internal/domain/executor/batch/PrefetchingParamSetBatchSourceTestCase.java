@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.db.internal.domain.executor.batch;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import org.mule.extension.db.internal.domain.query.QueryParamValue;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Test;
+
+@SmallTest
+public class PrefetchingParamSetBatchSourceTestCase extends AbstractMuleTestCase {
+
+  private static final long TIMEOUT_SECONDS = 5;
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  @After
+  public void shutdownExecutor() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void handsOverBatchesInOrder() {
+    List<List<List<QueryParamValue>>> batches = new ArrayList<>();
+    List<Supplier<List<List<QueryParamValue>>>> suppliers = new ArrayList<>();
+    for (int i = 0; i < 3; ++i) {
+      List<List<QueryParamValue>> batch = batch("param" + i);
+      batches.add(batch);
+      suppliers.add(() -> batch);
+    }
+    TestBatchSource delegate = new TestBatchSource(suppliers, false);
+
+    try (PrefetchingParamSetBatchSource source = new PrefetchingParamSetBatchSource(delegate, executor)) {
+      for (List<List<QueryParamValue>> batch : batches) {
+        assertThat(source.nextBatch(), is(sameInstance(batch)));
+      }
+      assertThat(source.nextBatch(), is(empty()));
+      assertThat(source.nextBatch(), is(empty()));
+    }
+
+    assertThat(delegate.preparingThread, is(not(sameInstance(Thread.currentThread()))));
+    assertThat(delegate.closed, is(true));
+  }
+
+  @Test
+  public void propagatesPreparationError() {
+    IllegalArgumentException error = new IllegalArgumentException("Invalid parameter set");
+    List<List<QueryParamValue>> first = batch("param");
+    TestBatchSource delegate = new TestBatchSource(asList(() -> first, () -> {
+      throw error;
+    }), false);
+
+    try (PrefetchingParamSetBatchSource source = new PrefetchingParamSetBatchSource(delegate, executor)) {
+      assertThat(source.nextBatch(), is(sameInstance(first)));
+      try {
+        source.nextBatch();
+        fail("Expected the preparation error to be thrown");
+      } catch (IllegalArgumentException e) {
+        assertThat(e, is(sameInstance(error)));
+      }
+      assertThat(source.nextBatch(), is(empty()));
+    }
+  }
+
+  @Test
+  public void wrapsPreparationErrorWhichIsNotRuntimeException() {
+    AssertionError error = new AssertionError("Failed to prepare");
+    TestBatchSource delegate = new TestBatchSource(singletonList(() -> {
+      throw error;
+    }), false);
+
+    try (PrefetchingParamSetBatchSource source = new PrefetchingParamSetBatchSource(delegate, executor)) {
+      source.nextBatch();
+      fail("Expected the preparation error to be thrown");
+    } catch (IllegalStateException e) {
+      assertThat(e.getCause(), is(sameInstance(error)));
+    }
+  }
+
+  @Test
+  public void closeStopsPreparation() throws Exception {
+    CountDownLatch blocked = new CountDownLatch(2);
+    TestBatchSource delegate = new TestBatchSource(singletonList(() -> {
+      blocked.countDown();
+      return batch("param");
+    }), true);
+
+    PrefetchingParamSetBatchSource source = new PrefetchingParamSetBatchSource(delegate, executor);
+    source.nextBatch();
+    // one batch is handed over and the next one is prepared ahead, after which the preparing task waits for room
+    assertThat(blocked.await(TIMEOUT_SECONDS, SECONDS), is(true));
+    source.close();
+
+    executor.shutdown();
+    assertThat(executor.awaitTermination(TIMEOUT_SECONDS, SECONDS), is(true));
+    assertThat(delegate.closed, is(true));
+    assertThat(source.nextBatch(), is(empty()));
+  }
+
+  private static List<List<QueryParamValue>> batch(String paramName) {
+    return singletonList(singletonList(new QueryParamValue(paramName, paramName)));
+  }
+
+  /**
+   * Provides the batches obtained from the given suppliers, or repeats the first one forever if {@code endless}
+   */
+  private static class TestBatchSource implements ParamSetBatchSource {
+
+    private final List<Supplier<List<List<QueryParamValue>>>> batches;
+    private final boolean endless;
+    private volatile Thread preparingThread;
+    private volatile boolean closed;
+
+    private TestBatchSource(List<Supplier<List<List<QueryParamValue>>>> batches, boolean endless) {
+      this.batches = new ArrayList<>(batches);
+      this.endless = endless;
+    }
+
+    @Override
+    public List<List<QueryParamValue>> nextBatch() {
+      preparingThread = Thread.currentThread();
+      if (batches.isEmpty()) {
+        return emptyList();
+      }
+      return endless ? batches.get(0).get() : batches.remove(0).get();
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
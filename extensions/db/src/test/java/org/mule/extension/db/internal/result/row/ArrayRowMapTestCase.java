@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.db.internal.result.row;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import org.mule.runtime.core.util.CaseInsensitiveHashMap;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.Test;
+
+@SmallTest
+public class ArrayRowMapTestCase extends AbstractMuleTestCase {
+
+  private static final ColumnIndex COLUMN_INDEX = new ColumnIndex(new String[] {"ID", "NAME", "POSITION"});
+
+  private final ArrayRowMap row = new ArrayRowMap(COLUMN_INDEX, new Object[] {1, "Mercury", null});
+
+  @Test
+  public void getsValuesIgnoringCase() {
+    assertThat(row.get("ID"), equalTo(1));
+    assertThat(row.get("name"), equalTo("Mercury"));
+    assertThat(row.get("Name"), equalTo("Mercury"));
+    assertThat(row.containsKey("position"), is(true));
+    assertThat(row.get("position"), is(nullValue()));
+  }
+
+  @Test
+  public void unknownColumnIsNotContained() {
+    assertThat(row.containsKey("missing"), is(false));
+    assertThat(row.get("missing"), is(nullValue()));
+    assertThat(row.containsKey(1), is(false));
+  }
+
+  @Test
+  public void rowsShareColumnIndex() {
+    ArrayRowMap other = new ArrayRowMap(COLUMN_INDEX, new Object[] {2, "Venus", 2});
+
+    assertThat(other.get("name"), equalTo("Venus"));
+    assertThat(row.get("name"), equalTo("Mercury"));
+  }
+
+  @Test
+  public void equalsCaseInsensitiveHashMapWithSameEntries() {
+    Map<String, Object> expected = toCaseInsensitiveMap(row);
+
+    assertThat(row.equals(expected), is(true));
+    assertThat(expected.equals(row), is(true));
+    assertThat(row.hashCode(), is(expected.hashCode()));
+    assertThat(row.entrySet(), equalTo(expected.entrySet()));
+  }
+
+  @Test
+  public void notEqualsCaseInsensitiveHashMapWithDifferentValues() {
+    Map<String, Object> other = toCaseInsensitiveMap(row);
+    other.put("NAME", "Venus");
+
+    assertThat(row.equals(other), is(false));
+    assertThat(other.equals(row), is(false));
+  }
+
+  @Test
+  public void entrySetFollowsColumnOrder() {
+    assertThat(row.keySet().toArray(), equalTo(new Object[] {"ID", "NAME", "POSITION"}));
+    assertThat(row.values().toArray(), equalTo(new Object[] {1, "Mercury", null}));
+  }
+
+  @Test
+  public void replacesExistingValueInPlace() {
+    assertThat(row.put("name", "Venus"), equalTo("Mercury"));
+
+    assertThat(row.get("NAME"), equalTo("Venus"));
+    assertThat(row.size(), is(3));
+  }
+
+  @Test
+  public void entryValueCanBeReplaced() {
+    Entry<String, Object> entry = row.entrySet().iterator().next();
+    entry.setValue(5);
+
+    assertThat(row.get("id"), equalTo(5));
+  }
+
+  @Test
+  public void addingColumnKeepsRowCaseInsensitive() {
+    assertThat(row.put("Extra", "value"), is(nullValue()));
+
+    assertThat(row.size(), is(4));
+    assertThat(row.get("EXTRA"), equalTo("value"));
+    assertThat(row.get("name"), equalTo("Mercury"));
+  }
+
+  @Test
+  public void removingColumnKeepsRowCaseInsensitive() {
+    assertThat(row.remove("name"), equalTo("Mercury"));
+
+    assertThat(row.size(), is(2));
+    assertThat(row.containsKey("NAME"), is(false));
+    assertThat(row.get("Id"), equalTo(1));
+  }
+
+  @Test
+  public void removingUnknownColumnDoesNothing() {
+    assertThat(row.remove("missing"), is(nullValue()));
+    assertThat(row.size(), is(3));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void rejectsAddingToEntrySet() {
+    row.entrySet().add(new SimpleEntry<>("EXTRA", "value"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void rejectsRemovingThroughEntryIterator() {
+    Iterator<Entry<String, Object>> entries = row.entrySet().iterator();
+    entries.next();
+    entries.remove();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsValuesNotMatchingColumns() {
+    new ArrayRowMap(COLUMN_INDEX, new Object[] {1, "Mercury"});
+  }
+
+  private Map<String, Object> toCaseInsensitiveMap(Map<String, Object> row) {
+    Map<String, Object> map = new CaseInsensitiveHashMap();
+    map.putAll(row);
+    return map;
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.db.internal.result.row;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.sql.ResultSetMetaData;
+
+import org.junit.Test;
+
+@SmallTest
+public class ColumnIndexTestCase extends AbstractMuleTestCase {
+
+  private final ColumnIndex columnIndex = new ColumnIndex(new String[] {"ID", "Name", "position"});
+
+  @Test
+  public void resolvesPositionsIgnoringCase() {
+    assertThat(columnIndex.indexOf("ID"), is(0));
+    assertThat(columnIndex.indexOf("id"), is(0));
+    assertThat(columnIndex.indexOf("NAME"), is(1));
+    assertThat(columnIndex.indexOf("Position"), is(2));
+  }
+
+  @Test
+  public void unknownColumnHasNoPosition() {
+    assertThat(columnIndex.indexOf("missing"), is(-1));
+    assertThat(columnIndex.indexOf(null), is(-1));
+    assertThat(columnIndex.indexOf(0), is(-1));
+  }
+
+  @Test
+  public void keepsOriginalLabels() {
+    assertThat(columnIndex.size(), is(3));
+    assertThat(columnIndex.getLabel(0), equalTo("ID"));
+    assertThat(columnIndex.getLabel(1), equalTo("Name"));
+    assertThat(columnIndex.getLabel(2), equalTo("position"));
+  }
+
+  @Test
+  public void isNotAffectedByChangesToGivenLabels() {
+    String[] labels = {"ID", "NAME"};
+    ColumnIndex index = new ColumnIndex(labels);
+    labels[0] = "OTHER";
+
+    assertThat(index.getLabel(0), equalTo("ID"));
+    assertThat(index.indexOf("OTHER"), is(-1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsDuplicateLabels() {
+    new ColumnIndex(new String[] {"ID", "NAME", "id"});
+  }
+
+  @Test
+  public void createsFromMetaData() throws Exception {
+    ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+    when(metaData.getColumnCount()).thenReturn(2);
+    when(metaData.getColumnLabel(1)).thenReturn("ID");
+    when(metaData.getColumnLabel(2)).thenReturn("NAME");
+
+    ColumnIndex index = ColumnIndex.of(metaData);
+
+    assertThat(index.size(), is(2));
+    assertThat(index.indexOf("name"), is(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsDuplicateLabelsFromMetaData() throws Exception {
+    ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+    when(metaData.getColumnCount()).thenReturn(2);
+    when(metaData.getColumnLabel(1)).thenReturn("NAME");
+    when(metaData.getColumnLabel(2)).thenReturn("name");
+
+    ColumnIndex.of(metaData);
+  }
+}
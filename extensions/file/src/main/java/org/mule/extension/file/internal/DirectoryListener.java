@@ -13,12 +13,15 @@ import static java.nio.file.Files.walkFileTree;
 import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.mule.extension.file.api.FileEventType.CREATE;
 import static org.mule.extension.file.api.FileEventType.DELETE;
 import static org.mule.extension.file.api.FileEventType.UPDATE;
 import static org.mule.runtime.core.config.i18n.MessageFactory.createStaticMessage;
 import static org.mule.runtime.core.util.concurrent.ThreadNameHelper.getPrefix;
+import static org.mule.runtime.extension.api.annotation.param.display.Placement.ADVANCED;
 import static org.mule.runtime.module.extension.file.api.FileDisplayConstants.MATCHER;
 import static org.mule.runtime.module.extension.file.api.FileDisplayConstants.MATCH_WITH;
 
@@ -34,6 +37,7 @@ import org.mule.runtime.core.api.config.ConfigurationException;
 import org.mule.runtime.core.api.construct.FlowConstruct;
 import org.mule.runtime.core.api.construct.FlowConstructAware;
 import org.mule.runtime.core.lifecycle.PrimaryNodeLifecycleNotificationListener;
+import org.mule.runtime.core.util.concurrent.NamedThreadFactory;
 import org.mule.runtime.extension.api.annotation.Alias;
 import org.mule.runtime.extension.api.annotation.Parameter;
 import org.mule.runtime.extension.api.annotation.param.Connection;
@@ -67,9 +71,13 @@ import java.nio.file.WatchService;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 
@@ -124,6 +132,14 @@ import org.slf4j.LoggerFactory;
  * cases, the JRE decides to compensate by using a high frequency poll, in which case the listener becomes pretty much the same as
  * using a poll element</li>
  * </ul>
+ * <p>
+ * <b>Event storms</b>
+ * <p>
+ * Bulk drops of files or files which are written in many chunks can generate a large amount of events in a short time. The
+ * {@link #quietPeriod} parameter allows to hold the events on each path until it has gone quiet, merging the ones in between.
+ * The {@link #maxBatchSize} parameter allows to fire the events which become due at the same time as a single message which
+ * payload is the collection of the individual messages. Finally, {@link #workers} allows for those messages to be processed
+ * concurrently.
  *
  * @since 4.0
  */
@@ -132,6 +148,7 @@ public class DirectoryListener extends Source<InputStream, ListenerFileAttribute
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DirectoryListener.class);
   static final String DIRECTORY_LISTENER = "directory-listener";
+  private static final String EVENT_DELIVERY = "Event Delivery";
 
   @UseConfig
   private FileConnector config;
@@ -186,6 +203,44 @@ public class DirectoryListener extends Source<InputStream, ListenerFileAttribute
   @DisplayName(MATCH_WITH)
   private FilePredicateBuilder<FilePredicateBuilder, FileAttributes> predicateBuilder;
 
+  /**
+   * How many milliseconds a path needs to go without new events before its notification is fired. Events which happen on the
+   * same path during that period are merged into one, so that a file is not processed while it's still being written.
+   * <p>
+   * Defaults to {@code 0}, which fires one notification per event as soon as it happens
+   */
+  @Parameter
+  @Optional(defaultValue = "0")
+  @Placement(tab = ADVANCED, group = EVENT_DELIVERY, order = 1)
+  @Summary("How many milliseconds a path needs to go without new events before its notification is fired")
+  private long quietPeriod = 0;
+
+  /**
+   * The maximum amount of notifications to be fired together as a single message. When greater than one, the notifications which
+   * are due at the same time are grouped in a message which payload is the collection of the messages that would have otherwise
+   * been fired individually.
+   * <p>
+   * Defaults to {@code 1}
+   */
+  @Parameter
+  @Optional(defaultValue = "1")
+  @Placement(tab = ADVANCED, group = EVENT_DELIVERY, order = 2)
+  @Summary("Maximum amount of notifications to be fired together as a single message")
+  private int maxBatchSize = 1;
+
+  /**
+   * How many threads process the fired messages. When set to {@code 1}, messages are processed by the same thread which listens
+   * for events, one at a time and in order. Otherwise, processing can happen concurrently and order is not guaranteed. When all
+   * workers are busy, the listening thread processes the message itself, which slows down the acquisition of new events.
+   * <p>
+   * Defaults to {@code 1}
+   */
+  @Parameter
+  @Optional(defaultValue = "1")
+  @Placement(tab = ADVANCED, group = EVENT_DELIVERY, order = 3)
+  @Summary("How many threads process the fired messages")
+  private int workers = 1;
+
   @Inject
   private MuleContext muleContext;
 
@@ -197,6 +252,8 @@ public class DirectoryListener extends Source<InputStream, ListenerFileAttribute
   private Predicate<FileAttributes> matcher;
   private Set<FileEventType> enabledEventTypes = new HashSet<>();
   private ExecutorService executorService;
+  private ExecutorService workerService;
+  private FileEventCoalescer coalescer;
   private PrimaryNodeLifecycleNotificationListener clusterListener;
 
   private final Map<WatchKey, Path> keyPaths = new HashMap<>();
@@ -216,14 +273,22 @@ public class DirectoryListener extends Source<InputStream, ListenerFileAttribute
     createWatcherService();
 
     matcher = predicateBuilder != null ? predicateBuilder.build() : new NullFilePayloadPredicate();
+    coalescer = quietPeriod > 0 || maxBatchSize > 1 ? new FileEventCoalescer(quietPeriod) : null;
     executorService =
         newSingleThreadExecutor(r -> new Thread(r,
                                                 format("%s%s.file.listener", getPrefix(muleContext), flowConstruct.getName())));
+    workerService = workers > 1 ? createWorkerService() : null;
     started = true;
     stopRequested.set(false);
     executorService.execute(this::listen);
   }
 
+  private ExecutorService createWorkerService() {
+    String threadName = format("%s%s.file.listener.worker", getPrefix(muleContext), flowConstruct.getName());
+    return new ThreadPoolExecutor(workers, workers, 0, MILLISECONDS, new ArrayBlockingQueue<>(workers),
+                                  new NamedThreadFactory(threadName), new CallerRunsPolicy());
+  }
+
   private synchronized void initialiseClusterListener() {
     if (clusterListener == null) {
       clusterListener = new PrimaryNodeLifecycleNotificationListener(() -> {
@@ -247,15 +312,21 @@ public class DirectoryListener extends Source<InputStream, ListenerFileAttribute
 
         WatchKey key;
         try {
-          key = watcher.take();
+          key = nextWatchKey();
         } catch (InterruptedException | ClosedWatchServiceException e) {
           return;
         }
 
-        try {
-          key.pollEvents().forEach(event -> processEvent(event, key));
-        } finally {
-          resetWatchKey(key);
+        if (key != null) {
+          try {
+            key.pollEvents().forEach(event -> processEvent(event, key));
+          } finally {
+            resetWatchKey(key);
+          }
+        }
+
+        if (coalescer != null) {
+          dispatchDueEvents();
         }
       }
     } catch (Exception e) {
@@ -263,6 +334,52 @@ public class DirectoryListener extends Source<InputStream, ListenerFileAttribute
     }
   }
 
+  /**
+   * Waits for the next {@link WatchKey}. If events are being coalesced, the wait is limited to the time left until the next one
+   * is due, in which case {@code null} might be returned.
+   */
+  private WatchKey nextWatchKey() throws InterruptedException {
+    if (coalescer == null) {
+      return watcher.take();
+    }
+
+    long wait = coalescer.millisUntilNextDue(now());
+    return wait < 0 ? watcher.take() : watcher.poll(wait, MILLISECONDS);
+  }
+
+  private void dispatchDueEvents() {
+    for (;;) {
+      if (isRequestedToStop()) {
+        return;
+      }
+
+      List<ListenerFileAttributes> due = coalescer.drainDue(now(), maxBatchSize);
+      if (due.isEmpty()) {
+        return;
+      }
+
+      if (maxBatchSize > 1) {
+        dispatch(MuleMessage.builder().collectionPayload(due.stream().map(this::createMessage).collect(toList()),
+                                                         MuleMessage.class)
+            .build());
+      } else {
+        dispatch(createMessage(due.get(0)));
+      }
+    }
+  }
+
+  private void dispatch(MuleMessage message) {
+    if (workerService != null) {
+      workerService.execute(() -> sourceContext.getMessageHandler().handle(message));
+    } else {
+      sourceContext.getMessageHandler().handle(message);
+    }
+  }
+
+  private long now() {
+    return NANOSECONDS.toMillis(System.nanoTime());
+  }
+
   private void processEvent(WatchEvent<?> watchEvent, WatchKey key) {
     WatchEvent<Path> event = (WatchEvent<Path>) watchEvent;
 
@@ -300,8 +417,13 @@ public class DirectoryListener extends Source<InputStream, ListenerFileAttribute
       return;
     }
 
-    sourceContext.getMessageHandler().handle(createMessage(path, attributes));
     createAdditionalWatchers(attributes);
+
+    if (coalescer != null) {
+      coalescer.onEvent(path, FileEventType.of(kind), now());
+    } else {
+      dispatch(createMessage(attributes));
+    }
   }
 
   private void createAdditionalWatchers(ListenerFileAttributes attributes) {
@@ -320,9 +442,10 @@ public class DirectoryListener extends Source<InputStream, ListenerFileAttribute
     return stopRequested.get() || Thread.currentThread().isInterrupted();
   }
 
-  private MuleMessage createMessage(Path path, ListenerFileAttributes attributes) {
+  private MuleMessage createMessage(ListenerFileAttributes attributes) {
     Object payload = null;
     MediaType mediaType = MediaType.ANY;
+    Path path = Paths.get(attributes.getPath());
 
     if (attributes.getEventType().equals(DELETE.name())) {
       attributes = new DeletedFileAttributes(path);
@@ -340,10 +463,11 @@ public class DirectoryListener extends Source<InputStream, ListenerFileAttribute
     started = false;
 
     closeWatcherService();
-    shutdownExecutor();
+    shutdownExecutor(executorService);
+    shutdownExecutor(workerService);
   }
 
-  private void shutdownExecutor() {
+  private void shutdownExecutor(ExecutorService executorService) {
     if (executorService == null) {
       return;
     }
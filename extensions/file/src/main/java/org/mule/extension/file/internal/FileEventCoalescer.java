@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.file.internal;
+
+import static org.mule.extension.file.api.FileEventType.CREATE;
+import static org.mule.extension.file.api.FileEventType.DELETE;
+import static org.mule.extension.file.api.FileEventType.UPDATE;
+import org.mule.extension.file.api.FileEventType;
+import org.mule.extension.file.api.ListenerFileAttributes;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merges the file system events which happen on the same path and holds them until the path has been quiet for a given period.
+ * <p>
+ * Each new event on a path which is already pending pushes its deadline back and is merged with the pending one:
+ * <ul>
+ * <li>An update on a path which was created is still a creation</li>
+ * <li>A deletion of a path which was created cancels both events</li>
+ * <li>In any other case, the latest event wins</li>
+ * </ul>
+ * Because the quiet period is the same for every path, keeping the pending paths ordered by their last event also keeps them
+ * ordered by deadline, so due events are always found at the head.
+ * <p>
+ * This class is not thread-safe. Instances are meant to be used only by the thread which listens for events.
+ *
+ * @since 4.0
+ */
+public final class FileEventCoalescer {
+
+  private final long quietPeriodMillis;
+  private final Map<Path, PendingEvent> pending = new LinkedHashMap<>();
+
+  /**
+   * Creates a new instance
+   *
+   * @param quietPeriodMillis how many milliseconds a path needs to go without events before its event is released. Zero
+   *        releases them as soon as {@link #drainDue(long, int)} is invoked
+   */
+  public FileEventCoalescer(long quietPeriodMillis) {
+    this.quietPeriodMillis = quietPeriodMillis;
+  }
+
+  /**
+   * Registers an event
+   *
+   * @param path the affected path
+   * @param type the {@link FileEventType} of the event
+   * @param now the current time in milliseconds
+   */
+  public void onEvent(Path path, FileEventType type, long now) {
+    PendingEvent previous = pending.remove(path);
+    FileEventType merged = type;
+
+    if (previous != null && previous.type == CREATE) {
+      if (type == UPDATE) {
+        merged = CREATE;
+      } else if (type == DELETE) {
+        return;
+      }
+    }
+
+    pending.put(path, new PendingEvent(merged, now + quietPeriodMillis));
+  }
+
+  /**
+   * Removes and returns the events which quiet period has already elapsed, in the order in which those paths went quiet
+   *
+   * @param now the current time in milliseconds
+   * @param max the maximum amount of events to return
+   * @return a {@link List} of {@link ListenerFileAttributes}. Might be empty but never {@code null}
+   */
+  public List<ListenerFileAttributes> drainDue(long now, int max) {
+    List<ListenerFileAttributes> due = new ArrayList<>();
+    Iterator<Map.Entry<Path, PendingEvent>> entries = pending.entrySet().iterator();
+
+    while (due.size() < max && entries.hasNext()) {
+      Map.Entry<Path, PendingEvent> entry = entries.next();
+      if (entry.getValue().deadline > now) {
+        break;
+      }
+
+      due.add(new ListenerFileAttributes(entry.getKey(), entry.getValue().type));
+      entries.remove();
+    }
+
+    return due;
+  }
+
+  /**
+   * @param now the current time in milliseconds
+   * @return how many milliseconds until the next event is due, zero if one already is, or {@code -1} if nothing is pending
+   */
+  public long millisUntilNextDue(long now) {
+    if (pending.isEmpty()) {
+      return -1;
+    }
+
+    return Math.max(0, pending.values().iterator().next().deadline - now);
+  }
+
+  /**
+   * @return how many paths have a pending event
+   */
+  public int size() {
+    return pending.size();
+  }
+
+  private static class PendingEvent {
+
+    private final FileEventType type;
+    private final long deadline;
+
+    private PendingEvent(FileEventType type, long deadline) {
+      this.type = type;
+      this.deadline = deadline;
+    }
+  }
+}
@@ -10,15 +10,24 @@ import static java.lang.String.format;
 import org.mule.extension.file.api.LocalFileAttributes;
 import org.mule.extension.file.internal.LocalFileSystem;
 import org.mule.runtime.api.message.MuleMessage;
+import org.mule.runtime.module.extension.file.api.DirectorySnapshot;
 import org.mule.runtime.module.extension.file.api.FileAttributes;
 import org.mule.runtime.module.extension.file.api.FileConnectorConfig;
 import org.mule.runtime.module.extension.file.api.TreeNode;
 import org.mule.runtime.module.extension.file.api.command.ListCommand;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A {@link LocalFileCommand} which implements the {@link ListCommand}
@@ -27,6 +36,8 @@ import java.util.function.Predicate;
  */
 public final class LocalListCommand extends LocalFileCommand implements ListCommand {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(LocalListCommand.class);
+
   /**
    * {@inheritDoc}
    */
@@ -77,4 +88,54 @@ public final class LocalListCommand extends LocalFileCommand implements ListComm
       }
     }
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<FileAttributes> listIncremental(FileConnectorConfig config, String directoryPath, boolean recursive,
+                                                Predicate<FileAttributes> matcher, DirectorySnapshot snapshot) {
+    Path path = resolveExistingPath(config, directoryPath);
+    if (!Files.isDirectory(path)) {
+      throw cannotListFileException(path);
+    }
+
+    Stream<LocalFileAttributes> entries = doListLazily(path, recursive, matcher);
+    if (snapshot != null) {
+      entries = snapshot.filter(entries, LocalFileAttributes::getLastModifiedTime);
+    }
+
+    return entries.map(attributes -> (FileAttributes) attributes);
+  }
+
+  private Stream<LocalFileAttributes> doListLazily(Path directory, boolean recursive, Predicate<FileAttributes> matcher) {
+    if (!Files.isReadable(directory)) {
+      throw exception(format("Could not list files from directory '%s' because access was denied by the operating system",
+                             directory));
+    }
+
+    DirectoryStream<Path> directoryStream;
+    try {
+      directoryStream = Files.newDirectoryStream(directory);
+    } catch (IOException e) {
+      throw exception(format("Could not list files from directory '%s'", directory), e);
+    }
+
+    // attributes are fetched lazily, so entries rejected by name never get to be stat'ed
+    return StreamSupport.stream(directoryStream.spliterator(), false)
+        .onClose(() -> closeDirectoryStream(directoryStream, directory))
+        .map(LocalFileAttributes::new)
+        .filter(matcher)
+        .flatMap(attributes -> recursive && attributes.isDirectory()
+            ? Stream.concat(Stream.of(attributes), doListLazily(Paths.get(attributes.getPath()), true, matcher))
+            : Stream.of(attributes));
+  }
+
+  private void closeDirectoryStream(DirectoryStream<Path> directoryStream, Path directory) {
+    try {
+      directoryStream.close();
+    } catch (IOException e) {
+      LOGGER.debug("Exception found closing listing of directory " + directory, e);
+    }
+  }
 }
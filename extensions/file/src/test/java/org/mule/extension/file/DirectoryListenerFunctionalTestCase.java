@@ -9,6 +9,7 @@ package org.mule.extension.file;
 import static org.apache.commons.io.FileUtils.write;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
 import static org.mule.extension.file.api.FileEventType.CREATE;
@@ -30,6 +31,8 @@ import java.io.File;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -40,6 +43,7 @@ public class DirectoryListenerFunctionalTestCase extends FileConnectorTestCase {
 
   private static final String MATCHERLESS_LISTENER_FOLDER_NAME = "matcherless";
   private static final String WITH_MATCHER_FOLDER_NAME = "withMatcher";
+  private static final String COALESCED_FOLDER_NAME = "coalesced";
   private static final String CREATED_FOLDER_NAME = "createdFolder";
   private static final String WATCH_FILE = "watchme.txt";
   private static final String WATCH_CONTENT = "who watches the watchmen?";
@@ -52,6 +56,7 @@ public class DirectoryListenerFunctionalTestCase extends FileConnectorTestCase {
 
   private File matcherLessFolder;
   private File withMatcherFolder;
+  private File coalescedFolder;
   private String listenerFolder;
 
   @Override
@@ -64,6 +69,7 @@ public class DirectoryListenerFunctionalTestCase extends FileConnectorTestCase {
     super.doSetUpBeforeMuleContextCreation();
     temporaryFolder.newFolder(MATCHERLESS_LISTENER_FOLDER_NAME);
     temporaryFolder.newFolder(WITH_MATCHER_FOLDER_NAME);
+    coalescedFolder = temporaryFolder.newFolder(COALESCED_FOLDER_NAME);
     listenerFolder = Paths.get(temporaryFolder.getRoot().getAbsolutePath(), MATCHERLESS_LISTENER_FOLDER_NAME).toString();
     matcherLessFolder = new File(listenerFolder, CREATED_FOLDER_NAME);
     withMatcherFolder = Paths.get(temporaryFolder.getRoot().getAbsolutePath(), WITH_MATCHER_FOLDER_NAME).toFile();
@@ -182,6 +188,31 @@ public class DirectoryListenerFunctionalTestCase extends FileConnectorTestCase {
     }, "source did not stop"));
   }
 
+  @Test
+  public void coalescedEventsAreBatched() throws Exception {
+    final int fileCount = 3;
+    for (int i = 0; i < fileCount; i++) {
+      File file = new File(coalescedFolder, i + WATCH_FILE);
+      write(file, WATCH_CONTENT);
+      write(file, WATCH_CONTENT, true);
+    }
+
+    List<ListenerFileAttributes> batched = new ArrayList<>();
+    PollingProber prober = new PollingProber(TIMEOUT_MILLIS, POLL_DELAY_MILLIS);
+    prober.check(new JUnitLambdaProbe(() -> {
+      batched.clear();
+      receivedMessages.stream().filter(message -> message.getPayload() instanceof Collection)
+          .flatMap(message -> ((Collection<MuleMessage>) message.getPayload()).stream())
+          .forEach(message -> batched.add((ListenerFileAttributes) message.getAttributes()));
+
+      return batched.size() >= fileCount;
+    }));
+
+    assertThat(batched.size(), is(fileCount));
+    assertThat(batched.stream().map(ListenerFileAttributes::getPath).distinct().count(), is((long) fileCount));
+    batched.forEach(attributes -> assertThat(attributes.getEventType(), equalTo(CREATE.name())));
+  }
+
   private void assertEvent(MuleMessage message, Object expectedContent) throws Exception {
     Object payload = message.getPayload();
     if (payload instanceof InputStream) {
@@ -197,6 +228,10 @@ public class DirectoryListenerFunctionalTestCase extends FileConnectorTestCase {
     ValueHolder<MuleMessage> messageHolder = new ValueHolder<>();
     prober.check(new JUnitLambdaProbe(() -> {
       for (MuleMessage message : receivedMessages) {
+        if (!(message.getAttributes() instanceof ListenerFileAttributes)) {
+          continue;
+        }
+
         ListenerFileAttributes attributes = (ListenerFileAttributes) message.getAttributes();
         if (attributes.getPath().equals(file.getAbsolutePath()) && attributes.getEventType().equals(type.name())) {
           messageHolder.set(message);
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.file;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.junit.Assert.assertThat;
+import static org.mule.extension.file.api.FileEventType.CREATE;
+import static org.mule.extension.file.api.FileEventType.DELETE;
+import static org.mule.extension.file.api.FileEventType.UPDATE;
+import org.mule.extension.file.api.FileEventType;
+import org.mule.extension.file.api.ListenerFileAttributes;
+import org.mule.extension.file.internal.FileEventCoalescer;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.Test;
+
+@SmallTest
+public class FileEventCoalescerTestCase extends AbstractMuleTestCase {
+
+  private static final long QUIET_PERIOD = 100;
+
+  private final Path file = Paths.get("/drop/file.txt").toAbsolutePath();
+  private final Path otherFile = Paths.get("/drop/other.txt").toAbsolutePath();
+  private final FileEventCoalescer coalescer = new FileEventCoalescer(QUIET_PERIOD);
+
+  @Test
+  public void holdsEventsUntilQuiet() {
+    coalescer.onEvent(file, CREATE, 0);
+
+    assertThat(coalescer.drainDue(QUIET_PERIOD - 1, 10), is(empty()));
+    assertThat(coalescer.millisUntilNextDue(QUIET_PERIOD - 1), is(1L));
+    assertEvent(coalescer.drainDue(QUIET_PERIOD, 10), file, CREATE);
+    assertThat(coalescer.millisUntilNextDue(QUIET_PERIOD), is(-1L));
+  }
+
+  @Test
+  public void newEventPushesDeadlineBack() {
+    coalescer.onEvent(file, UPDATE, 0);
+    coalescer.onEvent(file, UPDATE, 50);
+
+    assertThat(coalescer.drainDue(QUIET_PERIOD, 10), is(empty()));
+    assertEvent(coalescer.drainDue(QUIET_PERIOD + 50, 10), file, UPDATE);
+  }
+
+  @Test
+  public void updatesAfterCreateAreMerged() {
+    coalescer.onEvent(file, CREATE, 0);
+    coalescer.onEvent(file, UPDATE, 10);
+    coalescer.onEvent(file, UPDATE, 20);
+
+    assertThat(coalescer.size(), is(1));
+    assertEvent(coalescer.drainDue(QUIET_PERIOD + 20, 10), file, CREATE);
+  }
+
+  @Test
+  public void deleteAfterCreateCancels() {
+    coalescer.onEvent(file, CREATE, 0);
+    coalescer.onEvent(file, DELETE, 10);
+
+    assertThat(coalescer.size(), is(0));
+    assertThat(coalescer.drainDue(QUIET_PERIOD + 10, 10), is(empty()));
+  }
+
+  @Test
+  public void deleteAfterUpdateWins() {
+    coalescer.onEvent(file, UPDATE, 0);
+    coalescer.onEvent(file, DELETE, 10);
+
+    assertEvent(coalescer.drainDue(QUIET_PERIOD + 10, 10), file, DELETE);
+  }
+
+  @Test
+  public void drainsInOrderOfQuietness() {
+    coalescer.onEvent(file, CREATE, 0);
+    coalescer.onEvent(otherFile, CREATE, 10);
+    coalescer.onEvent(file, UPDATE, 20);
+
+    List<ListenerFileAttributes> due = coalescer.drainDue(QUIET_PERIOD + 20, 10);
+    assertThat(due, hasSize(2));
+    assertThat(due.get(0).getPath(), equalTo(otherFile.toString()));
+    assertThat(due.get(1).getPath(), equalTo(file.toString()));
+  }
+
+  @Test
+  public void drainIsBoundedByMax() {
+    coalescer.onEvent(file, CREATE, 0);
+    coalescer.onEvent(otherFile, CREATE, 0);
+
+    assertThat(coalescer.drainDue(QUIET_PERIOD, 1), hasSize(1));
+    assertThat(coalescer.drainDue(QUIET_PERIOD, 1), hasSize(1));
+    assertThat(coalescer.drainDue(QUIET_PERIOD, 1), is(empty()));
+  }
+
+  private void assertEvent(List<ListenerFileAttributes> due, Path path, FileEventType type) {
+    assertThat(due, hasSize(1));
+    assertThat(due.get(0).getPath(), equalTo(path.toString()));
+    assertThat(due.get(0).getEventType(), equalTo(type.name()));
+  }
+}
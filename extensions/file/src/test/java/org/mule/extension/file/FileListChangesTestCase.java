@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.file;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertThat;
+import org.mule.runtime.core.api.store.ListableObjectStore;
+import org.mule.runtime.module.extension.file.api.DirectorySnapshot;
+import org.mule.runtime.module.extension.file.api.FileAttributes;
+
+import java.io.File;
+import java.io.Serializable;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+public class FileListChangesTestCase extends FileConnectorTestCase {
+
+  private static final String NEW_FILE_NAME = "new-file.html";
+
+  @Override
+  protected String getConfigFile() {
+    return "file-list-changes-config.xml";
+  }
+
+  @Override
+  protected void doSetUp() throws Exception {
+    super.doSetUp();
+    createTestFiles();
+  }
+
+  @Test
+  public void firstListingReturnsAllEntries() throws Exception {
+    assertThat(doListChanges(".", false), hasSize(6));
+  }
+
+  @Test
+  public void unchangedEntriesAreNotListedAgain() throws Exception {
+    doListChanges(".", false);
+    assertThat(doListChanges(".", false), is(empty()));
+  }
+
+  @Test
+  public void newAndChangedEntriesAreListed() throws Exception {
+    doListChanges(".", false);
+
+    FileUtils.write(new File(temporaryFolder.getRoot(), String.format(TEST_FILE_PATTERN, 0)), CONTENT + CONTENT);
+    FileUtils.write(new File(temporaryFolder.getRoot(), NEW_FILE_NAME), CONTENT);
+
+    assertThat(names(doListChanges(".", false)), containsInAnyOrder(String.format(TEST_FILE_PATTERN, 0), NEW_FILE_NAME));
+    assertThat(doListChanges(".", false), is(empty()));
+  }
+
+  @Test
+  public void deletedAndRecreatedEntryIsListedAgain() throws Exception {
+    doListChanges(".", false);
+
+    File file = new File(temporaryFolder.getRoot(), String.format(TEST_FILE_PATTERN, 1));
+    file.delete();
+    assertThat(doListChanges(".", false), is(empty()));
+
+    FileUtils.write(file, CONTENT);
+    assertThat(names(doListChanges(".", false)), containsInAnyOrder(String.format(TEST_FILE_PATTERN, 1)));
+  }
+
+  @Test
+  public void listChangesRecursively() throws Exception {
+    assertThat(doListChanges(".", true), hasSize(8));
+
+    FileUtils.write(new File(new File(temporaryFolder.getRoot(), SUB_DIRECTORY_NAME), NEW_FILE_NAME), CONTENT);
+    assertThat(names(doListChanges(".", true)), containsInAnyOrder(NEW_FILE_NAME));
+  }
+
+  @Test
+  public void listChangesWithMatcher() throws Exception {
+    assertThat(names(doListChanges("listChangesWithMatcher", ".", false)),
+               containsInAnyOrder(String.format(TEST_FILE_PATTERN, 1), String.format(TEST_FILE_PATTERN, 2)));
+  }
+
+  @Test
+  public void snapshotIsPersistedInDefaultObjectStore() throws Exception {
+    doListChanges(".", false);
+    assertPersistedSnapshot(muleContext.getObjectStoreManager().getObjectStore("file.directorySnapshots", true));
+  }
+
+  @Test
+  public void snapshotIsPersistedInConfiguredObjectStore() throws Exception {
+    assertThat(doListChanges("listChangesWithSnapshotStore", ".", false), hasSize(6));
+    assertPersistedSnapshot(muleContext.getRegistry().lookupObject("snapshotStore"));
+    assertThat(doListChanges("listChangesWithSnapshotStore", ".", false), is(empty()));
+  }
+
+  private void assertPersistedSnapshot(ListableObjectStore<Serializable> store) throws Exception {
+    List<Serializable> keys = store.allKeys();
+    assertThat(keys, hasSize(1));
+    assertThat(((DirectorySnapshot) store.retrieve(keys.get(0))).size(), is(6));
+  }
+
+  private List<FileAttributes> doListChanges(String path, boolean recursive) throws Exception {
+    return doListChanges("listChanges", path, recursive);
+  }
+
+  private List<FileAttributes> doListChanges(String flowName, String path, boolean recursive) throws Exception {
+    return (List<FileAttributes>) flowRunner(flowName).withFlowVariable("path", path).withFlowVariable("recursive", recursive)
+        .run().getMessage().getPayload();
+  }
+
+  private List<String> names(List<FileAttributes> attributes) {
+    return attributes.stream().map(FileAttributes::getName).collect(toList());
+  }
+}
@@ -11,6 +11,7 @@ import static org.mule.runtime.extension.api.annotation.param.display.Placement.
 
 import org.mule.extension.ftp.internal.ftp.connection.ClassicFtpFileSystem;
 import org.mule.extension.ftp.internal.ftp.connection.FtpFileSystem;
+import org.mule.extension.ftp.internal.transfer.ParallelTransferSettings;
 import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.api.connection.ConnectionValidationResult;
 import org.mule.runtime.api.connection.PoolingConnectionProvider;
@@ -35,6 +36,7 @@ public abstract class AbstractFtpConnectionProvider<Connection extends FtpFileSy
     implements PoolingConnectionProvider<Connection> {
 
   private static final String TIMEOUT_CONFIGURATION = "Timeout Configuration";
+  private static final String PARALLEL_TRANSFER_CONFIGURATION = "Parallel Transfer";
 
   @Inject
   protected MuleContext muleContext;
@@ -92,6 +94,44 @@ public abstract class AbstractFtpConnectionProvider<Connection extends FtpFileSy
   @Summary("Time unit to be used in the Response Timeout")
   private TimeUnit responseTimeoutUnit;
 
+  /**
+   * How many connections to use at the same time when reading a file larger than {@link #transferChunkSize}. Each connection
+   * fetches a different range of the file, which requires the FTP server to support the {@code REST} command. When greater than
+   * one, writes are also uploaded in chunks which are resumed if the connection fails.
+   * <p>
+   * Notice that the connection pool needs to allow this many active connections on top of the ones used by the flows.
+   * <p>
+   * Defaults to {@code 1}, which transfers each file through a single stream
+   */
+  @Parameter
+  @Optional(defaultValue = "1")
+  @Placement(tab = ADVANCED, group = PARALLEL_TRANSFER_CONFIGURATION, order = 1)
+  @Summary("Number of concurrent connections used to transfer a single large file. 1 disables parallel transfers")
+  private int parallelTransfers = 1;
+
+  /**
+   * The size in bytes of each range in which files are split when {@link #parallelTransfers} is greater than one. Up to
+   * {@code parallelTransfers} chunks are held in memory for each file being read.
+   * <p>
+   * Defaults to {@code 8388608} (8 MB)
+   */
+  @Parameter
+  @Optional(defaultValue = "8388608")
+  @Placement(tab = ADVANCED, group = PARALLEL_TRANSFER_CONFIGURATION, order = 2)
+  @Summary("Size in bytes of each chunk of a parallel transfer")
+  private int transferChunkSize = 8388608;
+
+  /**
+   * How many times a chunk which failed to be transferred is resumed through a new connection before the whole transfer fails
+   * <p>
+   * Defaults to {@code 3}
+   */
+  @Parameter
+  @Optional(defaultValue = "3")
+  @Placement(tab = ADVANCED, group = PARALLEL_TRANSFER_CONFIGURATION, order = 3)
+  @Summary("Times a failed chunk of a parallel transfer is resumed")
+  private int transferRetries = 3;
+
   /**
    * Invokes the {@link ClassicFtpFileSystem#disconnect()} method on the given {@code ftpFileSystem}
    *
@@ -113,6 +153,14 @@ public abstract class AbstractFtpConnectionProvider<Connection extends FtpFileSy
     return ftpFileSystem.validateConnection();
   }
 
+  /**
+   * @return the {@link ParallelTransferSettings} which apply to the connections provided by {@code this} instance
+   */
+  protected ParallelTransferSettings getParallelTransferSettings() {
+    return parallelTransfers > 1 ? new ParallelTransferSettings(parallelTransfers, transferChunkSize, transferRetries)
+        : ParallelTransferSettings.DISABLED;
+  }
+
   protected String getHost() {
     return host;
   }
@@ -152,4 +200,16 @@ public abstract class AbstractFtpConnectionProvider<Connection extends FtpFileSy
   public void setResponseTimeoutUnit(TimeUnit responseTimeoutUnit) {
     this.responseTimeoutUnit = responseTimeoutUnit;
   }
+
+  public void setParallelTransfers(int parallelTransfers) {
+    this.parallelTransfers = parallelTransfers;
+  }
+
+  public void setTransferChunkSize(int transferChunkSize) {
+    this.transferChunkSize = transferChunkSize;
+  }
+
+  public void setTransferRetries(int transferRetries) {
+    this.transferRetries = transferRetries;
+  }
 }
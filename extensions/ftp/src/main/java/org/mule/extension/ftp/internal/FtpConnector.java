@@ -13,6 +13,9 @@ import org.mule.extension.ftp.api.sftp.SftpFileAttributes;
 import org.mule.extension.ftp.internal.ftp.connection.ClassicFtpConnectionProvider;
 import org.mule.extension.ftp.internal.sftp.connection.SftpConnectionProvider;
 import org.mule.runtime.core.api.connector.ConnectionManager;
+import org.mule.runtime.core.api.lifecycle.Disposable;
+import org.mule.runtime.core.api.lifecycle.InitialisationException;
+import org.mule.runtime.core.util.concurrent.NamedThreadFactory;
 import org.mule.runtime.extension.api.annotation.Export;
 import org.mule.runtime.extension.api.annotation.Extension;
 import org.mule.runtime.extension.api.annotation.Operations;
@@ -27,6 +30,9 @@ import org.mule.runtime.module.extension.file.api.FileConnectorConfig;
 import org.mule.runtime.module.extension.file.api.FilePredicateBuilder;
 import org.mule.runtime.module.extension.file.api.StandardFileSystemOperations;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import javax.inject.Inject;
 
 /**
@@ -40,7 +46,7 @@ import javax.inject.Inject;
 @ConnectionProviders({ClassicFtpConnectionProvider.class, SftpConnectionProvider.class})
 @Export(classes = {SftpFileAttributes.class, ClassicFtpFileAttributes.class, FtpFileAttributes.class})
 @Xml(namespace = "ftp")
-public class FtpConnector extends FileConnectorConfig {
+public class FtpConnector extends FileConnectorConfig implements Disposable {
 
   public static final String FTP_PROTOCOL = "ftp";
 
@@ -57,6 +63,7 @@ public class FtpConnector extends FileConnectorConfig {
   @DisplayName("Working Directory")
   private String workingDir = null;
 
+  private ExecutorService transferExecutor;
 
   /**
    * {@inheritDoc}
@@ -68,4 +75,25 @@ public class FtpConnector extends FileConnectorConfig {
   public ConnectionManager getConnectionManager() {
     return connectionManager;
   }
+
+  /**
+   * @return the {@link ExecutorService} shared by the parallel and chunked transfers of every connection of {@code this} config
+   */
+  public ExecutorService getTransferExecutor() {
+    return transferExecutor;
+  }
+
+  @Override
+  protected void doInitialise() throws InitialisationException {
+    transferExecutor = Executors.newCachedThreadPool(new NamedThreadFactory(getConfigName() + ".transfer",
+                                                                            getClass().getClassLoader()));
+  }
+
+  @Override
+  public void dispose() {
+    if (transferExecutor != null) {
+      transferExecutor.shutdownNow();
+      transferExecutor = null;
+    }
+  }
 }
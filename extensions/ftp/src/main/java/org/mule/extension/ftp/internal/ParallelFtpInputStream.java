@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.ftp.internal;
+
+import org.mule.extension.ftp.api.FtpFileAttributes;
+import org.mule.extension.ftp.internal.transfer.ParallelRangeInputStream;
+import org.mule.extension.ftp.internal.transfer.ParallelTransferSettings;
+import org.mule.extension.ftp.internal.transfer.PooledRangeTransfer;
+import org.mule.runtime.module.extension.file.api.lock.PathLock;
+import org.mule.runtime.module.extension.file.api.stream.AbstractFileInputStream;
+import org.mule.runtime.module.extension.file.api.stream.LazyStreamSupplier;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * An {@link AbstractFileInputStream} which fetches the contents of a large file on a FTP/SFTP server through a
+ * {@link ParallelRangeInputStream}.
+ * <p>
+ * Unlike {@link FtpInputStream}, no connection is held by the stream itself. Each range borrows its own connection from the
+ * config's connection manager, and gives it back as soon as the range has been received.
+ *
+ * @since 4.0
+ */
+public final class ParallelFtpInputStream extends AbstractFileInputStream {
+
+  /**
+   * Returns a new instance. No connection is established until the stream is first read.
+   * <p>
+   * Instances returned by this method <b>MUST</b> be closed or fully consumed.
+   *
+   * @param config the {@link FtpConnector} which is configuring the connections
+   * @param attributes a {@link FtpFileAttributes} referencing the file which contents are to be fetched
+   * @param lock the {@link PathLock} to be used
+   * @param settings the {@link ParallelTransferSettings} to be used
+   * @return a new {@link ParallelFtpInputStream}
+   */
+  public static ParallelFtpInputStream newInstance(FtpConnector config, FtpFileAttributes attributes, PathLock lock,
+                                                   ParallelTransferSettings settings) {
+    PooledRangeTransfer transfer = new PooledRangeTransfer(config, attributes.getPath());
+    ExecutorService executor = config.getTransferExecutor();
+    LazyStreamSupplier streamSupplier =
+        new LazyStreamSupplier(() -> new ParallelRangeInputStream(transfer, attributes.getSize(), settings, executor));
+
+    return new ParallelFtpInputStream(streamSupplier, lock);
+  }
+
+  private ParallelFtpInputStream(LazyStreamSupplier streamSupplier, PathLock lock) {
+    super(streamSupplier, lock);
+  }
+}
@@ -7,11 +7,14 @@
 package org.mule.extension.ftp.internal.ftp.command;
 
 import static java.lang.String.format;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterators.spliteratorUnknownSize;
 
 import org.mule.extension.ftp.api.ftp.ClassicFtpFileAttributes;
 import org.mule.extension.ftp.internal.ftp.connection.ClassicFtpFileSystem;
 import org.mule.runtime.api.message.MuleMessage;
 import org.mule.runtime.core.util.ArrayUtils;
+import org.mule.runtime.module.extension.file.api.DirectorySnapshot;
 import org.mule.runtime.module.extension.file.api.FileAttributes;
 import org.mule.runtime.module.extension.file.api.FileConnectorConfig;
 import org.mule.runtime.module.extension.file.api.TreeNode;
@@ -20,7 +23,13 @@ import org.mule.runtime.module.extension.file.api.command.ListCommand;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.net.ftp.FTPClient;
 import org.apache.commons.net.ftp.FTPFile;
@@ -121,4 +130,86 @@ public final class FtpListCommand extends ClassicFtpCommand implements ListComma
       }
     }
   }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Each directory listing is transferred in full but its entries are only parsed as they're consumed, a page at a time.
+   * Sub-directories are listed by absolute path, so the working directory is not changed.
+   */
+  @Override
+  public Stream<FileAttributes> listIncremental(FileConnectorConfig config, String directoryPath, boolean recursive,
+                                                Predicate<FileAttributes> matcher, DirectorySnapshot snapshot) {
+    FileAttributes directoryAttributes = getExistingFile(config, directoryPath);
+    Path path = Paths.get(directoryAttributes.getPath());
+
+    if (!directoryAttributes.isDirectory()) {
+      throw cannotListFileException(path);
+    }
+
+    Stream<ClassicFtpFileAttributes> entries = doListLazily(path, recursive, matcher);
+    if (snapshot != null) {
+      entries = snapshot.filter(entries, ClassicFtpFileAttributes::getTimestamp);
+    }
+
+    return entries.map(attributes -> (FileAttributes) attributes);
+  }
+
+  private Stream<ClassicFtpFileAttributes> doListLazily(Path path, boolean recursive, Predicate<FileAttributes> matcher) {
+    LOGGER.debug("Lazily listing directory {}", path);
+
+    FTPListParseEngine engine;
+    try {
+      engine = client.initiateListParsing(path.toString());
+    } catch (Exception e) {
+      throw exception(format("Failed to list files on directory '%s'", path), e);
+    }
+
+    if (!FTPReply.isPositiveCompletion(client.getReplyCode())) {
+      throw exception(format("Failed to list files on directory '%s'", path));
+    }
+
+    return StreamSupport.stream(spliteratorUnknownSize(new PagedListIterator(engine), NONNULL), false)
+        .filter(file -> !isVirtualDirectory(file.getName()))
+        .map(file -> new ClassicFtpFileAttributes(path.resolve(file.getName()), file))
+        .filter(matcher)
+        .flatMap(attributes -> recursive && attributes.isDirectory()
+            ? Stream.concat(Stream.of(attributes), doListLazily(path.resolve(attributes.getName()), true, matcher))
+            : Stream.of(attributes));
+  }
+
+  /**
+   * Iterates the entries parsed by a {@link FTPListParseEngine}, one page at a time
+   */
+  private static class PagedListIterator implements Iterator<FTPFile> {
+
+    private final FTPListParseEngine engine;
+    private Iterator<FTPFile> page = Collections.emptyIterator();
+
+    private PagedListIterator(FTPListParseEngine engine) {
+      this.engine = engine;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!page.hasNext() && engine.hasNext()) {
+        FTPFile[] files = engine.getNext(FTP_LIST_PAGE_SIZE);
+        if (ArrayUtils.isEmpty(files)) {
+          return false;
+        }
+        // unparseable entries are returned as null by the engine
+        page = Arrays.stream(files).filter(file -> file != null).iterator();
+      }
+
+      return page.hasNext();
+    }
+
+    @Override
+    public FTPFile next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return page.next();
+    }
+  }
 }
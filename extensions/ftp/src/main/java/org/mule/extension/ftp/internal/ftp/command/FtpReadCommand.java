@@ -9,8 +9,10 @@ package org.mule.extension.ftp.internal.ftp.command;
 import org.mule.extension.ftp.api.FtpFileAttributes;
 import org.mule.extension.ftp.api.ftp.ClassicFtpFileAttributes;
 import org.mule.extension.ftp.internal.FtpConnector;
+import org.mule.extension.ftp.internal.ParallelFtpInputStream;
 import org.mule.extension.ftp.internal.ftp.ClassicFtpInputStream;
 import org.mule.extension.ftp.internal.ftp.connection.ClassicFtpFileSystem;
+import org.mule.extension.ftp.internal.transfer.ParallelTransferSettings;
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.message.MuleMessage;
 import org.mule.runtime.api.metadata.MediaType;
@@ -69,7 +71,14 @@ public final class FtpReadCommand extends ClassicFtpCommand implements ReadComma
     }
 
     try {
-      InputStream payload = ClassicFtpInputStream.newInstance((FtpConnector) config, attributes, pathLock);
+      InputStream payload;
+      ParallelTransferSettings transferSettings = fileSystem.getParallelTransferSettings();
+      if (transferSettings.shouldSplit(attributes.getSize())) {
+        payload = ParallelFtpInputStream.newInstance((FtpConnector) config, attributes, pathLock, transferSettings);
+      } else {
+        payload = ClassicFtpInputStream.newInstance((FtpConnector) config, attributes, pathLock);
+      }
+
       MediaType mediaType = fileSystem.getFileMessageMediaType(message.getDataType().getMediaType(), attributes);
       return OperationResult.<InputStream, FileAttributes>builder().output(payload).mediaType(mediaType).attributes(attributes)
           .build();
@@ -7,7 +7,12 @@
 package org.mule.extension.ftp.internal.ftp.command;
 
 import static java.lang.String.format;
+import org.mule.extension.ftp.internal.FtpConnector;
 import org.mule.extension.ftp.internal.ftp.connection.ClassicFtpFileSystem;
+import org.mule.extension.ftp.internal.transfer.ChunkedResumableOutputStream;
+import org.mule.extension.ftp.internal.transfer.ParallelTransferSettings;
+import org.mule.extension.ftp.internal.transfer.PooledRangeTransfer;
+import org.mule.extension.ftp.internal.transfer.RangeWriter;
 import org.mule.runtime.api.message.MuleEvent;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.module.extension.file.api.FileAttributes;
@@ -65,6 +70,12 @@ public final class FtpWriteCommand extends ClassicFtpCommand implements WriteCom
       }
     }
 
+    ParallelTransferSettings transferSettings = fileSystem.getParallelTransferSettings();
+    if (transferSettings.isParallel() && mode != FileWriteMode.APPEND) {
+      writeInChunks((FtpConnector) config, path, content, event, encoding, transferSettings);
+      return;
+    }
+
     try (OutputStream outputStream = getOutputStream(path.toString(), mode)) {
       new FileContentWrapper(content, event, muleContext).accept(new FileWriterVisitor(outputStream, event, encoding));
       LOGGER.debug("Successfully wrote to path {}", path.toString());
@@ -75,6 +86,22 @@ public final class FtpWriteCommand extends ClassicFtpCommand implements WriteCom
     }
   }
 
+  /**
+   * Uploads the content through a {@link ChunkedResumableOutputStream}, so that a connection failure only requires the current
+   * chunk to be resumed. Chunks are written in order, since a write at a given offset might truncate whatever lies beyond it.
+   */
+  private void writeInChunks(FtpConnector config, Path path, Object content, MuleEvent event, String encoding,
+                             ParallelTransferSettings transferSettings) {
+    RangeWriter writer = new PooledRangeTransfer(config, path.toString());
+    try (OutputStream outputStream =
+        new ChunkedResumableOutputStream(writer, transferSettings, config.getTransferExecutor())) {
+      new FileContentWrapper(content, event, muleContext).accept(new FileWriterVisitor(outputStream, event, encoding));
+      LOGGER.debug("Successfully wrote to path {} in chunks", path.toString());
+    } catch (Exception e) {
+      throw exception(format("Exception was found writing to file '%s'", path), e);
+    }
+  }
+
   private OutputStream getOutputStream(String path, FileWriteMode mode) {
     try {
       return mode == FileWriteMode.APPEND ? client.appendFileStream(path) : client.storeFileStream(path);
@@ -85,7 +85,10 @@ public class ClassicFtpConnectionProvider extends AbstractFtpConnectionProvider<
    */
   @Override
   public ClassicFtpFileSystem connect() throws ConnectionException {
-    return new ClassicFtpFileSystem(setupClient(), muleContext);
+    ClassicFtpFileSystem fileSystem = new ClassicFtpFileSystem(setupClient(), muleContext);
+    fileSystem.setParallelTransferSettings(getParallelTransferSettings());
+
+    return fileSystem;
   }
 
   private FTPClient setupClient() throws ConnectionException {
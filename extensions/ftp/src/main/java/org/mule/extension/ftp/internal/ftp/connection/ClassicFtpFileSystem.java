@@ -20,6 +20,7 @@ import org.mule.extension.ftp.internal.ftp.command.FtpMoveCommand;
 import org.mule.extension.ftp.internal.ftp.command.FtpReadCommand;
 import org.mule.extension.ftp.internal.ftp.command.FtpRenameCommand;
 import org.mule.extension.ftp.internal.ftp.command.FtpWriteCommand;
+import org.mule.extension.ftp.internal.transfer.ParallelTransferSettings;
 import org.mule.runtime.api.connection.ConnectionExceptionCode;
 import org.mule.runtime.api.connection.ConnectionValidationResult;
 import org.mule.runtime.core.api.MuleContext;
@@ -39,8 +40,11 @@ import org.mule.runtime.module.extension.file.api.lock.PathLock;
 import org.mule.runtime.module.extension.file.api.lock.URLPathLock;
 
 import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
@@ -49,6 +53,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.net.ftp.FTPClient;
 import org.apache.commons.net.ftp.FTPConnectionClosedException;
+import org.apache.commons.net.ftp.FTPFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,7 +76,7 @@ public final class ClassicFtpFileSystem extends AbstractFileSystem implements Ft
   private final ReadCommand readCommand;
   private final RenameCommand renameCommand;
   private final WriteCommand writeCommand;
-
+  private ParallelTransferSettings parallelTransferSettings = ParallelTransferSettings.DISABLED;
 
   /**
    * Creates a new instance
@@ -198,6 +203,118 @@ public final class ClassicFtpFileSystem extends AbstractFileSystem implements Ft
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The offset is sent through a {@code REST} command, so the server is required to support it when {@code offset} is not zero.
+   */
+  @Override
+  public InputStream retrieveFileContent(String path, long offset) {
+    try {
+      client.setRestartOffset(offset);
+      InputStream inputStream = client.retrieveFileStream(path);
+      if (inputStream == null) {
+        throw new IOException(format("Could not retrieve content of file '%s' from offset %d. Ftp reply code: %d", path, offset,
+                                     client.getReplyCode()));
+      }
+
+      return new FilterInputStream(inputStream) {
+
+        /**
+         * The server replies with a transfer aborted code when the stream is closed before reaching its end, which is
+         * expected in that case. That reply still has to be consumed before the {@link #client} can be used again.
+         */
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            client.completePendingCommand();
+          }
+        }
+      };
+    } catch (Exception e) {
+      throw new MuleRuntimeException(createStaticMessage(format("Exception was found trying to retrieve the contents of file '%s'",
+                                                                path)),
+                                     e);
+    } finally {
+      client.setRestartOffset(0);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The offset is sent through a {@code REST} command, so the server is required to support it when {@code offset} is not zero.
+   * Notice that some servers truncate the file at the restart offset, which makes it unsafe to write ranges out of order.
+   */
+  @Override
+  public OutputStream storeFileContent(String path, long offset) {
+    try {
+      client.setRestartOffset(offset);
+      OutputStream outputStream = client.storeFileStream(path);
+      if (outputStream == null) {
+        throw new IOException(format("Could not write file '%s' from offset %d. Ftp reply code: %d", path, offset,
+                                     client.getReplyCode()));
+      }
+
+      return new FilterOutputStream(outputStream) {
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+          super.close();
+          if (!client.completePendingCommand()) {
+            throw new IOException(format("Write of file '%s' from offset %d was not acknowledged. Ftp reply code: %d", path,
+                                         offset, client.getReplyCode()));
+          }
+        }
+      };
+    } catch (Exception e) {
+      throw new MuleRuntimeException(createStaticMessage(format("Could not open stream to write to path '%s'", path)), e);
+    } finally {
+      client.setRestartOffset(0);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getFileLength(String path) {
+    try {
+      FTPFile[] files = client.listFiles(path);
+      if (files == null || files.length == 0) {
+        throw new FileNotFoundException(format("File '%s' doesn't exists", path));
+      }
+
+      return files[0].getSize();
+    } catch (Exception e) {
+      throw new MuleRuntimeException(createStaticMessage(format("Could not obtain length of file '%s'", path)), e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ParallelTransferSettings getParallelTransferSettings() {
+    return parallelTransferSettings;
+  }
+
+  /**
+   * Sets the {@link ParallelTransferSettings} to be used by this file system
+   *
+   * @param parallelTransferSettings a {@link ParallelTransferSettings}
+   */
+  public void setParallelTransferSettings(ParallelTransferSettings parallelTransferSettings) {
+    this.parallelTransferSettings = parallelTransferSettings;
+  }
+
   /**
    * Awaits for the underlying {@link #client} to complete any pending commands. This is necessary for certain operations such as
    * write. Using the {@link #client} before tnhat can result in unexpected behavior
@@ -6,11 +6,13 @@
  */
 package org.mule.extension.ftp.internal.ftp.connection;
 
+import org.mule.extension.ftp.internal.transfer.ParallelTransferSettings;
 import org.mule.runtime.api.connection.ConnectionValidationResult;
 import org.mule.runtime.module.extension.file.api.FileAttributes;
 import org.mule.runtime.module.extension.file.api.FileSystem;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 
 /**
  * Specialization of the {@link FileSystem} contract for file systems mounted on FTP/SFTP servers
@@ -34,6 +36,41 @@ public interface FtpFileSystem extends FileSystem {
    */
   InputStream retrieveFileContent(FileAttributes filePayload);
 
+  /**
+   * Returns an InputStream which obtains the content of the file at the given {@code path}, starting at the given {@code offset}.
+   * <p>
+   * The stream might be closed before being fully consumed. Closing it completes the transfer so that this file system can be
+   * used again.
+   *
+   * @param path the path of the file to read
+   * @param offset the position of the first byte to read
+   * @return an {@link InputStream}
+   */
+  InputStream retrieveFileContent(String path, long offset);
+
+  /**
+   * Returns an OutputStream which writes into the file at the given {@code path}, starting at the given {@code offset}. An
+   * {@code offset} of zero creates or replaces the file.
+   * <p>
+   * Closing the returned stream completes the transfer and fails if the remote server didn't acknowledge it.
+   *
+   * @param path the path of the file to write
+   * @param offset the position at which the first byte is to be written
+   * @return an {@link OutputStream}
+   */
+  OutputStream storeFileContent(String path, long offset);
+
+  /**
+   * @param path the path of an existing file
+   * @return the current length in bytes of the file at the given {@code path}
+   */
+  long getFileLength(String path);
+
+  /**
+   * @return the {@link ParallelTransferSettings} used when reading or writing files through this file system
+   */
+  ParallelTransferSettings getParallelTransferSettings();
+
   /**
    * Validates the underlying connection to the remote server
    *
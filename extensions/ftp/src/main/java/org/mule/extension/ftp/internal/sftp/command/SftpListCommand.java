@@ -13,6 +13,7 @@ import org.mule.extension.ftp.api.sftp.SftpFileAttributes;
 import org.mule.extension.ftp.internal.sftp.connection.SftpClient;
 import org.mule.extension.ftp.internal.sftp.connection.SftpFileSystem;
 import org.mule.runtime.api.message.MuleMessage;
+import org.mule.runtime.module.extension.file.api.DirectorySnapshot;
 import org.mule.runtime.module.extension.file.api.FileAttributes;
 import org.mule.runtime.module.extension.file.api.FileConnectorConfig;
 import org.mule.runtime.module.extension.file.api.TreeNode;
@@ -21,6 +22,7 @@ import org.mule.runtime.module.extension.file.api.command.ListCommand;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -80,4 +82,38 @@ public final class SftpListCommand extends SftpCommand implements ListCommand {
       }
     }
   }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Each directory is listed in a single request, but sub-directories are only listed as the returned {@link Stream} reaches
+   * them.
+   */
+  @Override
+  public Stream<FileAttributes> listIncremental(FileConnectorConfig config, String directoryPath, boolean recursive,
+                                                Predicate<FileAttributes> matcher, DirectorySnapshot snapshot) {
+    FileAttributes directoryAttributes = getExistingFile(config, directoryPath);
+    Path path = Paths.get(directoryAttributes.getPath());
+
+    if (!directoryAttributes.isDirectory()) {
+      throw cannotListFileException(path);
+    }
+
+    Stream<SftpFileAttributes> entries = doListLazily(directoryAttributes.getPath(), recursive, matcher);
+    if (snapshot != null) {
+      entries = snapshot.filter(entries, SftpFileAttributes::getTimestamp);
+    }
+
+    return entries.map(attributes -> (FileAttributes) attributes);
+  }
+
+  private Stream<SftpFileAttributes> doListLazily(String path, boolean recursive, Predicate<FileAttributes> matcher) {
+    LOGGER.debug("Lazily listing directory {}", path);
+    return client.list(path).stream()
+        .filter(file -> !isVirtualDirectory(file.getName()))
+        .filter(matcher)
+        .flatMap(file -> recursive && file.isDirectory()
+            ? Stream.concat(Stream.of(file), doListLazily(file.getPath(), true, matcher))
+            : Stream.of(file));
+  }
 }
@@ -8,9 +8,11 @@ package org.mule.extension.ftp.internal.sftp.command;
 
 import org.mule.extension.ftp.api.FtpFileAttributes;
 import org.mule.extension.ftp.internal.FtpConnector;
+import org.mule.extension.ftp.internal.ParallelFtpInputStream;
 import org.mule.extension.ftp.internal.sftp.SftpInputStream;
 import org.mule.extension.ftp.internal.sftp.connection.SftpClient;
 import org.mule.extension.ftp.internal.sftp.connection.SftpFileSystem;
+import org.mule.extension.ftp.internal.transfer.ParallelTransferSettings;
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.message.MuleMessage;
 import org.mule.runtime.api.metadata.MediaType;
@@ -61,7 +63,14 @@ public final class SftpReadCommand extends SftpCommand implements ReadCommand {
     }
 
     try {
-      InputStream payload = SftpInputStream.newInstance((FtpConnector) config, attributes, pathLock);
+      InputStream payload;
+      ParallelTransferSettings transferSettings = fileSystem.getParallelTransferSettings();
+      if (transferSettings.shouldSplit(attributes.getSize())) {
+        payload = ParallelFtpInputStream.newInstance((FtpConnector) config, attributes, pathLock, transferSettings);
+      } else {
+        payload = SftpInputStream.newInstance((FtpConnector) config, attributes, pathLock);
+      }
+
       MediaType mediaType = fileSystem.getFileMessageMediaType(message.getDataType().getMediaType(), attributes);
       return OperationResult.<InputStream, FileAttributes>builder().output(payload).mediaType(mediaType).attributes(attributes)
           .build();
@@ -273,6 +273,61 @@ public class SftpClient {
     }
   }
 
+  /**
+   * An {@link InputStream} with the contents of the file at the given {@code path}, starting at the given {@code offset}
+   *
+   * @param path the path to the file to read
+   * @param offset the position of the first byte to read
+   * @return an {@link InputStream}
+   */
+  public InputStream getFileContent(String path, long offset) {
+    try {
+      return sftp.get(path, null, offset);
+    } catch (SftpException e) {
+      throw exception(format("Exception was found trying to retrieve the contents of file '%s' from offset %d", path, offset), e);
+    }
+  }
+
+  /**
+   * @param path the path to an existing file
+   * @return the length in bytes of the file at the given {@code path}
+   */
+  public long getFileLength(String path) {
+    try {
+      return sftp.stat(path).getSize();
+    } catch (SftpException e) {
+      throw exception("Could not obtain length of file " + path, e);
+    }
+  }
+
+  /**
+   * Opens an {@link OutputStream} which writes into the file pointed by {@code path}, starting at {@code offset}.
+   * <p>
+   * An {@code offset} of zero truncates the file. Otherwise the file is expected to be exactly {@code offset} bytes long, since
+   * the content is appended to it.
+   *
+   * @param path the path to write into
+   * @param offset the position at which the first byte is to be written
+   * @return an {@link OutputStream}
+   */
+  public OutputStream getOutputStream(String path, long offset) {
+    try {
+      if (offset == 0) {
+        return sftp.put(path, ChannelSftp.OVERWRITE);
+      }
+
+      long length = sftp.stat(path).getSize();
+      if (length != offset) {
+        throw new IllegalStateException(format("Cannot write file '%s' from offset %d because it is %d bytes long", path, offset,
+                                               length));
+      }
+
+      return sftp.put(path, ChannelSftp.APPEND);
+    } catch (SftpException e) {
+      throw exception(format("Could not open stream to write to path '%s' from offset %d", path, offset), e);
+    }
+  }
+
   /**
    * Writes the contents of the {@code stream} into the file at the given {@code path}
    *
@@ -112,7 +112,10 @@ public class SftpConnectionProvider extends AbstractFtpConnectionProvider<SftpFi
       throw new ConnectionException(e);
     }
 
-    return new SftpFileSystem(client, muleContext);
+    SftpFileSystem fileSystem = new SftpFileSystem(client, muleContext);
+    fileSystem.setParallelTransferSettings(getParallelTransferSettings());
+
+    return fileSystem;
   }
 
 
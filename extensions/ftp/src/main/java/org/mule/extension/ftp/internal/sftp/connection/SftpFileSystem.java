@@ -19,6 +19,7 @@ import org.mule.extension.ftp.internal.sftp.command.SftpMoveCommand;
 import org.mule.extension.ftp.internal.sftp.command.SftpReadCommand;
 import org.mule.extension.ftp.internal.sftp.command.SftpRenameCommand;
 import org.mule.extension.ftp.internal.sftp.command.SftpWriteCommand;
+import org.mule.extension.ftp.internal.transfer.ParallelTransferSettings;
 import org.mule.runtime.api.connection.ConnectionExceptionCode;
 import org.mule.runtime.api.connection.ConnectionValidationResult;
 import org.mule.runtime.core.api.MuleContext;
@@ -38,6 +39,7 @@ import org.mule.runtime.module.extension.file.api.lock.PathLock;
 import org.mule.runtime.module.extension.file.api.lock.URLPathLock;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
@@ -61,6 +63,7 @@ public class SftpFileSystem extends AbstractFileSystem implements FtpFileSystem
   protected final ReadCommand readCommand;
   protected final RenameCommand renameCommand;
   protected final WriteCommand writeCommand;
+  private ParallelTransferSettings parallelTransferSettings = ParallelTransferSettings.DISABLED;
 
 
   /**
@@ -106,6 +109,47 @@ public class SftpFileSystem extends AbstractFileSystem implements FtpFileSystem
     return client.getFileContent(filePayload.getPath());
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public InputStream retrieveFileContent(String path, long offset) {
+    return client.getFileContent(path, offset);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public OutputStream storeFileContent(String path, long offset) {
+    return client.getOutputStream(path, offset);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getFileLength(String path) {
+    return client.getFileLength(path);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ParallelTransferSettings getParallelTransferSettings() {
+    return parallelTransferSettings;
+  }
+
+  /**
+   * Sets the {@link ParallelTransferSettings} to be used by this file system
+   *
+   * @param parallelTransferSettings a {@link ParallelTransferSettings}
+   */
+  public void setParallelTransferSettings(ParallelTransferSettings parallelTransferSettings) {
+    this.parallelTransferSettings = parallelTransferSettings;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.ftp.internal.transfer;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link OutputStream} which uploads its content as a sequence of chunks, each of them written through a stream obtained from
+ * a {@link RangeWriter}.
+ * <p>
+ * While a chunk is being uploaded, the next one is buffered so that producing the content overlaps with the network transfer.
+ * Because a chunk is only discarded once its stream was successfully closed, a failed upload can be resumed from the length the
+ * remote file actually reached, up to {@link ParallelTransferSettings#getMaxRetries()} times.
+ * <p>
+ * Chunks are uploaded on a shared {@link ExecutorService} owned by the caller, which is never shut down by this stream.
+ * <p>
+ * Instances are not thread-safe and <b>MUST</b> be closed. Nothing is guaranteed to have been written until then.
+ *
+ * @since 4.0
+ */
+public final class ChunkedResumableOutputStream extends OutputStream {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChunkedResumableOutputStream.class);
+
+  private final RangeWriter writer;
+  private final ParallelTransferSettings settings;
+  private final ExecutorService executor;
+
+  private byte[] buffer;
+  private byte[] spare;
+  private int count = 0;
+  private long offset = 0;
+  private Future<?> pending;
+  private boolean closed = false;
+
+  /**
+   * Creates a new instance
+   *
+   * @param writer the {@link RangeWriter} used to upload each chunk
+   * @param settings the {@link ParallelTransferSettings} to use
+   * @param executor the {@link ExecutorService} in which the chunks are uploaded
+   */
+  public ChunkedResumableOutputStream(RangeWriter writer, ParallelTransferSettings settings, ExecutorService executor) {
+    this.writer = writer;
+    this.settings = settings;
+    this.executor = executor;
+    buffer = new byte[settings.getChunkSize()];
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    ensureOpen();
+    buffer[count++] = (byte) b;
+    if (count == buffer.length) {
+      submitChunk();
+    }
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    ensureOpen();
+    while (len > 0) {
+      int copied = min(len, buffer.length - count);
+      System.arraycopy(b, off, buffer, count, copied);
+      count += copied;
+      off += copied;
+      len -= copied;
+
+      if (count == buffer.length) {
+        submitChunk();
+      }
+    }
+  }
+
+  /**
+   * Uploads the buffered content and waits for every chunk to be acknowledged
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    try {
+      if (count > 0 || offset == 0) {
+        submitChunk();
+      }
+      awaitPending();
+    } finally {
+      buffer = spare = null;
+      if (pending != null) {
+        pending.cancel(true);
+        pending = null;
+      }
+    }
+  }
+
+  private void submitChunk() throws IOException {
+    awaitPending();
+
+    final byte[] chunk = buffer;
+    final int size = count;
+    final long start = offset;
+    pending = executor.submit(() -> {
+      upload(chunk, start, size);
+      return null;
+    });
+
+    offset += size;
+    count = 0;
+    buffer = spare != null ? spare : new byte[chunk.length];
+    spare = chunk;
+  }
+
+  private void awaitPending() throws IOException {
+    if (pending == null) {
+      return;
+    }
+
+    try {
+      pending.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for chunk upload");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+    } finally {
+      pending = null;
+    }
+  }
+
+  private void upload(byte[] chunk, long start, int size) throws IOException {
+    long end = start + size;
+    long resumeAt = start;
+
+    for (int attempt = 0;; attempt++) {
+      try {
+        if (attempt > 0) {
+          long committed = writer.getCommittedLength();
+          if (committed < start) {
+            throw new IOException(format("Remote file is %d bytes long but %d bytes were already acknowledged", committed,
+                                         start));
+          }
+          resumeAt = min(committed, end);
+        }
+
+        try (OutputStream out = writer.openForWrite(resumeAt)) {
+          out.write(chunk, (int) (resumeAt - start), (int) (end - resumeAt));
+        }
+        return;
+      } catch (IOException e) {
+        if (attempt >= settings.getMaxRetries() || Thread.currentThread().isInterrupted()) {
+          throw e;
+        }
+
+        LOGGER.warn("Upload of chunk starting at offset {} failed. Resuming from the remote file length (retry {} of {})", start,
+                    attempt + 1, settings.getMaxRetries(), e);
+      }
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream is closed");
+    }
+  }
+}
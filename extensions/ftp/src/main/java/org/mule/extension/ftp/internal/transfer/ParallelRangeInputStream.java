@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.ftp.internal.transfer;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link InputStream} which fetches a remote file as a sequence of fixed size ranges, several of them at the same time, and
+ * hands them back in order.
+ * <p>
+ * At most {@link ParallelTransferSettings#getParallelism()} ranges are in flight at any given time, each of them fetched through
+ * its own stream obtained from a {@link RangeReader}. Memory usage is therefore bounded to {@code parallelism * chunkSize}
+ * bytes. If a range fails mid way, it is resumed from the last received byte through a newly opened stream, up to
+ * {@link ParallelTransferSettings#getMaxRetries()} times.
+ * <p>
+ * Ranges are fetched on a shared {@link ExecutorService} owned by the caller, which is never shut down by this stream.
+ * <p>
+ * Instances are not thread-safe and <b>MUST</b> be closed.
+ *
+ * @since 4.0
+ */
+public final class ParallelRangeInputStream extends InputStream {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ParallelRangeInputStream.class);
+
+  private final RangeReader reader;
+  private final long length;
+  private final ParallelTransferSettings settings;
+  private final ExecutorService executor;
+  private final Deque<Future<byte[]>> window = new ArrayDeque<>();
+
+  private long nextOffset = 0;
+  private byte[] current;
+  private int position = 0;
+  private boolean closed = false;
+
+  /**
+   * Creates a new instance. No range is requested until the first read.
+   *
+   * @param reader the {@link RangeReader} used to open each range
+   * @param length the total length of the remote file
+   * @param settings the {@link ParallelTransferSettings} to use
+   * @param executor the {@link ExecutorService} in which the ranges are fetched
+   */
+  public ParallelRangeInputStream(RangeReader reader, long length, ParallelTransferSettings settings, ExecutorService executor) {
+    this.reader = reader;
+    this.length = length;
+    this.settings = settings;
+    this.executor = executor;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!ensureAvailable()) {
+      return -1;
+    }
+
+    return current[position++] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+
+    if (!ensureAvailable()) {
+      return -1;
+    }
+
+    int count = min(len, current.length - position);
+    System.arraycopy(current, position, b, off, count);
+    position += count;
+
+    return count;
+  }
+
+  @Override
+  public int available() throws IOException {
+    return current != null ? current.length - position : 0;
+  }
+
+  /**
+   * Cancels every range still in flight
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    current = null;
+    window.forEach(range -> range.cancel(true));
+    window.clear();
+  }
+
+  private boolean ensureAvailable() throws IOException {
+    if (closed) {
+      throw new IOException("Stream is closed");
+    }
+
+    if (current != null && position < current.length) {
+      return true;
+    }
+
+    current = nextRange();
+    position = 0;
+
+    return current != null;
+  }
+
+  private byte[] nextRange() throws IOException {
+    schedule();
+    Future<byte[]> range = window.poll();
+    if (range == null) {
+      return null;
+    }
+
+    try {
+      byte[] content = range.get();
+      schedule();
+      return content;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new InterruptedIOException("Interrupted while waiting for file content");
+    } catch (ExecutionException e) {
+      close();
+      Throwable cause = e.getCause();
+      throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+    }
+  }
+
+  private void schedule() {
+    while (window.size() < settings.getParallelism() && nextOffset < length) {
+      final long start = nextOffset;
+      final int size = (int) min(settings.getChunkSize(), length - start);
+      nextOffset += size;
+      window.add(executor.submit(() -> fetch(start, size)));
+    }
+  }
+
+  private byte[] fetch(long start, int size) throws IOException {
+    byte[] buffer = new byte[size];
+    int received = 0;
+
+    for (int attempt = 0;; attempt++) {
+      try (InputStream in = reader.openForRead(start + received)) {
+        while (received < size) {
+          int count = in.read(buffer, received, size - received);
+          if (count < 0) {
+            throw new EOFException(format("Remote file ended at offset %d while %d bytes were expected", start + received,
+                                          length));
+          }
+          received += count;
+        }
+        return buffer;
+      } catch (IOException e) {
+        if (received == size) {
+          // the range was fully received, only releasing the stream failed
+          return buffer;
+        }
+
+        if (attempt >= settings.getMaxRetries() || Thread.currentThread().isInterrupted()) {
+          throw e;
+        }
+
+        LOGGER.warn("Transfer of range starting at offset {} failed. Resuming at offset {} (retry {} of {})", start,
+                    start + received, attempt + 1, settings.getMaxRetries(), e);
+      }
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.ftp.internal.transfer;
+
+import static org.mule.runtime.core.util.Preconditions.checkArgument;
+
+/**
+ * Immutable set of parameters which govern how large files are moved by {@link ParallelRangeInputStream} and
+ * {@link ChunkedResumableOutputStream}.
+ *
+ * @since 4.0
+ */
+public final class ParallelTransferSettings {
+
+  /**
+   * Settings which keep the single stream behavior
+   */
+  public static final ParallelTransferSettings DISABLED = new ParallelTransferSettings(1, Integer.MAX_VALUE, 0);
+
+  private final int parallelism;
+  private final int chunkSize;
+  private final int maxRetries;
+
+  /**
+   * Creates a new instance
+   *
+   * @param parallelism the amount of concurrent transfers to use for a single file. {@code 1} disables parallel transfers
+   * @param chunkSize the size in bytes of each transferred range
+   * @param maxRetries how many times a failed range is resumed before giving up
+   */
+  public ParallelTransferSettings(int parallelism, int chunkSize, int maxRetries) {
+    checkArgument(parallelism > 0, "parallelism must be greater than zero");
+    checkArgument(chunkSize > 0, "chunkSize must be greater than zero");
+    checkArgument(maxRetries >= 0, "maxRetries cannot be negative");
+
+    this.parallelism = parallelism;
+    this.chunkSize = chunkSize;
+    this.maxRetries = maxRetries;
+  }
+
+  /**
+   * @return whether files should be transferred in chunks over several connections
+   */
+  public boolean isParallel() {
+    return parallelism > 1;
+  }
+
+  /**
+   * @param size the size of the file to be transferred
+   * @return whether a file of the given {@code size} is worth splitting into ranges
+   */
+  public boolean shouldSplit(long size) {
+    return isParallel() && size > chunkSize;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  public int getMaxRetries() {
+    return maxRetries;
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.ftp.internal.transfer;
+
+import org.mule.extension.ftp.internal.FtpConnector;
+import org.mule.extension.ftp.internal.ftp.connection.FtpFileSystem;
+import org.mule.runtime.api.connection.ConnectionException;
+import org.mule.runtime.api.connection.ConnectionHandler;
+import org.mule.runtime.core.api.connector.ConnectionManager;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A {@link RangeReader} and {@link RangeWriter} over a single remote file which borrows a {@link FtpFileSystem} from the
+ * {@link ConnectionManager} for each opened stream, giving it back once the stream is closed.
+ * <p>
+ * If a stream fails, its connection is disconnected before being released so that the pool discards it instead of handing it to
+ * the next range.
+ *
+ * @since 4.0
+ */
+public final class PooledRangeTransfer implements RangeReader, RangeWriter {
+
+  private final FtpConnector config;
+  private final String path;
+
+  /**
+   * Creates a new instance
+   *
+   * @param config the {@link FtpConnector} from which connections are obtained
+   * @param path the path of the remote file
+   */
+  public PooledRangeTransfer(FtpConnector config, String path) {
+    this.config = config;
+    this.path = path;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public InputStream openForRead(long offset) throws IOException {
+    ConnectionHandler<FtpFileSystem> connectionHandler = borrow();
+    try {
+      return new FilterInputStream(connectionHandler.getConnection().retrieveFileContent(path, offset)) {
+
+        @Override
+        public void close() throws IOException {
+          release(connectionHandler, () -> super.close());
+        }
+      };
+    } catch (ConnectionException | RuntimeException e) {
+      discard(connectionHandler);
+      throw new IOException("Could not open range of file " + path, e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public OutputStream openForWrite(long offset) throws IOException {
+    ConnectionHandler<FtpFileSystem> connectionHandler = borrow();
+    try {
+      return new FilterOutputStream(connectionHandler.getConnection().storeFileContent(path, offset)) {
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+          release(connectionHandler, () -> super.close());
+        }
+      };
+    } catch (ConnectionException | RuntimeException e) {
+      discard(connectionHandler);
+      throw new IOException("Could not open file " + path + " for writing", e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getCommittedLength() throws IOException {
+    ConnectionHandler<FtpFileSystem> connectionHandler = borrow();
+    try {
+      long length = connectionHandler.getConnection().getFileLength(path);
+      connectionHandler.release();
+      return length;
+    } catch (ConnectionException | RuntimeException e) {
+      discard(connectionHandler);
+      throw new IOException("Could not obtain length of file " + path, e);
+    }
+  }
+
+  private ConnectionHandler<FtpFileSystem> borrow() throws IOException {
+    try {
+      return config.getConnectionManager().getConnection(config);
+    } catch (ConnectionException e) {
+      throw new IOException("Could not obtain connection to transfer file " + path, e);
+    }
+  }
+
+  private void release(ConnectionHandler<FtpFileSystem> connectionHandler, StreamCloser closer) throws IOException {
+    try {
+      closer.close();
+    } catch (IOException | RuntimeException e) {
+      discard(connectionHandler);
+      throw e;
+    }
+    connectionHandler.release();
+  }
+
+  private void discard(ConnectionHandler<FtpFileSystem> connectionHandler) {
+    try {
+      connectionHandler.getConnection().disconnect();
+    } catch (ConnectionException e) {
+      // nothing to disconnect
+    } finally {
+      connectionHandler.release();
+    }
+  }
+
+  @FunctionalInterface
+  private interface StreamCloser {
+
+    void close() throws IOException;
+  }
+}
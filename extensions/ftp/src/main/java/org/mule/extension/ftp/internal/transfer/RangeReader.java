@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.ftp.internal.transfer;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Opens streams which read a remote file starting at a given offset.
+ *
+ * @since 4.0
+ */
+@FunctionalInterface
+public interface RangeReader {
+
+  /**
+   * Opens a stream positioned at {@code offset}. The returned stream might be closed before reaching its end, and closing it
+   * must release every resource associated to it, even if a previous read failed.
+   *
+   * @param offset the position of the first byte to read
+   * @return an {@link InputStream}
+   * @throws IOException if the stream could not be opened
+   */
+  InputStream openForRead(long offset) throws IOException;
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.ftp.internal.transfer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Opens streams which write into a remote file starting at a given offset.
+ *
+ * @since 4.0
+ */
+public interface RangeWriter {
+
+  /**
+   * Opens a stream which writes starting at {@code offset}. An {@code offset} of zero creates or truncates the file. Closing the
+   * returned stream must only succeed if all the written bytes were acknowledged by the remote server.
+   *
+   * @param offset the position at which the first written byte is to be placed
+   * @return an {@link OutputStream}
+   * @throws IOException if the stream could not be opened
+   */
+  OutputStream openForWrite(long offset) throws IOException;
+
+  /**
+   * Used after a failure to find out how many bytes actually made it into the remote file.
+   *
+   * @return the current length of the remote file
+   * @throws IOException if the length could not be obtained
+   */
+  long getCommittedLength() throws IOException;
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.ftp;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertThat;
+import org.mule.extension.FtpTestHarness;
+import org.mule.runtime.module.extension.file.api.FileAttributes;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class FtpListChangesTestCase extends FtpConnectorTestCase {
+
+  private static final String TEST_FILE_PATTERN = "test-file-%d.html";
+  private static final String SUB_DIRECTORY_NAME = "subDirectory";
+  private static final String NEW_FILE_NAME = "new-file.html";
+  private static final String CONTENT = "foo";
+
+  public FtpListChangesTestCase(String name, FtpTestHarness testHarness) {
+    super(name, testHarness);
+  }
+
+  @Override
+  protected String getConfigFile() {
+    return "ftp-list-changes-config.xml";
+  }
+
+  @Override
+  protected void doSetUp() throws Exception {
+    super.doSetUp();
+    createTestFiles();
+  }
+
+  @Test
+  public void firstListingReturnsAllEntries() throws Exception {
+    assertThat(doListChanges(".", false), hasSize(6));
+  }
+
+  @Test
+  public void unchangedEntriesAreNotListedAgain() throws Exception {
+    doListChanges(".", false);
+    assertThat(doListChanges(".", false), is(empty()));
+  }
+
+  @Test
+  public void newAndChangedEntriesAreListed() throws Exception {
+    doListChanges(".", false);
+
+    testHarness.write(".", String.format(TEST_FILE_PATTERN, 0), CONTENT + CONTENT);
+    testHarness.write(".", NEW_FILE_NAME, CONTENT);
+
+    assertThat(names(doListChanges(".", false)), containsInAnyOrder(String.format(TEST_FILE_PATTERN, 0), NEW_FILE_NAME));
+    assertThat(doListChanges(".", false), is(empty()));
+  }
+
+  @Test
+  public void listChangesRecursively() throws Exception {
+    assertThat(doListChanges(".", true), hasSize(8));
+
+    testHarness.write(SUB_DIRECTORY_NAME, NEW_FILE_NAME, CONTENT);
+    assertThat(names(doListChanges(".", true)), containsInAnyOrder(NEW_FILE_NAME));
+  }
+
+  @Test
+  public void listChangesWithMatcher() throws Exception {
+    assertThat(names(doListChanges("listChangesWithMatcher", ".", false)),
+               containsInAnyOrder(String.format(TEST_FILE_PATTERN, 1), String.format(TEST_FILE_PATTERN, 2)));
+  }
+
+  private List<FileAttributes> doListChanges(String path, boolean recursive) throws Exception {
+    return doListChanges("listChanges", path, recursive);
+  }
+
+  private List<FileAttributes> doListChanges(String flowName, String path, boolean recursive) throws Exception {
+    return (List<FileAttributes>) flowRunner(flowName).withFlowVariable("path", path).withFlowVariable("recursive", recursive)
+        .run().getMessage().getPayload();
+  }
+
+  private List<String> names(List<FileAttributes> attributes) {
+    return attributes.stream().map(FileAttributes::getName).collect(toList());
+  }
+
+  private void createTestFiles() throws Exception {
+    createTestFiles(".", 0, 5);
+    testHarness.makeDir(SUB_DIRECTORY_NAME);
+    createTestFiles(SUB_DIRECTORY_NAME, 5, 7);
+  }
+
+  private void createTestFiles(String parentFolder, int startIndex, int endIndex) throws Exception {
+    for (int i = startIndex; i < endIndex; i++) {
+      testHarness.write(parentFolder, String.format(TEST_FILE_PATTERN, i), CONTENT);
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.ftp.internal.transfer;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.synchronizedList;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+@SmallTest
+public class ChunkedResumableOutputStreamTestCase extends AbstractMuleTestCase {
+
+  private static final int CHUNK_SIZE = 10;
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final byte[] content = new byte[95];
+  private ExecutorService executor;
+
+  @Before
+  public void before() {
+    new Random(0).nextBytes(content);
+    executor = newCachedThreadPool();
+  }
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void writesChunksInOrder() throws Exception {
+    FaultyRangeWriter writer = new FaultyRangeWriter(-1, 0);
+    writeAll(writer, 0);
+
+    assertThat(writer.getContent(), equalTo(content));
+    assertThat(writer.openedOffsets, equalTo(asList(0L, 10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L)));
+  }
+
+  @Test
+  public void failedChunkIsResumedFromCommittedLength() throws Exception {
+    FaultyRangeWriter writer = new FaultyRangeWriter(25, 1);
+    writeAll(writer, 1);
+
+    assertThat(writer.getContent(), equalTo(content));
+    assertThat(writer.openedOffsets, equalTo(asList(0L, 10L, 20L, 25L, 30L, 40L, 50L, 60L, 70L, 80L, 90L)));
+  }
+
+  @Test
+  public void failsOnceRetriesAreExhausted() throws Exception {
+    FaultyRangeWriter writer = new FaultyRangeWriter(25, 2);
+
+    expectedException.expect(IOException.class);
+    writeAll(writer, 1);
+  }
+
+  @Test
+  public void emptyContentCreatesFile() throws Exception {
+    FaultyRangeWriter writer = new FaultyRangeWriter(-1, 0);
+    new ChunkedResumableOutputStream(writer, settings(0), executor).close();
+
+    assertThat(writer.getContent().length, is(0));
+    assertThat(writer.openedOffsets, equalTo(asList(0L)));
+    assertThat(executor.isShutdown(), is(false));
+  }
+
+  private void writeAll(RangeWriter writer, int maxRetries) throws IOException {
+    try (OutputStream out = new ChunkedResumableOutputStream(writer, settings(maxRetries), executor)) {
+      // uneven writes, so that chunk boundaries never match the written blocks
+      for (int offset = 0; offset < content.length; offset += 7) {
+        out.write(content, offset, Math.min(7, content.length - offset));
+      }
+    }
+  }
+
+  private ParallelTransferSettings settings(int maxRetries) {
+    return new ParallelTransferSettings(2, CHUNK_SIZE, maxRetries);
+  }
+
+  /**
+   * Keeps the remote file in memory, truncating it at the offset of each opened stream as FTP servers do, and failing the given
+   * amount of times when the file reaches {@code failAt} bytes
+   */
+  private static class FaultyRangeWriter implements RangeWriter {
+
+    private final List<Long> openedOffsets = synchronizedList(new ArrayList<>());
+    private final long failAt;
+    private final AtomicInteger failures;
+    private byte[] remote = new byte[0];
+
+    private FaultyRangeWriter(long failAt, int failures) {
+      this.failAt = failAt;
+      this.failures = new AtomicInteger(failures);
+    }
+
+    @Override
+    public OutputStream openForWrite(long offset) throws IOException {
+      openedOffsets.add(offset);
+      synchronized (this) {
+        remote = Arrays.copyOf(remote, (int) offset);
+      }
+
+      return new OutputStream() {
+
+        @Override
+        public void write(int b) throws IOException {
+          synchronized (FaultyRangeWriter.this) {
+            if (remote.length == failAt && failures.getAndDecrement() > 0) {
+              throw new IOException("Connection reset");
+            }
+            remote = Arrays.copyOf(remote, remote.length + 1);
+            remote[remote.length - 1] = (byte) b;
+          }
+        }
+      };
+    }
+
+    @Override
+    public synchronized long getCommittedLength() {
+      return remote.length;
+    }
+
+    private synchronized byte[] getContent() {
+      return remote;
+    }
+  }
+}
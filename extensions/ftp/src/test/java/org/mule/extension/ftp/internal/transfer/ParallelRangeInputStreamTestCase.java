@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.ftp.internal.transfer;
+
+import static java.util.Collections.synchronizedList;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import org.mule.runtime.core.util.IOUtils;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+@SmallTest
+public class ParallelRangeInputStreamTestCase extends AbstractMuleTestCase {
+
+  private static final int CHUNK_SIZE = 10;
+  private static final int PARALLELISM = 3;
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final byte[] content = new byte[95];
+  private ExecutorService executor;
+
+  @Before
+  public void before() {
+    new Random(0).nextBytes(content);
+    executor = newCachedThreadPool();
+  }
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void readsRangesInOrder() throws Exception {
+    FaultyRangeReader reader = new FaultyRangeReader(-1, 0);
+
+    assertThat(readAll(reader, 0), equalTo(content));
+    assertThat(reader.openedOffsets.size(), is(10));
+  }
+
+  @Test
+  public void failedRangeIsResumedFromLastReceivedByte() throws Exception {
+    FaultyRangeReader reader = new FaultyRangeReader(25, 1);
+
+    assertThat(readAll(reader, 1), equalTo(content));
+    assertThat(reader.openedOffsets, hasItem(20L));
+    assertThat(reader.openedOffsets, hasItem(25L));
+    assertThat(reader.openedOffsets.size(), is(11));
+  }
+
+  @Test
+  public void failsOnceRetriesAreExhausted() throws Exception {
+    FaultyRangeReader reader = new FaultyRangeReader(25, 2);
+
+    expectedException.expect(IOException.class);
+    readAll(reader, 1);
+  }
+
+  @Test
+  public void closeDoesNotShutDownSharedExecutor() throws Exception {
+    new ParallelRangeInputStream(new FaultyRangeReader(-1, 0), content.length, settings(0), executor).close();
+    assertThat(executor.isShutdown(), is(false));
+  }
+
+  private byte[] readAll(RangeReader reader, int maxRetries) throws IOException {
+    try (InputStream in = new ParallelRangeInputStream(reader, content.length, settings(maxRetries), executor)) {
+      return IOUtils.toByteArray(in);
+    }
+  }
+
+  private ParallelTransferSettings settings(int maxRetries) {
+    return new ParallelTransferSettings(PARALLELISM, CHUNK_SIZE, maxRetries);
+  }
+
+  /**
+   * Serves {@link #content}, failing the given amount of times when a stream reaches {@code failAt}
+   */
+  private class FaultyRangeReader implements RangeReader {
+
+    private final List<Long> openedOffsets = synchronizedList(new ArrayList<>());
+    private final long failAt;
+    private final AtomicInteger failures;
+
+    private FaultyRangeReader(long failAt, int failures) {
+      this.failAt = failAt;
+      this.failures = new AtomicInteger(failures);
+    }
+
+    @Override
+    public InputStream openForRead(long offset) throws IOException {
+      openedOffsets.add(offset);
+      return new InputStream() {
+
+        private long position = offset;
+
+        @Override
+        public int read() throws IOException {
+          if (position == failAt && failures.getAndDecrement() > 0) {
+            throw new IOException("Connection reset");
+          }
+          return position < content.length ? content[(int) position++] & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+          if (len == 0) {
+            return 0;
+          }
+
+          int value = read();
+          if (value < 0) {
+            return -1;
+          }
+
+          b[off] = (byte) value;
+          return 1;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.ftp.internal.transfer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mule.extension.ftp.internal.FtpConnector;
+import org.mule.extension.ftp.internal.ftp.connection.FtpFileSystem;
+import org.mule.runtime.api.connection.ConnectionHandler;
+import org.mule.runtime.core.api.connector.ConnectionManager;
+import org.mule.runtime.core.util.IOUtils;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@SmallTest
+@RunWith(MockitoJUnitRunner.class)
+public class PooledRangeTransferTestCase extends AbstractMuleTestCase {
+
+  private static final String PATH = "/files/large.bin";
+  private static final String CONTENT = "Hello World!";
+
+  @Mock
+  private FtpConnector config;
+
+  @Mock
+  private ConnectionManager connectionManager;
+
+  @Mock
+  private ConnectionHandler<FtpFileSystem> connectionHandler;
+
+  @Mock
+  private FtpFileSystem fileSystem;
+
+  private PooledRangeTransfer transfer;
+
+  @Before
+  public void before() throws Exception {
+    when(config.getConnectionManager()).thenReturn(connectionManager);
+    when(connectionManager.<FtpConnector, FtpFileSystem>getConnection(config)).thenReturn(connectionHandler);
+    when(connectionHandler.getConnection()).thenReturn(fileSystem);
+
+    transfer = new PooledRangeTransfer(config, PATH);
+  }
+
+  @Test
+  public void readRangeReleasesConnection() throws Exception {
+    when(fileSystem.retrieveFileContent(PATH, 6)).thenReturn(new ByteArrayInputStream(CONTENT.substring(6).getBytes()));
+
+    try (InputStream in = transfer.openForRead(6)) {
+      assertThat(IOUtils.toString(in), equalTo("World!"));
+    }
+
+    verify(connectionHandler).release();
+    verify(fileSystem, never()).disconnect();
+  }
+
+  @Test
+  public void failedReadDiscardsConnection() throws Exception {
+    InputStream failing = mock(InputStream.class);
+    doThrow(new IOException("Connection reset")).when(failing).close();
+    when(fileSystem.retrieveFileContent(PATH, 0)).thenReturn(failing);
+
+    InputStream in = transfer.openForRead(0);
+    try {
+      in.close();
+      fail("Stream should have failed to close");
+    } catch (IOException e) {
+      // expected
+    }
+
+    verify(fileSystem).disconnect();
+    verify(connectionHandler).release();
+  }
+
+  @Test
+  public void failedOpenDiscardsConnection() throws Exception {
+    when(fileSystem.storeFileContent(PATH, 10)).thenThrow(new IllegalStateException("Could not store file"));
+
+    try {
+      transfer.openForWrite(10);
+      fail("Stream should have failed to open");
+    } catch (IOException e) {
+      assertThat(e.getCause() instanceof IllegalStateException, is(true));
+    }
+
+    verify(fileSystem).disconnect();
+    verify(connectionHandler).release();
+  }
+
+  @Test
+  public void writtenRangeReleasesConnection() throws Exception {
+    OutputStream remote = mock(OutputStream.class);
+    when(fileSystem.storeFileContent(PATH, 10)).thenReturn(remote);
+
+    try (OutputStream out = transfer.openForWrite(10)) {
+      out.write(CONTENT.getBytes(), 0, 5);
+    }
+
+    verify(remote).write(CONTENT.getBytes(), 0, 5);
+    verify(connectionHandler).release();
+    verify(fileSystem, never()).disconnect();
+  }
+
+  @Test
+  public void committedLength() throws Exception {
+    when(fileSystem.getFileLength(PATH)).thenReturn(42L);
+
+    assertThat(transfer.getCommittedLength(), is(42L));
+    verify(connectionHandler).release();
+  }
+}
@@ -55,10 +55,12 @@ public class SocketOperations {
       outputEncoding = config.getDefaultEncoding();
     }
 
-    client.write(content, outputEncoding);
+    if (Boolean.valueOf(hasResponse)) {
+      return OperationResult.builder().output(client.writeAndRead(content, outputEncoding)).attributes(client.getAttributes())
+          .build();
+    }
 
-    return Boolean.valueOf(hasResponse)
-        ? OperationResult.builder().output(client.read()).attributes(client.getAttributes()).build()
-        : OperationResult.builder(muleMessage).build();
+    client.write(content, outputEncoding);
+    return OperationResult.builder(muleMessage).build();
   }
 }
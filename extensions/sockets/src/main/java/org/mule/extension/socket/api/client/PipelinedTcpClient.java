@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.socket.api.client;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.extension.socket.internal.SocketUtils.getByteArray;
+import org.mule.extension.socket.api.ImmutableSocketAttributes;
+import org.mule.extension.socket.api.SocketAttributes;
+import org.mule.extension.socket.api.exceptions.ReadingTimeoutException;
+import org.mule.extension.socket.api.socket.tcp.TcpProtocol;
+import org.mule.runtime.core.api.serialization.ObjectSerializer;
+import org.mule.runtime.core.util.IOUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SocketClient} which is safe to share among concurrent requesters. Requests are written back to back on the same
+ * {@link Socket} without waiting for the previous responses, and a single reader thread hands each response over to the
+ * requester waiting for it.
+ * <p>
+ * Responses are expected in the same order as the requests unless a {@link ResponseCorrelator} is given, in which case they are
+ * matched by correlation id. Responses which no requester is waiting for, such as the ones to requests sent through
+ * {@link #write(Object, String)}, are kept (up to the max amount of requests in flight) until they are taken through
+ * {@link #read()}.
+ * <p>
+ * Writes are serialized by a lock which the reader thread never needs, so a write blocked on a full socket buffer can not keep
+ * responses from being consumed.
+ *
+ * @since 4.0
+ */
+public final class PipelinedTcpClient implements SocketClient {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PipelinedTcpClient.class);
+  private static final long READER_SHUTDOWN_TIMEOUT = 5000;
+
+  private final Socket socket;
+  private final TcpProtocol protocol;
+  private final ResponseCorrelator correlator;
+  private final ObjectSerializer objectSerializer;
+  private final Integer responseTimeout;
+  private final Semaphore inFlight;
+  private final int maxUnsolicited;
+  private final OutputStream dataOut;
+  private final InputStream dataIn;
+  private final Thread reader;
+  private final Object writeLock = new Object();
+  private final Queue<CompletableFuture<InputStream>> pendingInOrder = new ConcurrentLinkedQueue<>();
+  private final Map<Object, CompletableFuture<InputStream>> pendingById = new ConcurrentHashMap<>();
+  private final Object unsolicitedLock = new Object();
+  private final Queue<InputStream> unsolicited = new ArrayDeque<>();
+  private final Queue<CompletableFuture<InputStream>> pendingReads = new ArrayDeque<>();
+  private volatile IOException failure;
+
+  /**
+   * Creates a new instance and starts its reader thread, which is stopped by {@link #close()}
+   *
+   * @param socket a connected {@link Socket}. Its read timeout should be disabled, since the reader thread is expected to be idle
+   *        while there are no requests
+   * @param protocol the {@link TcpProtocol} used for writing requests and reading responses
+   * @param correlator the {@link ResponseCorrelator} used for matching responses. {@code null} if responses arrive in order
+   * @param objectSerializer the {@link ObjectSerializer} used for obtaining the content of serializable requests
+   * @param responseTimeout how many milliseconds to wait for a response. {@code null} waits indefinitely
+   * @param maxInFlight the maximum amount of requests awaiting a response
+   * @param threadFactory the {@link ThreadFactory} used for creating the reader thread
+   * @throws IOException if the socket streams could not be obtained
+   */
+  public PipelinedTcpClient(Socket socket, TcpProtocol protocol, ResponseCorrelator correlator,
+                            ObjectSerializer objectSerializer, Integer responseTimeout, int maxInFlight,
+                            ThreadFactory threadFactory)
+      throws IOException {
+    this.socket = socket;
+    this.protocol = protocol;
+    this.correlator = correlator;
+    this.objectSerializer = objectSerializer;
+    this.responseTimeout = responseTimeout;
+    this.inFlight = new Semaphore(maxInFlight);
+    this.maxUnsolicited = maxInFlight;
+    this.dataOut = new BufferedOutputStream(socket.getOutputStream());
+    this.dataIn = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+    reader = threadFactory.newThread(this::readResponses);
+    reader.setDaemon(true);
+    reader.start();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The response to the written data, if any, can be obtained through {@link #read()}.
+   */
+  @Override
+  public void write(Object data, String outputEncoding) throws IOException {
+    synchronized (writeLock) {
+      checkNotFailed();
+      if (correlator == null) {
+        // nobody awaits its response, but it still takes its turn among the in order responses
+        CompletableFuture<InputStream> response = new CompletableFuture<>();
+        response.thenAccept(this::unsolicited);
+        pendingInOrder.add(response);
+      }
+      doWrite(data, outputEncoding);
+    }
+  }
+
+  /**
+   * Takes the oldest response which was not awaited by any request sent through {@link #writeAndRead(Object, String)}, waiting
+   * for one to arrive if there is none yet.
+   */
+  @Override
+  public InputStream read() throws IOException {
+    CompletableFuture<InputStream> response = new CompletableFuture<>();
+    synchronized (unsolicitedLock) {
+      checkNotFailed();
+      InputStream message = unsolicited.poll();
+      if (message != null) {
+        return message;
+      }
+      pendingReads.add(response);
+    }
+
+    try {
+      return await(response);
+    } finally {
+      synchronized (unsolicitedLock) {
+        pendingReads.remove(response);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public InputStream writeAndRead(Object data, String outputEncoding) throws IOException {
+    if (data instanceof InputStream) {
+      // the request content may need to be read twice
+      data = IOUtils.toByteArray((InputStream) data);
+    }
+
+    Object id = null;
+    if (correlator != null) {
+      id = correlator.correlationId(getByteArray(data, true, false, outputEncoding, objectSerializer));
+    }
+    CompletableFuture<InputStream> response = new CompletableFuture<>();
+
+    acquire();
+    try {
+      synchronized (writeLock) {
+        checkNotFailed();
+        if (correlator != null) {
+          if (pendingById.putIfAbsent(id, response) != null) {
+            throw new IOException(format("There is already a request awaiting a response with correlation id '%s'", id));
+          }
+        } else {
+          pendingInOrder.add(response);
+        }
+
+        // a failure could have discarded the pending requests right before this one was added
+        checkNotFailed();
+        doWrite(data, outputEncoding);
+      }
+
+      return await(response);
+    } finally {
+      if (id != null) {
+        // only removes it if it is still there, which happens when it timed out or failed
+        pendingById.remove(id, response);
+      }
+      inFlight.release();
+    }
+  }
+
+  private void doWrite(Object data, String outputEncoding) throws IOException {
+    try {
+      protocol.write(dataOut, data, outputEncoding);
+      dataOut.flush();
+    } catch (IOException e) {
+      fail(e);
+      throw e;
+    }
+  }
+
+  private void acquire() throws IOException {
+    try {
+      if (responseTimeout == null) {
+        inFlight.acquire();
+      } else if (!inFlight.tryAcquire(responseTimeout, MILLISECONDS)) {
+        throw new ReadingTimeoutException("Too many pipelined requests awaiting a response", null);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting to send pipelined request", e);
+    }
+  }
+
+  private InputStream await(CompletableFuture<InputStream> response) throws IOException {
+    try {
+      return responseTimeout == null ? response.get() : response.get(responseTimeout, MILLISECONDS);
+    } catch (TimeoutException e) {
+      abandon(response);
+      throw new ReadingTimeoutException("Timeout while awaiting for a pipelined response", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Could not read pipelined response", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      abandon(response);
+      throw new IOException("Interrupted while awaiting for a pipelined response", e);
+    }
+  }
+
+  /**
+   * Gives up on a response. In order requests keep their place, so that the responses which follow still reach their requesters,
+   * but the abandoned response is discarded once it arrives
+   */
+  private void abandon(CompletableFuture<InputStream> response) {
+    if (!response.cancel(false)) {
+      response.thenAccept(IOUtils::closeQuietly);
+    }
+  }
+
+  private void readResponses() {
+    try {
+      for (;;) {
+        InputStream message = protocol.read(dataIn);
+        if (message == null) {
+          fail(new IOException("TCP connection was closed by the server"));
+          return;
+        }
+
+        CompletableFuture<InputStream> response;
+        if (correlator != null) {
+          // the correlation id is extracted from the content, so it needs to be fully read
+          byte[] content = IOUtils.toByteArray(message);
+          message.close();
+          message = new ByteArrayInputStream(content);
+          response = pendingById.remove(correlator.correlationId(content));
+        } else {
+          response = pendingInOrder.poll();
+        }
+
+        if (response == null) {
+          unsolicited(message);
+        } else if (!response.complete(message)) {
+          // the requester gave up on it
+          message.close();
+        }
+      }
+    } catch (IOException e) {
+      fail(e);
+    }
+  }
+
+  private void unsolicited(InputStream message) {
+    CompletableFuture<InputStream> reader;
+    synchronized (unsolicitedLock) {
+      reader = pendingReads.poll();
+      if (reader == null && unsolicited.size() < maxUnsolicited) {
+        unsolicited.add(message);
+        return;
+      }
+    }
+
+    if (reader == null || !reader.complete(message)) {
+      IOUtils.closeQuietly(message);
+      if (LOGGER.isWarnEnabled()) {
+        LOGGER.warn("Discarding TCP response which matches no pending request");
+      }
+    }
+  }
+
+  private void checkNotFailed() throws IOException {
+    if (failure != null) {
+      throw new IOException("Pipelined TCP connection is no longer usable", failure);
+    }
+  }
+
+  private void fail(IOException e) {
+    synchronized (unsolicitedLock) {
+      if (failure == null) {
+        failure = e;
+      }
+      pendingReads.forEach(response -> response.completeExceptionally(e));
+      pendingReads.clear();
+      unsolicited.forEach(IOUtils::closeQuietly);
+      unsolicited.clear();
+    }
+
+    CompletableFuture<InputStream> response;
+    while ((response = pendingInOrder.poll()) != null) {
+      response.completeExceptionally(e);
+    }
+    pendingById.values().forEach(pending -> pending.completeExceptionally(e));
+    pendingById.clear();
+  }
+
+  /**
+   * @return whether an error left this client unable to send more requests
+   */
+  public boolean isFailed() {
+    return failure != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Closing the socket unblocks the reader thread, which this method waits for before returning.
+   */
+  @Override
+  public void close() throws IOException {
+    fail(new IOException("Pipelined TCP client was closed"));
+    try {
+      socket.close();
+    } finally {
+      stopReader();
+    }
+  }
+
+  private void stopReader() {
+    if (Thread.currentThread() == reader) {
+      return;
+    }
+
+    reader.interrupt();
+    try {
+      reader.join(READER_SHUTDOWN_TIMEOUT);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+
+    if (reader.isAlive() && LOGGER.isWarnEnabled()) {
+      LOGGER.warn(format("Pipelined TCP reader thread '%s' did not stop after its socket was closed", reader.getName()));
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SocketAttributes getAttributes() {
+    return new ImmutableSocketAttributes(socket);
+  }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.socket.api.client;
+
+/**
+ * Extracts the identifier which relates a response to the request that originated it, for servers which may answer pipelined
+ * requests out of order.
+ * <p>
+ * The same extractor is applied to the content of both requests and responses, so the server is expected to echo the
+ * identifier of each request in its response.
+ *
+ * @since 4.0
+ */
+public interface ResponseCorrelator {
+
+  /**
+   * @param message the content of a request or a response, without the protocol framing
+   * @return the identifier of the message. Not {@code null}
+   */
+  Object correlationId(byte[] message);
+}
@@ -41,6 +41,20 @@ public interface SocketClient {
    */
   InputStream read() throws IOException;
 
+  /**
+   * Writes a request and waits for its response. Clients shared by concurrent requesters override this so each one gets back the
+   * response to its own request.
+   *
+   * @param data to be written into the socket
+   * @param outputEncoding to be used when writing contents of type {@link String}
+   * @return an {@link InputStream} with the response read from the socket
+   * @throws IOException if the request could not be written or its response could not be read
+   */
+  default InputStream writeAndRead(Object data, String outputEncoding) throws IOException {
+    write(data, outputEncoding);
+    return read();
+  }
+
   /**
    * Closes the connection that was held by the client, leaving it unusable.
    *
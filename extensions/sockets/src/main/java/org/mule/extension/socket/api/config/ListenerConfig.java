@@ -36,7 +36,19 @@ public class ListenerConfig extends AbstractSocketConfig {
   @Summary("Defines a threading profile configuration")
   private ThreadingProfile threadingProfile;
 
+  /**
+   * Amount of threads which select over the connections of a non-blocking TCP listener
+   */
+  @Parameter
+  @Optional(defaultValue = "1")
+  @Summary("Amount of selector threads used by non-blocking TCP listeners")
+  private int selectorThreads = 1;
+
   public ThreadingProfile getThreadingProfile() {
     return threadingProfile;
   }
+
+  public int getSelectorThreads() {
+    return selectorThreads;
+  }
 }
@@ -6,6 +6,7 @@
  */
 package org.mule.extension.socket.api.config;
 
+import org.mule.extension.socket.api.provider.tcp.TcpPipelinedRequesterProvider;
 import org.mule.extension.socket.api.provider.tcp.TcpRequesterProvider;
 import org.mule.extension.socket.api.provider.udp.UdpRequesterProvider;
 import org.mule.extension.socket.api.SocketOperations;
@@ -20,7 +21,7 @@ import org.mule.runtime.extension.api.annotation.connector.ConnectionProviders;
  */
 @Configuration(name = "request-config")
 @Operations({SocketOperations.class})
-@ConnectionProviders({TcpRequesterProvider.class, UdpRequesterProvider.class})
+@ConnectionProviders({TcpRequesterProvider.class, TcpPipelinedRequesterProvider.class, UdpRequesterProvider.class})
 public class RequesterConfig extends AbstractSocketConfig {
 
 }
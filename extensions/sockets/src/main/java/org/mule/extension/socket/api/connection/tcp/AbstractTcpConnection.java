@@ -30,7 +30,7 @@ import javax.inject.Inject;
 abstract class AbstractTcpConnection extends AbstractSocketConnection implements Initialisable {
 
   @Inject
-  private MuleContext muleContext;
+  protected MuleContext muleContext;
 
   /**
    * {@link TcpProtocol}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.socket.api.connection.tcp;
+
+import static java.lang.String.format;
+import org.mule.extension.socket.api.ConnectionSettings;
+import org.mule.extension.socket.api.client.PipelinedTcpClient;
+import org.mule.extension.socket.api.client.ResponseCorrelator;
+import org.mule.extension.socket.api.client.SocketClient;
+import org.mule.extension.socket.api.socket.factory.SimpleSocketFactory;
+import org.mule.extension.socket.api.socket.tcp.TcpClientSocketProperties;
+import org.mule.extension.socket.api.socket.tcp.TcpProtocol;
+import org.mule.runtime.api.connection.ConnectionException;
+import org.mule.runtime.api.connection.ConnectionExceptionCode;
+import org.mule.runtime.api.connection.ConnectionValidationResult;
+import org.mule.runtime.core.api.serialization.ObjectSerializer;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A {@link TcpRequesterConnection} which is shared by concurrent requesters through a single {@link PipelinedTcpClient}, instead
+ * of being borrowed by one requester at a time.
+ *
+ * @since 4.0
+ */
+public final class PipelinedTcpRequesterConnection extends TcpRequesterConnection {
+
+  private final ResponseCorrelator correlator;
+  private final Integer responseTimeout;
+  private final int maxInFlight;
+  private final ObjectSerializer objectSerializer;
+  private final ThreadFactory readerThreadFactory;
+  private PipelinedTcpClient client;
+
+  /**
+   * Unlike the other connections, the {@link ObjectSerializer} is received on creation since {@link #connect()} is invoked before
+   * the connection gets injected.
+   */
+  public PipelinedTcpRequesterConnection(ConnectionSettings connectionSettings, ConnectionSettings localAddressSettings,
+                                         TcpProtocol protocol, TcpClientSocketProperties socketProperties,
+                                         SimpleSocketFactory socketFactory, ResponseCorrelator correlator, int maxInFlight,
+                                         ObjectSerializer objectSerializer, ThreadFactory readerThreadFactory)
+      throws ConnectionException {
+    super(connectionSettings, localAddressSettings, protocol, socketProperties, socketFactory);
+    this.correlator = correlator;
+    this.responseTimeout = socketProperties.getClientTimeout();
+    this.maxInFlight = maxInFlight;
+    this.objectSerializer = objectSerializer;
+    this.readerThreadFactory = readerThreadFactory;
+  }
+
+  /**
+   * @return the {@link PipelinedTcpClient} shared by every requester of this connection
+   */
+  @Override
+  public SocketClient getClient() {
+    return client;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The client timeout is enforced while waiting for each response rather than on the socket, since the reader thread is
+   * expected to block while there are no pending requests.
+   */
+  @Override
+  public void connect() throws ConnectionException {
+    super.connect();
+    try {
+      getSocket().setSoTimeout(0);
+      client = new PipelinedTcpClient(getSocket(), protocol, correlator, objectSerializer, responseTimeout, maxInFlight,
+                                      readerThreadFactory);
+    } catch (IOException e) {
+      throw new ConnectionException(format("Could not start pipelined TCP client to host '%s' on port '%d'",
+                                           connectionSettings.getHost(), connectionSettings.getPort()),
+                                    e);
+    }
+  }
+
+  @Override
+  public void doDisconnect() {
+    if (client != null) {
+      try {
+        client.close();
+      } catch (IOException e) {
+        LOGGER.error("An error occurred when closing pipelined TCP client", e);
+      }
+    } else if (getSocket() != null) {
+      super.doDisconnect();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ConnectionValidationResult validate() {
+    if (client != null && client.isFailed()) {
+      return ConnectionValidationResult.failure("Pipelined TCP client is no longer usable", ConnectionExceptionCode.UNKNOWN,
+                                                null);
+    }
+
+    return super.validate();
+  }
+}
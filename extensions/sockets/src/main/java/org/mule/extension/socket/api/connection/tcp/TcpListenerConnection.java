@@ -7,6 +7,7 @@
 package org.mule.extension.socket.api.connection.tcp;
 
 import static java.lang.String.format;
+import static java.nio.channels.SelectionKey.OP_ACCEPT;
 import static org.mule.extension.socket.internal.SocketUtils.configureConnection;
 
 import org.mule.extension.socket.api.ConnectionSettings;
@@ -14,11 +15,14 @@ import org.mule.extension.socket.api.SocketAttributes;
 import org.mule.extension.socket.api.connection.ListenerConnection;
 import org.mule.extension.socket.api.connection.udp.UdpListenerConnection;
 import org.mule.extension.socket.api.socket.factory.SimpleServerSocketFactory;
+import org.mule.extension.socket.api.socket.tcp.NonBlockingTcpProtocol;
 import org.mule.extension.socket.api.socket.tcp.TcpProtocol;
 import org.mule.extension.socket.api.socket.tcp.TcpServerSocketProperties;
 import org.mule.extension.socket.api.socket.tcp.TcpSocketProperties;
 import org.mule.extension.socket.api.worker.SocketWorker;
 import org.mule.extension.socket.api.worker.TcpWorker;
+import org.mule.extension.socket.internal.SocketSelectorPool;
+import org.mule.extension.socket.internal.TcpAcceptHandler;
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.connection.ConnectionExceptionCode;
 import org.mule.runtime.api.connection.ConnectionValidationResult;
@@ -33,6 +37,8 @@ import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.channels.ServerSocketChannel;
+import java.util.concurrent.Executor;
 
 /**
  * Implementation of {@link ListenerConnection} for receiving TCP connections.
@@ -43,14 +49,52 @@ public final class TcpListenerConnection extends AbstractTcpConnection implement
 
   private final TcpServerSocketProperties socketProperties;
   private final SimpleServerSocketFactory serverSocketFactory;
+  private final boolean nonBlocking;
   private ServerSocket serverSocket;
+  private TcpAcceptHandler acceptHandler;
 
   public TcpListenerConnection(ConnectionSettings connectionSettings, TcpProtocol protocol,
                                TcpServerSocketProperties socketProperties, SimpleServerSocketFactory serverSocketFactory)
       throws ConnectionException {
+    this(connectionSettings, protocol, socketProperties, serverSocketFactory, false);
+  }
+
+  /**
+   * @param nonBlocking whether connections are to be served through a {@link SocketSelectorPool} instead of one
+   *        {@link TcpWorker} each. In that case the {@code serverSocketFactory} is ignored and the {@code protocol} needs to be
+   *        a {@link NonBlockingTcpProtocol}
+   */
+  public TcpListenerConnection(ConnectionSettings connectionSettings, TcpProtocol protocol,
+                               TcpServerSocketProperties socketProperties, SimpleServerSocketFactory serverSocketFactory,
+                               boolean nonBlocking)
+      throws ConnectionException {
     super(connectionSettings, protocol);
     this.socketProperties = socketProperties;
     this.serverSocketFactory = serverSocketFactory;
+    this.nonBlocking = nonBlocking;
+  }
+
+  /**
+   * @return whether this connection has to be {@link #register registered} instead of {@link #listen listened} on
+   */
+  public boolean isNonBlocking() {
+    return nonBlocking;
+  }
+
+  /**
+   * Registers the server channel in the given {@link SocketSelectorPool}, which from then on accepts connections and reads
+   * messages from them. Only valid for {@link #isNonBlocking() non-blocking} connections.
+   *
+   * @param selectorPool the {@link SocketSelectorPool} which is going to serve the connections
+   * @param messageHandler the {@link MessageHandler} for the received messages
+   * @param encoding the encoding of the responses
+   * @param workExecutor the {@link Executor} in which the messages are handled
+   */
+  public void register(SocketSelectorPool selectorPool, MessageHandler<InputStream, SocketAttributes> messageHandler,
+                       String encoding, Executor workExecutor) {
+    acceptHandler = new TcpAcceptHandler(serverSocket.getChannel(), selectorPool, (NonBlockingTcpProtocol) protocol,
+                                         socketProperties, messageHandler, encoding, workExecutor);
+    selectorPool.register(serverSocket.getChannel(), OP_ACCEPT, acceptHandler);
   }
 
   /**
@@ -73,6 +117,10 @@ public final class TcpListenerConnection extends AbstractTcpConnection implement
 
   @Override
   public void doDisconnect() {
+    if (acceptHandler != null) {
+      acceptHandler.close();
+    }
+
     try {
       serverSocket.close();
     } catch (IOException e) {
@@ -88,7 +136,13 @@ public final class TcpListenerConnection extends AbstractTcpConnection implement
   @Override
   public void connect() throws ConnectionException {
     try {
-      serverSocket = serverSocketFactory.createServerSocket();
+      if (nonBlocking) {
+        ServerSocketChannel channel = ServerSocketChannel.open();
+        channel.configureBlocking(false);
+        serverSocket = channel.socket();
+      } else {
+        serverSocket = serverSocketFactory.createServerSocket();
+      }
 
       if (socketProperties.getReceiveBufferSize() != null) {
         serverSocket.setReceiveBufferSize(socketProperties.getReceiveBufferSize());
@@ -10,6 +10,7 @@ import static java.lang.String.format;
 import static org.mule.extension.socket.internal.SocketUtils.configureConnection;
 import org.mule.extension.socket.api.connection.RequesterConnection;
 import org.mule.extension.socket.api.socket.factory.SimpleSocketFactory;
+import org.mule.extension.socket.api.client.SocketClient;
 import org.mule.extension.socket.api.client.TcpClient;
 import org.mule.extension.socket.api.ConnectionSettings;
 import org.mule.extension.socket.api.socket.tcp.TcpProtocol;
@@ -47,10 +48,17 @@ public class TcpRequesterConnection extends AbstractTcpConnection implements Req
    * {@inheritDoc}
    */
   @Override
-  public TcpClient getClient() {
+  public SocketClient getClient() {
     return new TcpClient(socket, protocol);
   }
 
+  /**
+   * @return the connected {@link Socket}
+   */
+  protected Socket getSocket() {
+    return socket;
+  }
+
   @Override
   public void doDisconnect() {
     try {
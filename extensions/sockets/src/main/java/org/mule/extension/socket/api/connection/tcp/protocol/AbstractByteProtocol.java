@@ -11,6 +11,7 @@ import org.mule.extension.socket.api.socket.tcp.TcpProtocol;
 import org.mule.runtime.core.api.serialization.DefaultObjectSerializer;
 import org.mule.runtime.core.api.serialization.ObjectSerializer;
 import org.mule.runtime.core.util.NumberUtils;
+import org.mule.runtime.core.util.IOUtils;
 import org.mule.runtime.extension.api.annotation.Parameter;
 import org.mule.runtime.extension.api.annotation.param.Optional;
 
@@ -38,6 +39,7 @@ public abstract class AbstractByteProtocol implements TcpProtocol {
   private static final Logger LOGGER = LoggerFactory.getLogger(DirectProtocol.class);
 
   private static final long PAUSE_PERIOD = 100;
+  private static final int TRANSFER_BUFFER_SIZE = 8192;
   protected static final int EOF = NumberUtils.INTEGER_MINUS_ONE;
   protected static final int NO_MAX_LENGTH = NumberUtils.INTEGER_MINUS_ONE;
   public static final boolean STREAM_OK = true;
@@ -63,6 +65,17 @@ public abstract class AbstractByteProtocol implements TcpProtocol {
     os.write(data);
   }
 
+  /**
+   * Copies a stream straight into the socket through a pooled transfer buffer, instead of collecting it in memory first
+   *
+   * @param is the stream to send
+   * @param os the stream to write to
+   * @throws IOException if reading or writing fails
+   */
+  protected void transfer(InputStream is, OutputStream os) throws IOException {
+    IOUtils.copyPooled(is, os, TRANSFER_BUFFER_SIZE);
+  }
+
   protected int safeRead(InputStream is, byte[] buffer) throws IOException {
     return safeRead(is, buffer, buffer.length);
   }
@@ -77,10 +90,24 @@ public abstract class AbstractByteProtocol implements TcpProtocol {
    * @throws IOException other than socket exceptions
    */
   protected int safeRead(InputStream is, byte[] buffer, int size) throws IOException {
+    return safeRead(is, buffer, 0, size);
+  }
+
+  /**
+   * Manage non-blocking reads and handle errors
+   *
+   * @param is The input stream to read from
+   * @param buffer The buffer to read into
+   * @param offset Where to start writing into the buffer
+   * @param size The amount of data (upper bound) to read
+   * @return The amount of data read (always non-zero, -1 on EOF or socket exception)
+   * @throws IOException other than socket exceptions
+   */
+  protected int safeRead(InputStream is, byte[] buffer, int offset, int size) throws IOException {
     int len;
     try {
       do {
-        len = is.read(buffer, 0, size);
+        len = is.read(buffer, offset, size);
         if (0 == len) {
           // wait for non-blocking input stream
           // use new lock since not expecting notification
@@ -8,6 +8,7 @@ package org.mule.extension.socket.api.connection.tcp.protocol;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import org.apache.commons.io.input.ClassLoaderObjectInputStream;
 import org.apache.log4j.Logger;
@@ -28,6 +29,12 @@ public class CustomClassLoadingLengthProtocol extends LengthProtocol {
     return new ClassLoaderObjectInputStream(this.getClassLoader(), is);
   }
 
+  @Override
+  public InputStream decode(ByteBuffer buffer, boolean endOfStream) throws IOException {
+    InputStream message = super.decode(buffer, endOfStream);
+    return message == null ? null : new ClassLoaderObjectInputStream(this.getClassLoader(), message);
+  }
+
   public ClassLoader getClassLoader() {
     if (this.classLoader == null) {
       this.classLoader = this.getClass().getClassLoader();
@@ -8,6 +8,7 @@ package org.mule.extension.socket.api.connection.tcp.protocol;
 
 import static java.lang.String.format;
 
+import org.mule.extension.socket.api.socket.tcp.NonBlockingTcpProtocol;
 import org.mule.extension.socket.api.socket.tcp.TcpProtocol;
 import org.mule.runtime.core.api.lifecycle.Initialisable;
 import org.mule.runtime.core.api.lifecycle.InitialisationException;
@@ -20,6 +21,7 @@ import org.mule.runtime.extension.api.annotation.param.display.Summary;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -27,7 +29,7 @@ import org.apache.commons.logging.LogFactory;
 /**
  * @since 4.0
  */
-public class CustomProtocol implements TcpProtocol, Initialisable {
+public class CustomProtocol implements NonBlockingTcpProtocol, Initialisable {
 
   private static final Log LOGGER = LogFactory.getLog(CustomProtocol.class);
 
@@ -49,6 +51,14 @@ public class CustomProtocol implements TcpProtocol, Initialisable {
     return delegate.read(is);
   }
 
+  @Override
+  public InputStream decode(ByteBuffer buffer, boolean endOfStream) throws IOException {
+    if (!(delegate instanceof NonBlockingTcpProtocol)) {
+      throw new IOException(format("Custom protocol '%s' does not support non-blocking reads", clazz));
+    }
+    return ((NonBlockingTcpProtocol) delegate).decode(buffer, endOfStream);
+  }
+
   @Override
   public void write(OutputStream os, Object data, String encoding) throws IOException {
     delegate.write(os, data, encoding);
@@ -8,15 +8,20 @@ package org.mule.extension.socket.api.connection.tcp.protocol;
 
 import static org.mule.extension.socket.internal.SocketUtils.getByteArray;
 
+import org.mule.extension.socket.api.socket.tcp.NonBlockingTcpProtocol;
 import org.mule.extension.socket.api.socket.tcp.TcpProtocol;
 import org.mule.runtime.extension.api.annotation.Parameter;
+import org.mule.runtime.core.util.buffer.ByteBufferPool;
+import org.mule.runtime.core.util.buffer.PooledByteBufferInputStream;
 import org.mule.runtime.extension.api.annotation.param.Optional;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
-import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -31,7 +36,7 @@ import org.apache.commons.logging.LogFactory;
  *
  * @since 4.0
  */
-public class DirectProtocol extends AbstractByteProtocol {
+public class DirectProtocol extends AbstractByteProtocol implements NonBlockingTcpProtocol {
 
   protected static final int UNLIMITED = -1;
 
@@ -62,31 +67,77 @@ public class DirectProtocol extends AbstractByteProtocol {
 
   /**
    * {@inheritDoc}
+   * <p>
+   * The message is read into a pooled buffer which is handed over as the payload, and released once the payload is closed.
    */
   @Override
   public InputStream read(InputStream socketIs) throws IOException {
-    return nullIfEmptyArray(consume(socketIs, UNLIMITED));
+    ByteBuffer buffer = consumeToBuffer(socketIs, UNLIMITED);
+    buffer.flip();
+    if (!buffer.hasRemaining()) {
+      ByteBufferPool.heap().release(buffer);
+      return null;
+    }
+
+    return new PooledByteBufferInputStream(ByteBufferPool.heap(), buffer);
   }
 
   protected byte[] consume(InputStream is, int limit) throws IOException {
-    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(bufferSize);
+    ByteBuffer buffer = consumeToBuffer(is, limit);
+    try {
+      return Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.arrayOffset() + buffer.position());
+    } finally {
+      ByteBufferPool.heap().release(buffer);
+    }
+  }
+
+  /**
+   * Reads straight into a pooled heap buffer, which grows on repeated reads
+   *
+   * @return a buffer in write mode holding the data read, to be released by the caller
+   */
+  private ByteBuffer consumeToBuffer(InputStream is, int limit) throws IOException {
+    ByteBuffer buffer = ByteBufferPool.heap().acquire(bufferSize);
+    buffer.limit(buffer.capacity());
 
     try {
-      byte[] buffer = new byte[bufferSize];
       int len;
       int remain = remaining(limit, limit, 0);
       boolean repeat;
       do {
-        len = copy(is, buffer, byteArrayOutputStream, remain);
+        if (buffer.remaining() < remain) {
+          buffer = ByteBufferPool.heap().grow(buffer, Math.max(buffer.capacity() * 2, buffer.position() + remain));
+        }
+
+        len = safeRead(is, buffer.array(), buffer.arrayOffset() + buffer.position(), remain);
+        if (len > 0) {
+          buffer.position(buffer.position() + len);
+        }
         remain = remaining(limit, remain, len);
         repeat = EOF != len && remain > 0 && isRepeat(len, is.available());
       } while (repeat);
-    } finally {
-      byteArrayOutputStream.flush();
-      byteArrayOutputStream.close();
+    } catch (IOException | RuntimeException e) {
+      ByteBufferPool.heap().release(buffer);
+      throw e;
+    }
+
+    return buffer;
+  }
+
+  /**
+   * Everything received so far makes up the message, unless {@link #isRepeat(int, int)} asks to keep reading, in which case the
+   * message is only complete once the peer closes the stream.
+   */
+  @Override
+  public InputStream decode(ByteBuffer buffer, boolean endOfStream) throws IOException {
+    // nothing else is available right now, so only ask whether to wait for more
+    if (!buffer.hasRemaining() || (!endOfStream && isRepeat(buffer.remaining(), 0))) {
+      return null;
     }
 
-    return byteArrayOutputStream.toByteArray();
+    byte[] data = new byte[buffer.remaining()];
+    buffer.get(data);
+    return new ByteArrayInputStream(data);
   }
 
   protected int remaining(int limit, int remain, int len) {
@@ -113,6 +164,11 @@ public class DirectProtocol extends AbstractByteProtocol {
 
   @Override
   public void write(OutputStream os, Object data, String encoding) throws IOException {
+    if (streamOk && data instanceof InputStream) {
+      transfer((InputStream) data, os);
+      return;
+    }
+
     this.writeByteArray(os, getByteArray(data, payloadOnly, streamOk, encoding, objectSerializer));
   }
 }
@@ -9,15 +9,19 @@ package org.mule.extension.socket.api.connection.tcp.protocol;
 import static java.lang.String.format;
 import org.mule.extension.socket.api.exceptions.LengthExceededException;
 import org.mule.extension.socket.api.socket.tcp.TcpProtocol;
+import org.mule.runtime.core.util.IOUtils;
+import org.mule.runtime.core.util.buffer.ByteBufferPool;
+import org.mule.runtime.core.util.buffer.PooledByteBufferInputStream;
 import org.mule.runtime.extension.api.annotation.Parameter;
 import org.mule.runtime.extension.api.annotation.param.Optional;
 
 import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -56,46 +60,75 @@ public class LengthProtocol extends DirectProtocol {
   }
 
   /**
-   * It consumes the socket {@link InputStream} according to {@link this#consume(InputStream)} and then wraps the result into a
-   * {@link ByteArrayInputStream}.
+   * It first reads the size of an int in bytes from the {@link InputStream} that represents the total length of the data to be
+   * read, and then reads the data straight into a pooled buffer which is handed over as the payload.
    *
    * @param socketIs
-   * @return {@code null} if {@link this#consume(InputStream)} throws an {@link IOException} and {@code rethrowExceptionOnRead} is
-   *         not set
+   * @return {@code null} if the message is empty
+   * @throws LengthExceededException if the length of the message to be read exceeds the {@code maxMessageLength} set
+   * @throws EOFException if the stream ends before a whole message is read
    * @throws IOException is thrown if {@code rethrowExceptionOnRead} is set
    */
   public InputStream read(InputStream socketIs) throws IOException {
-    return nullIfEmptyArray(consume(socketIs));
+    byte[] header = new byte[SIZE_INT];
+    int count = 0;
+    while (count < SIZE_INT) {
+      int len = safeRead(socketIs, header, count, SIZE_INT - count);
+      if (EOF == len) {
+        break;
+      }
+      count += len;
+    }
+
+    if (count < SIZE_INT) {
+      throw new EOFException("Length Protocol could not read the message length");
+    }
+
+    int length = ByteBuffer.wrap(header).getInt();
+    validateLength(length);
+    if (length == 0) {
+      return null;
+    }
+
+    ByteBuffer buffer = ByteBufferPool.heap().acquire(length);
+    try {
+      IOUtils.readFully(socketIs, buffer.array(), buffer.arrayOffset(), length);
+    } catch (IOException e) {
+      ByteBufferPool.heap().release(buffer);
+      throw e;
+    }
+
+    return new PooledByteBufferInputStream(ByteBufferPool.heap(), buffer);
   }
 
   /**
-   * It first reads the size of an int in bytes from the {@link InputStream} that represents the total length of the data to be
-   * read.
+   * Peeks at the length prefix and only consumes the buffer once the whole message has been received.
    *
-   * @param inputStream to be read
-   * @return a byte array with the data read from the {@code inputStream}
    * @throws LengthExceededException if the length of the message to be read exceeds the {@code maxMessageLength} set
    */
-  private byte[] consume(InputStream inputStream) throws IOException {
-    DataInputStream dis = new DataInputStream(inputStream);
-    dis.mark(SIZE_INT);
+  @Override
+  public InputStream decode(ByteBuffer buffer, boolean endOfStream) throws IOException {
+    if (buffer.remaining() < SIZE_INT) {
+      return null;
+    }
 
-    if (null == super.consume(dis, SIZE_INT)) {
-      throw new IOException("Length Protocol could not read ");
+    int length = buffer.getInt(buffer.position());
+    validateLength(length);
+
+    if (buffer.remaining() - SIZE_INT < length) {
+      return null;
     }
 
-    dis.reset();
-    int length = dis.readInt();
+    buffer.position(buffer.position() + SIZE_INT);
+    byte[] data = new byte[length];
+    buffer.get(data);
+    return new ByteArrayInputStream(data);
+  }
 
+  private void validateLength(int length) throws LengthExceededException {
     if (length < 0 || (maxMessageLength > 0 && length > maxMessageLength)) {
       throw new LengthExceededException(format(LENGTH_EXCEEDED, length, maxMessageLength));
     }
-
-    // finally read the rest of the data
-    byte[] buffer = new byte[length];
-    dis.readFully(buffer);
-
-    return buffer;
   }
 
   /**
@@ -6,6 +6,7 @@
  */
 package org.mule.extension.socket.api.connection.tcp.protocol;
 
+import org.mule.extension.socket.api.socket.tcp.NonBlockingTcpProtocol;
 import org.mule.extension.socket.api.socket.tcp.TcpProtocol;
 import org.mule.runtime.core.api.serialization.DefaultObjectSerializer;
 import org.mule.runtime.core.api.serialization.ObjectSerializer;
@@ -16,6 +17,7 @@ import org.mule.runtime.extension.api.annotation.param.Optional;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import javax.inject.Inject;
 
@@ -25,12 +27,12 @@ import javax.inject.Inject;
  *
  * @since 4.0
  */
-public class SafeProtocol extends AbstractByteProtocol {
+public class SafeProtocol extends AbstractByteProtocol implements NonBlockingTcpProtocol {
 
   public static final String COOKIE = "You are using SafeProtocol";
 
-  private final TcpProtocol cookieProtocol = new LengthProtocol(COOKIE.length());
-  private TcpProtocol delegate;
+  private final LengthProtocol cookieProtocol = new LengthProtocol(COOKIE.length());
+  private LengthProtocol delegate;
 
   /**
    * Indicates the maximum length of the message
@@ -73,6 +75,42 @@ public class SafeProtocol extends AbstractByteProtocol {
     }
   }
 
+  /**
+   * Decodes the actual data only after assuring that the cookie precedes it. The cookie is left in the buffer until the whole
+   * message has been received.
+   */
+  @Override
+  public InputStream decode(ByteBuffer buffer, boolean endOfStream) throws IOException {
+    int start = buffer.position();
+
+    InputStream cookie = null;
+    try {
+      cookie = cookieProtocol.decode(buffer, endOfStream);
+    } catch (Exception e) {
+      helpUser(e);
+    }
+    if (null == cookie) {
+      if (endOfStream && buffer.hasRemaining()) {
+        // EOF in the middle of the cookie
+        helpUser();
+      }
+      return null;
+    }
+    if (!isCookie(IOUtils.toString(cookie))) {
+      helpUser();
+    }
+
+    InputStream result = delegate.decode(buffer, endOfStream);
+    if (null == result) {
+      if (endOfStream) {
+        // EOF after cookie but before data
+        helpUser();
+      }
+      buffer.position(start);
+    }
+    return result;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -107,8 +145,11 @@ public class SafeProtocol extends AbstractByteProtocol {
       helpUser(e);
     }
     if (null != cookie) {
-      String parsedCookie = IOUtils.toString((InputStream) cookie);
-      if (parsedCookie.length() != COOKIE.length() || !COOKIE.equals(parsedCookie)) {
+      boolean isCookie;
+      try (InputStream cookieStream = (InputStream) cookie) {
+        isCookie = isCookie(IOUtils.toString(cookieStream));
+      }
+      if (!isCookie) {
         helpUser();
       } else {
         return true;
@@ -117,6 +158,10 @@ public class SafeProtocol extends AbstractByteProtocol {
     return false; // eof
   }
 
+  private boolean isCookie(String parsedCookie) {
+    return parsedCookie.length() == COOKIE.length() && COOKIE.equals(parsedCookie);
+  }
+
   private void helpUser() throws IOException {
     throw new IOException("You are not using a consistent protocol on your TCP transport. "
         + "Please read the documentation for the TCP transport, " + "paying particular attention to the protocol parameter.");
@@ -7,7 +7,6 @@
 package org.mule.extension.socket.api.connection.tcp.protocol;
 
 import static org.mule.extension.socket.internal.SocketUtils.getByteArray;
-import static org.mule.runtime.core.util.IOUtils.copyLarge;
 
 import org.mule.extension.socket.api.SocketOperations;
 import org.mule.extension.socket.api.config.RequesterConfig;
@@ -19,6 +18,7 @@ import org.mule.runtime.api.message.MuleMessage;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * This protocol is an application level {@link TcpProtocol} that wraps an {@link InputStream} and does not consume it. This
@@ -45,12 +45,19 @@ public class StreamingProtocol extends EOFProtocol {
     return is;
   }
 
+  /**
+   * Streaming needs a blocking stream to hand over to the flow, so messages cannot be decoded out of a buffer.
+   */
+  @Override
+  public InputStream decode(ByteBuffer buffer, boolean endOfStream) throws IOException {
+    throw new IOException("Streaming protocol cannot be used with a non-blocking listener");
+  }
 
   @Override
   public void write(OutputStream os, Object data, String encoding) throws IOException {
     if (data instanceof InputStream) {
       InputStream is = (InputStream) data;
-      copyLarge(is, os);
+      transfer(is, os);
       os.flush();
       os.close();
       is.close();
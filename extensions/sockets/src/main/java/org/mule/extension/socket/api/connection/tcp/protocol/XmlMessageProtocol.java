@@ -8,10 +8,14 @@ package org.mule.extension.socket.api.connection.tcp.protocol;
 
 import static org.mule.extension.socket.internal.SocketUtils.getByteArray;
 
+import org.mule.extension.socket.api.socket.tcp.NonBlockingTcpProtocol;
+
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -40,9 +44,10 @@ import java.util.concurrent.ConcurrentMap;
  * insure that unread characters remain on the stream so that all data may be read later.
  * </p>
  */
-public class XmlMessageProtocol extends AbstractByteProtocol {
+public class XmlMessageProtocol extends AbstractByteProtocol implements NonBlockingTcpProtocol {
 
   private static final String XML_PATTERN = "<?xml";
+  private static final byte[] XML_PATTERN_BYTES = XML_PATTERN.getBytes();
 
   private static final int READ_BUFFER_SIZE = 4096;
   private static final int PUSHBACK_BUFFER_SIZE = READ_BUFFER_SIZE * 2;
@@ -112,6 +117,47 @@ public class XmlMessageProtocol extends AbstractByteProtocol {
     }
   }
 
+  /**
+   * Decodes up to the next xml declaration. There is no need for pushback here, since the data after it are simply left in the
+   * buffer.
+   */
+  @Override
+  public InputStream decode(ByteBuffer buffer, boolean endOfStream) throws IOException {
+    if (!buffer.hasRemaining()) {
+      return null;
+    }
+
+    // start search at 2nd byte to indicate whether we have reached a new document.
+    int patternIndex = indexOf(buffer, XML_PATTERN_BYTES, 1);
+    int length;
+    if (patternIndex > 0) {
+      length = patternIndex;
+    } else if (endOfStream || !isRepeat(patternIndex, READ_BUFFER_SIZE, 0)) {
+      length = buffer.remaining();
+    } else {
+      return null;
+    }
+
+    byte[] data = new byte[length];
+    buffer.get(data);
+    return new ByteArrayInputStream(data);
+  }
+
+  private int indexOf(ByteBuffer buffer, byte[] pattern, int from) {
+    int start = buffer.position();
+    int last = buffer.limit() - pattern.length;
+    for (int i = start + from; i <= last; ++i) {
+      int j = 0;
+      while (j < pattern.length && buffer.get(i + j) == pattern[j]) {
+        ++j;
+      }
+      if (j == pattern.length) {
+        return i - start;
+      }
+    }
+    return -1;
+  }
+
   @Override
   public void write(OutputStream os, Object data, String encoding) throws IOException {
     this.writeByteArray(os, getByteArray(data, true, streamOk, encoding, objectSerializer));
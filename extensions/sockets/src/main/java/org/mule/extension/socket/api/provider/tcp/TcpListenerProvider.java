@@ -6,18 +6,23 @@
  */
 package org.mule.extension.socket.api.provider.tcp;
 
+import static java.lang.String.format;
 import static org.mule.extension.socket.api.SocketsExtension.TLS;
 import static org.mule.extension.socket.api.SocketsExtension.TLS_CONFIGURATION;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.extension.api.annotation.param.display.Placement.ADVANCED;
 import org.mule.extension.socket.api.ConnectionSettings;
 import org.mule.extension.socket.api.connection.tcp.TcpListenerConnection;
 import org.mule.extension.socket.api.connection.tcp.protocol.SafeProtocol;
+import org.mule.extension.socket.api.connection.tcp.protocol.StreamingProtocol;
 import org.mule.extension.socket.api.socket.factory.SimpleServerSocketFactory;
 import org.mule.extension.socket.api.socket.factory.SslServerSocketFactory;
 import org.mule.extension.socket.api.socket.factory.TcpServerSocketFactory;
+import org.mule.extension.socket.api.socket.tcp.NonBlockingTcpProtocol;
 import org.mule.extension.socket.api.socket.tcp.TcpProtocol;
 import org.mule.extension.socket.api.socket.tcp.TcpServerSocketProperties;
 import org.mule.extension.socket.api.source.SocketListener;
+import org.mule.extension.socket.internal.SocketSelectorPool;
 import org.mule.extension.socket.internal.SocketUtils;
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.connection.ConnectionProvider;
@@ -79,8 +84,23 @@ public final class TcpListenerProvider implements ConnectionProvider<TcpListener
   @Summary("TCP Protocol to use to receive external request")
   private TcpProtocol protocol = new SafeProtocol();
 
+  /**
+   * Whether accepted connections should be served by a few selector threads instead of a dedicated thread each. Only protocols
+   * able to frame messages out of buffered data can be used this way, which excludes the {@link StreamingProtocol}. TLS is not
+   * supported in this mode.
+   */
+  @Parameter
+  @Optional(defaultValue = "false")
+  @Placement(tab = ADVANCED)
+  @Summary("Whether to serve connections with non-blocking IO")
+  private boolean nonBlocking = false;
+
   @Override
   public TcpListenerConnection connect() throws ConnectionException {
+    if (nonBlocking) {
+      return connectNonBlocking();
+    }
+
     SimpleServerSocketFactory serverSocketFactory = null;
 
     try {
@@ -95,6 +115,25 @@ public final class TcpListenerProvider implements ConnectionProvider<TcpListener
     return connection;
   }
 
+  /**
+   * Creates a connection which is going to be served by a {@link SocketSelectorPool}
+   */
+  private TcpListenerConnection connectNonBlocking() throws ConnectionException {
+    if (tlsContext != null) {
+      throw new ConnectionException("TLS cannot be used by a non-blocking TCP listener");
+    }
+
+    if (!(protocol instanceof NonBlockingTcpProtocol) || protocol instanceof StreamingProtocol) {
+      throw new ConnectionException(format("Protocol '%s' cannot be used by a non-blocking TCP listener",
+                                           protocol.getClass().getName()));
+    }
+
+    TcpListenerConnection connection =
+        new TcpListenerConnection(connectionSettings, protocol, tcpServerSocketProperties, null, true);
+    connection.connect();
+    return connection;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.socket.api.provider.tcp;
+
+import static java.lang.String.format;
+import static org.mule.extension.socket.api.SocketsExtension.TLS;
+import static org.mule.extension.socket.api.SocketsExtension.TLS_CONFIGURATION;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.util.concurrent.ThreadNameHelper.getPrefix;
+import static org.mule.runtime.extension.api.annotation.param.display.Placement.ADVANCED;
+import static org.mule.runtime.extension.api.annotation.param.display.Placement.CONNECTION;
+import org.mule.extension.socket.api.ConnectionSettings;
+import org.mule.extension.socket.api.SocketOperations;
+import org.mule.extension.socket.api.client.ResponseCorrelator;
+import org.mule.extension.socket.api.connection.tcp.PipelinedTcpRequesterConnection;
+import org.mule.extension.socket.api.connection.tcp.protocol.SafeProtocol;
+import org.mule.extension.socket.api.connection.tcp.protocol.StreamingProtocol;
+import org.mule.extension.socket.api.socket.factory.SimpleSocketFactory;
+import org.mule.extension.socket.api.socket.factory.SslSocketFactory;
+import org.mule.extension.socket.api.socket.factory.TcpSocketFactory;
+import org.mule.extension.socket.api.socket.tcp.TcpClientSocketProperties;
+import org.mule.extension.socket.api.socket.tcp.TcpProtocol;
+import org.mule.extension.socket.internal.SocketUtils;
+import org.mule.runtime.api.connection.CachedConnectionProvider;
+import org.mule.runtime.api.connection.ConnectionException;
+import org.mule.runtime.api.connection.ConnectionProvider;
+import org.mule.runtime.api.connection.ConnectionValidationResult;
+import org.mule.runtime.api.tls.TlsContextFactory;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.MuleRuntimeException;
+import org.mule.runtime.core.api.lifecycle.Initialisable;
+import org.mule.runtime.core.api.lifecycle.InitialisationException;
+import org.mule.runtime.core.config.i18n.CoreMessages;
+import org.mule.runtime.core.util.ClassUtils;
+import org.mule.runtime.core.util.concurrent.NamedThreadFactory;
+import org.mule.runtime.extension.api.annotation.Alias;
+import org.mule.runtime.extension.api.annotation.Parameter;
+import org.mule.runtime.extension.api.annotation.ParameterGroup;
+import org.mule.runtime.extension.api.annotation.param.ConfigName;
+import org.mule.runtime.extension.api.annotation.param.Optional;
+import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
+import org.mule.runtime.extension.api.annotation.param.display.Summary;
+
+import java.net.Socket;
+import java.util.concurrent.ThreadFactory;
+
+import javax.inject.Inject;
+import javax.net.ssl.SSLSocket;
+
+/**
+ * A {@link ConnectionProvider} which provides a single {@link PipelinedTcpRequesterConnection} shared by all the
+ * {@link SocketOperations} of a config, so concurrent requests do not need a socket each.
+ *
+ * @since 4.0
+ */
+@Alias("tcp-pipelined-requester")
+public final class TcpPipelinedRequesterProvider
+    implements CachedConnectionProvider<PipelinedTcpRequesterConnection>, Initialisable {
+
+  private static final String READER_THREAD_NAME_PATTERN = "%s%s.tcp.pipelined.reader";
+
+  @Inject
+  private MuleContext muleContext;
+
+  @ConfigName
+  private String configName;
+
+  /**
+   * Its presence will imply the use of {@link SSLSocket} instead of plain TCP {@link Socket} for establishing a connection over
+   * SSL.
+   */
+  @Parameter
+  @Optional
+  @Placement(group = TLS_CONFIGURATION, tab = TLS)
+  @DisplayName(TLS_CONFIGURATION)
+  private TlsContextFactory tlsContext;
+
+  /**
+   * This configuration parameter refers to the address where the {@link Socket} should connect to.
+   */
+  @ParameterGroup
+  private ConnectionSettings connectionSettings;
+
+  /**
+   * {@link Socket} configuration properties
+   */
+  @ParameterGroup
+  private TcpClientSocketProperties tcpClientSocketProperties;
+
+  /**
+   * This configuration parameter refers to the address where the {@link Socket} should bind to.
+   */
+  @Parameter
+  @Optional
+  @Placement(group = "Local Address Settings")
+  ConnectionSettings localAddressSettings = new ConnectionSettings();
+
+  /**
+   * {@link TcpProtocol} that knows how the data is going to be read and written. If not specified, the {@link SafeProtocol} will
+   * be used. The {@link StreamingProtocol} cannot be used, since it cannot tell where a response ends.
+   */
+  @Parameter
+  @Optional
+  @Summary("TCP Protocol to use when doing requests")
+  @Placement(group = CONNECTION, order = 3)
+  private TcpProtocol protocol = new SafeProtocol();
+
+  /**
+   * Full qualified class name of a {@link ResponseCorrelator} used for matching responses with their requests. If not
+   * specified, the server is expected to answer requests in the same order in which it receives them.
+   */
+  @Parameter
+  @Optional
+  @Placement(tab = ADVANCED)
+  @Summary("Full qualified class name of a 'ResponseCorrelator' for servers which answer out of order")
+  private String correlator;
+
+  /**
+   * Maximum amount of requests which can be awaiting a response at the same time
+   */
+  @Parameter
+  @Optional(defaultValue = "64")
+  @Placement(tab = ADVANCED)
+  @Summary("Maximum amount of requests awaiting a response at the same time")
+  private int maxInFlight = 64;
+
+  private ResponseCorrelator responseCorrelator;
+  private ThreadFactory readerThreadFactory;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public PipelinedTcpRequesterConnection connect() throws ConnectionException {
+    SimpleSocketFactory simpleSocketFactory = null;
+
+    try {
+      simpleSocketFactory = tlsContext != null ? new SslSocketFactory(tlsContext) : new TcpSocketFactory();
+    } catch (Exception e) {
+      throw new MuleRuntimeException(e);
+    }
+
+    PipelinedTcpRequesterConnection connection =
+        new PipelinedTcpRequesterConnection(connectionSettings, localAddressSettings, protocol, tcpClientSocketProperties,
+                                            simpleSocketFactory, responseCorrelator, maxInFlight,
+                                            muleContext.getObjectSerializer(), readerThreadFactory);
+    connection.connect();
+    return connection;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void disconnect(PipelinedTcpRequesterConnection connection) {
+    connection.disconnect();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ConnectionValidationResult validate(PipelinedTcpRequesterConnection connection) {
+    return SocketUtils.validate(connection);
+  }
+
+  @Override
+  public void initialise() throws InitialisationException {
+    if (protocol instanceof StreamingProtocol) {
+      throw new InitialisationException(CoreMessages
+          .createStaticMessage("Streaming protocol cannot be used by a pipelined TCP requester"), this);
+    }
+
+    if (maxInFlight < 1) {
+      throw new InitialisationException(CoreMessages.createStaticMessage("maxInFlight must be greater than zero"), this);
+    }
+
+    if (correlator != null) {
+      try {
+        responseCorrelator = (ResponseCorrelator) ClassUtils.instanciateClass(correlator);
+      } catch (Exception e) {
+        throw new InitialisationException(CoreMessages
+            .createStaticMessage(format("Could not instantiate response correlator '%s'", correlator)), e, this);
+      }
+    }
+
+    readerThreadFactory = new NamedThreadFactory(format(READER_THREAD_NAME_PATTERN, getPrefix(muleContext), configName),
+                                                 muleContext.getExecutionClassLoader());
+
+    initialiseIfNeeded(tlsContext);
+  }
+}
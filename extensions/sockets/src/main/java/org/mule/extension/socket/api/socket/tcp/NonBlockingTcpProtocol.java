@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.socket.api.socket.tcp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link TcpProtocol} which can also frame messages out of data that has already been received, without blocking on the
+ * socket. Only protocols implementing this interface can be used by non-blocking listeners.
+ *
+ * @since 4.0
+ */
+public interface NonBlockingTcpProtocol extends TcpProtocol {
+
+  /**
+   * Tries to decode the next message out of the given buffer.
+   * <p>
+   * The buffer is in read mode. If it contains a whole message, its position is moved past that message and the message is
+   * returned. Otherwise the position is left untouched and {@code null} is returned, so the caller can retry once more data are
+   * available.
+   *
+   * @param buffer the data received so far and not yet consumed
+   * @param endOfStream whether the peer has closed its side of the connection, so no more data will come
+   * @return an {@link InputStream} with the decoded message, or {@code null} if the buffer does not hold a complete one yet
+   * @throws IOException if the data in the buffer do not conform to the protocol
+   */
+  InputStream decode(ByteBuffer buffer, boolean endOfStream) throws IOException;
+}
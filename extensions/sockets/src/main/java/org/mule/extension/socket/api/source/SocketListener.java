@@ -14,7 +14,9 @@ import static org.mule.runtime.core.util.concurrent.ThreadNameHelper.getPrefix;
 import org.mule.extension.socket.api.SocketAttributes;
 import org.mule.extension.socket.api.config.ListenerConfig;
 import org.mule.extension.socket.api.connection.ListenerConnection;
+import org.mule.extension.socket.api.connection.tcp.TcpListenerConnection;
 import org.mule.extension.socket.api.worker.SocketWorker;
+import org.mule.extension.socket.internal.SocketSelectorPool;
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.core.exception.MessagingException;
 import org.mule.runtime.core.api.MuleContext;
@@ -22,6 +24,7 @@ import org.mule.runtime.core.api.config.ThreadingProfile;
 import org.mule.runtime.core.api.construct.FlowConstruct;
 import org.mule.runtime.core.api.construct.FlowConstructAware;
 import org.mule.runtime.core.api.context.WorkManager;
+import org.mule.runtime.core.util.concurrent.NamedThreadFactory;
 import org.mule.runtime.extension.api.annotation.param.Connection;
 import org.mule.runtime.extension.api.annotation.param.UseConfig;
 import org.mule.runtime.extension.api.runtime.source.Source;
@@ -41,7 +44,9 @@ import org.slf4j.LoggerFactory;
  * Listens for socket connections of the given protocol in the configured host and port.
  * <p>
  * Whenever a new connection is received, this {@link Source} will schedule a a {@link SocketWorker} that will handle the
- * communication for that particular connection.
+ * communication for that particular connection. Non-blocking TCP connections are instead registered in a
+ * {@link SocketSelectorPool}, which reads from all of them with a few threads and only hands complete messages over to the
+ * {@link WorkManager}.
  *
  * @since 4.0
  */
@@ -49,6 +54,7 @@ public final class SocketListener extends Source<InputStream, SocketAttributes>
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SocketListener.class);
   private ExecutorService executorService;
+  private SocketSelectorPool selectorPool;
   private FlowConstruct flowConstruct;
 
   @Inject
@@ -76,11 +82,21 @@ public final class SocketListener extends Source<InputStream, SocketAttributes>
     workManager =
         threadingProfile.createWorkManager("SocketListenerWorkManager", muleContext.getConfiguration().getShutdownTimeout());
     workManager.start();
+    stopRequested.set(false);
+
+    if (connection instanceof TcpListenerConnection && ((TcpListenerConnection) connection).isNonBlocking()) {
+      selectorPool = new SocketSelectorPool(new NamedThreadFactory(format("%s%s.socket.selector", getPrefix(muleContext),
+                                                                          flowConstruct.getName()),
+                                                                   muleContext.getExecutionClassLoader()),
+                                            config.getSelectorThreads());
+      ((TcpListenerConnection) connection).register(selectorPool, sourceContext.getMessageHandler(),
+                                                    config.getDefaultEncoding(), workManager);
+      return;
+    }
 
     executorService =
         newSingleThreadExecutor(r -> new Thread(r,
                                                 format("%s%s.socket.listener", getPrefix(muleContext), flowConstruct.getName())));
-    stopRequested.set(false);
     executorService.execute(this::listen);
   }
 
@@ -149,6 +165,10 @@ public final class SocketListener extends Source<InputStream, SocketAttributes>
   @Override
   public void stop() {
     stopRequested.set(true);
+    if (selectorPool != null) {
+      selectorPool.stop();
+      selectorPool = null;
+    }
     workManager.dispose();
     shutdownExecutor();
   }
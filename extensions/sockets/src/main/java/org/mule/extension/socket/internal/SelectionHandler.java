@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.socket.internal;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.util.concurrent.Executor;
+
+/**
+ * Reacts to the readiness of a channel registered in a {@link SocketSelectorPool}. All the methods are invoked from the selector
+ * thread that owns the channel.
+ *
+ * @since 4.0
+ */
+public interface SelectionHandler {
+
+  /**
+   * Invoked once the channel has been registered
+   *
+   * @param key the {@link SelectionKey} of the channel
+   * @param selectorThread an {@link Executor} which runs tasks in the selector thread that owns the channel. Other threads must go
+   *        through it to touch the channel's {@link SelectionKey}
+   */
+  void onRegistered(SelectionKey key, Executor selectorThread);
+
+  /**
+   * Invoked when the channel is ready for any of the operations it is interested in
+   *
+   * @param key the {@link SelectionKey} of the channel
+   * @throws IOException if the channel failed, in which case it is closed through {@link #close()}
+   */
+  void onSelected(SelectionKey key) throws IOException;
+
+  /**
+   * Closes the channel and releases any resource associated to it
+   */
+  void close();
+}
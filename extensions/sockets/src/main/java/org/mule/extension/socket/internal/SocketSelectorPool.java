@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.socket.internal;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.mule.runtime.core.util.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A fixed set of threads, each one selecting on its own {@link Selector}, which can be shared by many non-blocking listeners.
+ * Registered channels are spread over the threads round robin and stay with the same thread for their whole life, so their
+ * {@link SelectionHandler} never needs to synchronize.
+ *
+ * @since 4.0
+ */
+public final class SocketSelectorPool {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SocketSelectorPool.class);
+
+  private final SelectorLoop[] loops;
+  private final ExecutorService executor;
+  private final AtomicInteger next = new AtomicInteger();
+  private volatile boolean stopped = false;
+
+  /**
+   * Creates and starts a new pool
+   *
+   * @param threadFactory the {@link ThreadFactory} used to create the selector threads
+   * @param size how many selector threads to use
+   * @throws IOException if a {@link Selector} could not be opened
+   */
+  public SocketSelectorPool(ThreadFactory threadFactory, int size) throws IOException {
+    checkArgument(size > 0, "Selector pool size must be greater than zero");
+
+    loops = new SelectorLoop[size];
+    for (int i = 0; i < size; ++i) {
+      loops[i] = new SelectorLoop();
+    }
+
+    executor = newFixedThreadPool(size, threadFactory);
+    for (SelectorLoop loop : loops) {
+      executor.execute(loop);
+    }
+  }
+
+  /**
+   * Registers a non-blocking channel in one of the selector threads.
+   *
+   * @param channel the channel to register
+   * @param ops the initial interest set
+   * @param handler the {@link SelectionHandler} which will react to the channel's readiness
+   */
+  public void register(SelectableChannel channel, int ops, SelectionHandler handler) {
+    SelectorLoop loop = loops[Math.floorMod(next.getAndIncrement(), loops.length)];
+    loop.execute(() -> loop.register(channel, ops, handler));
+  }
+
+  /**
+   * Stops the selector threads, closing every channel which is still registered
+   */
+  public void stop() {
+    stopped = true;
+    for (SelectorLoop loop : loops) {
+      loop.selector.wakeup();
+    }
+    executor.shutdown();
+  }
+
+  private class SelectorLoop implements Runnable, Executor {
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    private SelectorLoop() throws IOException {
+      selector = Selector.open();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+      tasks.add(task);
+      selector.wakeup();
+    }
+
+    private void register(SelectableChannel channel, int ops, SelectionHandler handler) {
+      try {
+        handler.onRegistered(channel.register(selector, ops, handler), this);
+      } catch (IOException e) {
+        LOGGER.warn("Could not register channel in selector", e);
+        handler.close();
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (!stopped) {
+          Runnable task;
+          while ((task = tasks.poll()) != null) {
+            task.run();
+          }
+
+          selector.select();
+
+          Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+          while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+
+            SelectionHandler handler = (SelectionHandler) key.attachment();
+            try {
+              if (key.isValid()) {
+                handler.onSelected(key);
+              }
+            } catch (IOException | CancelledKeyException e) {
+              if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Closing channel after it failed", e);
+              }
+              handler.close();
+            }
+          }
+        }
+      } catch (Exception e) {
+        if (!stopped) {
+          LOGGER.error("Selector thread failed", e);
+        }
+      } finally {
+        for (SelectionKey key : selector.keys()) {
+          ((SelectionHandler) key.attachment()).close();
+        }
+        try {
+          selector.close();
+        } catch (IOException e) {
+          LOGGER.warn("Could not close selector", e);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.socket.internal;
+
+import static java.nio.channels.SelectionKey.OP_READ;
+import static org.mule.extension.socket.internal.SocketUtils.configureConnection;
+import org.mule.extension.socket.api.SocketAttributes;
+import org.mule.extension.socket.api.socket.tcp.NonBlockingTcpProtocol;
+import org.mule.extension.socket.api.socket.tcp.TcpServerSocketProperties;
+import org.mule.runtime.api.connection.ConnectionException;
+import org.mule.runtime.extension.api.runtime.MessageHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link SelectionHandler} for the server channel of a non-blocking listener. Each accepted connection is registered in the same
+ * {@link SocketSelectorPool} with its own {@link TcpConnectionHandler}.
+ *
+ * @since 4.0
+ */
+public final class TcpAcceptHandler implements SelectionHandler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TcpAcceptHandler.class);
+
+  private final ServerSocketChannel serverChannel;
+  private final SocketSelectorPool selectorPool;
+  private final NonBlockingTcpProtocol protocol;
+  private final TcpServerSocketProperties socketProperties;
+  private final MessageHandler<InputStream, SocketAttributes> messageHandler;
+  private final String encoding;
+  private final Executor workExecutor;
+  private final Set<TcpConnectionHandler> connections = ConcurrentHashMap.newKeySet();
+
+  public TcpAcceptHandler(ServerSocketChannel serverChannel, SocketSelectorPool selectorPool, NonBlockingTcpProtocol protocol,
+                          TcpServerSocketProperties socketProperties,
+                          MessageHandler<InputStream, SocketAttributes> messageHandler, String encoding,
+                          Executor workExecutor) {
+    this.serverChannel = serverChannel;
+    this.selectorPool = selectorPool;
+    this.protocol = protocol;
+    this.socketProperties = socketProperties;
+    this.messageHandler = messageHandler;
+    this.encoding = encoding;
+    this.workExecutor = workExecutor;
+  }
+
+  @Override
+  public void onRegistered(SelectionKey key, Executor selectorThread) {
+    // nothing to do
+  }
+
+  @Override
+  public void onSelected(SelectionKey key) throws IOException {
+    SocketChannel channel;
+    while ((channel = serverChannel.accept()) != null) {
+      try {
+        channel.configureBlocking(false);
+        configureConnection(channel.socket(), socketProperties);
+      } catch (IOException | ConnectionException e) {
+        LOGGER.warn("Could not configure accepted TCP connection", e);
+        channel.close();
+        continue;
+      }
+
+      TcpConnectionHandler connection =
+          new TcpConnectionHandler(channel, protocol, messageHandler, encoding, workExecutor, connections::remove);
+      connections.add(connection);
+      selectorPool.register(channel, OP_READ, connection);
+    }
+  }
+
+  /**
+   * Closes the server channel and every connection accepted through it
+   */
+  @Override
+  public void close() {
+    try {
+      serverChannel.close();
+    } catch (IOException e) {
+      LOGGER.warn("Could not close TCP listener channel", e);
+    }
+
+    for (TcpConnectionHandler connection : connections) {
+      connection.close();
+    }
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.socket.internal;
+
+import static java.nio.channels.SelectionKey.OP_READ;
+import static java.nio.channels.SelectionKey.OP_WRITE;
+import static org.mule.extension.socket.internal.SocketUtils.createMuleMessage;
+import org.mule.extension.socket.api.ImmutableSocketAttributes;
+import org.mule.extension.socket.api.SocketAttributes;
+import org.mule.extension.socket.api.socket.tcp.NonBlockingTcpProtocol;
+import org.mule.runtime.api.execution.CompletionHandler;
+import org.mule.runtime.api.execution.ExceptionCallback;
+import org.mule.runtime.api.message.MuleEvent;
+import org.mule.runtime.core.util.buffer.ByteBufferPool;
+import org.mule.runtime.core.util.buffer.PooledByteBufferOutputStream;
+import org.mule.runtime.extension.api.runtime.MessageHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link SelectionHandler} for a TCP connection accepted by a non-blocking listener.
+ * <p>
+ * Received bytes are accumulated until the {@link NonBlockingTcpProtocol} can decode whole messages out of them. Those are then
+ * handled in the work {@link Executor}, and reading stops until all of them have been answered, so responses are always written
+ * back in the order in which the requests arrived.
+ *
+ * @since 4.0
+ */
+public final class TcpConnectionHandler implements SelectionHandler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TcpConnectionHandler.class);
+  private static final int READ_BUFFER_SIZE = 8192;
+
+  private final SocketChannel channel;
+  private final NonBlockingTcpProtocol protocol;
+  private final MessageHandler<InputStream, SocketAttributes> messageHandler;
+  private final String encoding;
+  private final Executor workExecutor;
+  private final Consumer<TcpConnectionHandler> onClose;
+  private final Deque<ByteBuffer> output = new ArrayDeque<>();
+  private SelectionKey key;
+  private Executor selectorThread;
+  private ByteBuffer input = ByteBufferPool.direct().acquire(READ_BUFFER_SIZE);
+  private boolean endOfStream = false;
+  private boolean closeAfterWrite = false;
+
+  public TcpConnectionHandler(SocketChannel channel, NonBlockingTcpProtocol protocol,
+                              MessageHandler<InputStream, SocketAttributes> messageHandler, String encoding,
+                              Executor workExecutor, Consumer<TcpConnectionHandler> onClose) {
+    this.channel = channel;
+    this.protocol = protocol;
+    this.messageHandler = messageHandler;
+    this.encoding = encoding;
+    this.workExecutor = workExecutor;
+    this.onClose = onClose;
+  }
+
+  @Override
+  public void onRegistered(SelectionKey key, Executor selectorThread) {
+    this.key = key;
+    this.selectorThread = selectorThread;
+  }
+
+  @Override
+  public void onSelected(SelectionKey key) throws IOException {
+    if (key.isReadable()) {
+      read();
+    } else if (key.isWritable()) {
+      write();
+    }
+  }
+
+  private void read() throws IOException {
+    if (!input.hasRemaining()) {
+      input = ByteBufferPool.direct().grow(input, input.capacity() * 2);
+    }
+
+    if (channel.read(input) < 0) {
+      endOfStream = true;
+    }
+
+    List<InputStream> messages = decode();
+    if (!messages.isEmpty()) {
+      key.interestOps(0);
+      handle(messages);
+    } else if (endOfStream) {
+      close();
+    }
+  }
+
+  private List<InputStream> decode() throws IOException {
+    List<InputStream> messages = new ArrayList<>();
+    input.flip();
+    try {
+      InputStream message;
+      while ((message = protocol.decode(input, endOfStream)) != null) {
+        messages.add(message);
+      }
+    } finally {
+      input.compact();
+    }
+    return messages;
+  }
+
+  private void handle(List<InputStream> messages) {
+    ByteBuffer[] responses = new ByteBuffer[messages.size()];
+    AtomicInteger pending = new AtomicInteger(messages.size());
+    SocketAttributes attributes = new ImmutableSocketAttributes(channel.socket());
+
+    workExecutor.execute(() -> {
+      for (int i = 0; i < responses.length; ++i) {
+        final int index = i;
+        messageHandler.handle(createMuleMessage(messages.get(i), attributes),
+                              new CompletionHandler<MuleEvent, Exception, MuleEvent>() {
+
+                                @Override
+                                public void onCompletion(MuleEvent muleEvent,
+                                                         ExceptionCallback<MuleEvent, Exception> exceptionCallback) {
+                                  PooledByteBufferOutputStream encoded =
+                                      new PooledByteBufferOutputStream(ByteBufferPool.direct(), READ_BUFFER_SIZE);
+                                  try {
+                                    protocol.write(encoded, muleEvent.getMessage().getPayload(), encoding);
+                                    responses[index] = encoded.toByteBuffer();
+                                  } catch (IOException e) {
+                                    encoded.close();
+                                    exceptionCallback.onException(new IOException("An error occurred while encoding TCP response",
+                                                                                  e));
+                                  }
+                                  completed(pending, responses);
+                                }
+
+                                @Override
+                                public void onFailure(Exception e) {
+                                  LOGGER.error("TCP connection will not answer back due an exception was received", e);
+                                  completed(pending, responses);
+                                }
+                              });
+      }
+    });
+  }
+
+  private void completed(AtomicInteger pending, ByteBuffer[] responses) {
+    if (pending.decrementAndGet() == 0) {
+      selectorThread.execute(() -> processed(responses));
+    }
+  }
+
+  private void processed(ByteBuffer[] responses) {
+    if (!channel.isOpen()) {
+      release(responses);
+      return;
+    }
+
+    for (int i = 0; i < responses.length; ++i) {
+      if (responses[i] == null) {
+        // stop answering after a failure, just like the blocking worker does
+        closeAfterWrite = true;
+        release(Arrays.copyOfRange(responses, i, responses.length));
+        break;
+      }
+      output.add(responses[i]);
+    }
+
+    try {
+      resume();
+    } catch (CancelledKeyException e) {
+      close();
+    }
+  }
+
+  private void write() throws IOException {
+    while (!output.isEmpty()) {
+      ByteBuffer next = output.peek();
+      channel.write(next);
+      if (next.hasRemaining()) {
+        // the socket buffer is full, wait to be writable again
+        return;
+      }
+      ByteBufferPool.direct().release(output.poll());
+    }
+    resume();
+  }
+
+  private void resume() {
+    if (!output.isEmpty()) {
+      key.interestOps(OP_WRITE);
+    } else if (endOfStream || closeAfterWrite) {
+      close();
+    } else {
+      key.interestOps(OP_READ);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (key != null) {
+      key.cancel();
+    }
+    try {
+      channel.close();
+    } catch (IOException e) {
+      if (LOGGER.isWarnEnabled()) {
+        LOGGER.warn("TCP connection close failed", e);
+      }
+    }
+    if (input != null) {
+      ByteBufferPool.direct().release(input);
+      input = null;
+      output.forEach(ByteBufferPool.direct()::release);
+      output.clear();
+    }
+    onClose.accept(this);
+  }
+
+  private void release(ByteBuffer[] buffers) {
+    for (ByteBuffer buffer : buffers) {
+      ByteBufferPool.direct().release(buffer);
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.socket;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import org.mule.extension.socket.api.client.PipelinedTcpClient;
+import org.mule.extension.socket.api.connection.tcp.protocol.LengthProtocol;
+import org.mule.runtime.core.util.IOUtils;
+
+import java.io.InputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class TcpPipelinedSendAndReceiveTestCase extends SocketExtensionTestCase {
+
+  private static final int CONCURRENT_REQUESTS = 16;
+  private static final String READER_THREAD_NAME = "tcp-requester.tcp.pipelined.reader";
+
+  @Override
+  protected String getConfigFile() {
+    return "tcp-pipelined-config.xml";
+  }
+
+  @Test
+  public void sendAndReceive() throws Exception {
+    assertThat(send(TEST_STRING), equalTo(RESPONSE_TEST_STRING));
+  }
+
+  @Test
+  public void concurrentRequestsGetTheirOwnResponse() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+    try {
+      List<Future<String>> responses = new ArrayList<>();
+      for (int i = 0; i < CONCURRENT_REQUESTS; ++i) {
+        final String request = TEST_STRING + i;
+        responses.add(executor.submit((Callable<String>) () -> send(request)));
+      }
+
+      for (int i = 0; i < CONCURRENT_REQUESTS; ++i) {
+        assertThat(responses.get(i).get(TIMEOUT_MILLIS, MILLISECONDS), equalTo(TEST_STRING + i + "_modified"));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void connectionReaderRunsOnNamedDaemonThread() throws Exception {
+    assertThat(send(TEST_STRING), equalTo(RESPONSE_TEST_STRING));
+
+    Thread reader = Thread.getAllStackTraces().keySet().stream()
+        .filter(thread -> thread.getName().contains(READER_THREAD_NAME)).findFirst()
+        .orElseThrow(() -> new AssertionError("No pipelined reader thread was started"));
+    assertThat(reader.isDaemon(), is(true));
+  }
+
+  @Test
+  public void closeStopsReaderThread() throws Exception {
+    LengthProtocol protocol = new LengthProtocol();
+    muleContext.getInjector().inject(protocol);
+    AtomicReference<Thread> reader = new AtomicReference<>();
+
+    PipelinedTcpClient client = new PipelinedTcpClient(new Socket("localhost", dynamicPort.getNumber()), protocol, null,
+                                                       muleContext.getObjectSerializer(), TIMEOUT_MILLIS, 1, runnable -> {
+                                                         reader.set(new Thread(runnable));
+                                                         return reader.get();
+                                                       });
+    try {
+      assertThat(IOUtils.toString(client.writeAndRead(TEST_STRING, UTF_8.name())), equalTo(RESPONSE_TEST_STRING));
+      assertThat(reader.get().isAlive(), is(true));
+    } finally {
+      client.close();
+    }
+
+    assertThat(reader.get().isAlive(), is(false));
+  }
+
+  private String send(String request) throws Exception {
+    InputStream inputStream =
+        (InputStream) flowRunner("tcp-send-and-receive").withPayload(request).run().getMessage().getPayload();
+    return IOUtils.toString(inputStream);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.socket.protocol;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import org.mule.extension.socket.api.connection.tcp.protocol.DirectProtocol;
+import org.mule.extension.socket.api.connection.tcp.protocol.LengthProtocol;
+import org.mule.extension.socket.api.connection.tcp.protocol.SafeProtocol;
+import org.mule.extension.socket.api.exceptions.LengthExceededException;
+import org.mule.extension.socket.api.socket.tcp.NonBlockingTcpProtocol;
+import org.mule.runtime.core.util.IOUtils;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+@SmallTest
+public class NonBlockingProtocolDecodeTestCase extends AbstractMuleTestCase {
+
+  private static final String ENCODING = "UTF-8";
+
+  @Test
+  public void lengthWaitsForWholeMessage() throws Exception {
+    LengthProtocol protocol = new LengthProtocol();
+    byte[] frame = encode(protocol, "first");
+
+    ByteBuffer buffer = ByteBuffer.wrap(frame, 0, frame.length - 1);
+    assertThat(protocol.decode(buffer, false), is(nullValue()));
+    assertThat(buffer.position(), is(0));
+
+    assertThat(decode(protocol, ByteBuffer.wrap(frame)), equalTo("first"));
+  }
+
+  @Test
+  public void lengthDecodesPipelinedMessages() throws Exception {
+    LengthProtocol protocol = new LengthProtocol();
+    ByteBuffer buffer = ByteBuffer.wrap(encode(protocol, "first", "second"));
+
+    assertThat(decode(protocol, buffer), equalTo("first"));
+    assertThat(decode(protocol, buffer), equalTo("second"));
+    assertThat(protocol.decode(buffer, false), is(nullValue()));
+  }
+
+  @Test(expected = LengthExceededException.class)
+  public void lengthRejectsLongMessageBeforeItArrives() throws Exception {
+    byte[] frame = encode(new LengthProtocol(), "too long a message");
+    new LengthProtocol(4).decode(ByteBuffer.wrap(frame, 0, 4), false);
+  }
+
+  @Test
+  public void safeKeepsCookieUntilMessageIsComplete() throws Exception {
+    SafeProtocol protocol = new SafeProtocol();
+    byte[] frame = encode(protocol, "first", "second");
+
+    ByteBuffer partial = ByteBuffer.wrap(frame, 0, frame.length / 2 + 1);
+    assertThat(decode(protocol, partial), equalTo("first"));
+    int consumed = partial.position();
+    assertThat(protocol.decode(partial, false), is(nullValue()));
+    assertThat(partial.position(), is(consumed));
+
+    ByteBuffer whole = ByteBuffer.wrap(frame, consumed, frame.length - consumed);
+    assertThat(decode(protocol, whole), equalTo("second"));
+  }
+
+  @Test(expected = IOException.class)
+  public void safeRejectsMissingCookie() throws Exception {
+    new SafeProtocol().decode(ByteBuffer.wrap(encode(new LengthProtocol(), "no cookie here, not at all")), false);
+  }
+
+  @Test
+  public void directTakesEverythingAvailable() throws Exception {
+    DirectProtocol protocol = new DirectProtocol();
+    assertThat(protocol.decode(ByteBuffer.allocate(0), false), is(nullValue()));
+    assertThat(decode(protocol, ByteBuffer.wrap("data".getBytes(ENCODING))), equalTo("data"));
+  }
+
+  private String decode(NonBlockingTcpProtocol protocol, ByteBuffer buffer) throws IOException {
+    InputStream message = protocol.decode(buffer, false);
+    return message == null ? null : IOUtils.toString(message, ENCODING);
+  }
+
+  private byte[] encode(NonBlockingTcpProtocol protocol, String... messages) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (String message : messages) {
+      protocol.write(out, message, ENCODING);
+    }
+    return out.toByteArray();
+  }
+}
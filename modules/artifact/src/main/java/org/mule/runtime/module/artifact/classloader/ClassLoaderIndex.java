@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.artifact.classloader;
+
+import static java.lang.String.format;
+import static org.apache.commons.io.FileUtils.listFiles;
+import static org.apache.commons.io.filefilter.TrueFileFilter.TRUE;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the packages and resources contained in the URLs of a class loader.
+ * <p>
+ * Maps each package containing classes, and each resource which is not a class, to the positions of the URLs containing them,
+ * so a class loader can go straight to the jars or folders which may contain a class or resource instead of searching all of
+ * them. A package may be split across several URLs, so the URLs returned for a class may not all contain it.
+ * <p>
+ * The entries of the jars are persisted in an index file, which is reused as long as the jars are not modified. Folders are
+ * always scanned, as their content may change without their modification time changing.
+ *
+ * @since 4.0
+ */
+public class ClassLoaderIndex {
+
+  public static final String INDEX_FILE_NAME = ".classloader-index";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ClassLoaderIndex.class);
+
+  private static final int FORMAT_VERSION = 1;
+  private static final int[] NOWHERE = new int[0];
+  private static final String CLASS_SUFFIX = ".class";
+
+  private final URL[] urls;
+  private final File[] files;
+  private final boolean[] directories;
+  private final Map<String, int[]> packageLocations = new HashMap<>();
+  private final Map<String, int[]> resourceLocations = new HashMap<>();
+
+  private ClassLoaderIndex(URL[] urls, File[] files) {
+    this.urls = urls;
+    this.files = files;
+    this.directories = new boolean[files.length];
+  }
+
+  /**
+   * Creates the index of the given URLs, reusing the entries persisted in the index file for the jars which were not modified
+   * since, and persisting it back if any jar had to be scanned.
+   *
+   * @param urls the URLs of the class loader, in lookup order
+   * @param indexFile the file where the index is persisted. When null or in a folder which does not exist, the index is not
+   *        persisted.
+   * @return the index of the URLs, or null if any of them is not a file, as such URLs cannot be indexed.
+   */
+  public static ClassLoaderIndex create(URL[] urls, File indexFile) {
+    File[] files = new File[urls.length];
+    for (int i = 0; i < urls.length; i++) {
+      files[i] = toFile(urls[i]);
+      if (files[i] == null) {
+        LOGGER.debug("Not indexing class loader URLs as '{}' is not a file", urls[i]);
+        return null;
+      }
+    }
+
+    Map<String, JarRecord> persisted = indexFile != null ? readJarRecords(indexFile) : new HashMap<>();
+    Map<String, JarRecord> current = new LinkedHashMap<>();
+    boolean modified = false;
+
+    ClassLoaderIndex index = new ClassLoaderIndex(urls, files);
+    for (int i = 0; i < files.length; i++) {
+      File file = files[i];
+      if (file.isDirectory()) {
+        index.directories[i] = true;
+        index.addDirectory(i, file);
+      } else if (file.isFile()) {
+        JarRecord record = persisted.get(file.getAbsolutePath());
+        if (record == null || record.lastModified != file.lastModified() || record.length != file.length()) {
+          try {
+            record = scanJar(file);
+          } catch (IOException e) {
+            LOGGER.warn(format("Not indexing class loader URLs as '%s' cannot be read", file), e);
+            return null;
+          }
+          modified = true;
+        }
+        current.put(file.getAbsolutePath(), record);
+        for (String entry : record.entries) {
+          index.addEntry(i, entry);
+        }
+      }
+    }
+
+    if (indexFile != null && (modified || !persisted.keySet().equals(current.keySet()))) {
+      writeJarRecords(indexFile, current);
+    }
+    return index;
+  }
+
+  /**
+   * @param className the fully qualified name of a class
+   * @return the positions of the URLs containing classes in the package of the class, in lookup order
+   */
+  public int[] getClassLocations(String className) {
+    int lastDot = className.lastIndexOf('.');
+    return getPackageLocations(lastDot == -1 ? "" : className.substring(0, lastDot).replace('.', '/'));
+  }
+
+  /**
+   * @param resourceName the name of an indexed resource
+   * @return the positions of the URLs which may contain the resource, in lookup order
+   */
+  public int[] getResourceLocations(String resourceName) {
+    if (resourceName.endsWith(CLASS_SUFFIX)) {
+      int lastSlash = resourceName.lastIndexOf('/');
+      return getPackageLocations(lastSlash == -1 ? "" : resourceName.substring(0, lastSlash));
+    }
+    return resourceLocations.getOrDefault(resourceName, NOWHERE);
+  }
+
+  /**
+   * Folders are not indexed, so a lookup of a folder must search all the URLs.
+   *
+   * @param resourceName the name of a resource
+   * @return whether the index can tell which URLs contain the resource
+   */
+  public boolean isIndexed(String resourceName) {
+    return !resourceName.isEmpty() && !resourceName.endsWith("/") && !resourceName.startsWith("/");
+  }
+
+  public URL getUrl(int location) {
+    return urls[location];
+  }
+
+  public File getFile(int location) {
+    return files[location];
+  }
+
+  public boolean isDirectory(int location) {
+    return directories[location];
+  }
+
+  private int[] getPackageLocations(String packagePath) {
+    return packageLocations.getOrDefault(packagePath, NOWHERE);
+  }
+
+  private void addDirectory(int location, File directory) {
+    String root = directory.getAbsolutePath();
+    for (File file : listFiles(directory, TRUE, TRUE)) {
+      addEntry(location, file.getAbsolutePath().substring(root.length() + 1).replace(File.separatorChar, '/'));
+    }
+  }
+
+  private void addEntry(int location, String entry) {
+    if (entry.endsWith(CLASS_SUFFIX)) {
+      int lastSlash = entry.lastIndexOf('/');
+      addLocation(packageLocations, lastSlash == -1 ? "" : entry.substring(0, lastSlash), location);
+    } else {
+      addLocation(resourceLocations, entry, location);
+    }
+  }
+
+  private static void addLocation(Map<String, int[]> locations, String key, int location) {
+    int[] current = locations.get(key);
+    if (current == null) {
+      locations.put(key, new int[] {location});
+    } else if (current[current.length - 1] != location) {
+      int[] extended = new int[current.length + 1];
+      System.arraycopy(current, 0, extended, 0, current.length);
+      extended[current.length] = location;
+      locations.put(key, extended);
+    }
+  }
+
+  private static File toFile(URL url) {
+    if (url == null || !"file".equals(url.getProtocol())) {
+      return null;
+    }
+    try {
+      return new File(url.toURI());
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static JarRecord scanJar(File file) throws IOException {
+    List<String> entries = new ArrayList<>();
+    try (JarFile jarFile = new JarFile(file)) {
+      Enumeration<JarEntry> jarEntries = jarFile.entries();
+      while (jarEntries.hasMoreElements()) {
+        JarEntry entry = jarEntries.nextElement();
+        if (!entry.isDirectory()) {
+          entries.add(entry.getName());
+        }
+      }
+    }
+    return new JarRecord(file.lastModified(), file.length(), entries);
+  }
+
+  private static Map<String, JarRecord> readJarRecords(File indexFile) {
+    Map<String, JarRecord> records = new HashMap<>();
+    if (!indexFile.isFile()) {
+      return records;
+    }
+
+    try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+      if (input.readInt() != FORMAT_VERSION) {
+        return records;
+      }
+      for (int jars = input.readInt(); jars > 0; jars--) {
+        String path = input.readUTF();
+        long lastModified = input.readLong();
+        long length = input.readLong();
+        int entryCount = input.readInt();
+        List<String> entries = new ArrayList<>(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+          entries.add(input.readUTF());
+        }
+        records.put(path, new JarRecord(lastModified, length, entries));
+      }
+    } catch (IOException e) {
+      LOGGER.warn(format("Ignoring class loader index '%s' as it cannot be read: %s", indexFile, e.getMessage()));
+      records.clear();
+    }
+    return records;
+  }
+
+  private static void writeJarRecords(File indexFile, Map<String, JarRecord> records) {
+    if (indexFile.getParentFile() == null || !indexFile.getParentFile().isDirectory()) {
+      return;
+    }
+
+    File tempFile = new File(indexFile.getParentFile(), indexFile.getName() + ".tmp");
+    try {
+      try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt(records.size());
+        for (Map.Entry<String, JarRecord> record : records.entrySet()) {
+          output.writeUTF(record.getKey());
+          output.writeLong(record.getValue().lastModified);
+          output.writeLong(record.getValue().length);
+          output.writeInt(record.getValue().entries.size());
+          for (String entry : record.getValue().entries) {
+            output.writeUTF(entry);
+          }
+        }
+      }
+      indexFile.delete();
+      if (!tempFile.renameTo(indexFile)) {
+        throw new IOException("Cannot rename " + tempFile);
+      }
+    } catch (IOException e) {
+      LOGGER.warn(format("Cannot persist class loader index '%s': %s", indexFile, e.getMessage()));
+      tempFile.delete();
+    }
+  }
+
+  private static class JarRecord {
+
+    private final long lastModified;
+    private final long length;
+    private final List<String> entries;
+
+    private JarRecord(long lastModified, long length, List<String> entries) {
+      this.lastModified = lastModified;
+      this.length = length;
+      this.entries = entries;
+    }
+  }
+}
@@ -18,18 +18,31 @@ import static org.mule.runtime.module.artifact.classloader.ClassLoaderLookupStra
 import org.mule.runtime.core.util.ClassUtils;
 import org.mule.runtime.module.artifact.classloader.exception.CompositeClassNotFoundException;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.net.JarURLConnection;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLStreamHandler;
 import java.net.URLStreamHandlerFactory;
+import java.security.CodeSigner;
+import java.security.CodeSource;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
 
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import sun.misc.CompoundEnumeration;
+import sun.net.www.ParseUtil;
 import sun.net.www.protocol.jar.Handler;
 
 /**
@@ -37,6 +50,9 @@ import sun.net.www.protocol.jar.Handler;
  * <p/>
  * By using a {@link ClassLoaderLookupPolicy} this classLoader can use parent-first, parent-only or child-first classloading
  * lookup mode per package.
+ * <p/>
+ * When created with a {@link ClassLoaderIndex}, local classes and resources are only looked up in the URLs which the index
+ * reports may contain them, and jars are kept open in a {@link JarFileCache} until the class loader is disposed.
  */
 public class FineGrainedControlClassLoader extends URLClassLoader
     implements DisposableClassLoader, ClassLoaderLookupPolicyProvider {
@@ -49,11 +65,28 @@ public class FineGrainedControlClassLoader extends URLClassLoader
 
   private final ClassLoaderLookupPolicy lookupPolicy;
   private final boolean verboseLogging;
+  private final ClassLoaderIndex index;
+  private final JarFileCache jarFileCache = new JarFileCache();
+  private final URLStreamHandler jarHandler = new NonCachingJarResourceURLStreamHandler();
 
   public FineGrainedControlClassLoader(URL[] urls, ClassLoader parent, ClassLoaderLookupPolicy lookupPolicy) {
+    this(urls, parent, lookupPolicy, null);
+  }
+
+  /**
+   * Creates a class loader which looks up local classes and resources using an index.
+   *
+   * @param urls the URLs from which to load classes and resources
+   * @param parent parent class loader in the hierarchy
+   * @param lookupPolicy policy for resolving classes and resources
+   * @param index index of the given URLs, or null to search all of them on every lookup
+   */
+  public FineGrainedControlClassLoader(URL[] urls, ClassLoader parent, ClassLoaderLookupPolicy lookupPolicy,
+                                       ClassLoaderIndex index) {
     super(urls, parent, new NonCachingURLStreamHandlerFactory());
     checkArgument(lookupPolicy != null, "Lookup policy cannot be null");
     this.lookupPolicy = lookupPolicy;
+    this.index = index;
     verboseLogging = logger.isDebugEnabled() || isVerboseLoggingEnabled();
   }
 
@@ -176,10 +209,113 @@ public class FineGrainedControlClassLoader extends URLClassLoader
         return result;
       }
 
+      if (index != null) {
+        return findIndexedClass(name);
+      }
       return super.findClass(name);
     }
   }
 
+  private Class<?> findIndexedClass(String name) throws ClassNotFoundException {
+    String path = name.replace('.', '/').concat(".class");
+    try {
+      for (int location : index.getClassLocations(name)) {
+        URL url = index.getUrl(location);
+        if (index.isDirectory(location)) {
+          File classFile = new File(index.getFile(location), path);
+          if (classFile.isFile()) {
+            return defineIndexedClass(name, FileUtils.readFileToByteArray(classFile), url, null, null);
+          }
+        } else {
+          JarFile jarFile = jarFileCache.get(index.getFile(location));
+          JarEntry entry = jarFile != null ? jarFile.getJarEntry(path) : null;
+          if (entry != null) {
+            byte[] bytes;
+            try (InputStream input = jarFile.getInputStream(entry)) {
+              bytes = IOUtils.toByteArray(input);
+            }
+            // Signers are only available once the entry was fully read
+            return defineIndexedClass(name, bytes, url, jarFile.getManifest(), entry.getCodeSigners());
+          }
+        }
+      }
+    } catch (IOException | IllegalStateException e) {
+      throw new ClassNotFoundException(name, e);
+    }
+    throw new ClassNotFoundException(name);
+  }
+
+  private Class<?> defineIndexedClass(String name, byte[] bytes, URL url, Manifest manifest, CodeSigner[] signers) {
+    int lastDot = name.lastIndexOf('.');
+    if (lastDot != -1) {
+      String packageName = name.substring(0, lastDot);
+      if (getPackage(packageName) == null) {
+        try {
+          if (manifest != null) {
+            definePackage(packageName, manifest, url);
+          } else {
+            definePackage(packageName, null, null, null, null, null, null, null);
+          }
+        } catch (IllegalArgumentException e) {
+          // Defined concurrently by another thread
+        }
+      }
+    }
+    return defineClass(name, bytes, 0, bytes.length, new CodeSource(url, signers));
+  }
+
+  @Override
+  public URL findResource(String name) {
+    if (index == null || !index.isIndexed(name)) {
+      return super.findResource(name);
+    }
+
+    for (int location : index.getResourceLocations(name)) {
+      URL resource = findIndexedResource(location, name);
+      if (resource != null) {
+        return resource;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public Enumeration<URL> findResources(String name) throws IOException {
+    if (index == null || !index.isIndexed(name)) {
+      return super.findResources(name);
+    }
+
+    List<URL> resources = new ArrayList<>();
+    for (int location : index.getResourceLocations(name)) {
+      URL resource = findIndexedResource(location, name);
+      if (resource != null) {
+        resources.add(resource);
+      }
+    }
+    return new EnumerationAdapter<>(resources);
+  }
+
+  private URL findIndexedResource(int location, String name) {
+    try {
+      if (index.isDirectory(location)) {
+        File resourceFile = new File(index.getFile(location), name);
+        return resourceFile.exists() ? resourceFile.toURI().toURL() : null;
+      }
+
+      JarFile jarFile = jarFileCache.get(index.getFile(location));
+      if (jarFile == null || jarFile.getJarEntry(name) == null) {
+        return null;
+      }
+      // Same URL URLClassLoader would return, so opening it does not use the cached jar
+      return new URL("jar", "", -1, index.getUrl(location) + "!/" + ParseUtil.encodePath(name, false), jarHandler);
+    } catch (MalformedURLException e) {
+      return null;
+    } catch (IOException | IllegalStateException e) {
+      logger.debug(format("Cannot look up resource '%s' in '%s'", name, index.getUrl(location)), e);
+      return null;
+    }
+  }
+
   @Override
   public ClassLoaderLookupPolicy getClassLoaderLookupPolicy() {
     return lookupPolicy;
@@ -191,6 +327,8 @@ public class FineGrainedControlClassLoader extends URLClassLoader
    */
   @Override
   public void dispose() {
+    jarFileCache.close();
+
     try {
       // Java 7 added support for closing a URLClassLoader, it will close any resources opened by this classloader
       close();
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.artifact.classloader;
+
+import static org.apache.commons.io.IOUtils.closeQuietly;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.JarFile;
+
+/**
+ * Keeps the jars of a class loader open so that looking up their entries does not reopen them, until the cache is closed.
+ * <p>
+ * Unlike the JDK jar URL cache, the jars are owned by the class loader which created the cache, and are all released when it
+ * is disposed.
+ *
+ * @since 4.0
+ */
+public class JarFileCache implements Closeable {
+
+  private final ConcurrentMap<File, JarFile> jarFiles = new ConcurrentHashMap<>();
+  private volatile boolean closed;
+
+  /**
+   * @param file the jar to open
+   * @return the open jar, or null if the cache was closed
+   * @throws IOException if the jar cannot be opened
+   */
+  public JarFile get(File file) throws IOException {
+    JarFile jarFile = jarFiles.get(file);
+    if (jarFile != null || closed) {
+      return jarFile;
+    }
+
+    JarFile opened = new JarFile(file);
+    jarFile = jarFiles.putIfAbsent(file, opened);
+    if (jarFile != null) {
+      opened.close();
+      return jarFile;
+    }
+    if (closed) {
+      jarFiles.remove(file, opened);
+      opened.close();
+      return null;
+    }
+    return opened;
+  }
+
+  /**
+   * Closes all the jars opened by this cache. Jars are not opened any more after this.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (JarFile jarFile : jarFiles.values()) {
+      closeQuietly(jarFile);
+    }
+    jarFiles.clear();
+  }
+}
@@ -43,7 +43,21 @@ public class MuleArtifactClassLoader extends FineGrainedControlClassLoader imple
   private String resourceReleaserClassLocation = DEFAULT_RESOURCE_RELEASER_CLASS_LOCATION;
 
   public MuleArtifactClassLoader(String name, URL[] urls, ClassLoader parent, ClassLoaderLookupPolicy lookupPolicy) {
-    super(urls, parent, lookupPolicy);
+    this(name, urls, parent, lookupPolicy, null);
+  }
+
+  /**
+   * Creates a {@link MuleArtifactClassLoader} which looks up local classes and resources using an index.
+   *
+   * @param name artifact name
+   * @param urls the URLs from which to load classes and resources
+   * @param parent parent class loader in the hierarchy
+   * @param lookupPolicy policy for resolving classes and resources
+   * @param index index of the given URLs, or null to search all of them on every lookup
+   */
+  public MuleArtifactClassLoader(String name, URL[] urls, ClassLoader parent, ClassLoaderLookupPolicy lookupPolicy,
+                                 ClassLoaderIndex index) {
+    super(urls, parent, lookupPolicy, index);
     checkArgument(!StringUtils.isEmpty(name), "Artifact name cannot be empty");
     this.name = name;
   }
@@ -31,7 +31,22 @@ public class MuleDeployableArtifactClassLoader extends MuleArtifactClassLoader {
    */
   public MuleDeployableArtifactClassLoader(String name, URL[] urls, ClassLoader parent, ClassLoaderLookupPolicy lookupPolicy,
                                            List<ArtifactClassLoader> artifactPluginClassLoaders) {
-    super(name, urls, parent, lookupPolicy);
+    this(name, urls, parent, lookupPolicy, artifactPluginClassLoaders, null);
+  }
+
+  /**
+   * Creates a {@link MuleDeployableArtifactClassLoader} which looks up local classes and resources using an index.
+   *
+   * @param name artifact name
+   * @param urls the URLs from which to load classes and resources
+   * @param parent parent class loader in the hierarchy
+   * @param lookupPolicy policy for resolving classes and resources
+   * @param artifactPluginClassLoaders class loaders for the plugin artifacts contained by this artifact. Must be not null.
+   * @param index index of the given URLs, or null to search all of them on every lookup
+   */
+  public MuleDeployableArtifactClassLoader(String name, URL[] urls, ClassLoader parent, ClassLoaderLookupPolicy lookupPolicy,
+                                           List<ArtifactClassLoader> artifactPluginClassLoaders, ClassLoaderIndex index) {
+    super(name, urls, parent, lookupPolicy, index);
     checkArgument(artifactPluginClassLoaders != null, "artifact plugin class loaders cannot be null");
     this.artifactPluginClassLoaders = artifactPluginClassLoaders;
   }
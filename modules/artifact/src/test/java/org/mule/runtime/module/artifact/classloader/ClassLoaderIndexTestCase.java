@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.artifact.classloader;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import org.mule.runtime.core.util.ClassUtils;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.net.URL;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class ClassLoaderIndexTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void indexesJarPackagesAndResources() throws Exception {
+    ClassLoaderIndex index = ClassLoaderIndex.create(new URL[] {getHelloJar(), getByeJar()}, null);
+
+    assertThat(index.getClassLocations("mypackage.MyClass"), equalTo(new int[] {0, 1}));
+    assertThat(index.getResourceLocations("mypackage/MyClass.class"), equalTo(new int[] {0, 1}));
+    assertThat(index.getResourceLocations("mypackage/MyClass.java"), equalTo(new int[] {0, 1}));
+    assertThat(index.getClassLocations("otherpackage.MyClass"), equalTo(new int[0]));
+    assertThat(index.getResourceLocations("missing.properties"), equalTo(new int[0]));
+    assertThat(index.isDirectory(0), is(false));
+  }
+
+  @Test
+  public void indexesFolders() throws Exception {
+    File folder = temporaryFolder.newFolder();
+    FileUtils.write(new File(folder, "config/app.properties"), "key=value");
+
+    ClassLoaderIndex index = ClassLoaderIndex.create(new URL[] {getByeJar(), folder.toURI().toURL()}, null);
+
+    assertThat(index.getResourceLocations("config/app.properties"), equalTo(new int[] {1}));
+    assertThat(index.isDirectory(1), is(true));
+    assertThat(index.isIndexed("config/"), is(false));
+  }
+
+  @Test
+  public void reusesPersistedIndex() throws Exception {
+    File indexFile = new File(temporaryFolder.getRoot(), ClassLoaderIndex.INDEX_FILE_NAME);
+    URL[] urls = {getByeJar()};
+
+    ClassLoaderIndex.create(urls, indexFile);
+    assertThat(indexFile.isFile(), is(true));
+    long persistedAt = indexFile.lastModified();
+    indexFile.setLastModified(persistedAt - 10000);
+
+    ClassLoaderIndex index = ClassLoaderIndex.create(urls, indexFile);
+
+    assertThat(index.getClassLocations("mypackage.MyClass"), equalTo(new int[] {0}));
+    assertThat(indexFile.lastModified(), equalTo(persistedAt - 10000));
+  }
+
+  @Test
+  public void doesNotIndexNonFileUrls() throws Exception {
+    assertThat(ClassLoaderIndex.create(new URL[] {new URL("http://localhost/lib.jar")}, null), is(nullValue()));
+  }
+
+  private URL getHelloJar() {
+    return ClassUtils.getResource("classloader-test-hello.jar", getClass());
+  }
+
+  private URL getByeJar() {
+    return ClassUtils.getResource("classloader-test-bye.jar", getClass());
+  }
+}
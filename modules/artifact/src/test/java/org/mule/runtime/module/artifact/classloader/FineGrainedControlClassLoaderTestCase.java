@@ -11,7 +11,10 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
 import static org.junit.internal.matchers.ThrowableMessageMatcher.hasMessage;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -171,6 +174,41 @@ public class FineGrainedControlClassLoaderTestCase extends AbstractMuleTestCase
     invokeTestClassMethod(ext);
   }
 
+  @Test
+  public void usesIndexForChildLookup() throws Exception {
+    URLClassLoader parent = new URLClassLoader(new URL[] {getParentResource()}, Thread.currentThread().getContextClassLoader());
+
+    final ClassLoaderLookupPolicy lookupPolicy = mock(ClassLoaderLookupPolicy.class);
+    when(lookupPolicy.getLookupStrategy(TEST_CLASS_NAME)).thenReturn(CHILD_FIRST);
+    when(lookupPolicy.getLookupStrategy(Object.class.getName())).thenReturn(PARENT_ONLY);
+    when(lookupPolicy.getLookupStrategy(String.class.getName())).thenReturn(PARENT_ONLY);
+
+    URL[] urls = {getChildFileResource()};
+    FineGrainedControlClassLoader ext =
+        new FineGrainedControlClassLoader(urls, parent, lookupPolicy, ClassLoaderIndex.create(urls, null));
+
+    assertEquals(EXPECTED_CHILD_MESSAGE, invokeTestClassMethod(ext));
+    assertThat(ext.loadClass(TEST_CLASS_NAME).getPackage(), notNullValue());
+    assertThat(ext.findResource("mypackage/MyClass.java"), notNullValue());
+    assertThat(ext.findResource("mypackage/Missing.java"), nullValue());
+
+    ext.dispose();
+  }
+
+  @Test
+  public void indexedChildLookupFallsBackToParent() throws Exception {
+    URLClassLoader parent = new URLClassLoader(new URL[] {getParentResource()}, Thread.currentThread().getContextClassLoader());
+
+    final ClassLoaderLookupPolicy lookupPolicy = mock(ClassLoaderLookupPolicy.class);
+    when(lookupPolicy.getLookupStrategy(TEST_CLASS_NAME)).thenReturn(CHILD_FIRST);
+
+    URL[] urls = new URL[0];
+    FineGrainedControlClassLoader ext =
+        new FineGrainedControlClassLoader(urls, parent, lookupPolicy, ClassLoaderIndex.create(urls, null));
+
+    assertEquals(EXPECTED_PARENT_MESSAGE, invokeTestClassMethod(ext));
+  }
+
   protected FineGrainedControlClassLoader buildFineGrainedControlClassLoader(ClassLoader parent,
                                                                              final ClassLoaderLookupPolicy lookupPolicy) {
     return new FineGrainedControlClassLoader(new URL[0], parent, lookupPolicy) {
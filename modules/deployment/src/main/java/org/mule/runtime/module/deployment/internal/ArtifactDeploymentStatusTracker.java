@@ -6,12 +6,17 @@
  */
 package org.mule.runtime.module.deployment.internal;
 
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import org.mule.runtime.core.api.MuleContext;
+
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Keeps track of the deployment status of the artifact listening to the deployment notifications
+ * Keeps track of the deployment status of the artifact listening to the deployment notifications, and of how long each phase of
+ * their deployment took.
  */
 public class ArtifactDeploymentStatusTracker extends AbstractDeploymentListener {
 
@@ -25,21 +30,96 @@ public class ArtifactDeploymentStatusTracker extends AbstractDeploymentListener
   }
 
   protected Map<String, DeploymentState> deploymentStates = new ConcurrentHashMap<String, DeploymentState>();
+  protected Map<String, DeploymentTimes> deploymentTimes = new ConcurrentHashMap<String, DeploymentTimes>();
 
   public Map<String, DeploymentState> getDeploymentStates() {
     return Collections.unmodifiableMap(deploymentStates);
   }
 
+  public Map<String, DeploymentTimes> getDeploymentTimes() {
+    return Collections.unmodifiableMap(deploymentTimes);
+  }
+
   public void onDeploymentStart(String artifactName) {
     deploymentStates.put(artifactName, DeploymentState.DEPLOYING);
+    deploymentTimes.put(artifactName, new DeploymentTimes());
   }
 
   public void onDeploymentSuccess(String artifactName) {
     deploymentStates.put(artifactName, DeploymentState.DEPLOYED);
+    markFinished(artifactName);
   }
 
   public void onDeploymentFailure(String artifactName, Throwable failureCause) {
     deploymentStates.put(artifactName, DeploymentState.FAILED);
+    markFinished(artifactName);
+  }
+
+  @Override
+  public void onMuleContextCreated(String artifactName, MuleContext context) {
+    DeploymentTimes times = deploymentTimes.get(artifactName);
+    if (times != null) {
+      times.contextCreated = nanoTime();
+    }
+  }
+
+  @Override
+  public void onMuleContextInitialised(String artifactName, MuleContext context) {
+    DeploymentTimes times = deploymentTimes.get(artifactName);
+    if (times != null) {
+      times.contextInitialised = nanoTime();
+    }
+  }
+
+  private void markFinished(String artifactName) {
+    DeploymentTimes times = deploymentTimes.get(artifactName);
+    if (times != null) {
+      times.finished = nanoTime();
+    }
+  }
+
+  /**
+   * How long each phase of the deployment of an artifact took, in milliseconds. The durations of the phases not reached yet, or
+   * skipped because the deployment failed, are -1.
+   */
+  public static class DeploymentTimes {
+
+    private final long started = nanoTime();
+    private volatile long contextCreated;
+    private volatile long contextInitialised;
+    private volatile long finished;
+
+    /**
+     * @return the time spent creating the artifact and its {@link MuleContext}
+     */
+    public long getCreationTime() {
+      return elapsed(started, contextCreated);
+    }
+
+    /**
+     * @return the time spent configuring and initialising the {@link MuleContext}
+     */
+    public long getInitialisationTime() {
+      return elapsed(contextCreated, contextInitialised);
+    }
+
+    /**
+     * @return the time spent from the initialisation of the {@link MuleContext} until the deployment finished
+     */
+    public long getStartTime() {
+      return elapsed(contextInitialised, finished);
+    }
+
+    /**
+     * @return the time spent deploying the artifact
+     */
+    public long getTotalTime() {
+      return elapsed(started, finished);
+    }
+
+    private static long elapsed(long from, long to) {
+      return from == 0 || to == 0 ? -1 : NANOSECONDS.toMillis(to - from);
+    }
   }
 
 }
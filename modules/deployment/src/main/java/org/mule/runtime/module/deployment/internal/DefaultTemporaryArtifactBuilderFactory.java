@@ -7,6 +7,7 @@
 package org.mule.runtime.module.deployment.internal;
 
 import static java.util.stream.Collectors.toList;
+import static org.mule.runtime.core.api.config.MuleProperties.MULE_LAZY_INIT;
 import static org.mule.runtime.core.config.bootstrap.ArtifactType.DOMAIN;
 import org.mule.runtime.config.spring.dsl.api.config.ArtifactConfiguration;
 import org.mule.runtime.core.api.MuleContext;
@@ -28,7 +29,9 @@ import org.mule.runtime.module.tooling.api.connectivity.ConnectivityTestingStrat
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -132,9 +135,14 @@ public class DefaultTemporaryArtifactBuilderFactory implements TemporaryArtifact
                                                                              artifactClassLoader))
               .collect(toList());
 
+          // tooling only uses a few of the components of the artifact, the others are created on demand
+          Map<String, String> artifactProperties = new HashMap<>();
+          artifactProperties.put(MULE_LAZY_INIT, Boolean.TRUE.toString());
+
           artifactMuleContextBuilder = new ArtifactMuleContextBuilder().setArtifactType(DOMAIN)
               .setArtifactPlugins(artifactPlugins).setExecutionClassloader(temporaryContextClassLoader)
-              .setArtifactConfiguration(artifactConfiguration).setMuleContextListener(createMuleContextListener());
+              .setArtifactConfiguration(artifactConfiguration).setArtifactProperties(artifactProperties)
+              .setMuleContextListener(createMuleContextListener());
 
           return new TemporaryArtifact() {
 
@@ -67,13 +67,13 @@ public class DeploymentDirectoryWatcher implements Runnable {
   protected transient final Logger logger = LoggerFactory.getLogger(getClass());
 
   private final ReentrantLock deploymentLock;
-  private final ArchiveDeployer<Domain> domainArchiveDeployer;
+  protected final ArchiveDeployer<Domain> domainArchiveDeployer;
   protected final ArchiveDeployer<Application> applicationArchiveDeployer;
   private final ArtifactTimestampListener<Application> applicationTimestampListener;
   private final ArtifactTimestampListener<Domain> domainTimestampListener;
   private final ObservableList<Application> applications;
   private final ObservableList<Domain> domains;
-  private final File appsDir;
+  protected final File appsDir;
   private final File domainsDir;
   private ScheduledExecutorService artifactDirMonitorTimer;
 
@@ -133,16 +133,12 @@ public class DeploymentDirectoryWatcher implements Runnable {
       String[] explodedDomains = domainsDir.list(DirectoryFileFilter.DIRECTORY);
       String[] packagedDomains = domainsDir.list(ZIP_ARTIFACT_FILTER);
 
-      deployPackedDomains(packagedDomains);
-      deployExplodedDomains(explodedDomains);
-
       if (appString == null) {
-        String[] explodedApps = appsDir.list(DirectoryFileFilter.DIRECTORY);
-        String[] packagedApps = appsDir.list(ZIP_ARTIFACT_FILTER);
-
-        deployPackedApps(packagedApps);
-        deployExplodedApps(explodedApps);
+        deployArtifacts(packagedDomains, explodedDomains);
       } else {
+        deployPackedDomains(packagedDomains);
+        deployExplodedDomains(explodedDomains);
+
         String[] apps = appString.split(":");
         apps = removeDuplicateAppNames(apps);
 
@@ -227,6 +223,23 @@ public class DeploymentDirectoryWatcher implements Runnable {
     }
   }
 
+  /**
+   * Deploys the domains and then the applications found on startup.
+   *
+   * @param packagedDomains the domain archives to deploy
+   * @param explodedDomains the domain folders to deploy
+   */
+  protected void deployArtifacts(String[] packagedDomains, String[] explodedDomains) {
+    deployPackedDomains(packagedDomains);
+    deployExplodedDomains(explodedDomains);
+
+    String[] explodedApps = appsDir.list(DirectoryFileFilter.DIRECTORY);
+    String[] packagedApps = appsDir.list(ZIP_ARTIFACT_FILTER);
+
+    deployPackedApps(packagedApps);
+    deployExplodedApps(explodedApps);
+  }
+
   protected void deployPackedApps(String[] zips) {
     for (String zip : zips) {
       try {
@@ -382,7 +395,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
     return anchors;
   }
 
-  private void deployExplodedDomains(String[] domains) {
+  protected void deployExplodedDomains(String[] domains) {
     for (String addedDomain : domains) {
       try {
         if (domainArchiveDeployer.isUpdatedZombieArtifact(addedDomain)) {
@@ -394,7 +407,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
     }
   }
 
-  private void deployPackedDomains(String[] zips) {
+  protected void deployPackedDomains(String[] zips) {
     for (String zip : zips) {
       try {
         domainArchiveDeployer.deployPackagedArtifact(zip);
@@ -10,6 +10,7 @@ import org.mule.runtime.container.api.MuleFoldersUtil;
 import org.mule.runtime.module.deployment.internal.application.ApplicationClassLoader;
 import org.mule.runtime.module.deployment.internal.nativelib.NativeLibraryFinder;
 import org.mule.runtime.module.artifact.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.artifact.classloader.ClassLoaderIndex;
 import org.mule.runtime.module.artifact.classloader.ClassLoaderLookupPolicy;
 import org.mule.runtime.module.artifact.classloader.MuleDeployableArtifactClassLoader;
 
@@ -26,7 +27,13 @@ public class MuleApplicationClassLoader extends MuleDeployableArtifactClassLoade
 
   public MuleApplicationClassLoader(String appName, ClassLoader parentCl, NativeLibraryFinder nativeLibraryFinder, List<URL> urls,
                                     ClassLoaderLookupPolicy lookupPolicy, List<ArtifactClassLoader> artifactPluginClassLoaders) {
-    super(appName, urls.toArray(new URL[0]), parentCl, lookupPolicy, artifactPluginClassLoaders);
+    this(appName, parentCl, nativeLibraryFinder, urls, lookupPolicy, artifactPluginClassLoaders, null);
+  }
+
+  public MuleApplicationClassLoader(String appName, ClassLoader parentCl, NativeLibraryFinder nativeLibraryFinder, List<URL> urls,
+                                    ClassLoaderLookupPolicy lookupPolicy, List<ArtifactClassLoader> artifactPluginClassLoaders,
+                                    ClassLoaderIndex index) {
+    super(appName, urls.toArray(new URL[0]), parentCl, lookupPolicy, artifactPluginClassLoaders, index);
 
     this.nativeLibraryFinder = nativeLibraryFinder;
   }
@@ -7,13 +7,29 @@
 
 package org.mule.runtime.module.deployment.internal;
 
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static org.mule.runtime.module.deployment.api.domain.Domain.DEFAULT_DOMAIN_NAME;
+import static org.mule.runtime.module.deployment.internal.DefaultArchiveDeployer.ZIP_FILE_SUFFIX;
+import static org.mule.runtime.module.deployment.internal.descriptor.DeployableArtifactDescriptor.DEFAULT_DEPLOY_PROPERTIES_RESOURCE;
+import static org.mule.runtime.module.deployment.internal.descriptor.PropertiesDescriptorParser.PROPERTY_DOMAIN;
+import org.mule.runtime.core.util.StringUtils;
 import org.mule.runtime.module.deployment.api.application.Application;
 import org.mule.runtime.module.deployment.api.domain.Domain;
 import org.mule.runtime.module.deployment.internal.util.ObservableList;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.SynchronousQueue;
@@ -21,8 +37,12 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.apache.commons.io.filefilter.DirectoryFileFilter;
+
 /**
  * Provides parallel deployment of Mule applications.
+ * <p/>
+ * On startup, domains are deployed in parallel too, and each application only waits for the deployment of its own domain.
  *
  * @since 3.8.2
  */
@@ -39,6 +59,95 @@ public class ParallelDeploymentDirectoryWatcher extends DeploymentDirectoryWatch
         new ThreadPoolExecutor(0, 20, 5, TimeUnit.SECONDS, new SynchronousQueue(), new ThreadPoolExecutor.CallerRunsPolicy());
   }
 
+  /**
+   * Deploys the domains and the applications concurrently. An exploded application waits only for the deployment of the domain
+   * set in its deployment descriptor, while a packaged one, whose descriptor is not readable until it is expanded, waits for all
+   * the domains.
+   */
+  @Override
+  protected void deployArtifacts(String[] packagedDomains, String[] explodedDomains) {
+    Map<String, CompletableFuture<Void>> domainDeployments = new HashMap<>();
+    for (final String zip : packagedDomains) {
+      domainDeployments.put(StringUtils.removeEnd(zip, ZIP_FILE_SUFFIX), runAsync(() -> {
+        try {
+          domainArchiveDeployer.deployPackagedArtifact(zip);
+        } catch (Exception e) {
+          // Ignore and continue
+        }
+      }, threadPoolExecutor));
+    }
+    for (final String domain : explodedDomains) {
+      // an exploded domain may be the expansion of a domain archive being deployed
+      CompletableFuture<Void> previous = domainDeployments.getOrDefault(domain, completedFuture(null));
+      domainDeployments.put(domain, previous.thenRunAsync(() -> {
+        try {
+          if (domainArchiveDeployer.isUpdatedZombieArtifact(domain)) {
+            domainArchiveDeployer.deployExplodedArtifact(domain);
+          }
+        } catch (Exception e) {
+          // Ignore and continue
+        }
+      }, threadPoolExecutor));
+    }
+    CompletableFuture<Void> allDomains = allOf(domainDeployments.values().toArray(new CompletableFuture[0]));
+
+    String[] packagedApps = appsDir.list(ZIP_ARTIFACT_FILTER);
+    String[] explodedApps = appsDir.list(DirectoryFileFilter.DIRECTORY);
+    Map<String, CompletableFuture<Void>> appDeployments = new HashMap<>();
+    for (final String zip : packagedApps) {
+      appDeployments.put(StringUtils.removeEnd(zip, ZIP_FILE_SUFFIX), allDomains.thenRunAsync(() -> {
+        try {
+          applicationArchiveDeployer.deployPackagedArtifact(zip);
+        } catch (Exception e) {
+          // Ignore and continue
+        }
+      }, threadPoolExecutor));
+    }
+    for (final String app : explodedApps) {
+      CompletableFuture<Void> dependency = appDeployments.get(app);
+      if (dependency == null) {
+        String domain = getDomainName(app);
+        dependency = domain == null ? allDomains : domainDeployments.getOrDefault(domain, completedFuture(null));
+      }
+      appDeployments.put(app, dependency.thenRunAsync(() -> {
+        try {
+          if (applicationArchiveDeployer.isUpdatedZombieArtifact(app)) {
+            applicationArchiveDeployer.deployExplodedArtifact(app);
+          }
+        } catch (Exception e) {
+          // Ignore and continue
+        }
+      }, threadPoolExecutor));
+    }
+
+    try {
+      allOf(allDomains, allOf(appDeployments.values().toArray(new CompletableFuture[0]))).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    } catch (ExecutionException e) {
+      // Ignore and continue
+    }
+
+    // deploying domain bundles may have expanded applications that were not listed yet
+    deployExplodedApps(appsDir.list(DirectoryFileFilter.DIRECTORY));
+  }
+
+  private String getDomainName(String app) {
+    File descriptor = new File(new File(appsDir, app), DEFAULT_DEPLOY_PROPERTIES_RESOURCE);
+    if (!descriptor.exists()) {
+      return DEFAULT_DOMAIN_NAME;
+    }
+
+    Properties properties = new Properties();
+    try (InputStream stream = new FileInputStream(descriptor)) {
+      properties.load(stream);
+    } catch (IOException e) {
+      return null;
+    }
+    return properties.getProperty(PROPERTY_DOMAIN, DEFAULT_DOMAIN_NAME);
+  }
+
   @Override
   protected void deployPackedApps(String[] zips) {
     if (zips.length == 0) {
@@ -10,6 +10,7 @@ import org.mule.runtime.core.util.SimpleLoggingTable;
 import org.mule.runtime.module.deployment.api.DeploymentService;
 import org.mule.runtime.module.deployment.api.StartupListener;
 import org.mule.runtime.module.deployment.api.application.Application;
+import org.mule.runtime.module.deployment.internal.ArtifactDeploymentStatusTracker.DeploymentTimes;
 
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
@@ -20,7 +21,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Prints application status summary table on Mule startup.
+ * Prints application status summary table on Mule startup, followed by how long each phase of the deployment of each domain
+ * and application took.
  */
 public class StartupSummaryDeploymentListener implements StartupListener {
 
@@ -29,9 +31,15 @@ public class StartupSummaryDeploymentListener implements StartupListener {
   private static final String APPLICATION_LABEL = "APPLICATION";
   private static final String DOMAIN_OWNER_LABEL = "DOMAIN";
   private static final String STATUS_LABEL = "STATUS";
+  private static final String ARTIFACT_LABEL = "ARTIFACT";
+  private static final String CREATION_TIME_LABEL = "CREATE";
+  private static final String INITIALISATION_TIME_LABEL = "INIT";
+  private static final String START_TIME_LABEL = "START";
+  private static final String TOTAL_TIME_LABEL = "TOTAL";
   private static final int ARTIFACT_NAME_LABEL_LENGTH = 45;
   private static final int STATUS_LABEL_LENGTH = 18;
   private static final int DOMAIN_OWNER_LABEL_LENGTH = 30;
+  private static final int TIME_LABEL_LENGTH = 18;
 
   private static final String UNKNOWN_ARTIFACT_NAME = "UNKNOWN";
 
@@ -95,6 +103,31 @@ public class StartupSummaryDeploymentListener implements StartupListener {
       message = String.format("%n%s", domainTable);
     }
 
-    logger.info(message);
+    logger.info(message + String.format("%n%s", createTimesTable()));
+  }
+
+  private SimpleLoggingTable createTimesTable() {
+    SimpleLoggingTable timesTable = new SimpleLoggingTable();
+    timesTable.addColumn(ARTIFACT_LABEL, ARTIFACT_NAME_LABEL_LENGTH);
+    timesTable.addColumn(CREATION_TIME_LABEL, TIME_LABEL_LENGTH);
+    timesTable.addColumn(INITIALISATION_TIME_LABEL, TIME_LABEL_LENGTH);
+    timesTable.addColumn(START_TIME_LABEL, TIME_LABEL_LENGTH);
+    timesTable.addColumn(TOTAL_TIME_LABEL, TIME_LABEL_LENGTH);
+
+    addTimesRows(timesTable, tracker.getDomainDeploymentStatusTracker().getDeploymentTimes());
+    addTimesRows(timesTable, tracker.getApplicationDeploymentStatusTracker().getDeploymentTimes());
+    return timesTable;
+  }
+
+  private void addTimesRows(SimpleLoggingTable timesTable, Map<String, DeploymentTimes> deploymentTimes) {
+    for (Map.Entry<String, DeploymentTimes> entry : deploymentTimes.entrySet()) {
+      DeploymentTimes times = entry.getValue();
+      timesTable.addDataRow(new String[] {entry.getKey(), formatTime(times.getCreationTime()),
+          formatTime(times.getInitialisationTime()), formatTime(times.getStartTime()), formatTime(times.getTotalTime())});
+    }
+  }
+
+  private String formatTime(long millis) {
+    return millis < 0 ? "-" : millis + " ms";
   }
 }
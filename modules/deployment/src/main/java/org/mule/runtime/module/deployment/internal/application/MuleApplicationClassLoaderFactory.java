@@ -10,11 +10,13 @@ import org.mule.runtime.module.deployment.internal.MuleApplicationClassLoader;
 import org.mule.runtime.module.deployment.internal.nativelib.NativeLibraryFinderFactory;
 import org.mule.runtime.module.deployment.internal.plugin.ArtifactPluginDescriptor;
 import org.mule.runtime.module.artifact.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.artifact.classloader.ClassLoaderIndex;
 import org.mule.runtime.module.artifact.classloader.ClassLoaderLookupPolicy;
 import org.mule.runtime.module.artifact.classloader.ClassLoaderLookupStrategy;
 import org.mule.runtime.module.artifact.classloader.DeployableArtifactClassLoaderFactory;
 import org.mule.runtime.module.deployment.internal.descriptor.ApplicationDescriptor;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.util.HashMap;
@@ -27,6 +29,7 @@ import org.slf4j.LoggerFactory;
 
 import static org.apache.commons.lang.SystemUtils.LINE_SEPARATOR;
 import static org.mule.runtime.container.api.MuleFoldersUtil.getAppClassesFolder;
+import static org.mule.runtime.container.api.MuleFoldersUtil.getAppFolder;
 import static org.mule.runtime.module.artifact.classloader.ClassLoaderLookupStrategy.*;
 
 /**
@@ -48,9 +51,12 @@ public class MuleApplicationClassLoaderFactory implements DeployableArtifactClas
 
     final ClassLoaderLookupPolicy classLoaderLookupPolicy = getApplicationClassLoaderLookupPolicy(parent, descriptor);
 
+    final File indexFile = new File(getAppFolder(descriptor.getName()), ClassLoaderIndex.INDEX_FILE_NAME);
+    final ClassLoaderIndex index = ClassLoaderIndex.create(urls.toArray(new URL[0]), indexFile);
+
     return new MuleApplicationClassLoader(descriptor.getName(), parent.getClassLoader(),
                                           nativeLibraryFinderFactory.create(descriptor.getName()), urls,
-                                          classLoaderLookupPolicy, artifactPluginClassLoaders);
+                                          classLoaderLookupPolicy, artifactPluginClassLoaders, index);
   }
 
   private ClassLoaderLookupPolicy getApplicationClassLoaderLookupPolicy(ArtifactClassLoader parent,
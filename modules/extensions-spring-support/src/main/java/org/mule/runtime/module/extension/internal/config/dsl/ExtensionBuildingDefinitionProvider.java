@@ -118,6 +118,7 @@ public class ExtensionBuildingDefinitionProvider implements ComponentBuildingDef
         .withTypeDefinition(fromType(DynamicConfigPolicy.class))
         .withObjectFactoryType(DynamicConfigPolicyObjectFactory.class)
         .withSetterParameterDefinition("expirationPolicy", fromChildConfiguration(ExpirationPolicy.class).build())
+        .withSetterParameterDefinition("maxInstances", fromSimpleParameter("maxInstances").build())
         .build());
 
     definitions.add(baseDefinition.copy().withIdentifier("expiration-policy").withTypeDefinition(fromType(ExpirationPolicy.class))
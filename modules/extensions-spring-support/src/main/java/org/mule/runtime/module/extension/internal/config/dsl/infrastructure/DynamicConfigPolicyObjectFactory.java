@@ -10,26 +10,33 @@ import org.mule.runtime.config.spring.dsl.api.ObjectFactory;
 import org.mule.runtime.core.time.TimeSupplier;
 import org.mule.runtime.extension.api.runtime.ExpirationPolicy;
 import org.mule.runtime.module.extension.internal.runtime.DynamicConfigPolicy;
+import org.mule.runtime.module.extension.internal.runtime.ImmutableExpirationPolicy;
 
 import javax.inject.Inject;
 
 /**
  * A {@link ObjectFactory} instance that produces {@link DynamicConfigPolicy} instances.
  * <p>
- * If a {@link #expirationPolicy} was not set, then {@link DynamicConfigPolicy#getDefault(TimeSupplier)} is used to produce an
- * instance.
+ * If neither a {@link #expirationPolicy} nor a {@link #maxInstances} were set, then
+ * {@link DynamicConfigPolicy#getDefault(TimeSupplier)} is used to produce an instance.
  *
  * @since 4.0
  */
 public class DynamicConfigPolicyObjectFactory implements ObjectFactory<DynamicConfigPolicy> {
 
   private ExpirationPolicy expirationPolicy;
+  private Integer maxInstances = null;
 
   @Inject
   private TimeSupplier timeSupplier;
 
   @Override
   public DynamicConfigPolicy getObject() throws Exception {
+    if (maxInstances != null) {
+      return new DynamicConfigPolicy(expirationPolicy != null ? expirationPolicy
+          : ImmutableExpirationPolicy.getDefault(timeSupplier), maxInstances);
+    }
+
     if (expirationPolicy != null) {
       return new DynamicConfigPolicy(expirationPolicy);
     }
@@ -40,4 +47,8 @@ public class DynamicConfigPolicyObjectFactory implements ObjectFactory<DynamicCo
   public void setExpirationPolicy(ExpirationPolicy expirationPolicy) {
     this.expirationPolicy = expirationPolicy;
   }
+
+  public void setMaxInstances(Integer maxInstances) {
+    this.maxInstances = maxInstances;
+  }
 }
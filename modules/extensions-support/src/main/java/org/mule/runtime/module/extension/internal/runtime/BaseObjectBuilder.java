@@ -8,10 +8,10 @@ package org.mule.runtime.module.extension.internal.runtime;
 
 import static org.mule.runtime.core.util.Preconditions.checkArgument;
 import static org.mule.runtime.module.extension.internal.util.MuleExtensionUtils.hasAnyDynamic;
-import static org.springframework.util.ReflectionUtils.setField;
 import org.mule.runtime.core.api.MuleEvent;
 import org.mule.runtime.core.api.MuleException;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolver;
+import org.mule.runtime.module.extension.internal.util.FieldSetter;
 
 import java.lang.reflect.Field;
 import java.util.HashMap;
@@ -21,12 +21,15 @@ import java.util.Map;
  * Base class for implementations of {@link ObjectBuilder}. It implements all of the contract's behavior, except for how to
  * actually create the instance to be returned. Implementors must provide that piece through the abstract
  * {@link #instantiateObject()} method
+ * <p/>
+ * Values are assigned through {@link FieldSetter}s, which are created once per {@link Field} when its resolver is added
  *
  * @since 3.7.0
  */
 public abstract class BaseObjectBuilder<T> implements ObjectBuilder<T> {
 
   private final Map<Field, ValueResolver<Object>> resolvers = new HashMap<>();
+  private final Map<Field, FieldSetter<Object, Object>> fieldSetters = new HashMap<>();
 
   /**
    * Returns the instance to be returned before the properties have been applied to it
@@ -41,8 +44,8 @@ public abstract class BaseObjectBuilder<T> implements ObjectBuilder<T> {
     checkArgument(field != null, "field cannot be null");
     checkArgument(resolver != null, "resolver cannot be null");
 
-    field.setAccessible(true);
     resolvers.put(field, (ValueResolver<Object>) resolver);
+    fieldSetters.computeIfAbsent(field, FieldSetter::new);
     return this;
   }
 
@@ -62,7 +65,7 @@ public abstract class BaseObjectBuilder<T> implements ObjectBuilder<T> {
     T object = instantiateObject();
 
     for (Map.Entry<Field, ValueResolver<Object>> resolver : resolvers.entrySet()) {
-      setField(resolver.getKey(), object, resolver.getValue().resolve(event));
+      fieldSetters.get(resolver.getKey()).set(object, resolver.getValue().resolve(event));
     }
 
     return object;
@@ -6,12 +6,17 @@
  */
 package org.mule.runtime.module.extension.internal.runtime;
 
-import static org.mule.runtime.core.util.ClassUtils.instanciateClass;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
 import static org.mule.runtime.core.util.ClassUtils.withContextClassLoader;
 import static org.mule.runtime.module.extension.internal.util.IntrospectionUtils.checkInstantiable;
 import org.mule.runtime.core.api.MuleRuntimeException;
 import org.mule.runtime.core.config.i18n.MessageFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.UndeclaredThrowableException;
+
 /**
  * Default implementation of {@link ObjectBuilder} which creates instances through a provided {@link Class}.
  *
@@ -20,6 +25,7 @@ import org.mule.runtime.core.config.i18n.MessageFactory;
 public final class DefaultObjectBuilder<T> extends BaseObjectBuilder<T> {
 
   private final Class<T> prototypeClass;
+  private final MethodHandle constructor;
 
   /**
    * Creates a new instance that will build instances of {@code prototypeClass}.
@@ -29,6 +35,7 @@ public final class DefaultObjectBuilder<T> extends BaseObjectBuilder<T> {
   public DefaultObjectBuilder(Class<T> prototypeClass) {
     checkInstantiable(prototypeClass);
     this.prototypeClass = prototypeClass;
+    constructor = getDefaultConstructor(prototypeClass);
   }
 
   /**
@@ -37,9 +44,31 @@ public final class DefaultObjectBuilder<T> extends BaseObjectBuilder<T> {
   @Override
   protected T instantiateObject() {
     try {
-      return withContextClassLoader(prototypeClass.getClassLoader(), () -> instanciateClass(prototypeClass));
+      return withContextClassLoader(prototypeClass.getClassLoader(), this::invokeConstructor);
     } catch (Exception e) {
       throw new MuleRuntimeException(MessageFactory.createStaticMessage("Could not create instance of " + prototypeClass), e);
     }
   }
+
+  private T invokeConstructor() throws Exception {
+    try {
+      Object instance = constructor.invokeExact();
+      return (T) instance;
+    } catch (Exception | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+
+  private static MethodHandle getDefaultConstructor(Class<?> prototypeClass) {
+    try {
+      Constructor<?> defaultConstructor = prototypeClass.getConstructor();
+      defaultConstructor.setAccessible(true);
+      return lookup().unreflectConstructor(defaultConstructor).asType(methodType(Object.class));
+    } catch (Exception e) {
+      throw new MuleRuntimeException(MessageFactory.createStaticMessage("Could not access the default constructor of "
+          + prototypeClass), e);
+    }
+  }
 }
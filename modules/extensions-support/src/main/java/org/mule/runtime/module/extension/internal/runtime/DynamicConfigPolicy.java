@@ -17,6 +17,11 @@ import org.mule.runtime.core.time.TimeSupplier;
  */
 public final class DynamicConfigPolicy {
 
+  /**
+   * Value of {@link #getMaxInstances()} for policies which don't limit the amount of dynamic configuration instances
+   */
+  public static final int UNLIMITED_INSTANCES = Integer.MAX_VALUE;
+
   /**
    * Returns an instance with the default settings, using the given {@code timeSupplier}
    *
@@ -28,16 +33,30 @@ public final class DynamicConfigPolicy {
   }
 
   private final ExpirationPolicy expirationPolicy;
+  private final int maxInstances;
 
   /**
-   * Creates a new instance.
+   * Creates a new instance which doesn't limit the amount of dynamic configuration instances.
    *
    * @param expirationPolicy the expiration policy to be used.
    * @throws IllegalArgumentException is {@code expirationPolicy} is {@code null}
    */
   public DynamicConfigPolicy(ExpirationPolicy expirationPolicy) {
+    this(expirationPolicy, UNLIMITED_INSTANCES);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param expirationPolicy the expiration policy to be used.
+   * @param maxInstances the maximum amount of dynamic configuration instances to keep at any given time
+   * @throws IllegalArgumentException is {@code expirationPolicy} is {@code null} or {@code maxInstances} is not positive
+   */
+  public DynamicConfigPolicy(ExpirationPolicy expirationPolicy, int maxInstances) {
     checkArgument(expirationPolicy != null, "expiration policy cannot be null");
+    checkArgument(maxInstances > 0, "maxInstances must be greater than zero");
     this.expirationPolicy = expirationPolicy;
+    this.maxInstances = maxInstances;
   }
 
   /**
@@ -48,4 +67,14 @@ public final class DynamicConfigPolicy {
   public ExpirationPolicy getExpirationPolicy() {
     return expirationPolicy;
   }
+
+  /**
+   * Returns the maximum amount of dynamic configuration instances to keep at any given time. When a new instance is needed and
+   * the limit has been reached, the least recently used instance is evicted and released.
+   *
+   * @return the maximum amount of instances, or {@link #UNLIMITED_INSTANCES}
+   */
+  public int getMaxInstances() {
+    return maxInstances;
+  }
 }
@@ -40,7 +40,7 @@ public final class DefaultConfigurationProviderFactory implements ConfigurationP
       throws Exception {
     configureConnectionProviderResolver(name, connectionProviderResolver);
     return new DynamicConfigurationProvider(name, configurationModel, resolverSet, connectionProviderResolver,
-                                            dynamicConfigPolicy.getExpirationPolicy());
+                                            dynamicConfigPolicy.getExpirationPolicy(), dynamicConfigPolicy.getMaxInstances());
   }
 
   /**
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.config;
+
+import org.mule.runtime.core.management.stats.ConfigurationCacheStatistics;
+import org.mule.runtime.extension.api.runtime.ConfigurationInstance;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Statistics about the {@link ConfigurationInstance}s cached by a {@link DynamicConfigurationProvider}.
+ * <p>
+ * Since each configuration instance holds its own connections, the amount of {@link #getCreatedInstances() created} and
+ * {@link #getReleasedInstances() released} instances also measures the churn of the connections they own.
+ *
+ * @since 4.0
+ */
+public final class DynamicConfigurationCacheStats implements ConfigurationCacheStatistics {
+
+  private final IntSupplier instances;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder createdInstances = new LongAdder();
+  private final LongAdder evictedInstances = new LongAdder();
+  private final LongAdder expiredInstances = new LongAdder();
+  private final LongAdder releasedInstances = new LongAdder();
+
+  DynamicConfigurationCacheStats(IntSupplier instances) {
+    this.instances = instances;
+  }
+
+  void hit() {
+    hits.increment();
+  }
+
+  void instanceCreated() {
+    createdInstances.increment();
+  }
+
+  void instanceEvicted() {
+    evictedInstances.increment();
+  }
+
+  void instanceExpired() {
+    expiredInstances.increment();
+  }
+
+  void instanceReleased() {
+    releasedInstances.increment();
+  }
+
+  @Override
+  public int getInstances() {
+    return instances.getAsInt();
+  }
+
+  @Override
+  public long getHits() {
+    return hits.sum();
+  }
+
+  @Override
+  public long getCreatedInstances() {
+    return createdInstances.sum();
+  }
+
+  @Override
+  public long getEvictedInstances() {
+    return evictedInstances.sum();
+  }
+
+  @Override
+  public long getExpiredInstances() {
+    return expiredInstances.sum();
+  }
+
+  @Override
+  public long getReleasedInstances() {
+    return releasedInstances.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "instances=" + getInstances() + ", hits=" + getHits() + ", created=" + getCreatedInstances() + ", evicted="
+        + getEvictedInstances() + ", expired=" + getExpiredInstances() + ", released=" + getReleasedInstances();
+  }
+}
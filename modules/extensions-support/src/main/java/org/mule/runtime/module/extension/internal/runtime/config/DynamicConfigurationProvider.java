@@ -6,35 +6,52 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.config;
 
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
 import static org.mule.runtime.core.config.i18n.MessageFactory.createStaticMessage;
 import static org.mule.runtime.core.util.ClassUtils.withContextClassLoader;
+import static org.mule.runtime.module.extension.internal.runtime.DynamicConfigPolicy.UNLIMITED_INSTANCES;
 import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.core.api.MuleEvent;
 import org.mule.runtime.core.api.MuleException;
 import org.mule.runtime.core.api.MuleRuntimeException;
 import org.mule.runtime.core.api.lifecycle.Initialisable;
 import org.mule.runtime.core.api.lifecycle.Startable;
-import org.mule.runtime.core.util.collection.ImmutableListCollector;
+import org.mule.runtime.core.management.stats.ConfigurationCacheStatisticsProvider;
+import org.mule.runtime.core.time.TimeSupplier;
 import org.mule.runtime.extension.api.introspection.config.RuntimeConfigurationModel;
 import org.mule.runtime.extension.api.runtime.ConfigurationInstance;
 import org.mule.runtime.extension.api.runtime.ConfigurationProvider;
 import org.mule.runtime.extension.api.runtime.ConfigurationStats;
 import org.mule.runtime.extension.api.runtime.ExpirableConfigurationProvider;
 import org.mule.runtime.extension.api.runtime.ExpirationPolicy;
+import org.mule.runtime.module.extension.internal.runtime.DynamicConfigPolicy;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSet;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSetResult;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolver;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * A {@link ConfigurationProvider} which continuously evaluates the same {@link ResolverSet} and then uses the resulting
  * {@link ResolverSetResult} to build an instance of type {@code T}
@@ -43,24 +60,41 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * {@link #resolverSet#resolve(MuleEvent)}, the resulting {@link ResolverSetResult} might not end up generating a new instance.
  * This is so because {@link ResolverSetResult} instances are put in a cache to guarantee that equivalent evaluations of the
  * {@code resolverSet} return the same instance.
+ * <p>
+ * The cache can be bounded through {@link DynamicConfigPolicy#getMaxInstances()}. When a new instance is needed and the bound has
+ * been reached, the least recently used instances are evicted. An evicted instance is stopped and disposed, along with the
+ * connections it holds, as soon as it has no inflight operations and was not used for a short grace period, which covers an
+ * operation that obtained it but didn't start yet. Until then it still counts against the bound, so that evicting doesn't let
+ * the amount of live instances grow past it. Evicted instances are released by the next instance creation or by
+ * {@link #getExpired()}, whichever comes first. The cache activity is recorded in a {@link DynamicConfigurationCacheStats}
+ * instance.
  *
  * @since 4.0.0
  */
 public final class DynamicConfigurationProvider extends LifecycleAwareConfigurationProvider
-    implements ExpirableConfigurationProvider {
+    implements ExpirableConfigurationProvider, ConfigurationCacheStatisticsProvider {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DynamicConfigurationProvider.class);
+  private static final long EVICTION_GRACE_PERIOD_MILLIS = 1000;
 
   private final ConfigurationInstanceFactory configurationInstanceFactory;
   private final ResolverSet resolverSet;
   private final ValueResolver<ConnectionProvider> connectionProviderResolver;
   private final ExpirationPolicy expirationPolicy;
+  private final int maxInstances;
 
-  private final Map<ResolverSetResult, ConfigurationInstance> cache = new ConcurrentHashMap<>();
+  @Inject
+  private TimeSupplier timeSupplier;
+
+  private final Cache<ResolverSetResult, ConfigurationInstance> cache;
+  private final Queue<ConfigurationInstance> evictedInstances = new ConcurrentLinkedQueue<>();
+  private final DynamicConfigurationCacheStats cacheStats;
   private final ReadWriteLock cacheLock = new ReentrantReadWriteLock();
   private final Lock cacheReadLock = cacheLock.readLock();
   private final Lock cacheWriteLock = cacheLock.writeLock();
 
   /**
-   * Creates a new instance
+   * Creates a new instance which doesn't limit the amount of cached instances
    *
    * @param name this provider's name
    * @param configurationModel the model for the returned configurations
@@ -71,11 +105,32 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
   public DynamicConfigurationProvider(String name, RuntimeConfigurationModel configurationModel, ResolverSet resolverSet,
                                       ValueResolver<ConnectionProvider> connectionProviderResolver,
                                       ExpirationPolicy expirationPolicy) {
+    this(name, configurationModel, resolverSet, connectionProviderResolver, expirationPolicy, UNLIMITED_INSTANCES);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param name this provider's name
+   * @param configurationModel the model for the returned configurations
+   * @param resolverSet the {@link ResolverSet} that provides the configuration's parameter values
+   * @param connectionProviderResolver a {@link ValueResolver} used to obtain a {@link ConnectionProvider}
+   * @param expirationPolicy the {@link ExpirationPolicy} for the unused instances
+   * @param maxInstances the maximum amount of cached instances, or {@link DynamicConfigPolicy#UNLIMITED_INSTANCES}
+   */
+  public DynamicConfigurationProvider(String name, RuntimeConfigurationModel configurationModel, ResolverSet resolverSet,
+                                      ValueResolver<ConnectionProvider> connectionProviderResolver,
+                                      ExpirationPolicy expirationPolicy, int maxInstances) {
     super(name, configurationModel);
     configurationInstanceFactory = new ConfigurationInstanceFactory<>(configurationModel, resolverSet);
     this.resolverSet = resolverSet;
     this.connectionProviderResolver = connectionProviderResolver;
     this.expirationPolicy = expirationPolicy;
+    this.maxInstances = maxInstances;
+
+    // bounded by this provider rather than by the cache, so that the evicted instances which are not released yet are accounted
+    cache = CacheBuilder.newBuilder().build();
+    cacheStats = new DynamicConfigurationCacheStats(() -> (int) cache.size());
   }
 
   /**
@@ -97,23 +152,29 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     ConfigurationInstance configuration;
     cacheReadLock.lock();
     try {
-      configuration = cache.get(resolverSetResult);
+      configuration = cache.getIfPresent(resolverSetResult);
       if (configuration != null) {
         // important to account between the boundaries of the lock to prevent race condition
         updateUsageStatistic(configuration);
+        cacheStats.hit();
         return configuration;
       }
     } finally {
       cacheReadLock.unlock();
     }
 
+    List<ConfigurationInstance> released = new ArrayList<>();
     cacheWriteLock.lock();
     try {
       // re-check in case some other thread beat us to it...
-      configuration = cache.get(resolverSetResult);
+      configuration = cache.getIfPresent(resolverSetResult);
       if (configuration == null) {
+        evictToFit(released);
         configuration = createConfiguration(resolverSetResult, event);
         cache.put(resolverSetResult, configuration);
+        cacheStats.instanceCreated();
+      } else {
+        cacheStats.hit();
       }
 
       // accounting here for the same reasons as above
@@ -121,6 +182,73 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
       return configuration;
     } finally {
       cacheWriteLock.unlock();
+      // the lock is not needed for disposing and would hold back the requests for other instances meanwhile
+      released.forEach(this::disposeReleased);
+    }
+  }
+
+  /**
+   * Evicts the least recently used instances until there's room for a new one, taking into account the evicted instances which
+   * are not released yet. Must be invoked holding the {@link #cacheWriteLock}.
+   */
+  private void evictToFit(List<ConfigurationInstance> released) {
+    if (maxInstances == UNLIMITED_INSTANCES) {
+      return;
+    }
+
+    releaseEvicted(released);
+    while (cache.size() > 0 && cache.size() + evictedInstances.size() >= maxInstances) {
+      evictLeastRecentlyUsed();
+      releaseEvicted(released);
+    }
+
+    if (!evictedInstances.isEmpty() && LOGGER.isDebugEnabled()) {
+      LOGGER.debug("{} evicted instances of config '{}' are still in use", evictedInstances.size(), getName());
+    }
+  }
+
+  private void evictLeastRecentlyUsed() {
+    Map.Entry<ResolverSetResult, ConfigurationInstance> leastRecentlyUsed = null;
+    long leastRecentlyUsedMillis = Long.MAX_VALUE;
+    for (Map.Entry<ResolverSetResult, ConfigurationInstance> entry : cache.asMap().entrySet()) {
+      long lastUsedMillis = entry.getValue().getStatistics().getLastUsedMillis();
+      if (leastRecentlyUsed == null || lastUsedMillis < leastRecentlyUsedMillis) {
+        leastRecentlyUsed = entry;
+        leastRecentlyUsedMillis = lastUsedMillis;
+      }
+    }
+
+    cache.invalidate(leastRecentlyUsed.getKey());
+    evictedInstances.add(leastRecentlyUsed.getValue());
+    cacheStats.instanceEvicted();
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Evicted dynamic configuration instance of config '{}' after reaching the maximum amount of instances",
+                   getName());
+    }
+  }
+
+  private void releaseEvicted(List<ConfigurationInstance> released) {
+    Iterator<ConfigurationInstance> evicted = evictedInstances.iterator();
+    while (evicted.hasNext()) {
+      ConfigurationInstance configuration = evicted.next();
+      if (isReleasable(configuration)) {
+        evicted.remove();
+        unregisterConfiguration(configuration);
+        cacheStats.instanceReleased();
+        released.add(configuration);
+      }
+    }
+  }
+
+  private void disposeReleased(ConfigurationInstance configuration) {
+    try {
+      withContextClassLoader(getExtensionClassLoader(), () -> {
+        stopIfNeeded(configuration);
+        disposeIfNeeded(configuration, LOGGER);
+        return null;
+      });
+    } catch (Exception e) {
+      LOGGER.error("Could not dispose evicted dynamic configuration instance of config " + getName(), e);
     }
   }
 
@@ -163,17 +291,54 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
   public List<ConfigurationInstance> getExpired() {
     cacheWriteLock.lock();
     try {
-      return cache.entrySet().stream().filter(entry -> isExpired(entry.getValue())).map(entry -> {
-        cache.remove(entry.getKey());
-        return entry.getValue();
-      }).collect(new ImmutableListCollector<>());
+      List<ConfigurationInstance> released = new ArrayList<>();
+      Iterator<Map.Entry<ResolverSetResult, ConfigurationInstance>> entries = cache.asMap().entrySet().iterator();
+      while (entries.hasNext()) {
+        ConfigurationInstance configuration = entries.next().getValue();
+        if (isExpired(configuration)) {
+          entries.remove();
+          cacheStats.instanceExpired();
+          unregisterConfiguration(configuration);
+          cacheStats.instanceReleased();
+          released.add(configuration);
+        }
+      }
+
+      releaseEvicted(released);
+
+      return ImmutableList.copyOf(released);
     } finally {
       cacheWriteLock.unlock();
     }
   }
 
+  /**
+   * @return the {@link DynamicConfigurationCacheStats} of the instances cached by {@code this} provider
+   */
+  @Override
+  public DynamicConfigurationCacheStats getCacheStats() {
+    return cacheStats;
+  }
+
   private boolean isExpired(ConfigurationInstance configuration) {
     ConfigurationStats stats = configuration.getStatistics();
     return stats.getInflightOperations() == 0 && expirationPolicy.isExpired(stats.getLastUsedMillis(), TimeUnit.MILLISECONDS);
   }
+
+  /**
+   * An evicted instance is not waited for to be idle as long as the {@link ExpirationPolicy} requires, but it still needs to go
+   * unused for a short while, since it may have just been handed to an operation which didn't start yet
+   */
+  private boolean isReleasable(ConfigurationInstance configuration) {
+    ConfigurationStats stats = configuration.getStatistics();
+    return stats.getInflightOperations() == 0
+        && getTimeSupplier().get() - stats.getLastUsedMillis() >= EVICTION_GRACE_PERIOD_MILLIS;
+  }
+
+  private TimeSupplier getTimeSupplier() {
+    if (timeSupplier == null) {
+      timeSupplier = new TimeSupplier();
+    }
+    return timeSupplier;
+  }
 }
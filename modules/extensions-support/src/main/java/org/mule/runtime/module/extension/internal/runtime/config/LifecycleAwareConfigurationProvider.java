@@ -27,8 +27,8 @@ import org.mule.runtime.extension.api.introspection.config.RuntimeConfigurationM
 import org.mule.runtime.extension.api.runtime.ConfigurationInstance;
 import org.mule.runtime.extension.api.runtime.ConfigurationProvider;
 
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.inject.Inject;
 
@@ -50,7 +50,8 @@ public abstract class LifecycleAwareConfigurationProvider implements Configurati
 
   private final String name;
   private final RuntimeConfigurationModel configurationModel;
-  private final List<ConfigurationInstance> configurationInstances = new LinkedList<>();
+  // instances are unregistered by the expiration monitor while lifecycle phases may be iterating them
+  private final List<ConfigurationInstance> configurationInstances = new CopyOnWriteArrayList<>();
   private final ClassLoader extensionClassLoader;
   protected SimpleLifecycleManager lifecycleManager =
       new DefaultLifecycleManager<>(String.format("%s-%s", getClass().getName(), getName()), this);
@@ -151,6 +152,16 @@ public abstract class LifecycleAwareConfigurationProvider implements Configurati
     configurationInstances.add(configuration);
   }
 
+  /**
+   * Implementations are to invoke this method when they release a {@link ConfigurationInstance} previously passed to
+   * {@link #registerConfiguration(ConfigurationInstance)}, so that its lifecycle is no longer tracked by {@code this} provider
+   *
+   * @param configuration a released {@link ConfigurationInstance}
+   */
+  protected void unregisterConfiguration(ConfigurationInstance configuration) {
+    configurationInstances.remove(configuration);
+  }
+
   /**
    * {@inheritDoc}
    */
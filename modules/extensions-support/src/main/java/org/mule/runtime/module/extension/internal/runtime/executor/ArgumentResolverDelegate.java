@@ -20,8 +20,7 @@ interface ArgumentResolverDelegate {
    * Returns an object array with the argument values of the given {@code operationContext}
    *
    * @param operationContext the {@link OperationContext context} of an {@link OperationModel} being currently executed
-   * @param parameterTypes
    * @return an object array
    */
-  Object[] resolve(OperationContext operationContext, Class<?>[] parameterTypes);
+  Object[] resolve(OperationContext operationContext);
 }
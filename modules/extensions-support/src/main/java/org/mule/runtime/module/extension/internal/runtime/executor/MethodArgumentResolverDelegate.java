@@ -40,6 +40,10 @@ import java.util.Optional;
 /**
  * Resolves the values of an {@link OperationModel}'s {@link ParameterModel parameterModels} by matching them to the arguments in
  * a {@link Method}
+ * <p/>
+ * The {@link ArgumentResolver} and the default value of each argument are computed once, when this instance is created, and
+ * kept in slots indexed by the argument's position, so that resolving the arguments of each execution is a single pass over
+ * them
  *
  * @since 3.7.0
  */
@@ -54,6 +58,7 @@ public final class MethodArgumentResolverDelegate implements ArgumentResolverDel
   private final Method method;
   private final JavaTypeLoader typeLoader = new JavaTypeLoader(this.getClass().getClassLoader());
   private ArgumentResolver<? extends Object>[] argumentResolvers;
+  private Object[] defaultValues;
   private Map<java.lang.reflect.Parameter, ParameterGroupArgumentResolver<? extends Object>> parameterGroupResolvers;
 
   /**
@@ -71,10 +76,12 @@ public final class MethodArgumentResolverDelegate implements ArgumentResolverDel
 
     if (isEmpty(parameterTypes)) {
       argumentResolvers = new ArgumentResolver[] {};
+      defaultValues = new Object[] {};
       return;
     }
 
     argumentResolvers = new ArgumentResolver[parameterTypes.length];
+    defaultValues = new Object[parameterTypes.length];
     Annotation[][] parameterAnnotations = method.getParameterAnnotations();
     Parameter[] parameters = method.getParameters();
     parameterGroupResolvers = getParameterGroupResolvers(model);
@@ -101,35 +108,22 @@ public final class MethodArgumentResolverDelegate implements ArgumentResolverDel
       }
 
       argumentResolvers[i] = argumentResolver;
+      defaultValues[i] = getDefaultValue(parameterType);
     }
   }
 
   @Override
-  public Object[] resolve(OperationContext operationContext, Class<?>[] parameterTypes) {
-
+  public Object[] resolve(OperationContext operationContext) {
     Object[] parameterValues = new Object[argumentResolvers.length];
-    int i = 0;
-    for (ArgumentResolver<?> argumentResolver : argumentResolvers) {
-      parameterValues[i++] = argumentResolver.resolve(operationContext);
+    for (int i = 0; i < argumentResolvers.length; i++) {
+      Object parameterValue = argumentResolvers[i].resolve(operationContext);
+      parameterValues[i] = parameterValue != null ? parameterValue : defaultValues[i];
     }
 
-    return resolvePrimitiveTypes(parameterTypes, parameterValues);
-  }
-
-  private Object[] resolvePrimitiveTypes(Class<?>[] parametersType, Object[] parameterValues) {
-    Object[] resolvedParameters = new Object[parameterValues.length];
-    for (int i = 0; i < parameterValues.length; i++) {
-      Object parameterValue = parameterValues[i];
-      if (parameterValue == null) {
-        resolvedParameters[i] = resolvePrimitiveTypeDefaultValue(parametersType[i]);
-      } else {
-        resolvedParameters[i] = parameterValue;
-      }
-    }
-    return resolvedParameters;
+    return parameterValues;
   }
 
-  private Object resolvePrimitiveTypeDefaultValue(Class<?> type) {
+  private static Object getDefaultValue(Class<?> type) {
     if (type.equals(byte.class)) {
       return (byte) 0;
     }
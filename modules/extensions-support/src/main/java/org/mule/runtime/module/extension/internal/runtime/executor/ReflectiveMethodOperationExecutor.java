@@ -6,15 +6,20 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.executor;
 
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
 import static org.apache.commons.lang.ArrayUtils.isEmpty;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.config.i18n.MessageFactory.createStaticMessage;
 import static org.mule.runtime.core.util.ClassUtils.withContextClassLoader;
-import static org.springframework.util.ReflectionUtils.invokeMethod;
+import static org.springframework.util.ReflectionUtils.makeAccessible;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.MuleException;
+import org.mule.runtime.core.api.MuleRuntimeException;
 import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.lifecycle.InitialisationException;
 import org.mule.runtime.core.api.lifecycle.Lifecycle;
@@ -22,7 +27,9 @@ import org.mule.runtime.extension.api.introspection.operation.OperationModel;
 import org.mule.runtime.extension.api.runtime.operation.OperationContext;
 import org.mule.runtime.extension.api.runtime.operation.OperationExecutor;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +39,10 @@ import org.slf4j.LoggerFactory;
  * {@link Method}s. When {@link #execute(OperationContext)} is invoked, the {@link #operationMethod} is invoked over the
  * {@link #executorDelegate}.
  * <p/>
+ * Instead of going through reflection on each execution, the {@link #operationMethod} is compiled into a {@link MethodHandle}
+ * bound to the {@link #executorDelegate} when this instance is created. As with reflective invocation, checked exceptions
+ * thrown by the operation are wrapped into an {@link UndeclaredThrowableException}.
+ * <p/>
  * All the {@link Lifecycle} events that {@code this} instance receives are propagated to the {@link #executorDelegate}
  *
  * @since 3.7.0
@@ -43,7 +54,7 @@ public final class ReflectiveMethodOperationExecutor implements OperationExecuto
     private static final Object[] EMPTY = new Object[] {};
 
     @Override
-    public Object[] resolve(OperationContext operationContext, Class<?>[] parameterTypes) {
+    public Object[] resolve(OperationContext operationContext) {
       return EMPTY;
     }
   }
@@ -53,6 +64,7 @@ public final class ReflectiveMethodOperationExecutor implements OperationExecuto
 
   private final Method operationMethod;
   private final Object executorDelegate;
+  private final MethodHandle operationInvoker;
   private final ArgumentResolverDelegate argumentResolverDelegate;
   private final ClassLoader extensionClassLoader;
 
@@ -63,6 +75,7 @@ public final class ReflectiveMethodOperationExecutor implements OperationExecuto
     this.executorDelegate = executorDelegate;
     argumentResolverDelegate = isEmpty(operationMethod.getParameterTypes()) ? NO_ARGS_DELEGATE
         : new MethodArgumentResolverDelegate(operationModel, operationMethod);
+    operationInvoker = createOperationInvoker(operationMethod, executorDelegate);
     extensionClassLoader = operationMethod.getDeclaringClass().getClassLoader();
   }
 
@@ -72,12 +85,37 @@ public final class ReflectiveMethodOperationExecutor implements OperationExecuto
   @Override
   public Object execute(OperationContext operationContext) throws Exception {
     return withContextClassLoader(extensionClassLoader,
-                                  () -> invokeMethod(operationMethod, executorDelegate,
-                                                     getParameterValues(operationContext, operationMethod.getParameterTypes())));
+                                  () -> invokeOperation(argumentResolverDelegate.resolve(operationContext)));
   }
 
-  private Object[] getParameterValues(OperationContext operationContext, Class<?>[] parameterTypes) {
-    return argumentResolverDelegate.resolve(operationContext, parameterTypes);
+  private Object invokeOperation(Object[] parameterValues) {
+    try {
+      return (Object) operationInvoker.invokeExact(parameterValues);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+
+  /**
+   * Creates a {@link MethodHandle} which invokes the given {@code method} over the {@code executorDelegate}, taking all its
+   * arguments as an {@link Object} array and returning its result as an {@link Object}, or {@code null} for void methods.
+   */
+  private static MethodHandle createOperationInvoker(Method method, Object executorDelegate) {
+    MethodHandle invoker;
+    try {
+      makeAccessible(method);
+      invoker = lookup().unreflect(method);
+    } catch (IllegalAccessException e) {
+      throw new MuleRuntimeException(createStaticMessage("Could not access operation method " + method), e);
+    }
+
+    if (!isStatic(method.getModifiers())) {
+      invoker = invoker.bindTo(executorDelegate);
+    }
+
+    return invoker.asSpreader(Object[].class, method.getParameterCount()).asType(methodType(Object.class, Object[].class));
   }
 
   @Override
@@ -26,6 +26,11 @@ import java.util.Map;
  * {@link ValueResolver}s but evaluated many times. With this goal in mind is that the return value of this resolver will always
  * be a {@link ResolverSetResult} which then can be used by a {@link ObjectBuilder} to generate an actual object.
  * <p/>
+ * The values of the {@link StaticValueResolver}s are resolved only once, the first time this set is resolved after its last
+ * {@link #add(String, ValueResolver)}, so that only the remaining resolvers are evaluated and hashed per {@link MuleEvent}. Other
+ * resolvers are evaluated each time even when they're not dynamic, since those may still produce a new value per event (for
+ * example, a new instance of a pojo or a nested processor bound to the event)
+ * <p/>
  * Instances of this class are to be considered thread safe and reusable
  *
  * @since 3.7.0
@@ -34,6 +39,7 @@ public class ResolverSet implements ValueResolver<ResolverSetResult> {
 
   private Map<String, ValueResolver> resolvers = new LinkedHashMap<>();
   private boolean dynamic = false;
+  private volatile ResolverSlots slots;
 
   /**
    * Links the given {@link ValueResolver} to the given {@link ParameterModel}. If such {@code parameter} was already added, then
@@ -55,6 +61,7 @@ public class ResolverSet implements ValueResolver<ResolverSetResult> {
     if (resolver.isDynamic()) {
       dynamic = true;
     }
+    slots = null;
     return this;
   }
 
@@ -77,14 +84,30 @@ public class ResolverSet implements ValueResolver<ResolverSetResult> {
    */
   @Override
   public ResolverSetResult resolve(MuleEvent event) throws MuleException {
+    ResolverSlots slots = getSlots();
     ResolverSetResult.Builder builder = ResolverSetResult.newBuilder();
-    for (Map.Entry<String, ValueResolver> entry : resolvers.entrySet()) {
-      builder.add(entry.getKey(), resolveValue(entry.getValue(), event));
+    for (int i = 0; i < slots.keys.length; i++) {
+      ValueResolver<?> resolver = slots.resolvers[i];
+      if (resolver == null) {
+        builder.add(slots.keys[i], slots.staticValues[i], slots.staticHashCodes[i]);
+      } else {
+        builder.add(slots.keys[i], resolveValue(resolver, event));
+      }
     }
 
     return builder.build();
   }
 
+  private ResolverSlots getSlots() throws MuleException {
+    ResolverSlots current = slots;
+    if (current == null) {
+      current = new ResolverSlots(resolvers);
+      slots = current;
+    }
+
+    return current;
+  }
+
   private Object resolveValue(ValueResolver<?> resolver, MuleEvent event) throws MuleException {
     Object value = resolver.resolve(event);
     if (value instanceof ValueResolver) {
@@ -97,4 +120,37 @@ public class ResolverSet implements ValueResolver<ResolverSetResult> {
   public Map<String, ValueResolver> getResolvers() {
     return ImmutableMap.copyOf(resolvers);
   }
+
+  /**
+   * The added resolvers laid out in arrays, with the value and hash code of each {@link StaticValueResolver} already resolved
+   * and its slot in {@link #resolvers} set to {@code null}
+   */
+  private static class ResolverSlots {
+
+    private final String[] keys;
+    private final ValueResolver<?>[] resolvers;
+    private final Object[] staticValues;
+    private final int[] staticHashCodes;
+
+    private ResolverSlots(Map<String, ValueResolver> resolverMap) throws MuleException {
+      keys = new String[resolverMap.size()];
+      resolvers = new ValueResolver[resolverMap.size()];
+      staticValues = new Object[resolverMap.size()];
+      staticHashCodes = new int[resolverMap.size()];
+
+      int i = 0;
+      for (Map.Entry<String, ValueResolver> entry : resolverMap.entrySet()) {
+        keys[i] = entry.getKey();
+        ValueResolver<?> resolver = entry.getValue();
+        Object staticValue = resolver instanceof StaticValueResolver ? resolver.resolve(null) : resolver;
+        if (staticValue instanceof ValueResolver) {
+          resolvers[i] = (ValueResolver<?>) staticValue;
+        } else {
+          staticValues[i] = staticValue;
+          staticHashCodes[i] = staticValue == null ? 0 : staticValue.hashCode();
+        }
+        i++;
+      }
+    }
+  }
 }
@@ -52,9 +52,21 @@ public class ResolverSetResult {
      * @throws IllegalArgumentException is {@code parameter} is {@code null}
      */
     public Builder add(String key, Object value) {
+      return add(key, value, value == null ? 0 : value.hashCode());
+    }
+
+    /**
+     * Adds a new result {@code value} for the given {@code key}, using a previously computed hash code for it
+     *
+     * @param key a not {@code null} key for the value
+     * @param value the associated value. It can be {@code null}
+     * @param valueHashCode the hash code of {@code value}, or {@code 0} if it's {@code null}
+     * @return this builder
+     */
+    Builder add(String key, Object value, int valueHashCode) {
       checkArgument(key != null, "parameter cannot be null");
       values.put(key, value);
-      hashCode = 31 * hashCode + (value == null ? 0 : value.hashCode());
+      hashCode = 31 * hashCode + valueHashCode;
       return this;
     }
 
@@ -114,8 +126,12 @@ public class ResolverSetResult {
   public boolean equals(Object obj) {
     if (obj instanceof ResolverSetResult) {
       ResolverSetResult other = (ResolverSetResult) obj;
-      return !evaluationResult.entrySet().stream().filter(entry -> !Objects.equal(entry.getValue(), other.get(entry.getKey())))
-          .findFirst().isPresent();
+      for (Map.Entry<String, Object> entry : evaluationResult.entrySet()) {
+        if (!Objects.equal(entry.getValue(), other.get(entry.getKey()))) {
+          return false;
+        }
+      }
+      return true;
     }
 
     return false;
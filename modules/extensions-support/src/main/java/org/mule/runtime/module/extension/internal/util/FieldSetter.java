@@ -6,12 +6,22 @@
  */
 package org.mule.runtime.module.extension.internal.util;
 
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
+import static org.mule.runtime.core.config.i18n.MessageFactory.createStaticMessage;
+import org.mule.runtime.core.api.MuleRuntimeException;
+
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
+import java.lang.reflect.UndeclaredThrowableException;
 
 import org.springframework.util.ReflectionUtils;
 
 /**
  * Utility class which allows setting the value of a {@link Field} on random compatible instances
+ * <p/>
+ * The {@link Field} is compiled into a setter {@link MethodHandle} when this instance is created, so that setting the value
+ * doesn't go through reflection each time
  *
  * @param <Target> the generic type of the objects which contain the field
  * @param <Value> the field's generic type
@@ -22,10 +32,16 @@ public final class FieldSetter<Target, Value> {
    * The {@link Field} in which the value is to be assigned
    */
   private final Field field;
+  private final MethodHandle setter;
 
   public FieldSetter(Field field) {
     this.field = field;
     field.setAccessible(true);
+    try {
+      setter = lookup().unreflectSetter(field).asType(methodType(void.class, Object.class, Object.class));
+    } catch (IllegalAccessException e) {
+      throw new MuleRuntimeException(createStaticMessage("Could not access field " + field), e);
+    }
   }
 
   /**
@@ -35,7 +51,19 @@ public final class FieldSetter<Target, Value> {
    * @param value the value to set
    */
   public void set(Target target, Value value) {
-    ReflectionUtils.setField(field, target, value);
+    if (value == null && field.getType().isPrimitive()) {
+      // let reflection report the invalid value as it always did
+      ReflectionUtils.setField(field, target, null);
+      return;
+    }
+
+    try {
+      setter.invokeExact((Object) target, (Object) value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new UndeclaredThrowableException(e);
+    }
   }
 
   /**
@@ -6,7 +6,6 @@
  */
 package org.mule.runtime.module.extension.internal.util;
 
-import static org.springframework.util.ReflectionUtils.setField;
 import org.mule.runtime.core.VoidMuleEvent;
 import org.mule.runtime.core.api.MuleException;
 import org.mule.runtime.core.util.collection.ImmutableListCollector;
@@ -16,13 +15,13 @@ import org.mule.runtime.module.extension.internal.model.property.ParameterGroupM
 import org.mule.runtime.module.extension.internal.runtime.DefaultObjectBuilder;
 import org.mule.runtime.module.extension.internal.runtime.ObjectBuilder;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSetResult;
-import org.mule.runtime.module.extension.internal.runtime.resolver.StaticValueResolver;
 
 import com.google.common.collect.ImmutableList;
 
 import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * An implementation of {@link ValueSetter} for parameter groups. Parameter groups are a set of parameters defined inside a Pojo
@@ -31,6 +30,8 @@ import java.util.Optional;
  * <p/>
  * This {@link ValueSetter} knows how to map a {@link ResolverSetResult} to an object which acts as a group. Because group nesting
  * is allowed, this class is a composite with a {@link #childSetters} collection.
+ * <p/>
+ * For performance reasons, the builder of the group object and the setters of its fields are created only once
  *
  * @since 3.7.0
  */
@@ -56,7 +57,9 @@ public final class GroupValueSetter implements ValueSetter {
     return ImmutableList.of();
   }
 
-  private final ParameterGroup<Field> group;
+  private final ObjectBuilder<?> groupBuilder;
+  private final FieldSetter<Object, Object> containerSetter;
+  private final List<FieldSetter<Object, Object>> parameterSetters;
   private final List<ValueSetter> childSetters;
 
   /**
@@ -65,25 +68,28 @@ public final class GroupValueSetter implements ValueSetter {
    * @param group a {@link ParameterGroup}
    */
   public GroupValueSetter(ParameterGroup group) {
-    this.group = group;
+    groupBuilder = new DefaultObjectBuilder<>(group.getType());
+    containerSetter = new FieldSetter<>((Field) group.getContainer());
+    parameterSetters = createParameterSetters(group.getParameters());
     childSetters = settersFor(group);
   }
 
   @Override
   public void set(Object target, ResolverSetResult result) throws MuleException {
-    ObjectBuilder<?> groupBuilder = new DefaultObjectBuilder<>(group.getType());
-
-    group.getParameters()
-        .forEach(field -> groupBuilder.addPropertyResolver(field, new StaticValueResolver<>(result.get(field.getName()))));
-
     Object groupValue = groupBuilder.build(VoidMuleEvent.getInstance());
+    for (FieldSetter<Object, Object> parameterSetter : parameterSetters) {
+      parameterSetter.set(groupValue, result.get(parameterSetter.getField().getName()));
+    }
 
-    Field field = group.getContainer();
-    field.setAccessible(true);
-    setField(field, target, groupValue);
+    containerSetter.set(target, groupValue);
 
     for (ValueSetter childSetter : childSetters) {
       childSetter.set(groupValue, result);
     }
   }
+
+  private static List<FieldSetter<Object, Object>> createParameterSetters(Set<Field> parameters) {
+    return parameters.stream().map(field -> new FieldSetter<Object, Object>(field))
+        .collect(new ImmutableListCollector<>());
+  }
 }
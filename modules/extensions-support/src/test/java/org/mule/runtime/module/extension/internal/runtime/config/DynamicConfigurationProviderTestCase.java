@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.config;
 
+import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.sameInstance;
@@ -122,6 +123,100 @@ public class DynamicConfigurationProviderTestCase extends AbstractConfigurationP
     assertThat(configs, containsInAnyOrder(instance1, instance2));
   }
 
+  @Test
+  public void cacheStats() throws Exception {
+    assertSameInstancesResolved();
+    makeAlternateInstance();
+
+    DynamicConfigurationCacheStats stats = ((DynamicConfigurationProvider) provider).getCacheStats();
+    assertThat(stats.getInstances(), is(2));
+    assertThat(stats.getHits(), is(9L));
+    assertThat(stats.getCreatedInstances(), is(2L));
+    assertThat(stats.getEvictedInstances(), is(0L));
+
+    timeSupplier.move(10, TimeUnit.MINUTES);
+    ((DynamicConfigurationProvider) provider).getExpired();
+
+    assertThat(stats.getInstances(), is(0));
+    assertThat(stats.getExpiredInstances(), is(2L));
+    assertThat(stats.getReleasedInstances(), is(2L));
+  }
+
+  @Test
+  public void evictLeastRecentlyUsed() throws Exception {
+    provider = createBoundedProvider(1);
+    ConfigurationInstance instance1 = provider.get(event);
+    makeAlternateInstance();
+
+    DynamicConfigurationProvider provider = (DynamicConfigurationProvider) this.provider;
+    assertThat(provider.getCacheStats().getInstances(), is(1));
+    assertThat(provider.getCacheStats().getEvictedInstances(), is(1L));
+    assertThat(provider.getExpired().isEmpty(), is(true));
+
+    timeSupplier.move(1, TimeUnit.MINUTES);
+    assertThat(provider.getExpired(), hasItem(instance1));
+    assertThat(provider.getExpired().isEmpty(), is(true));
+  }
+
+  @Test
+  public void idleEvictedInstanceReleasedOnNextCreation() throws Exception {
+    provider = createBoundedProvider(1);
+    ConfigurationInstance instance1 = provider.get(event);
+    timeSupplier.move(1, TimeUnit.MINUTES);
+    makeAlternateInstance();
+
+    DynamicConfigurationProvider provider = (DynamicConfigurationProvider) this.provider;
+    assertThat(provider.getCacheStats().getEvictedInstances(), is(1L));
+    assertThat(provider.getCacheStats().getReleasedInstances(), is(1L));
+    assertThat(provider.getExpired(), not(hasItem(instance1)));
+  }
+
+  @Test
+  public void evictedInstanceReleasedWhenIdle() throws Exception {
+    provider = createBoundedProvider(1);
+    ConfigurationInstance instance1 = provider.get(event);
+    MutableConfigurationStats stats = (MutableConfigurationStats) instance1.getStatistics();
+    stats.addInflightOperation();
+    makeAlternateInstance();
+
+    DynamicConfigurationProvider provider = (DynamicConfigurationProvider) this.provider;
+    timeSupplier.move(10, TimeUnit.MINUTES);
+    assertThat(provider.getExpired(), not(hasItem(instance1)));
+
+    stats.discountInflightOperation();
+    assertThat(provider.getExpired(), not(hasItem(instance1)));
+
+    timeSupplier.move(1, TimeUnit.MINUTES);
+    assertThat(provider.getExpired(), hasItem(instance1));
+  }
+
+  @Test
+  public void evictedInstancesInUseCountAgainstBound() throws Exception {
+    provider = createBoundedProvider(2);
+    ConfigurationInstance instance1 = provider.get(event);
+    ((MutableConfigurationStats) instance1.getStatistics()).addInflightOperation();
+    timeSupplier.move(1, TimeUnit.MINUTES);
+    makeAlternateInstance();
+    timeSupplier.move(1, TimeUnit.MINUTES);
+    makeAlternateInstance();
+
+    DynamicConfigurationCacheStats stats = ((DynamicConfigurationProvider) provider).getCacheStats();
+    assertThat(stats.getInstances(), is(1));
+    assertThat(stats.getEvictedInstances(), is(2L));
+    assertThat(stats.getReleasedInstances(), is(1L));
+  }
+
+  private DynamicConfigurationProvider createBoundedProvider(int maxInstances) throws Exception {
+    DynamicConfigurationProvider provider = new DynamicConfigurationProvider(CONFIG_NAME, configurationModel, resolverSet,
+                                                                             new StaticValueResolver<>(null), expirationPolicy,
+                                                                             maxInstances);
+    muleContext.getInjector().inject(provider);
+    provider.initialise();
+    provider.start();
+
+    return provider;
+  }
+
   private HeisenbergExtension makeAlternateInstance() throws MuleException {
     ResolverSetResult alternateResult = mock(ResolverSetResult.class, Mockito.RETURNS_DEEP_STUBS);
     when(resolverSet.resolve(event)).thenReturn(alternateResult);
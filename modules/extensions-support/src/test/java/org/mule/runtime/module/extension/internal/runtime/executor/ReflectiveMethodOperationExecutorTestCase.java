@@ -8,6 +8,7 @@ package org.mule.runtime.module.extension.internal.runtime.executor;
 
 import static java.util.Collections.emptyList;
 import static java.util.Optional.of;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
@@ -42,7 +43,9 @@ import org.mule.tck.size.SmallTest;
 import org.mule.test.heisenberg.extension.HeisenbergExtension;
 import org.mule.test.heisenberg.extension.HeisenbergOperations;
 
+import java.io.IOException;
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -123,6 +126,19 @@ public class ReflectiveMethodOperationExecutorTestCase extends AbstractMuleTestC
     }
   }
 
+  @Test
+  public void checkedExceptionIsWrapped() throws Exception {
+    Method method = ClassUtils.getMethod(CheckedExceptionTestOperations.class, "throwChecked", new Class<?>[] {});
+    executor = new ReflectiveMethodOperationExecutor(operationModel, method, new CheckedExceptionTestOperations());
+
+    try {
+      executor.execute(operationContext);
+      fail("was expecting an exception");
+    } catch (UndeclaredThrowableException e) {
+      assertThat(e.getCause(), is(instanceOf(IOException.class)));
+    }
+  }
+
   @Test
   public void voidOperationWithoutParameters() throws Exception {
     Method method = ClassUtils.getMethod(HeisenbergOperations.class, "die", new Class<?>[] {HeisenbergExtension.class});
@@ -247,4 +263,11 @@ public class ReflectiveMethodOperationExecutorTestCase extends AbstractMuleTestC
       assertThat(booleanValue, is(this.booleanValue));
     }
   }
+
+  public static class CheckedExceptionTestOperations {
+
+    public void throwChecked() throws IOException {
+      throw new IOException();
+    }
+  }
 }
@@ -9,6 +9,10 @@ package org.mule.runtime.module.extension.internal.runtime.resolver;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.runtime.module.extension.internal.util.ExtensionsTestUtils.getParameter;
 import org.mule.runtime.core.api.MuleContext;
@@ -60,6 +64,25 @@ public class ResolverSetTestCase extends AbstractMuleTestCase {
     assertResult(result, mapping);
   }
 
+  @Test
+  public void staticValuesAreResolvedOnce() throws Exception {
+    ValueResolver<String> staticResolver = spy(new StaticValueResolver<>(NAME));
+    set.add("static", staticResolver);
+
+    assertThat(set.resolve(event).get("static"), is(NAME));
+    assertThat(set.resolve(event).get("static"), is(NAME));
+    verify(staticResolver, times(1)).resolve(any(MuleEvent.class));
+  }
+
+  @Test
+  public void resolverAddedAfterResolving() throws Exception {
+    set.resolve(event);
+    set.add("static", new StaticValueResolver<>(NAME));
+
+    assertThat(set.resolve(event).get("static"), is(NAME));
+    assertResult(set.resolve(event), mapping);
+  }
+
   @Test(expected = IllegalArgumentException.class)
   public void addNullParameter() throws Exception {
     set.add(null, getResolver(null));
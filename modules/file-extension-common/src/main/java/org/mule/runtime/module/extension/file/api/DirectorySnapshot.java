@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.file.api;
+
+import static java.util.Spliterator.SIZED;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Remembers the name, size and last modification time of the entries found the last time a directory was listed, so that
+ * following listings only return the entries which are new or changed.
+ * <p>
+ * A snapshot is bound to the path of the listed directory. Instances are {@link Serializable} so that they can be persisted
+ * between polls (for example, in an {@code ObjectStore} keyed by {@link #getDirectoryPath()}) and survive restarts.
+ * <p>
+ * Entries which are not found anymore are forgotten only once a listing is fully consumed, so that a file which is deleted
+ * and then created again is reported as new. Instances are thread safe.
+ *
+ * @since 4.0
+ */
+public final class DirectorySnapshot implements Serializable {
+
+  private static final long serialVersionUID = -2548173067613265831L;
+
+  private final String directoryPath;
+  private final Map<String, Entry> entries = new HashMap<>();
+  private long generation = 0;
+
+  /**
+   * Creates a new empty snapshot
+   *
+   * @param directoryPath the path of the directory this snapshot is bound to
+   */
+  public DirectorySnapshot(String directoryPath) {
+    this.directoryPath = directoryPath;
+  }
+
+  /**
+   * @return the path of the directory this snapshot is bound to
+   */
+  public String getDirectoryPath() {
+    return directoryPath;
+  }
+
+  /**
+   * @return the amount of entries currently remembered
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Filters the given {@code listing} so that it only contains the entries which are new or have changed since the last time
+   * they were seen by {@code this} snapshot.
+   * <p>
+   * The returned {@link Stream} is as lazy as the given one. Once it is fully consumed, entries which were not part of the
+   * listing are forgotten.
+   *
+   * @param listing the entries of a directory listing
+   * @param lastModified a {@link Function} which obtains the last modification time of an entry. It may return {@code null}
+   * @param <T> the generic type of the listed entries
+   * @return a filtered {@link Stream}
+   */
+  public <T extends FileAttributes> Stream<T> filter(Stream<T> listing, Function<T, LocalDateTime> lastModified) {
+    final long scan = beginScan();
+    Stream<T> changed = listing.filter(attributes -> update(scan, attributes.getPath(), attributes.getSize(),
+                                                            lastModified.apply(attributes)));
+
+    return onExhaustion(changed, () -> endScan(scan));
+  }
+
+  private synchronized long beginScan() {
+    return ++generation;
+  }
+
+  private synchronized boolean update(long scan, String path, long size, LocalDateTime lastModified) {
+    Entry entry = entries.get(path);
+    if (entry == null) {
+      entries.put(path, new Entry(size, lastModified, scan));
+      return true;
+    }
+
+    boolean changed = entry.size != size || !Objects.equals(entry.lastModified, lastModified);
+    entry.size = size;
+    entry.lastModified = lastModified;
+    entry.lastSeen = scan;
+
+    return changed;
+  }
+
+  private synchronized void endScan(long scan) {
+    if (scan == generation) {
+      entries.values().removeIf(entry -> entry.lastSeen != scan);
+    }
+  }
+
+  /**
+   * Serializes under the same lock used to update the entries, so that a snapshot being persisted while a listing is consumed
+   * is always written in a consistent state
+   */
+  private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+  }
+
+  private static <T> Stream<T> onExhaustion(Stream<T> stream, Runnable action) {
+    Spliterator<T> delegate = stream.spliterator();
+    Spliterator<T> spliterator =
+        new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, delegate.characteristics() & ~SIZED) {
+
+          private boolean exhausted = false;
+
+          @Override
+          public boolean tryAdvance(Consumer<? super T> consumer) {
+            if (delegate.tryAdvance(consumer)) {
+              return true;
+            }
+
+            if (!exhausted) {
+              exhausted = true;
+              action.run();
+            }
+            return false;
+          }
+        };
+
+    return StreamSupport.stream(spliterator, false).onClose(stream::close);
+  }
+
+  private static class Entry implements Serializable {
+
+    private static final long serialVersionUID = 7305513402281548061L;
+
+    private long size;
+    private LocalDateTime lastModified;
+    private long lastSeen;
+
+    private Entry(long size, LocalDateTime lastModified, long lastSeen) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.lastSeen = lastSeen;
+    }
+  }
+}
@@ -6,15 +6,23 @@
  */
 package org.mule.runtime.module.extension.file.api;
 
+import static org.mule.runtime.core.config.i18n.MessageFactory.createStaticMessage;
 import static org.mule.runtime.extension.api.annotation.param.display.Placement.ADVANCED;
 import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.MuleRuntimeException;
 import org.mule.runtime.core.api.lifecycle.Initialisable;
 import org.mule.runtime.core.api.lifecycle.InitialisationException;
+import org.mule.runtime.core.api.store.ObjectStore;
+import org.mule.runtime.core.api.store.ObjectStoreException;
 import org.mule.runtime.extension.api.annotation.Parameter;
 import org.mule.runtime.extension.api.annotation.param.ConfigName;
 import org.mule.runtime.extension.api.annotation.param.Optional;
 import org.mule.runtime.extension.api.annotation.param.display.Placement;
 
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import javax.inject.Inject;
 
 /**
@@ -39,6 +47,24 @@ public abstract class FileConnectorConfig implements Initialisable {
   @Placement(group = ADVANCED)
   private String defaultWriteEncoding;
 
+  /**
+   * The name of the {@link ObjectStore} in which the {@link DirectorySnapshot snapshots} used by the {@code listChanges}
+   * operation are kept. If not specified, a persistent object store owned by this config is used, so that the listed changes
+   * survive a restart of the application.
+   */
+  @Parameter
+  @Optional
+  @Placement(group = ADVANCED)
+  private String snapshotObjectStore;
+
+  private ObjectStore<Serializable> snapshotStore;
+
+  /**
+   * The snapshots which were already loaded from the {@link #snapshotStore}, so that concurrent listings of the same directory
+   * share the same instance
+   */
+  private final Map<String, DirectorySnapshot> directorySnapshots = new ConcurrentHashMap<>();
+
   /**
    * The directory to be considered as the root of every relative path used with this connector.
    */
@@ -57,6 +83,7 @@ public abstract class FileConnectorConfig implements Initialisable {
       defaultWriteEncoding = muleContext.getConfiguration().getDefaultEncoding();
     }
 
+    snapshotStore = resolveSnapshotStore();
     doInitialise();
   }
 
@@ -65,4 +92,63 @@ public abstract class FileConnectorConfig implements Initialisable {
   public String getDefaultWriteEncoding() {
     return defaultWriteEncoding;
   }
+
+  /**
+   * Returns the {@link DirectorySnapshot} used to list the changes of the given {@code directoryPath}. The snapshot is loaded
+   * from the configured {@link ObjectStore} the first time such directory is listed through {@code this} config, or created if
+   * the store doesn't have it either.
+   *
+   * @param directoryPath the path of the listed directory, as given by the user
+   * @param recursive whether the directory is listed recursively. Recursive and non recursive listings use different snapshots
+   * @return a {@link DirectorySnapshot}
+   */
+  public DirectorySnapshot getDirectorySnapshot(String directoryPath, boolean recursive) {
+    return directorySnapshots.computeIfAbsent(getSnapshotKey(directoryPath, recursive), key -> {
+      try {
+        return snapshotStore.contains(key) ? (DirectorySnapshot) snapshotStore.retrieve(key)
+            : new DirectorySnapshot(directoryPath);
+      } catch (ObjectStoreException e) {
+        throw new MuleRuntimeException(createStaticMessage("Could not load snapshot of directory " + directoryPath), e);
+      }
+    });
+  }
+
+  /**
+   * Writes the current state of the given {@code snapshot} to the configured {@link ObjectStore}, so that it is not lost if the
+   * application is restarted. Should be invoked after each listing which updated the {@code snapshot}
+   *
+   * @param snapshot a {@link DirectorySnapshot} obtained through {@link #getDirectorySnapshot(String, boolean)}
+   * @param recursive whether the {@code snapshot} is used for recursive listings
+   */
+  public void saveDirectorySnapshot(DirectorySnapshot snapshot, boolean recursive) {
+    String key = getSnapshotKey(snapshot.getDirectoryPath(), recursive);
+    try {
+      synchronized (snapshot) {
+        if (snapshotStore.contains(key)) {
+          snapshotStore.remove(key);
+        }
+        snapshotStore.store(key, snapshot);
+      }
+    } catch (ObjectStoreException e) {
+      throw new MuleRuntimeException(createStaticMessage("Could not save snapshot of directory " + snapshot.getDirectoryPath()),
+                                     e);
+    }
+  }
+
+  private String getSnapshotKey(String directoryPath, boolean recursive) {
+    return configName + ":" + (recursive ? "recursive:" : "flat:") + getWorkingDir() + ":" + directoryPath;
+  }
+
+  private ObjectStore<Serializable> resolveSnapshotStore() throws InitialisationException {
+    if (snapshotObjectStore == null) {
+      return muleContext.getObjectStoreManager().getObjectStore(configName + ".directorySnapshots", true);
+    }
+
+    ObjectStore<Serializable> store = muleContext.getRegistry().lookupObject(snapshotObjectStore);
+    if (store == null) {
+      throw new InitialisationException(createStaticMessage("Could not find object store " + snapshotObjectStore
+          + " in the registry"), this);
+    }
+    return store;
+  }
 }
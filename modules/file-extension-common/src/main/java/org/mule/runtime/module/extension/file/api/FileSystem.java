@@ -19,6 +19,7 @@ import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javax.activation.MimetypesFileTypeMap;
 
@@ -52,6 +53,30 @@ public interface FileSystem {
   TreeNode list(FileConnectorConfig config, String directoryPath, boolean recursive, MuleMessage message,
                 Predicate<FileAttributes> matcher);
 
+  /**
+   * Lazily lists the {@link FileAttributes} of the files in the {@code directoryPath} which match the given {@code matcher}.
+   * <p>
+   * Unlike {@link #list(FileConnectorConfig, String, boolean, MuleMessage, Predicate)}, no tree is built and the files are not
+   * opened: entries are fetched from the underlying file system as the returned {@link Stream} is consumed. The {@code matcher}
+   * is evaluated as soon as an entry is found, so implementations which fetch attributes lazily only do so when the
+   * {@code matcher} requires it. Recursion follows the same rules as in the {@code list} method.
+   * <p>
+   * If a {@code snapshot} is provided, only the entries which are new or changed since the last listing performed with that
+   * same snapshot are returned, and the snapshot is updated accordingly.
+   * <p>
+   * The returned {@link Stream} holds resources of the underlying file system and needs to be closed once consumed.
+   *
+   * @param config the config that is parameterizing this operation
+   * @param directoryPath the path to the directory to be listed
+   * @param recursive whether to include the contents of sub-directories
+   * @param matcher a {@link Predicate} of {@link FileAttributes} used to filter the output
+   * @param snapshot an optional {@link DirectorySnapshot} of the {@code directoryPath}. May be {@code null}
+   * @return a lazy {@link Stream} of {@link FileAttributes}
+   * @throws IllegalArgumentException if {@code directoryPath} points to a file which doesn't exists or is not a directory
+   */
+  Stream<FileAttributes> listIncremental(FileConnectorConfig config, String directoryPath, boolean recursive,
+                                         Predicate<FileAttributes> matcher, DirectorySnapshot snapshot);
+
   /**
    * Obtains the content and metadata of a file at a given path.
    * <p>
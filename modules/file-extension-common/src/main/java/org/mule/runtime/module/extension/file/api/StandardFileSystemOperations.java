@@ -8,6 +8,7 @@ package org.mule.runtime.module.extension.file.api;
 
 import static java.lang.String.format;
 import static java.nio.file.Paths.get;
+import static java.util.stream.Collectors.toList;
 import static org.mule.runtime.core.util.Preconditions.checkArgument;
 import static org.mule.runtime.module.extension.file.api.FileDisplayConstants.MATCHER;
 import org.mule.runtime.api.message.MuleMessage;
@@ -31,7 +32,9 @@ import org.mule.runtime.module.extension.file.api.metadata.FileTreeNodeMetadataR
 
 import java.io.InputStream;
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javax.activation.MimetypesFileTypeMap;
 import javax.inject.Inject;
@@ -74,6 +77,38 @@ public class StandardFileSystemOperations {
     return fileSystem.list(config, directoryPath, recursive, message, getPredicate(matchWith));
   }
 
+  /**
+   * Lists the files in the {@code directoryPath} which match the given {@code matcher} and which are new or changed since the
+   * last time that same directory was listed through this operation with the same {@code config}.
+   * <p>
+   * Entries are considered changed when their size or last modification time differ from the last time they were seen. The
+   * first time a directory is listed, all of its matching entries are returned. Unlike the {@code list} operation, the content
+   * of the listed files is not opened.
+   * <p>
+   * Recursion follows the same rules as in the {@code list} operation.
+   *
+   * @param config the config that is parameterizing this operation
+   * @param directoryPath the path to the directory to be listed
+   * @param recursive whether to include the contents of sub-directories. Defaults to false.
+   * @param matchWith a matcher used to filter the output list
+   * @return a {@link List} with the {@link FileAttributes} of the new or changed entries
+   * @throws IllegalArgumentException if {@code directoryPath} points to a file which doesn't exists or is not a directory
+   */
+  @Summary("List the files from given directory which are new or changed since the last listing")
+  public List<FileAttributes> listChanges(@UseConfig FileConnectorConfig config, @Connection FileSystem fileSystem,
+                                          @Optional String directoryPath, @Optional(defaultValue = "false") boolean recursive,
+                                          @Optional @Summary("Matcher to filter the listed files") @Placement(
+                                              group = MATCHER) FilePredicateBuilder matchWith) {
+    fileSystem.changeToBaseDir(config);
+    DirectorySnapshot snapshot = config.getDirectorySnapshot(directoryPath, recursive);
+    try (Stream<FileAttributes> changes =
+        fileSystem.listIncremental(config, directoryPath, recursive, getPredicate(matchWith), snapshot)) {
+      List<FileAttributes> listed = changes.collect(toList());
+      config.saveDirectorySnapshot(snapshot, recursive);
+      return listed;
+    }
+  }
+
   /**
    * Obtains the content and metadata of a file at a given path. The operation itself returns a {@link MuleMessage} which payload
    * is a {@link InputStream} with the file's content, and the metadata is represent as a {@link FileAttributes} object that's
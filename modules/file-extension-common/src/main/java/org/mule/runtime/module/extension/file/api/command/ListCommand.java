@@ -7,12 +7,14 @@
 package org.mule.runtime.module.extension.file.api.command;
 
 import org.mule.runtime.api.message.MuleMessage;
+import org.mule.runtime.module.extension.file.api.DirectorySnapshot;
 import org.mule.runtime.module.extension.file.api.FileAttributes;
 import org.mule.runtime.module.extension.file.api.FileConnectorConfig;
 import org.mule.runtime.module.extension.file.api.FileSystem;
 import org.mule.runtime.module.extension.file.api.TreeNode;
 
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Command design pattern for listing files
@@ -34,4 +36,19 @@ public interface ListCommand {
    */
   TreeNode list(FileConnectorConfig config, String directoryPath, boolean recursive, MuleMessage message,
                 Predicate<FileAttributes> matcher);
+
+  /**
+   * Lazily lists files under the considerations of
+   * {@link FileSystem#listIncremental(FileConnectorConfig, String, boolean, Predicate, DirectorySnapshot)}
+   *
+   * @param config the config that is parameterizing this operation
+   * @param directoryPath the path to the directory to be listed
+   * @param recursive whether to include the contents of sub-directories
+   * @param matcher a {@link Predicate} of {@link FileAttributes} used to filter the output
+   * @param snapshot an optional {@link DirectorySnapshot} of the {@code directoryPath}. May be {@code null}
+   * @return a lazy {@link Stream} of {@link FileAttributes}
+   * @throws IllegalArgumentException if {@code directoryPath} points to a file which doesn't exists or is not a directory
+   */
+  Stream<FileAttributes> listIncremental(FileConnectorConfig config, String directoryPath, boolean recursive,
+                                         Predicate<FileAttributes> matcher, DirectorySnapshot snapshot);
 }
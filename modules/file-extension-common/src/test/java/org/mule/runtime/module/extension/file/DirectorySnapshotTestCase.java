@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.file;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mule.runtime.module.extension.file.api.DirectorySnapshot;
+import org.mule.runtime.module.extension.file.api.FileAttributes;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang.SerializationUtils;
+import org.junit.Test;
+
+@SmallTest
+public class DirectorySnapshotTestCase extends AbstractMuleTestCase {
+
+  private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2016, 1, 1, 10, 0);
+
+  private final Map<String, LocalDateTime> timestamps = new HashMap<>();
+  private DirectorySnapshot snapshot = new DirectorySnapshot("/dir");
+
+  @Test
+  public void firstListingReturnsEverything() {
+    assertThat(list(file("a", 1, TIMESTAMP), file("b", 1, TIMESTAMP)), contains("/dir/a", "/dir/b"));
+    assertThat(snapshot.size(), is(2));
+  }
+
+  @Test
+  public void unchangedFilesAreNotReturned() {
+    list(file("a", 1, TIMESTAMP), file("b", 1, TIMESTAMP));
+    assertThat(list(file("a", 1, TIMESTAMP), file("b", 1, TIMESTAMP)), is(empty()));
+  }
+
+  @Test
+  public void newAndChangedFilesAreReturned() {
+    list(file("a", 1, TIMESTAMP), file("b", 1, TIMESTAMP));
+    assertThat(list(file("a", 2, TIMESTAMP), file("b", 1, TIMESTAMP.plusSeconds(1)), file("c", 1, TIMESTAMP)),
+               contains("/dir/a", "/dir/b", "/dir/c"));
+  }
+
+  @Test
+  public void deletedFilesAreForgotten() {
+    list(file("a", 1, TIMESTAMP), file("b", 1, TIMESTAMP));
+    list(file("a", 1, TIMESTAMP));
+
+    assertThat(snapshot.size(), is(1));
+    assertThat(list(file("a", 1, TIMESTAMP), file("b", 1, TIMESTAMP)), contains("/dir/b"));
+  }
+
+  @Test
+  public void partiallyConsumedListingDoesNotForget() {
+    list(file("a", 1, TIMESTAMP), file("b", 1, TIMESTAMP));
+    snapshot.filter(Stream.of(file("c", 1, TIMESTAMP), file("a", 1, TIMESTAMP)), this::timestamp).findFirst();
+
+    assertThat(snapshot.size(), is(3));
+  }
+
+  @Test
+  public void survivesSerialization() {
+    list(file("a", 1, TIMESTAMP));
+    snapshot = (DirectorySnapshot) SerializationUtils.clone(snapshot);
+
+    assertThat(snapshot.getDirectoryPath(), is("/dir"));
+    assertThat(list(file("a", 1, TIMESTAMP), file("b", 1, TIMESTAMP)), contains("/dir/b"));
+  }
+
+  private List<String> list(FileAttributes... files) {
+    return snapshot.filter(Stream.of(files), this::timestamp).map(FileAttributes::getPath).collect(toList());
+  }
+
+  private LocalDateTime timestamp(FileAttributes attributes) {
+    return timestamps.get(attributes.getPath());
+  }
+
+  private FileAttributes file(String name, long size, LocalDateTime timestamp) {
+    FileAttributes attributes = mock(FileAttributes.class);
+    String path = "/dir/" + name;
+    when(attributes.getPath()).thenReturn(path);
+    when(attributes.getName()).thenReturn(name);
+    when(attributes.getSize()).thenReturn(size);
+    timestamps.put(path, timestamp);
+
+    return attributes;
+  }
+}
@@ -11,6 +11,7 @@ import static org.reflections.ReflectionUtils.getAllMethods;
 import static org.reflections.ReflectionUtils.withName;
 import static org.reflections.ReflectionUtils.withParameters;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Iterator;
@@ -40,7 +41,11 @@ import org.apache.logging.log4j.spi.ExtendedLogger;
  * <p/>
  * Because this class is a fix for issues in static loggers, it must not hold any reference to any {@link java.lang.ClassLoader}
  * since otherwise that class loader would be GC unreachable. For that reason, it uses {@link #ownerClassLoaderHash} instead of
- * the real reference
+ * the real reference.
+ * <p/>
+ * Resolving the logger of another context is costly, so each thread remembers the last logger it resolved through this instance,
+ * and reuses it while its context class loader doesn't change. The class loader and the logger are only weakly referenced, so
+ * the memoization doesn't keep undeployed artifacts reachable.
  *
  * @since 3.6.0
  */
@@ -50,6 +55,7 @@ abstract class DispatchingLogger extends Logger {
   private Method updateConfigurationMethod = null;
   private final ContextSelector contextSelector;
   private final int ownerClassLoaderHash;
+  private final ThreadLocal<ResolvedLogger> lastResolvedLogger = new ThreadLocal<>();
 
   DispatchingLogger(Logger originalLogger, int ownerClassLoaderHash, LoggerContext loggerContext, ContextSelector contextSelector,
                     MessageFactory messageFactory) {
@@ -66,10 +72,16 @@ abstract class DispatchingLogger extends Logger {
       return originalLogger;
     }
 
-    // trick - this is probably a logger declared in a static field
-    // the classloader used to create it and the TCCL can be different
-    // ask contextSelector for the correct context
-    return contextSelector.getContext(getName(), currentClassLoader, true).getLogger(getName(), getMessageFactory());
+    ResolvedLogger resolvedLogger = lastResolvedLogger.get();
+    Logger logger = resolvedLogger != null ? resolvedLogger.getLogger(currentClassLoader) : null;
+    if (logger == null) {
+      // trick - this is probably a logger declared in a static field
+      // the classloader used to create it and the TCCL can be different
+      // ask contextSelector for the correct context
+      logger = contextSelector.getContext(getName(), currentClassLoader, true).getLogger(getName(), getMessageFactory());
+      lastResolvedLogger.set(new ResolvedLogger(currentClassLoader, logger));
+    }
+    return logger;
   }
 
   /**
@@ -856,4 +868,31 @@ abstract class DispatchingLogger extends Logger {
   public void warn(String message, Throwable t) {
     getLogger().warn(message, t);
   }
+
+  /**
+   * The logger resolved for a logger context class loader, held through weak references
+   */
+  private static final class ResolvedLogger {
+
+    private final WeakReference<ClassLoader> classLoader;
+    private final WeakReference<Logger> logger;
+
+    private ResolvedLogger(ClassLoader classLoader, Logger logger) {
+      this.classLoader = new WeakReference<>(classLoader);
+      this.logger = new WeakReference<>(logger);
+    }
+
+    /**
+     * @param currentClassLoader the logger context class loader of the logging operation
+     * @return the logger resolved for {@code currentClassLoader}, or {@code null} if it was resolved for another class loader or
+     *         its context is no longer started
+     */
+    private Logger getLogger(ClassLoader currentClassLoader) {
+      if (classLoader.get() != currentClassLoader) {
+        return null;
+      }
+      Logger resolved = logger.get();
+      return resolved != null && resolved.getContext().isStarted() ? resolved : null;
+    }
+  }
 }
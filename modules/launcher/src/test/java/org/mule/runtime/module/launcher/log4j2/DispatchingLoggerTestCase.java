@@ -6,7 +6,11 @@
  */
 package org.mule.runtime.module.launcher.log4j2;
 
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.runtime.core.util.ClassUtils.withContextClassLoader;
@@ -92,4 +96,38 @@ public class DispatchingLoggerTestCase extends AbstractMuleTestCase {
     });
   }
 
+  @Test
+  public void artifactClassLoaderLoggerIsReused() {
+    Logger artifactLogger = mockArtifactLogger(true);
+
+    withContextClassLoader(artifactClassLoader, () -> {
+      logger.info(MESSAGE);
+      logger.info(MESSAGE);
+    });
+
+    verify(contextSelector, times(1)).getContext(LOGGER_NAME, artifactClassLoader, true);
+    verify(artifactLogger, times(2)).info(MESSAGE);
+  }
+
+  @Test
+  public void artifactClassLoaderLoggerOfStoppedContextIsNotReused() {
+    Logger artifactLogger = mockArtifactLogger(false);
+
+    withContextClassLoader(artifactClassLoader, () -> {
+      logger.info(MESSAGE);
+      logger.info(MESSAGE);
+    });
+
+    verify(contextSelector, times(2)).getContext(LOGGER_NAME, artifactClassLoader, true);
+    verify(artifactLogger, times(2)).info(MESSAGE);
+  }
+
+  private Logger mockArtifactLogger(boolean started) {
+    LoggerContext artifactLoggerContext = mock(LoggerContext.class);
+    Logger artifactLogger = mock(Logger.class, RETURNS_DEEP_STUBS);
+    when(artifactLogger.getContext().isStarted()).thenReturn(started);
+    when(artifactLoggerContext.getLogger(anyString(), any(MessageFactory.class))).thenReturn(artifactLogger);
+    when(contextSelector.getContext(LOGGER_NAME, artifactClassLoader, true)).thenReturn(artifactLoggerContext);
+    return artifactLogger;
+  }
 }
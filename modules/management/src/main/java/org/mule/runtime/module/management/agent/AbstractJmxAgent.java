@@ -15,16 +15,21 @@ import org.mule.runtime.core.config.i18n.CoreMessages;
 import org.mule.runtime.core.construct.AbstractFlowConstruct;
 import org.mule.runtime.core.context.notification.MuleContextNotification;
 import org.mule.runtime.core.context.notification.NotificationException;
+import org.mule.runtime.core.management.stats.ConfigurationCacheStatisticsProvider;
 import org.mule.runtime.core.management.stats.FlowConstructStatistics;
 import org.mule.runtime.core.util.StringUtils;
 import org.mule.runtime.module.management.i18n.ManagementMessages;
 import org.mule.runtime.module.management.mbean.ApplicationService;
+import org.mule.runtime.module.management.mbean.ConfigurationCacheService;
+import org.mule.runtime.module.management.mbean.ConfigurationCacheServiceMBean;
 import org.mule.runtime.module.management.mbean.FlowConstructService;
 import org.mule.runtime.module.management.mbean.FlowConstructServiceMBean;
 import org.mule.runtime.module.management.mbean.MuleConfigurationService;
 import org.mule.runtime.module.management.mbean.MuleConfigurationServiceMBean;
 import org.mule.runtime.module.management.mbean.MuleService;
 import org.mule.runtime.module.management.mbean.MuleServiceMBean;
+import org.mule.runtime.module.management.mbean.ProcessorProfilerService;
+import org.mule.runtime.module.management.mbean.ProcessorProfilerServiceMBean;
 import org.mule.runtime.module.management.mbean.StatisticsService;
 import org.mule.runtime.module.management.mbean.StatisticsServiceMBean;
 import org.mule.runtime.module.management.support.AutoDiscoveryJmxSupportFactory;
@@ -298,6 +303,17 @@ public abstract class AbstractJmxAgent extends AbstractAgent {
     mBeanServer.registerMBean(mBean, on);
   }
 
+  protected void registerProcessorProfilerService() throws NotCompliantMBeanException, MBeanRegistrationException,
+      InstanceAlreadyExistsException, MalformedObjectNameException {
+    ObjectName on = jmxSupport.getObjectName(String.format("%s:%s", jmxSupport.getDomainName(muleContext, !containerMode),
+                                                           ProcessorProfilerServiceMBean.DEFAULT_JMX_NAME));
+    ProcessorProfilerService service = new ProcessorProfilerService(muleContext.getStatistics().getProcessorProfiler());
+    ClassloaderSwitchingMBeanWrapper mBean =
+        new ClassloaderSwitchingMBeanWrapper(service, ProcessorProfilerServiceMBean.class, muleContext.getExecutionClassLoader());
+    logger.debug("Registering processor profiler with name: " + on);
+    mBeanServer.registerMBean(mBean, on);
+  }
+
   protected void registerMuleService() throws NotCompliantMBeanException, MBeanRegistrationException,
       InstanceAlreadyExistsException, MalformedObjectNameException {
     ObjectName on = jmxSupport.getObjectName(String.format("%s:%s", jmxSupport.getDomainName(muleContext, !containerMode),
@@ -341,6 +357,23 @@ public abstract class AbstractJmxAgent extends AbstractAgent {
     }
   }
 
+  protected void registerConfigurationCacheServices() throws NotCompliantMBeanException, MBeanRegistrationException,
+      InstanceAlreadyExistsException, MalformedObjectNameException {
+    for (ConfigurationCacheStatisticsProvider provider : muleContext.getRegistry()
+        .lookupObjects(ConfigurationCacheStatisticsProvider.class)) {
+      final String jmxName = String.format("%s:%s%s", jmxSupport.getDomainName(muleContext, !containerMode),
+                                           ConfigurationCacheServiceMBean.DEFAULT_JMX_NAME_PREFIX,
+                                           jmxSupport.escape(provider.getName()));
+      ObjectName on = jmxSupport.getObjectName(jmxName);
+      ConfigurationCacheServiceMBean service = new ConfigurationCacheService(provider.getName(), provider.getCacheStats());
+      ClassloaderSwitchingMBeanWrapper wrapper =
+          new ClassloaderSwitchingMBeanWrapper(service, ConfigurationCacheServiceMBean.class,
+                                               muleContext.getExecutionClassLoader());
+      logger.debug("Registering configuration cache with name: " + on);
+      mBeanServer.registerMBean(wrapper, on);
+    }
+  }
+
   protected void registerApplicationServices() throws NotCompliantMBeanException, MBeanRegistrationException,
       InstanceAlreadyExistsException, MalformedObjectNameException {
     FlowConstructStatistics appStats = muleContext.getStatistics().getApplicationStatistics();
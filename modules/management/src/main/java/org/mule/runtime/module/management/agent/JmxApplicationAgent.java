@@ -23,9 +23,11 @@ public class JmxApplicationAgent extends AbstractJmxAgent {
       InstanceAlreadyExistsException, MalformedObjectNameException {
     registerWrapperService();
     registerStatisticsService();
+    registerProcessorProfilerService();
     registerMuleService();
     registerConfigurationService();
     registerFlowConstructServices();
+    registerConfigurationCacheServices();
     registerApplicationServices();
   }
 
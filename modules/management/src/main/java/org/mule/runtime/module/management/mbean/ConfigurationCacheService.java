@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.management.mbean;
+
+import org.mule.runtime.core.management.stats.ConfigurationCacheStatistics;
+
+/**
+ * <code>ConfigurationCacheService</code> exposes the {@link ConfigurationCacheStatistics} of a dynamic configuration.
+ *
+ * @since 4.0
+ */
+public class ConfigurationCacheService implements ConfigurationCacheServiceMBean {
+
+  private final String name;
+  private final ConfigurationCacheStatistics statistics;
+
+  public ConfigurationCacheService(String name, ConfigurationCacheStatistics statistics) {
+    this.name = name;
+    this.statistics = statistics;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public int getInstances() {
+    return statistics.getInstances();
+  }
+
+  @Override
+  public long getHits() {
+    return statistics.getHits();
+  }
+
+  @Override
+  public long getCreatedInstances() {
+    return statistics.getCreatedInstances();
+  }
+
+  @Override
+  public long getEvictedInstances() {
+    return statistics.getEvictedInstances();
+  }
+
+  @Override
+  public long getExpiredInstances() {
+    return statistics.getExpiredInstances();
+  }
+
+  @Override
+  public long getReleasedInstances() {
+    return statistics.getReleasedInstances();
+  }
+}
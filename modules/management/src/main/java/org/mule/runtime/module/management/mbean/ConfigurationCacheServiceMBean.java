@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.management.mbean;
+
+/**
+ * <code>ConfigurationCacheServiceMBean</code> is a JMX service interface to monitor the cache of instances of a dynamic
+ * configuration.
+ *
+ * @since 4.0
+ */
+public interface ConfigurationCacheServiceMBean {
+
+  String DEFAULT_JMX_NAME_PREFIX = "type=ConfigurationCache,name=";
+
+  String getName();
+
+  int getInstances();
+
+  long getHits();
+
+  long getCreatedInstances();
+
+  long getEvictedInstances();
+
+  long getExpiredInstances();
+
+  long getReleasedInstances();
+}
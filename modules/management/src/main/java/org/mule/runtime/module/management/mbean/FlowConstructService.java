@@ -106,6 +106,18 @@ public class FlowConstructService implements FlowConstructServiceMBean, MBeanReg
     return statistics.getTotalProcessingTime();
   }
 
+  public long getProcessingTime50thPercentile() {
+    return statistics.getProcessingTimeHistogram().getPercentile(50);
+  }
+
+  public long getProcessingTime99thPercentile() {
+    return statistics.getProcessingTimeHistogram().getPercentile(99);
+  }
+
+  public long getProcessingTime999thPercentile() {
+    return statistics.getProcessingTimeHistogram().getPercentile(99.9);
+  }
+
   public long getExecutionErrors() {
     return statistics.getExecutionErrors();
   }
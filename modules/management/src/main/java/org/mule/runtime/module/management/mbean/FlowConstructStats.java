@@ -48,6 +48,18 @@ public class FlowConstructStats implements FlowConstructStatsMBean, MBeanRegistr
     return statistics.getTotalProcessingTime();
   }
 
+  public long getProcessingTime50thPercentile() {
+    return statistics.getProcessingTimeHistogram().getPercentile(50);
+  }
+
+  public long getProcessingTime99thPercentile() {
+    return statistics.getProcessingTimeHistogram().getPercentile(99);
+  }
+
+  public long getProcessingTime999thPercentile() {
+    return statistics.getProcessingTimeHistogram().getPercentile(99.9);
+  }
+
   public void clearStatistics() {
     statistics.clear();
   }
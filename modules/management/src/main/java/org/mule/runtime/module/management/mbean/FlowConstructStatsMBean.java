@@ -30,6 +30,21 @@ public interface FlowConstructStatsMBean {
 
   long getTotalProcessingTime();
 
+  /**
+   * @return the median processing time, in milliseconds
+   */
+  long getProcessingTime50thPercentile();
+
+  /**
+   * @return the 99th percentile of the processing times, in milliseconds
+   */
+  long getProcessingTime99thPercentile();
+
+  /**
+   * @return the 99.9th percentile of the processing times, in milliseconds
+   */
+  long getProcessingTime999thPercentile();
+
   long getFatalErrors();
 
   long getExecutionErrors();
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.management.mbean;
+
+import org.mule.runtime.core.management.stats.ProcessorProfiler;
+
+/**
+ * <code>ProcessorProfilerService</code> exposes the {@link ProcessorProfiler} of an application.
+ *
+ * @since 4.0
+ */
+public class ProcessorProfilerService implements ProcessorProfilerServiceMBean {
+
+  private final ProcessorProfiler profiler;
+
+  public ProcessorProfilerService(ProcessorProfiler profiler) {
+    this.profiler = profiler;
+  }
+
+  public boolean isEnabled() {
+    return profiler.isEnabled();
+  }
+
+  public void setEnabled(boolean enabled) {
+    profiler.setEnabled(enabled);
+  }
+
+  public boolean isAllocationProfilingEnabled() {
+    return profiler.isAllocationProfilingEnabled();
+  }
+
+  public void setAllocationProfilingEnabled(boolean enabled) {
+    profiler.setAllocationProfilingEnabled(enabled);
+  }
+
+  public boolean isAllocationProfilingSupported() {
+    return profiler.isAllocationProfilingSupported();
+  }
+
+  public void clear() {
+    profiler.clear();
+  }
+
+  public String[] getHotProcessors(String flowName, int count) {
+    return profiler.getHotProcessors(flowName, count).stream().map(Object::toString).toArray(String[]::new);
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.management.mbean;
+
+/**
+ * <code>ProcessorProfilerServiceMBean</code> is a JMX service interface to switch the profiling of the message processors of an
+ * application on and off, and to query the processors in which most time is spent.
+ *
+ * @since 4.0
+ */
+public interface ProcessorProfilerServiceMBean {
+
+  String DEFAULT_JMX_NAME = "type=Statistics,name=ProcessorProfiler";
+
+  boolean isEnabled();
+
+  void setEnabled(boolean enabled);
+
+  boolean isAllocationProfilingEnabled();
+
+  /**
+   * Has no effect if the JVM can't measure the memory allocated by a thread.
+   */
+  void setAllocationProfilingEnabled(boolean enabled);
+
+  boolean isAllocationProfilingSupported();
+
+  /**
+   * Discards all the profiles recorded so far.
+   */
+  void clear();
+
+  /**
+   * @param flowName the name of a flow
+   * @param count how many processors to return at most
+   * @return a description of the processors of the flow with the highest total execution time, highest first
+   */
+  String[] getHotProcessors(String flowName, int count);
+}
@@ -20,4 +20,10 @@ public interface StatisticsServiceMBean extends Statistics {
   String printHtmlSummary();
 
   String printXmlSummary();
+
+  /**
+   * @return the statistics of every flow and of its components, including latency percentiles, as plain text with one sample per
+   *         line, suitable for metrics collectors to scrape
+   */
+  String printMetricsSummary();
 }
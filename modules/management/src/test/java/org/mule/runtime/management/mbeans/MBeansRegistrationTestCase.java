@@ -16,6 +16,7 @@ import org.mule.runtime.module.management.mbean.FlowConstructService;
 import org.mule.runtime.module.management.mbean.FlowConstructStats;
 import org.mule.runtime.module.management.mbean.MuleConfigurationService;
 import org.mule.runtime.module.management.mbean.MuleService;
+import org.mule.runtime.module.management.mbean.ProcessorProfilerService;
 import org.mule.runtime.module.management.mbean.StatisticsService;
 import org.mule.runtime.module.management.support.JmxSupport;
 
@@ -65,6 +66,7 @@ public class MBeansRegistrationTestCase extends FunctionalTestCase {
     assertTrue(mbeanClasses.contains(MuleService.class.getName()));
     assertTrue(mbeanClasses.contains(MuleConfigurationService.class.getName()));
     assertTrue(mbeanClasses.contains(StatisticsService.class.getName()));
+    assertTrue(mbeanClasses.contains(ProcessorProfilerService.class.getName()));
 
     // Only if registerMx4jAdapter="true"
     assertTrue(mbeanClasses.contains(mx4j.tools.adaptor.http.HttpAdaptor.class.getName()));
@@ -6,12 +6,16 @@
  */
 package org.mule.runtime.config.spring;
 
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.System.getProperty;
 import static java.util.Arrays.asList;
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.ArrayUtils.addAll;
 import static org.mule.runtime.config.spring.dsl.model.ApplicationModel.CONFIGURATION_IDENTIFIER;
+import static org.mule.runtime.config.spring.dsl.model.ApplicationModel.FLOW_IDENTIFIER;
 import static org.mule.runtime.config.spring.dsl.spring.BeanDefinitionFactory.SPRING_SINGLETON_OBJECT;
 import static org.mule.runtime.config.spring.parsers.generic.AutoIdUtils.uniqueValue;
+import static org.mule.runtime.core.api.config.MuleProperties.MULE_LAZY_INIT;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_MULE_CONFIGURATION;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_MULE_CONTEXT;
 import static org.mule.runtime.core.exception.ErrorTypeLocatorFactory.createDefaultErrorTypeLocator;
@@ -103,6 +107,7 @@ public class MuleArtifactContext extends AbstractXmlApplicationContext {
   private static final int VALIDATION_XSD = 3;
   private static final ThreadLocal<MuleContext> currentMuleContext = new ThreadLocal<>();
   public static final String INNER_BEAN_PREFIX = "(inner bean)";
+  private static final String MESSAGE_SOURCE_PROPERTY = "messageSource";
 
   private final ComponentBuildingDefinitionRegistry componentBuildingDefinitionRegistry =
       new ComponentBuildingDefinitionRegistry();
@@ -118,6 +123,7 @@ public class MuleArtifactContext extends AbstractXmlApplicationContext {
   private boolean useNewParsingMechanism = true;
   protected final XmlApplicationParser xmlApplicationParser;
   private ArtifactType artifactType;
+  private final boolean lazyInit;
 
   /**
    * Parses configuration files creating a spring ApplicationContext which is used as a parent registry using the SpringRegistry
@@ -147,6 +153,8 @@ public class MuleArtifactContext extends AbstractXmlApplicationContext {
     this.artifactProperties = artifactProperties;
     this.artifactType = artifactType;
     this.artifactConfiguration = artifactConfiguration;
+    this.lazyInit = parseBoolean(artifactProperties != null && artifactProperties.containsKey(MULE_LAZY_INIT)
+        ? artifactProperties.get(MULE_LAZY_INIT) : getProperty(MULE_LAZY_INIT));
 
     serviceRegistry.lookupProviders(ComponentBuildingDefinitionProvider.class).forEach(componentBuildingDefinitionProvider -> {
       componentBuildingDefinitionProvider.init(muleContext);
@@ -327,6 +335,10 @@ public class MuleArtifactContext extends AbstractXmlApplicationContext {
 
   @Override
   protected void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+    if (lazyInit) {
+      markFlowsWithoutSourceAsLazy(beanFactory);
+    }
+
     Optional<ComponentModel> configurationOptional =
         applicationModel.findComponentDefinitionModel(ApplicationModel.CONFIGURATION_IDENTIFIER);
     if (configurationOptional.isPresent()) {
@@ -337,6 +349,66 @@ public class MuleArtifactContext extends AbstractXmlApplicationContext {
                                                   genericBeanDefinition(MuleConfigurationConfigurator.class).getBeanDefinition());
   }
 
+  /**
+   * Flows without a message source can only be invoked from other components, so they are not created until they are first
+   * looked up. Their dependencies are still created on startup, as they may be shared.
+   */
+  private void markFlowsWithoutSourceAsLazy(ConfigurableListableBeanFactory beanFactory) {
+    applicationModel.executeOnEveryMuleComponentTree(componentModel -> {
+      String flowName = componentModel.getNameAttribute();
+      if (FLOW_IDENTIFIER.equals(componentModel.getIdentifier()) && flowName != null
+          && beanFactory.containsBeanDefinition(flowName)) {
+        BeanDefinition flowDefinition = beanFactory.getBeanDefinition(flowName);
+        if (!flowDefinition.getPropertyValues().contains(MESSAGE_SOURCE_PROPERTY)) {
+          flowDefinition.setLazyInit(true);
+        }
+      }
+    });
+  }
+
+  /**
+   * @return whether flows without a message source are only created, initialised and started when they are first used. It is
+   *         enabled through the {@link org.mule.runtime.core.api.config.MuleProperties#MULE_LAZY_INIT} artifact or system
+   *         property.
+   */
+  public boolean isLazyInit() {
+    return lazyInit;
+  }
+
+  /**
+   * @param beanName the name of a bean
+   * @return whether the bean is to be created on its first lookup rather than when this context is refreshed
+   */
+  public boolean isLazyInitBean(String beanName) {
+    ConfigurableListableBeanFactory beanFactory = getLazyInitBeanFactory();
+    return beanFactory != null && isLazyInitBean(beanFactory, beanName);
+  }
+
+  /**
+   * @param beanName the name of a bean
+   * @return whether the bean is to be created on its first lookup, and was not looked up yet
+   */
+  public boolean isPendingLazyInit(String beanName) {
+    ConfigurableListableBeanFactory beanFactory = getLazyInitBeanFactory();
+    return beanFactory != null && isLazyInitBean(beanFactory, beanName) && !beanFactory.containsSingleton(beanName);
+  }
+
+  private ConfigurableListableBeanFactory getLazyInitBeanFactory() {
+    if (!lazyInit) {
+      return null;
+    }
+    try {
+      return getBeanFactory();
+    } catch (IllegalStateException e) {
+      // not refreshed yet or already closed
+      return null;
+    }
+  }
+
+  private boolean isLazyInitBean(ConfigurableListableBeanFactory beanFactory, String beanName) {
+    return beanFactory.containsBeanDefinition(beanName) && beanFactory.getBeanDefinition(beanName).isLazyInit();
+  }
+
   protected BeanDefinitionReader createBeanDefinitionReader(DefaultListableBeanFactory beanFactory) {
     beanDefinitionReader =
         new MuleXmlBeanDefinitionReader(beanFactory, createBeanDefinitionDocumentReader(beanDefinitionFactory));
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.config.spring;
 
+import static java.util.Collections.newSetFromMap;
 import org.mule.runtime.core.api.lifecycle.Lifecycle;
 import org.mule.runtime.core.lifecycle.LifecycleObject;
 import org.mule.runtime.core.lifecycle.RegistryLifecycleCallback;
@@ -13,12 +14,15 @@ import org.mule.runtime.core.lifecycle.RegistryLifecycleManager;
 
 import com.google.common.collect.TreeTraverser;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * A {@link RegistryLifecycleCallback} to be used with instances of {@link SpringRegistry}. For each object in which a
@@ -27,6 +31,9 @@ import java.util.Set;
  * <p/>
  * This guarantees that if object A depends on object B and C, necessary lifecycle phases will have been applied on B and C before
  * it is applied to A
+ * <p/>
+ * When the phase is applied concurrently, objects are grouped by their depth in the dependency tree, so B and C may be
+ * processed at the same time, and before A.
  *
  * @since 3.7.0
  */
@@ -38,6 +45,66 @@ class SpringLifecycleCallback extends RegistryLifecycleCallback<SpringRegistry>
 
   @Override
   protected Collection<?> lookupObjectsForLifecycle(LifecycleObject lo) {
+    final DependencyNode root = lookupDependencyTree(lo);
+
+    List<Object> orderedObjects = new LinkedList<>();
+    for (DependencyNode node : postOrder(root)) {
+      if (node == root) {
+        break;
+      }
+
+      orderedObjects.add(node.getValue());
+    }
+
+    return orderedObjects;
+  }
+
+  /**
+   * Groups the objects by their level in the dependency tree: objects without dependencies are in the first group, and every
+   * other object is in the group after the last of its dependencies. If an object ends up in the same group as one of its
+   * dependencies, which may happen with circular dependencies, each object is put in a group of its own.
+   */
+  @Override
+  protected List<? extends Collection<?>> lookupIndependentObjectsForLifecycle(LifecycleObject lo) {
+    final DependencyNode root = lookupDependencyTree(lo);
+
+    Map<DependencyNode, Integer> nodeLevels = new IdentityHashMap<>();
+    Map<Object, Integer> levels = new IdentityHashMap<>();
+    for (DependencyNode node : postOrder(root)) {
+      if (node == root) {
+        break;
+      }
+
+      int level = 0;
+      for (DependencyNode child : node.getChilds()) {
+        level = Math.max(level, nodeLevels.get(child) + 1);
+      }
+      nodeLevels.put(node, level);
+      levels.merge(node.getValue(), level, Math::max);
+    }
+
+    Map<Integer, List<Object>> groups = new TreeMap<>();
+    Set<Object> grouped = newSetFromMap(new IdentityHashMap<>());
+    for (DependencyNode node : postOrder(root)) {
+      if (node == root) {
+        break;
+      }
+
+      for (DependencyNode child : node.getChilds()) {
+        if (levels.get(child.getValue()) >= levels.get(node.getValue())) {
+          return super.lookupIndependentObjectsForLifecycle(lo);
+        }
+      }
+      List<Object> group = groups.computeIfAbsent(levels.get(node.getValue()), level -> new ArrayList<>());
+      if (grouped.add(node.getValue())) {
+        group.add(node.getValue());
+      }
+    }
+
+    return new ArrayList<>(groups.values());
+  }
+
+  private DependencyNode lookupDependencyTree(LifecycleObject lo) {
     Map<String, Object> objects = getSpringRegistry().lookupEntriesForLifecycle(lo.getType());
 
     final DependencyNode root = new DependencyNode(null);
@@ -45,25 +112,17 @@ class SpringLifecycleCallback extends RegistryLifecycleCallback<SpringRegistry>
     for (Map.Entry<String, Object> entry : objects.entrySet()) {
       addDependency(root, entry.getKey(), entry.getValue());
     }
+    return root;
+  }
 
-    Iterable<DependencyNode> orderedNodes = new TreeTraverser<DependencyNode>() {
+  private Iterable<DependencyNode> postOrder(DependencyNode root) {
+    return new TreeTraverser<DependencyNode>() {
 
       @Override
       public Iterable children(DependencyNode node) {
         return node.getChilds();
       }
     }.postOrderTraversal(root);
-
-    List<Object> orderedObjects = new LinkedList<>();
-    for (DependencyNode node : orderedNodes) {
-      if (node == root) {
-        break;
-      }
-
-      orderedObjects.add(node.getValue());
-    }
-
-    return orderedObjects;
   }
 
   private SpringRegistry getSpringRegistry() {
@@ -6,7 +6,11 @@
  */
 package org.mule.runtime.config.spring;
 
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.singletonList;
 import static org.apache.commons.lang.StringUtils.EMPTY;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.safeStopIfNeeded;
 import static org.mule.runtime.core.config.i18n.MessageFactory.createStaticMessage;
 import static org.springframework.beans.factory.support.BeanDefinitionBuilder.genericBeanDefinition;
 import org.mule.runtime.config.spring.factories.ConstantFactoryBean;
@@ -26,11 +30,16 @@ import org.mule.runtime.core.util.StringUtils;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.FatalBeanException;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.BeanCurrentlyInCreationException;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -64,6 +73,15 @@ public class SpringRegistry extends AbstractRegistry implements LifecycleRegistr
   // Registered objects before the spring registry has been initialised.
   private final Map<String, BeanDefinition> registeredBeanDefinitionsBeforeInitialization = new HashMap<>();
 
+  // Guards the creation of lazily initialised beans, so the lifecycle is applied to them only once
+  private final Object lazyInitLock = new Object();
+
+  // Lazily initialised beans which are fully created, including the lifecycle phases applied on their first lookup
+  private final Set<String> lazyInitCompleted = newSetFromMap(new ConcurrentHashMap<>());
+
+  // Lazily initialised beans which were created, or are about to be, but have their lifecycle phases still being applied
+  private final Set<String> lazyInitInProgress = newSetFromMap(new ConcurrentHashMap<>());
+
   public SpringRegistry(ApplicationContext applicationContext, MuleContext muleContext) {
     super(REGISTRY_ID, muleContext);
     setApplicationContext(applicationContext);
@@ -186,6 +204,9 @@ public class SpringRegistry extends AbstractRegistry implements LifecycleRegistr
     } else {
       Object object;
       try {
+        if (isLazyInitBean(key) && !lazyInitCompleted.contains(key)) {
+          return lookupLazyInitObject(key);
+        }
         object = applicationContext.getBean(key);
       } catch (NoSuchBeanDefinitionException e) {
         if (logger.isDebugEnabled()) {
@@ -206,6 +227,83 @@ public class SpringRegistry extends AbstractRegistry implements LifecycleRegistr
     }
   }
 
+  /**
+   * Creates a lazily initialised bean and applies to it the lifecycle phases the registry already went through, as it was not
+   * created when they were applied.
+   * <p>
+   * Lookups from other threads wait until the lifecycle is applied, since Spring hands out the bean as soon as it is created. If
+   * the lifecycle fails, the bean is discarded so that the next lookup creates it again.
+   */
+  private Object lookupLazyInitObject(String key) {
+    synchronized (lazyInitLock) {
+      if (lazyInitCompleted.contains(key) || lazyInitInProgress.contains(key)) {
+        // either completed while waiting for the lock, or looked up by itself while its lifecycle is applied
+        return applicationContext.getBean(key);
+      }
+
+      boolean pending = isPendingLazyInit(key);
+      lazyInitInProgress.add(key);
+      try {
+        Object object = applicationContext.getBean(key);
+        if (pending) {
+          try {
+            getLifecycleManager().applyCompletedPhases(object);
+          } catch (Exception e) {
+            discardLazyInitObject(key, object);
+            throw new MuleRuntimeException(createStaticMessage("Could not apply lifecycle into lazily initialised object "
+                + key), e);
+          }
+        }
+        lazyInitCompleted.add(key);
+        return object;
+      } finally {
+        lazyInitInProgress.remove(key);
+      }
+    }
+  }
+
+  private void discardLazyInitObject(String key, Object object) {
+    safeStopIfNeeded(singletonList(object), logger);
+    disposeIfNeeded(object, logger);
+    ((DefaultListableBeanFactory) ((ConfigurableApplicationContext) applicationContext).getBeanFactory()).destroySingleton(key);
+  }
+
+  private boolean isLazyInit() {
+    return applicationContext instanceof MuleArtifactContext && ((MuleArtifactContext) applicationContext).isLazyInit();
+  }
+
+  private boolean isLazyInitBean(String key) {
+    return applicationContext instanceof MuleArtifactContext && ((MuleArtifactContext) applicationContext).isLazyInitBean(key);
+  }
+
+  private boolean isPendingLazyInit(String key) {
+    return applicationContext instanceof MuleArtifactContext
+        && ((MuleArtifactContext) applicationContext).isPendingLazyInit(key);
+  }
+
+  /**
+   * Looks up the beans with the given names, except the lazily initialised ones which were not created yet or are still having
+   * their lifecycle applied, so that type lookups neither create them without applying their lifecycle nor return them before
+   * it is complete.
+   */
+  private <T> Map<String, T> lookupCreatedBeans(String[] names, Class<T> type) {
+    Map<String, T> beans = new LinkedHashMap<>();
+    for (String name : names) {
+      if (isPendingLazyInit(name) || lazyInitInProgress.contains(name)) {
+        continue;
+      }
+      try {
+        beans.put(name, applicationContext.getBean(name, type));
+      } catch (BeanCreationException e) {
+        // same as Spring does when looking up by type, skip the beans being created
+        if (!(e.getMostSpecificCause() instanceof BeanCurrentlyInCreationException)) {
+          throw e;
+        }
+      }
+    }
+    return beans;
+  }
+
   @Override
   public <T> Collection<T> lookupObjects(Class<T> type) {
     return lookupByType(type).values();
@@ -306,6 +404,11 @@ public class SpringRegistry extends AbstractRegistry implements LifecycleRegistr
 
   protected <T> Map<String, T> internalLookupByType(Class<T> type, boolean nonSingletons, boolean eagerInit) {
     try {
+      if (isLazyInit()) {
+        return lookupCreatedBeans(BeanFactoryUtils.beanNamesForTypeIncludingAncestors(applicationContext, type, nonSingletons,
+                                                                                      eagerInit),
+                                  type);
+      }
       return BeanFactoryUtils.beansOfTypeIncludingAncestors(applicationContext, type, nonSingletons, eagerInit);
     } catch (FatalBeanException fbex) {
       // FBE is a result of a broken config, propagate it (see MULE-3297 for more details)
@@ -319,6 +422,9 @@ public class SpringRegistry extends AbstractRegistry implements LifecycleRegistr
 
   protected <T> Map<String, T> internalLookupByTypeWithoutAncestors(Class<T> type, boolean nonSingletons, boolean eagerInit) {
     try {
+      if (isLazyInit()) {
+        return lookupCreatedBeans(applicationContext.getBeanNamesForType(type, nonSingletons, eagerInit), type);
+      }
       return applicationContext.getBeansOfType(type, nonSingletons, eagerInit);
     } catch (FatalBeanException fbex) {
       // FBE is a result of a broken config, propagate it (see MULE-3297 for more details)
@@ -9,6 +9,7 @@ package org.mule.runtime.config.spring.factories;
 import static org.mule.runtime.core.util.NotificationUtils.buildPathResolver;
 
 import org.mule.runtime.api.meta.AnnotatedObject;
+import org.mule.runtime.config.spring.MuleArtifactContext;
 import org.mule.runtime.core.AbstractAnnotatedObject;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.MuleEvent;
@@ -207,6 +208,25 @@ public class FlowRefFactoryBean extends AbstractAnnotatedObject
   }
 
   protected MessageProcessor lookupReferencedFlowInApplicationContext(String name) {
+    if (applicationContext instanceof MuleArtifactContext && ((MuleArtifactContext) applicationContext).isPendingLazyInit(name)) {
+      return new FlowRefMessageProcessor() {
+
+        private volatile MessageProcessor referencedFlow;
+
+        @Override
+        public MuleEvent process(MuleEvent event) throws MuleException {
+          // The flow is created, and its lifecycle applied, by the registry on its first lookup
+          if (referencedFlow == null) {
+            referencedFlow = muleContext.getRegistry().lookupObject(name);
+            if (referencedFlow == null) {
+              throw new MuleRuntimeException(CoreMessages.objectIsNull(name));
+            }
+          }
+          return referencedFlow.process(event);
+        }
+      };
+    }
+
     final MessageProcessor referencedFlow = ((MessageProcessor) applicationContext.getBean(name));
     if (referencedFlow == null) {
       throw new MuleRuntimeException(CoreMessages.objectIsNull(name));
@@ -6,16 +6,25 @@
  */
 package org.mule.runtime.config.spring;
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.api.config.MuleProperties.MULE_LIFECYCLE_PARALLELISM;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.lifecycle.Initialisable;
 import org.mule.runtime.core.api.lifecycle.InitialisationException;
+import org.mule.runtime.core.lifecycle.LifecycleObject;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.size.SmallTest;
 
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Before;
@@ -49,6 +58,47 @@ public class SpringLifecycleCallbackTestCase extends AbstractMuleTestCase {
 
   @Test
   public void phaseAppliesInDependencyOrder() throws Exception {
+    Map<String, Initialisable> objects = mockDependencies();
+    InOrder inOrder = inOrder(objects.values().toArray());
+
+    callback.onTransition(Initialisable.PHASE_NAME, springRegistry);
+
+    verifyInitialisation(inOrder, objects, "2", "3", "1", "5", "4");
+  }
+
+  @Test
+  public void independentObjectsAreGroupedByDependencyLevel() throws Exception {
+    Map<String, Initialisable> objects = mockDependencies();
+
+    List<? extends Collection<?>> groups =
+        callback.lookupIndependentObjectsForLifecycle(new LifecycleObject(Initialisable.class));
+
+    assertThat(groups, hasSize(2));
+    assertThat((Collection<Object>) groups.get(0), contains(objects.get("2"), objects.get("3"), objects.get("5")));
+    assertThat((Collection<Object>) groups.get(1), containsInAnyOrder(objects.get("1"), objects.get("4")));
+  }
+
+  @Test
+  public void parallelPhaseAppliesDependenciesFirst() throws Exception {
+    Map<String, Initialisable> objects = mockDependencies();
+
+    System.setProperty(MULE_LIFECYCLE_PARALLELISM, "4");
+    try {
+      callback = new SpringLifecycleCallback(springRegistryLifecycleManager);
+    } finally {
+      System.clearProperty(MULE_LIFECYCLE_PARALLELISM);
+    }
+    callback.onTransition(Initialisable.PHASE_NAME, springRegistry);
+
+    verifyInitialisation(inOrder(objects.get("2"), objects.get("1")), objects, "2", "1");
+    verifyInitialisation(inOrder(objects.get("3"), objects.get("1")), objects, "3", "1");
+    verifyInitialisation(inOrder(objects.get("5"), objects.get("4")), objects, "5", "4");
+    for (Initialisable object : objects.values()) {
+      verify(object).initialise();
+    }
+  }
+
+  private Map<String, Initialisable> mockDependencies() throws Exception {
     Map<String, Initialisable> objects = new LinkedHashMap<>();
     for (int i = 1; i <= 5; i++) {
       final String key = String.valueOf(i);
@@ -66,11 +116,7 @@ public class SpringLifecycleCallbackTestCase extends AbstractMuleTestCase {
     when(springRegistry.getDependencies("1")).thenReturn((Map<String, Object>) childsOf1);
     when(springRegistry.getDependencies("4")).thenReturn(childsOf4);
     when(springRegistry.lookupEntriesForLifecycle(Initialisable.class)).thenReturn(objects);
-    InOrder inOrder = inOrder(objects.values().toArray());
-
-    callback.onTransition(Initialisable.PHASE_NAME, springRegistry);
-
-    verifyInitialisation(inOrder, objects, "2", "3", "1", "5", "4");
+    return objects;
   }
 
   private void verifyInitialisation(InOrder inOrder, Map<String, Initialisable> objects, String... keys)
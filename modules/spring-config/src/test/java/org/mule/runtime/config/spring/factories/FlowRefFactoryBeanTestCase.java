@@ -13,11 +13,13 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
+import org.mule.runtime.config.spring.MuleArtifactContext;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.MuleEvent;
 import org.mule.runtime.core.api.MuleException;
@@ -31,6 +33,7 @@ import org.mule.runtime.core.api.lifecycle.Initialisable;
 import org.mule.runtime.core.api.lifecycle.InitialisationException;
 import org.mule.runtime.core.api.processor.MessageProcessor;
 import org.mule.runtime.core.api.processor.MessageProcessorChain;
+import org.mule.runtime.core.api.registry.MuleRegistry;
 import org.mule.runtime.core.processor.chain.SubFlowMessageProcessor;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.size.SmallTest;
@@ -163,6 +166,27 @@ public class FlowRefFactoryBeanTestCase extends AbstractMuleTestCase {
     verify((MuleContextAware) targetMuleContextAwareAware).setMuleContext(muleContext);
   }
 
+  @Test
+  public void staticFlowRefLazyFlowIsLookedUpOnFirstUse() throws Exception {
+    MuleArtifactContext lazyApplicationContext = mock(MuleArtifactContext.class);
+    MuleRegistry registry = mock(MuleRegistry.class);
+    when(muleContext.getRegistry()).thenReturn(registry);
+    when(registry.lookupObject(STATIC_REFERENCED_FLOW)).thenReturn(targetFlow);
+    when(lazyApplicationContext.isPendingLazyInit(STATIC_REFERENCED_FLOW)).thenReturn(true);
+    when(expressionLanguage.isExpression(anyString())).thenReturn(false);
+    applicationContext = lazyApplicationContext;
+
+    FlowRefFactoryBean flowRefFactoryBean = createFlowRefFactoryBean(STATIC_REFERENCED_FLOW);
+    verify(registry, never()).lookupObject(anyString());
+
+    assertSame(result, flowRefFactoryBean.getObject().process(mock(MuleEvent.class)));
+    assertSame(result, flowRefFactoryBean.getObject().process(mock(MuleEvent.class)));
+
+    verify(registry).lookupObject(STATIC_REFERENCED_FLOW);
+    verify(lazyApplicationContext, never()).getBean(anyString());
+    verify((MessageProcessor) targetFlow, times(2)).process(any(MuleEvent.class));
+  }
+
   @Test(expected = MuleRuntimeException.class)
   public void staticFlowRefDoesNotExist() throws Exception {
     when(expressionLanguage.isExpression(anyString())).thenReturn(false);
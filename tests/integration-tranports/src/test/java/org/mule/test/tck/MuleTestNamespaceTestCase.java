@@ -10,10 +10,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import org.mule.compatibility.core.api.transport.Connector;
+import org.mule.compatibility.core.transport.ConcurrentKeyedObjectPool;
+import org.mule.compatibility.core.transport.ConcurrentKeyedObjectPoolFactory;
 import org.mule.compatibility.core.transport.ConfigurableKeyedObjectPool;
 import org.mule.compatibility.core.transport.ConfigurableKeyedObjectPoolFactory;
 import org.mule.compatibility.core.transport.DefaultConfigurableKeyedObjectPool;
-import org.mule.compatibility.core.transport.DefaultConfigurableKeyedObjectPoolFactory;
 import org.mule.functional.junit4.FunctionalTestCase;
 import org.mule.tck.testmodels.mule.TestConnector;
 
@@ -32,8 +33,8 @@ public class MuleTestNamespaceTestCase extends FunctionalTestCase {
 
     assertTrue(connector instanceof TestConnector);
     TestConnector testConnector = (TestConnector) connector;
-    assertEquals(DefaultConfigurableKeyedObjectPoolFactory.class, testConnector.getDispatcherPoolFactory().getClass());
-    assertEquals(DefaultConfigurableKeyedObjectPool.class, testConnector.getDispatchers().getClass());
+    assertEquals(ConcurrentKeyedObjectPoolFactory.class, testConnector.getDispatcherPoolFactory().getClass());
+    assertEquals(ConcurrentKeyedObjectPool.class, testConnector.getDispatchers().getClass());
   }
 
   @Test
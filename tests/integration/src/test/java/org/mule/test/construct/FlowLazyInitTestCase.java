@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.test.construct;
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mule.runtime.core.api.config.MuleProperties.MULE_LAZY_INIT;
+
+import org.mule.runtime.core.api.DefaultMuleException;
+import org.mule.runtime.core.api.MuleEvent;
+import org.mule.runtime.core.api.MuleException;
+import org.mule.runtime.core.api.MuleRuntimeException;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.api.lifecycle.Initialisable;
+import org.mule.runtime.core.api.lifecycle.InitialisationException;
+import org.mule.runtime.core.api.lifecycle.Startable;
+import org.mule.runtime.core.api.processor.MessageProcessor;
+import org.mule.runtime.core.construct.Flow;
+import org.mule.tck.junit4.rule.SystemProperty;
+import org.mule.test.AbstractIntegrationTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class FlowLazyInitTestCase extends AbstractIntegrationTestCase {
+
+  private static final String LAZY_FLOW = "lazyFlow";
+  private static final String FAILING_LAZY_FLOW = "failingLazyFlow";
+  private static final int CONCURRENT_LOOKUPS = 8;
+  private static final long SLOW_START_MILLIS = 500;
+
+  @Rule
+  public SystemProperty lazyInit = new SystemProperty(MULE_LAZY_INIT, "true");
+
+  @Override
+  protected String getConfigFile() {
+    return "org/mule/test/construct/flow-lazy-init-config.xml";
+  }
+
+  @After
+  public void resetCounters() {
+    LifecycleTrackingProcessor.created.set(0);
+    LifecycleTrackingProcessor.initialised.set(0);
+    LifecycleTrackingProcessor.started.set(0);
+    LifecycleTrackingProcessor.startDelay = 0;
+    FailingOnceProcessor.failed.set(false);
+  }
+
+  @Test
+  public void flowWithoutSourceIsNotCreatedOnStartup() throws Exception {
+    assertThat(LifecycleTrackingProcessor.created.get(), is(0));
+
+    List<String> flowNames = muleContext.getRegistry().lookupObjects(FlowConstruct.class).stream()
+        .map(FlowConstruct::getName).collect(Collectors.toList());
+    assertThat(flowNames, not(hasItem(LAZY_FLOW)));
+  }
+
+  @Test
+  public void flowWithoutSourceIsStartedOnFirstLookup() throws Exception {
+    Flow flow = (Flow) muleContext.getRegistry().lookupFlowConstruct(LAZY_FLOW);
+
+    assertThat(flow.isStarted(), is(true));
+    assertLifecycleAppliedOnce();
+
+    muleContext.getRegistry().lookupFlowConstruct(LAZY_FLOW);
+    assertLifecycleAppliedOnce();
+  }
+
+  @Test
+  public void flowWithoutSourceIsStartedOnFirstFlowRef() throws Exception {
+    assertThat(getPayloadAsString(flowRunner("callerFlow").withPayload("").run().getMessage()), is("lazy"));
+    assertLifecycleAppliedOnce();
+
+    assertThat(getPayloadAsString(flowRunner("callerFlow").withPayload("").run().getMessage()), is("lazy"));
+    assertLifecycleAppliedOnce();
+  }
+
+  @Test
+  public void concurrentLookupsWaitForFlowToStart() throws Exception {
+    LifecycleTrackingProcessor.startDelay = SLOW_START_MILLIS;
+
+    ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_LOOKUPS);
+    try {
+      List<Future<Flow>> lookups = new ArrayList<>();
+      for (int i = 0; i < CONCURRENT_LOOKUPS; ++i) {
+        lookups.add(executor.submit((Callable<Flow>) () -> muleContext.getRegistry().lookupObject(LAZY_FLOW)));
+      }
+
+      Flow first = lookups.get(0).get();
+      for (Future<Flow> lookup : lookups) {
+        Flow flow = lookup.get();
+        assertThat(flow, is(sameInstance(first)));
+        assertThat(flow.isStarted(), is(true));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertLifecycleAppliedOnce();
+  }
+
+  @Test
+  public void flowWhichFailedToStartIsCreatedAgainOnNextLookup() throws Exception {
+    try {
+      muleContext.getRegistry().lookupFlowConstruct(FAILING_LAZY_FLOW);
+      fail("Expected the first start of the flow to fail");
+    } catch (MuleRuntimeException e) {
+      // expected
+    }
+
+    Flow flow = (Flow) muleContext.getRegistry().lookupFlowConstruct(FAILING_LAZY_FLOW);
+    assertThat(flow.isStarted(), is(true));
+  }
+
+  private void assertLifecycleAppliedOnce() {
+    assertThat(LifecycleTrackingProcessor.created.get(), is(1));
+    assertThat(LifecycleTrackingProcessor.initialised.get(), is(1));
+    assertThat(LifecycleTrackingProcessor.started.get(), is(1));
+  }
+
+  public static class LifecycleTrackingProcessor implements MessageProcessor, Initialisable, Startable {
+
+    private static final AtomicInteger created = new AtomicInteger();
+    private static final AtomicInteger initialised = new AtomicInteger();
+    private static final AtomicInteger started = new AtomicInteger();
+    private static volatile long startDelay;
+
+    public LifecycleTrackingProcessor() {
+      created.incrementAndGet();
+    }
+
+    @Override
+    public void initialise() throws InitialisationException {
+      initialised.incrementAndGet();
+    }
+
+    @Override
+    public void start() throws MuleException {
+      if (startDelay > 0) {
+        try {
+          Thread.sleep(startDelay);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      started.incrementAndGet();
+    }
+
+    @Override
+    public MuleEvent process(MuleEvent event) throws MuleException {
+      return event;
+    }
+  }
+
+  public static class FailingOnceProcessor implements MessageProcessor, Startable {
+
+    private static final AtomicBoolean failed = new AtomicBoolean();
+
+    @Override
+    public void start() throws MuleException {
+      if (failed.compareAndSet(false, true)) {
+        throw new DefaultMuleException("Failing the first start of the flow");
+      }
+    }
+
+    @Override
+    public MuleEvent process(MuleEvent event) throws MuleException {
+      return event;
+    }
+  }
+}
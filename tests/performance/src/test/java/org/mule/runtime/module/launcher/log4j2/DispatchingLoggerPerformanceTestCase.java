@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.launcher.log4j2;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+import static org.mule.runtime.core.util.ClassUtils.withContextClassLoader;
+import org.mule.runtime.module.artifact.classloader.ArtifactClassLoader;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.selector.ContextSelector;
+import org.databene.contiperf.PerfTest;
+import org.databene.contiperf.junit.ContiPerfRule;
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Compares logging through a {@link DispatchingLogger} owned by another artifact against resolving the logger of the current
+ * artifact on every call, which is what the dispatching logger did before memoizing it, and against logging straight into the
+ * logger of the current artifact. Debug is enabled and no appender is configured, so the dispatching cost is not hidden by I/O.
+ */
+public class DispatchingLoggerPerformanceTestCase extends AbstractMuleTestCase {
+
+  private static final String LOGGER_NAME = DispatchingLoggerPerformanceTestCase.class.getName();
+  private static final String MESSAGE = "Hello Log!";
+  private static final int LOG_CALLS = 1000;
+
+  private static final ClassLoader artifactClassLoader =
+      mock(ClassLoader.class, withSettings().extraInterfaces(ArtifactClassLoader.class));
+  private static final ContextSelector contextSelector = new ClassLoaderContextSelector();
+  private static final ClassLoader ownerClassLoader = new ClassLoader() {};
+  private static final LoggerContext ownerContext = contextSelector.getContext(LOGGER_NAME, ownerClassLoader, true);
+  private static final Logger dispatchingLogger =
+      new DispatchingLogger(ownerContext.getLogger(LOGGER_NAME), ownerClassLoader.hashCode(), ownerContext, contextSelector,
+                            ownerContext.getLogger(LOGGER_NAME).getMessageFactory()) {};
+  private static final Logger artifactLogger =
+      contextSelector.getContext(LOGGER_NAME, artifactClassLoader, true).getLogger(LOGGER_NAME);
+
+  @Rule
+  public ContiPerfRule rule = new ContiPerfRule();
+
+  @Override
+  public int getTestTimeoutSecs() {
+    return 360;
+  }
+
+  @AfterClass
+  public static void stopContexts() {
+    for (LoggerContext context : contextSelector.getLoggerContexts()) {
+      context.stop();
+    }
+  }
+
+  @Test
+  @PerfTest(duration = 30000, threads = 20, warmUp = 5000)
+  public void plainLogger() throws Exception {
+    withContextClassLoader(artifactClassLoader, () -> {
+      for (int i = 0; i < LOG_CALLS; i++) {
+        artifactLogger.debug(MESSAGE);
+      }
+    });
+  }
+
+  @Test
+  @PerfTest(duration = 30000, threads = 20, warmUp = 5000)
+  public void resolveLoggerOnEveryCall() throws Exception {
+    withContextClassLoader(artifactClassLoader, () -> {
+      for (int i = 0; i < LOG_CALLS; i++) {
+        contextSelector.getContext(LOGGER_NAME, artifactClassLoader, true)
+            .getLogger(LOGGER_NAME, dispatchingLogger.getMessageFactory()).debug(MESSAGE);
+      }
+    });
+  }
+
+  @Test
+  @PerfTest(duration = 30000, threads = 20, warmUp = 5000)
+  public void dispatchingLogger() throws Exception {
+    withContextClassLoader(artifactClassLoader, () -> {
+      for (int i = 0; i < LOG_CALLS; i++) {
+        dispatchingLogger.debug(MESSAGE);
+      }
+    });
+  }
+
+  /**
+   * Keeps a started context with debug enabled and no appenders per class loader, the way {@link LoggerContextCache} does
+   */
+  private static class ClassLoaderContextSelector implements ContextSelector {
+
+    private final Map<ClassLoader, LoggerContext> contexts = new ConcurrentHashMap<>();
+
+    @Override
+    public LoggerContext getContext(String fqcn, ClassLoader loader, boolean currentContext) {
+      return contexts.computeIfAbsent(loader, classLoader -> {
+        LoggerContext context = new LoggerContext(String.valueOf(classLoader.hashCode()));
+        context.start();
+        LoggerConfig rootLogger = context.getConfiguration().getRootLogger();
+        for (String appender : new ArrayList<>(rootLogger.getAppenders().keySet())) {
+          rootLogger.removeAppender(appender);
+        }
+        rootLogger.setLevel(Level.DEBUG);
+        context.updateLoggers();
+        return context;
+      });
+    }
+
+    @Override
+    public LoggerContext getContext(String fqcn, ClassLoader loader, boolean currentContext, URI configLocation) {
+      return getContext(fqcn, loader, currentContext);
+    }
+
+    @Override
+    public List<LoggerContext> getLoggerContexts() {
+      return new ArrayList<>(contexts.values());
+    }
+
+    @Override
+    public void removeContext(LoggerContext context) {
+      contexts.values().remove(context);
+    }
+  }
+}
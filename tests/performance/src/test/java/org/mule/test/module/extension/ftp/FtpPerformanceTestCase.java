@@ -17,6 +17,7 @@ import org.mule.test.infrastructure.process.rules.FtpServer;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Random;
 
 import org.databene.contiperf.PerfTest;
 import org.databene.contiperf.Required;
@@ -33,6 +34,8 @@ public class FtpPerformanceTestCase extends MuleArtifactFunctionalTestCase {
   protected static final File BASE_DIR = new File(FTP_SERVER_BASE_DIR, WORKING_DIR);
   private static final String FTP_USER = "anonymous";
   private static final String FTP_PASSWORD = "password";
+  private static final String LARGE_FILE = "large.bin";
+  private static final int LARGE_FILE_SIZE = 16 * 1024 * 1024;
 
   private FTPTestClient ftpClient;
 
@@ -71,11 +74,19 @@ public class FtpPerformanceTestCase extends MuleArtifactFunctionalTestCase {
 
     ftpClient.putFile("copyMe.txt", "simpleContent");
     ftpClient.putFile("writeMe.txt", "simpleContent");
+    ftpClient.putFile(LARGE_FILE, largeContent());
 
 
 
     assertThat(ftpClient.fileExists("copyMe.txt"), is(true));
     assertThat(ftpClient.fileExists("writeMe.txt"), is(true));
+    assertThat(ftpClient.fileExists(LARGE_FILE), is(true));
+  }
+
+  private byte[] largeContent() {
+    byte[] content = new byte[LARGE_FILE_SIZE];
+    new Random(LARGE_FILE_SIZE).nextBytes(content);
+    return content;
   }
 
   @Test
@@ -115,6 +126,26 @@ public class FtpPerformanceTestCase extends MuleArtifactFunctionalTestCase {
     assertThat(ftpClient.fileExists("write.txt"), is(true));
   }
 
+  @Test
+  @Required(throughput = 1, average = 800, percentile90 = 900)
+  @PerfTest(duration = 30000, threads = 1, warmUp = 5000)
+  public void largeFileReadAndWrite() throws Exception {
+    flowRunner("large-read-and-write").run();
+    assertThat(ftpClient.get("largeCopy.bin").getSize(), is((long) LARGE_FILE_SIZE));
+  }
+
+  /**
+   * Same as {@link #largeFileReadAndWrite()} but splitting the file in ranges which are transferred over several connections.
+   * Against a local server there's no latency to hide, so this mostly measures the overhead of the parallel mode
+   */
+  @Test
+  @Required(throughput = 1, average = 800, percentile90 = 900)
+  @PerfTest(duration = 30000, threads = 1, warmUp = 5000)
+  public void parallelLargeFileReadAndWrite() throws Exception {
+    flowRunner("parallel-large-read-and-write").run();
+    assertThat(ftpClient.get("parallelLargeCopy.bin").getSize(), is((long) LARGE_FILE_SIZE));
+  }
+
 
   @Override
   protected void doTearDownAfterMuleContextDispose() throws Exception {
@@ -39,6 +39,7 @@ import org.mule.compatibility.core.endpoint.URIBuilder;
 import org.mule.compatibility.core.processor.AbstractMessageProcessorTestCase;
 import org.mule.compatibility.core.transformer.simple.OutboundAppendTransformer;
 import org.mule.compatibility.core.transformer.simple.ResponseAppendTransformer;
+import org.mule.compatibility.core.transport.AbstractConnector;
 import org.mule.compatibility.core.transport.service.DefaultTransportServiceDescriptor;
 import org.mule.runtime.core.MessageExchangePattern;
 import org.mule.runtime.core.VoidMuleEvent;
@@ -274,6 +275,42 @@ public class DynamicOutboundEndpointTestCase extends AbstractMessageProcessorTes
     verify(endpointBuilder, times(1)).clone();
   }
 
+  @Test
+  public void evictsLeastRecentlyUsedStaticEndpoints() throws Exception {
+    AbstractConnector connector = mock(AbstractConnector.class);
+    OutboundEndpoint staticEndpoint = mock(OutboundEndpoint.class);
+    when(staticEndpoint.getConnector()).thenReturn(connector);
+    when(staticEndpoint.getMuleContext()).thenReturn(muleContext);
+
+    EndpointBuilder staticEndpointBuilder = mock(EndpointBuilder.class);
+    when(staticEndpointBuilder.buildOutboundEndpoint()).thenReturn(staticEndpoint);
+
+    EndpointBuilder endpointBuilder = mock(EndpointBuilder.class);
+    when(endpointBuilder.buildOutboundEndpoint()).thenReturn(staticEndpoint);
+    when(endpointBuilder.clone()).thenReturn(staticEndpointBuilder);
+
+    DynamicOutboundEndpoint dynamicOutboundEndpoint =
+        new DynamicOutboundEndpoint(endpointBuilder,
+                                    new DynamicURIBuilder(new URIBuilder("test://localhost:#[message.outboundProperties.port]",
+                                                                         muleContext)),
+                                    1, 0);
+
+    testOutboundEvent = createTestOutboundEvent();
+    MuleEvent otherPortEvent = MuleEvent.builder(testOutboundEvent)
+        .message(MuleMessage.builder(testOutboundEvent.getMessage()).addOutboundProperty("port", 54321).build()).build();
+
+    dynamicOutboundEndpoint.getStaticEndpoint(testOutboundEvent);
+    dynamicOutboundEndpoint.getStaticEndpoint(testOutboundEvent);
+    dynamicOutboundEndpoint.getStaticEndpoint(otherPortEvent);
+
+    verify(connector).registerDynamicEndpoint(dynamicOutboundEndpoint);
+    verify(connector).disposeDispatchers(staticEndpoint);
+    assertThat(dynamicOutboundEndpoint.getStaticEndpointsCacheSize(), is(1L));
+    assertThat(dynamicOutboundEndpoint.getStaticEndpointsCacheHitCount(), is(1L));
+    assertThat(dynamicOutboundEndpoint.getStaticEndpointsCacheMissCount(), is(2L));
+    assertThat(dynamicOutboundEndpoint.getStaticEndpointsCacheEvictionCount(), is(1L));
+  }
+
   protected void assertMessageSentEqual(MuleEvent event) throws MuleException {
     assertEquals(TEST_MESSAGE, event.getMessageAsString(muleContext));
     assertEquals("value1", event.getMessage().getOutboundProperty("prop1"));
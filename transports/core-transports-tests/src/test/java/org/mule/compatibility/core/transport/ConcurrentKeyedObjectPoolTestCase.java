@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.compatibility.core.transport;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mule.compatibility.core.transport.ConfigurableKeyedObjectPool.WHEN_EXHAUSTED_FAIL;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.pool.KeyedPoolableObjectFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class ConcurrentKeyedObjectPoolTestCase extends AbstractMuleTestCase {
+
+  private static final String KEY = "key";
+
+  private final ConcurrentKeyedObjectPool pool = new ConcurrentKeyedObjectPool();
+  private final TestFactory factory = new TestFactory();
+
+  @Before
+  public void before() {
+    pool.setFactory(factory);
+    pool.setMaxActive(2);
+    pool.setMaxIdle(2);
+  }
+
+  @Test
+  public void reusesReturnedInstances() throws Exception {
+    Object instance = pool.borrowObject(KEY);
+    pool.returnObject(KEY, instance);
+
+    assertThat(pool.getNumIdle(KEY), is(1));
+    assertThat(pool.borrowObject(KEY), is(sameInstance(instance)));
+    assertThat(pool.getNumActive(KEY), is(1));
+    assertThat(factory.created.get(), is(1));
+  }
+
+  @Test
+  public void invalidInstancesAreDestroyedOnReturn() throws Exception {
+    Object instance = pool.borrowObject(KEY);
+    factory.valid = false;
+    pool.returnObject(KEY, instance);
+
+    assertThat(pool.getNumIdle(KEY), is(0));
+    assertThat(factory.destroyed.get(), is(1));
+    assertThat(pool.borrowObject(KEY), is(not(sameInstance(instance))));
+  }
+
+  @Test
+  public void newInstancesAreNotValidated() throws Exception {
+    pool.setTestOnBorrow(true);
+    factory.valid = false;
+
+    pool.borrowObject(KEY);
+
+    assertThat(factory.validated.get(), is(0));
+  }
+
+  @Test
+  public void keysHaveIndependentLimits() throws Exception {
+    pool.setWhenExhaustedAction(WHEN_EXHAUSTED_FAIL);
+    pool.borrowObject(KEY);
+    pool.borrowObject(KEY);
+    pool.borrowObject("other");
+
+    try {
+      pool.borrowObject(KEY);
+      fail("Pool should have been exhausted");
+    } catch (NoSuchElementException e) {
+      assertThat(pool.getNumActive(KEY), is(2));
+    }
+  }
+
+  @Test
+  public void blockedBorrowGetsReturnedInstance() throws Exception {
+    Object first = pool.borrowObject(KEY);
+    pool.borrowObject(KEY);
+    CountDownLatch returning = new CountDownLatch(1);
+
+    new Thread(() -> {
+      try {
+        returning.await();
+        Thread.sleep(50);
+        pool.returnObject(KEY, first);
+      } catch (Exception e) {
+        // The assertion below fails
+      }
+    }).start();
+
+    returning.countDown();
+    assertThat(pool.borrowObject(KEY), is(sameInstance(first)));
+    assertThat(pool.getNumActive(KEY), is(2));
+  }
+
+  @Test
+  public void clearDiscardsUnusedKeys() throws Exception {
+    pool.returnObject(KEY, pool.borrowObject(KEY));
+
+    pool.clear(KEY);
+
+    assertThat(pool.getNumIdle(), is(0));
+    assertThat(factory.destroyed.get(), is(1));
+    pool.returnObject(KEY, pool.borrowObject(KEY));
+    assertThat(pool.getNumIdle(KEY), is(1));
+  }
+
+  @Test
+  public void maxTotalEvictsIdleInstancesOfOtherKeys() throws Exception {
+    pool.setMaxTotal(1);
+    pool.returnObject("other", pool.borrowObject("other"));
+
+    pool.borrowObject(KEY);
+
+    assertThat(pool.getNumIdle("other"), is(0));
+    assertThat(factory.destroyed.get(), is(1));
+  }
+
+  @Test
+  public void concurrentBorrowsNeverExceedMaxActive() throws Exception {
+    final int threads = 8;
+    final AtomicInteger borrowed = new AtomicInteger();
+    final AtomicInteger maxBorrowed = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(() -> {
+          for (int j = 0; j < 1000; j++) {
+            Object instance = pool.borrowObject(KEY);
+            maxBorrowed.accumulateAndGet(borrowed.incrementAndGet(), Math::max);
+            borrowed.decrementAndGet();
+            pool.returnObject(KEY, instance);
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(maxBorrowed.get() <= 2, is(true));
+    assertThat(pool.getNumActive(KEY), is(0));
+    assertThat(pool.getBorrowWaitHistogram().getCount(), is((long) threads * 1000));
+    assertThat(pool.getUtilizationHistogram().getMax() <= 2, is(true));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void closedPoolCannotBeBorrowedFrom() throws Exception {
+    pool.close();
+    pool.borrowObject(KEY);
+  }
+
+  private static class TestFactory implements KeyedPoolableObjectFactory {
+
+    final AtomicInteger created = new AtomicInteger();
+    final AtomicInteger destroyed = new AtomicInteger();
+    final AtomicInteger validated = new AtomicInteger();
+    volatile boolean valid = true;
+
+    @Override
+    public Object makeObject(Object key) {
+      created.incrementAndGet();
+      return new Object();
+    }
+
+    @Override
+    public void destroyObject(Object key, Object obj) {
+      destroyed.incrementAndGet();
+    }
+
+    @Override
+    public boolean validateObject(Object key, Object obj) {
+      validated.incrementAndGet();
+      return valid;
+    }
+
+    @Override
+    public void activateObject(Object key, Object obj) {}
+
+    @Override
+    public void passivateObject(Object key, Object obj) {}
+  }
+}
@@ -6,6 +6,9 @@
  */
 package org.mule.compatibility.core.endpoint;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+
 import org.mule.compatibility.core.api.endpoint.EndpointBuilder;
 import org.mule.compatibility.core.api.endpoint.EndpointException;
 import org.mule.compatibility.core.api.endpoint.EndpointMessageProcessorChainFactory;
@@ -30,14 +33,20 @@ import org.mule.runtime.core.api.routing.filter.Filter;
 import org.mule.runtime.core.api.transaction.TransactionConfig;
 import org.mule.runtime.core.processor.AbstractRedeliveryPolicy;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.nio.charset.Charset;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
 
-import org.apache.commons.collections.map.LRUMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,6 +55,11 @@ import org.slf4j.LoggerFactory;
  * allows for the destination of a message to change based on the contents of the message. Note that this endpoint ONLY
  * substitutes the URI, but other config elements such as the transformers, filters, etc do not change. You cannot change an
  * endpoint scheme dynamically so you can't switch between HTTP and JMS for example using the same dynamic endpoint.
+ * <p>
+ * The static endpoints resolved for each URI are cached. Once the cache is full the least recently used endpoint is evicted,
+ * and endpoints can also be expired after going unused for a while. See {@link #STATIC_ENDPOINTS_CACHE_SIZE_PROPERTY} and
+ * {@link #STATIC_ENDPOINTS_CACHE_TTL_PROPERTY}. The dispatchers pooled for an evicted endpoint are disposed. The cache
+ * statistics are exposed through the JMX service of the connector.
  */
 public class DynamicOutboundEndpoint implements OutboundEndpoint {
 
@@ -53,12 +67,29 @@ public class DynamicOutboundEndpoint implements OutboundEndpoint {
 
   private static final long serialVersionUID = 8861985949279708638L;
 
+  /**
+   * System property with the maximum amount of static endpoints to cache per dynamic endpoint. Defaults to 64.
+   */
+  public static final String STATIC_ENDPOINTS_CACHE_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "dynamicEndpoint.cacheSize";
+
+  /**
+   * System property with how many milliseconds a cached static endpoint may go unused before it is evicted. Defaults to 0,
+   * meaning that endpoints are only evicted when the cache is full.
+   */
+  public static final String STATIC_ENDPOINTS_CACHE_TTL_PROPERTY = SYSTEM_PROPERTY_PREFIX + "dynamicEndpoint.cacheTtl";
+
+  private static final int DEFAULT_STATIC_ENDPOINTS_CACHE_SIZE = 64;
+
   private final EndpointBuilder endpointBuilder;
 
   private final OutboundEndpoint prototypeEndpoint;
 
-  // Caches resolved static endpoints to improve performance
-  private final Map<String, OutboundEndpoint> staticEndpoints = Collections.synchronizedMap(new LRUMap(64));
+  private final int cacheSize;
+
+  private final long cacheTtl;
+
+  // Caches resolved static endpoints to improve performance. Not serialized, it is rebuilt empty by readObject
+  private transient Cache<String, OutboundEndpoint> staticEndpoints;
 
   private final DynamicURIBuilder dynamicURIBuilder;
 
@@ -67,14 +98,51 @@ public class DynamicOutboundEndpoint implements OutboundEndpoint {
   private FlowConstruct flowConstruct;
 
   public DynamicOutboundEndpoint(EndpointBuilder endpointBuilder, DynamicURIBuilder dynamicURIBuilder) {
+    this(endpointBuilder, dynamicURIBuilder,
+         Integer.getInteger(STATIC_ENDPOINTS_CACHE_SIZE_PROPERTY, DEFAULT_STATIC_ENDPOINTS_CACHE_SIZE),
+         Long.getLong(STATIC_ENDPOINTS_CACHE_TTL_PROPERTY, 0L));
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param endpointBuilder builder of the static endpoints
+   * @param dynamicURIBuilder builder of the URI of each static endpoint
+   * @param cacheSize the maximum amount of static endpoints to cache
+   * @param cacheTtl how many milliseconds a cached static endpoint may go unused before it is evicted, or a non positive value
+   *        for endpoints not to expire
+   * @since 4.0
+   */
+  public DynamicOutboundEndpoint(EndpointBuilder endpointBuilder, DynamicURIBuilder dynamicURIBuilder, int cacheSize,
+                                 long cacheTtl) {
     this.endpointBuilder = endpointBuilder;
     this.dynamicURIBuilder = dynamicURIBuilder;
+    this.cacheSize = cacheSize;
+    this.cacheTtl = cacheTtl;
+    this.staticEndpoints = createStaticEndpointsCache();
 
     try {
       prototypeEndpoint = endpointBuilder.buildOutboundEndpoint();
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
+
+    if (prototypeEndpoint.getConnector() instanceof AbstractConnector) {
+      ((AbstractConnector) prototypeEndpoint.getConnector()).registerDynamicEndpoint(this);
+    }
+  }
+
+  private Cache<String, OutboundEndpoint> createStaticEndpointsCache() {
+    CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder().maximumSize(cacheSize).recordStats();
+    if (cacheTtl > 0) {
+      cacheBuilder.expireAfterAccess(cacheTtl, MILLISECONDS);
+    }
+    return cacheBuilder.removalListener(this::onStaticEndpointRemoval).build();
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    staticEndpoints = createStaticEndpointsCache();
   }
 
   private Properties getServiceOverrides() throws EndpointException {
@@ -95,15 +163,69 @@ public class DynamicOutboundEndpoint implements OutboundEndpoint {
   public OutboundEndpoint getStaticEndpoint(MuleEvent event) throws MuleException {
     final String uri = resolveUri(event);
 
-    OutboundEndpoint outboundEndpoint = staticEndpoints.get(uri);
+    try {
+      // Concurrent requests for the same new URI wait for a single endpoint to be built
+      return staticEndpoints.get(uri, () -> createStaticEndpoint(createEndpointUri(uri)));
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof MuleException) {
+        throw (MuleException) e.getCause();
+      }
+      throw new DispatchException(event, this, e.getCause());
+    } catch (UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new DispatchException(event, this, e.getCause());
+    }
+  }
+
+  private void onStaticEndpointRemoval(RemovalNotification<String, OutboundEndpoint> notification) {
+    if (!notification.wasEvicted()) {
+      return;
+    }
 
-    if (outboundEndpoint == null) {
-      final EndpointURI endpointURIForMessage = createEndpointUri(uri);
-      outboundEndpoint = createStaticEndpoint(endpointURIForMessage);
-      staticEndpoints.put(uri, outboundEndpoint);
+    OutboundEndpoint endpoint = notification.getValue();
+    if (logger != null && logger.isDebugEnabled()) {
+      logger.debug("Evicted static endpoint for " + notification.getKey() + " (" + notification.getCause() + ")");
+    }
+    if (endpoint != null) {
+      Connector connector = endpoint.getConnector();
+      if (connector instanceof AbstractConnector) {
+        ((AbstractConnector) connector).disposeDispatchers(endpoint);
+      }
     }
+  }
+
+  /**
+   * @return how many static endpoints are currently cached
+   * @since 4.0
+   */
+  public long getStaticEndpointsCacheSize() {
+    return staticEndpoints.size();
+  }
+
+  /**
+   * @return how many times a static endpoint was found in the cache
+   * @since 4.0
+   */
+  public long getStaticEndpointsCacheHitCount() {
+    return staticEndpoints.stats().hitCount();
+  }
+
+  /**
+   * @return how many times a static endpoint had to be built because it was not in the cache
+   * @since 4.0
+   */
+  public long getStaticEndpointsCacheMissCount() {
+    return staticEndpoints.stats().missCount();
+  }
 
-    return outboundEndpoint;
+  /**
+   * @return how many static endpoints were evicted from the cache, either because it was full or because they expired
+   * @since 4.0
+   */
+  public long getStaticEndpointsCacheEvictionCount() {
+    return staticEndpoints.stats().evictionCount();
   }
 
   private EndpointURI createEndpointUri(String uri) throws EndpointException, InitialisationException {
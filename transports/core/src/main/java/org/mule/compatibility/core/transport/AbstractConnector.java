@@ -6,6 +6,8 @@
  */
 package org.mule.compatibility.core.transport;
 
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.unmodifiableSet;
 import static org.apache.commons.lang.SystemUtils.LINE_SEPARATOR;
 import static org.mule.compatibility.core.config.i18n.TransportCoreMessages.connectorCausedError;
 import static org.mule.compatibility.core.registry.MuleRegistryTransportHelper.lookupServiceDescriptor;
@@ -27,6 +29,7 @@ import org.mule.compatibility.core.config.i18n.TransportCoreMessages;
 import org.mule.compatibility.core.connector.EndpointConnectException;
 import org.mule.compatibility.core.connector.EndpointReplyToHandler;
 import org.mule.compatibility.core.context.notification.EndpointMessageNotification;
+import org.mule.compatibility.core.endpoint.DynamicOutboundEndpoint;
 import org.mule.compatibility.core.endpoint.outbound.OutboundNotificationMessageProcessor;
 import org.mule.compatibility.core.session.SerializeAndEncodeSessionHandler;
 import org.mule.compatibility.core.transformer.TransportTransformerUtils;
@@ -91,11 +94,13 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -110,7 +115,6 @@ import javax.resource.spi.work.WorkEvent;
 import javax.resource.spi.work.WorkListener;
 
 import org.apache.commons.pool.KeyedPoolableObjectFactory;
-import org.apache.commons.pool.impl.GenericKeyedObjectPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -182,20 +186,25 @@ public abstract class AbstractConnector extends AbstractAnnotatedObject implemen
   protected volatile ConfigurableKeyedObjectPool dispatchers;
 
   /**
-   * A factory for creating the pool of dispatchers for this connector.
+   * A factory for creating the pool of dispatchers for this connector. Defaults to a {@link ConcurrentKeyedObjectPoolFactory}.
    */
   protected volatile ConfigurableKeyedObjectPoolFactory dispatcherPoolFactory;
 
   /**
-   * A pool of requesters for this connector, keyed by endpoint
+   * A pool of requesters for this connector, keyed by endpoint. Requesters are validated when returned to the pool.
    */
-  protected final GenericKeyedObjectPool requesters = new GenericKeyedObjectPool();
+  protected final ConfigurableKeyedObjectPool requesters = new ConcurrentKeyedObjectPool();
 
   /**
    * The collection of listeners on this connector. Keyed by entrypoint
    */
   protected final Map<Object, MessageReceiver> receivers = new ConcurrentHashMap<>();
 
+  /**
+   * The dynamic endpoints that dispatch through this connector, tracked to expose the statistics of their caches
+   */
+  private final Set<DynamicOutboundEndpoint> dynamicEndpoints = newSetFromMap(new ConcurrentHashMap<>());
+
   /**
    * Defines the dispatcher threading profile
    */
@@ -304,14 +313,6 @@ public abstract class AbstractConnector extends AbstractAnnotatedObject implemen
     // always add at least the default protocol
     supportedProtocols = new ArrayList<>();
     supportedProtocols.add(getProtocol().toLowerCase());
-
-    // TODO dispatcher pool configuration should be extracted, maybe even
-    // moved into the factory?
-    // NOTE: testOnBorrow MUST be FALSE. this is a bit of a design bug in
-    // commons-pool since validate is used for both activation and passivation,
-    // but has no way of knowing which way it is going.
-    requesters.setTestOnBorrow(false);
-    requesters.setTestOnReturn(true);
   }
 
   @Override
@@ -357,7 +358,7 @@ public abstract class AbstractConnector extends AbstractAnnotatedObject implemen
           }
 
           if (dispatcherPoolFactory == null) {
-            dispatcherPoolFactory = new DefaultConfigurableKeyedObjectPoolFactory();
+            dispatcherPoolFactory = new ConcurrentKeyedObjectPoolFactory();
           }
 
           dispatchers = dispatcherPoolFactory.createObjectPool();
@@ -539,6 +540,7 @@ public abstract class AbstractConnector extends AbstractAnnotatedObject implemen
       lifecycleManager.fireDisposePhase((phaseName, object) -> {
         doDispose();
         disposeReceivers();
+        dynamicEndpoints.clear();
       });
     } catch (MuleException e) {
       logger.warn(e.getMessage(), e);
@@ -729,6 +731,41 @@ public abstract class AbstractConnector extends AbstractAnnotatedObject implemen
     }
   }
 
+  /**
+   * Destroys the idle dispatchers pooled for the given endpoint. Used when an endpoint is no longer going to be dispatched to,
+   * so that its dispatchers are not kept for as long as this connector lives.
+   *
+   * @param endpoint the endpoint whose dispatchers are to be destroyed
+   */
+  public void disposeDispatchers(OutboundEndpoint endpoint) {
+    if (dispatchers != null) {
+      try {
+        dispatchers.clear(endpoint);
+      } catch (Exception e) {
+        logger.warn("Can not clear dispatchers cache for endpoint: " + endpoint);
+      }
+    }
+  }
+
+  /**
+   * Registers a dynamic endpoint that dispatches through this connector, so that the statistics of its static endpoints cache
+   * can be monitored.
+   *
+   * @param endpoint the dynamic endpoint to register
+   * @since 4.0
+   */
+  public void registerDynamicEndpoint(DynamicOutboundEndpoint endpoint) {
+    dynamicEndpoints.add(endpoint);
+  }
+
+  /**
+   * @return the dynamic endpoints that dispatch through this connector
+   * @since 4.0
+   */
+  public Collection<DynamicOutboundEndpoint> getDynamicEndpoints() {
+    return unmodifiableSet(dynamicEndpoints);
+  }
+
   protected void clearRequesters() {
     if (requesters != null) {
       logger.debug("Clearing Requester pool");
@@ -2080,7 +2117,7 @@ public abstract class AbstractConnector extends AbstractAnnotatedObject implemen
 
   /**
    * Allows an ExhaustedAction to be configured on the dispatcher object pool See:
-   * {@link GenericKeyedObjectPool#setWhenExhaustedAction(byte)}
+   * {@link ConfigurableKeyedObjectPool#setWhenExhaustedAction(byte)}
    */
   public void setDispatcherPoolWhenExhaustedAction(byte whenExhaustedAction) {
     checkDispatchersInitialised();
@@ -2088,7 +2125,8 @@ public abstract class AbstractConnector extends AbstractAnnotatedObject implemen
   }
 
   /**
-   * Allows a maxWait timeout to be configured on the dispatcher object pool See: {@link GenericKeyedObjectPool#setMaxWait(long)}
+   * Allows a maxWait timeout to be configured on the dispatcher object pool See:
+   * {@link ConfigurableKeyedObjectPool#setMaxWait(long)}
    */
   public void setDispatcherPoolMaxWait(int maxWait) {
     checkDispatchersInitialised();
@@ -2108,14 +2146,15 @@ public abstract class AbstractConnector extends AbstractAnnotatedObject implemen
 
   /**
    * Allows an ExhaustedAction to be configured on the requester object pool See:
-   * {@link GenericKeyedObjectPool#setWhenExhaustedAction(byte)}
+   * {@link ConfigurableKeyedObjectPool#setWhenExhaustedAction(byte)}
    */
   public void setRequesterPoolWhenExhaustedAction(byte whenExhaustedAction) {
     requesters.setWhenExhaustedAction(whenExhaustedAction);
   }
 
   /**
-   * Allows a maxWait timeout to be configured on the requester object pool See: {@link GenericKeyedObjectPool#setMaxWait(long)}
+   * Allows a maxWait timeout to be configured on the requester object pool See:
+   * {@link ConfigurableKeyedObjectPool#setMaxWait(long)}
    */
   public void setRequesterPoolMaxWait(int maxWait) {
     requesters.setMaxWait(maxWait);
@@ -2207,11 +2246,7 @@ public abstract class AbstractConnector extends AbstractAnnotatedObject implemen
 
     @Override
     public void dispose() {
-      try {
-        dispatchers.clear(endpoint);
-      } catch (Exception e) {
-        logger.warn("Can not clear dispatchers cache for endpoint: " + endpoint);
-      }
+      disposeDispatchers(endpoint);
     }
 
   }
@@ -0,0 +1,669 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.compatibility.core.transport;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import org.mule.runtime.core.management.stats.Histogram;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.pool.KeyedPoolableObjectFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ConfigurableKeyedObjectPool} which does not lock on borrow or return.
+ * <p>
+ * Each key has its own pool, which keeps its idle instances on a lock-free stack, so the most recently returned instance is the
+ * first to be borrowed again, and counts its active instances with an atomic counter. Borrowing an instance first reserves one
+ * of the {@link #getMaxActive() active slots} of the key, so threads only block when the key is exhausted and the
+ * {@link #WHEN_EXHAUSTED_BLOCK} action is set. Blocked threads are queued and served in arrival order: the slot of an instance
+ * which is returned or invalidated is handed over to the first of them, and threads arriving meanwhile queue behind.
+ * <p>
+ * Validation is only applied to instances which go idle: they are validated when returned, if {@link #setTestOnReturn(boolean)
+ * testOnReturn} is set, and again when borrowed from the idle stack, if {@link #setTestOnBorrow(boolean) testOnBorrow} is set.
+ * Newly created instances are never validated.
+ * <p>
+ * How long each borrow waited, in microseconds, and how many instances of its key were active once it got one are recorded on
+ * the {@link #getBorrowWaitHistogram()} and {@link #getUtilizationHistogram()}.
+ *
+ * @since 4.0
+ */
+public class ConcurrentKeyedObjectPool implements ConfigurableKeyedObjectPool {
+
+  private static final Logger logger = LoggerFactory.getLogger(ConcurrentKeyedObjectPool.class);
+
+  /**
+   * Upper bound of each park of a blocked borrower, after which it checks again whether it can proceed
+   */
+  private static final long PARK_SLICE_NANOS = MILLISECONDS.toNanos(100);
+
+  private final Map<Object, KeyedPool> pools = new ConcurrentHashMap<>();
+  private final AtomicInteger totalInstances = new AtomicInteger();
+  private final AtomicInteger totalIdle = new AtomicInteger();
+  private final Histogram borrowWaitHistogram = new Histogram();
+  private final Histogram utilizationHistogram = new Histogram();
+
+  private volatile KeyedPoolableObjectFactory factory;
+  private volatile int maxActive = 8;
+  private volatile int maxIdle = 8;
+  private volatile int maxTotal = -1;
+  private volatile long maxWait = -1;
+  private volatile byte whenExhaustedAction = WHEN_EXHAUSTED_BLOCK;
+  private volatile boolean testOnBorrow = false;
+  private volatile boolean testOnReturn = true;
+  private volatile boolean closed = false;
+
+  @Override
+  public Object borrowObject(Object key) throws Exception, NoSuchElementException, IllegalStateException {
+    final long start = System.nanoTime();
+
+    while (true) {
+      assertOpen();
+      KeyedPool pool = getPool(key);
+
+      if (!reserve(pool, start)) {
+        // The pool of the key was discarded meanwhile
+        continue;
+      }
+
+      Object instance;
+      try {
+        instance = takeOrCreate(key, pool, start);
+      } catch (Exception e) {
+        release(pool);
+        throw e;
+      }
+
+      borrowWaitHistogram.record(NANOSECONDS.toMicros(System.nanoTime() - start));
+      utilizationHistogram.record(pool.active.get());
+      return instance;
+    }
+  }
+
+  @Override
+  public void returnObject(Object key, Object obj) throws Exception {
+    KeyedPool pool = pools.get(key);
+    if (pool == null) {
+      destroy(key, obj);
+      return;
+    }
+
+    try {
+      boolean keep = !closed && (!testOnReturn || validate(key, obj));
+      if (keep) {
+        try {
+          factory.passivateObject(key, obj);
+        } catch (Exception e) {
+          keep = false;
+        }
+      }
+
+      if (keep && (maxIdle < 0 || pool.idleCount.get() < maxIdle)) {
+        pool.pushIdle(obj);
+      } else {
+        destroy(key, obj);
+      }
+    } finally {
+      release(pool);
+    }
+  }
+
+  @Override
+  public void invalidateObject(Object key, Object obj) throws Exception {
+    KeyedPool pool = pools.get(key);
+    try {
+      destroy(key, obj);
+    } finally {
+      if (pool != null) {
+        release(pool);
+      }
+    }
+  }
+
+  @Override
+  public void addObject(Object key) throws Exception, IllegalStateException, UnsupportedOperationException {
+    assertOpen();
+    KeyedPool pool;
+    do {
+      pool = getPool(key);
+    } while (!pool.forceReserve());
+
+    try {
+      totalInstances.incrementAndGet();
+      Object instance = make(key);
+      try {
+        factory.passivateObject(key, instance);
+      } catch (Exception e) {
+        destroy(key, instance);
+        throw e;
+      }
+      pool.pushIdle(instance);
+    } finally {
+      release(pool);
+    }
+  }
+
+  @Override
+  public int getNumIdle(Object key) throws UnsupportedOperationException {
+    KeyedPool pool = pools.get(key);
+    return pool == null ? 0 : pool.idleCount.get();
+  }
+
+  @Override
+  public int getNumActive(Object key) throws UnsupportedOperationException {
+    KeyedPool pool = pools.get(key);
+    return pool == null ? 0 : Math.max(0, pool.active.get());
+  }
+
+  @Override
+  public int getNumIdle() throws UnsupportedOperationException {
+    return totalIdle.get();
+  }
+
+  @Override
+  public int getNumActive() throws UnsupportedOperationException {
+    int active = 0;
+    for (KeyedPool pool : pools.values()) {
+      active += Math.max(0, pool.active.get());
+    }
+    return active;
+  }
+
+  @Override
+  public void clear() {
+    for (Object key : pools.keySet()) {
+      clear(key);
+    }
+  }
+
+  /**
+   * Destroys the idle instances of the given key. The pool of the key is discarded too if none of its instances is active, so
+   * that keys which are no longer used do not accumulate.
+   */
+  @Override
+  public void clear(Object key) {
+    KeyedPool pool = pools.get(key);
+    if (pool == null) {
+      return;
+    }
+
+    destroyIdle(key, pool);
+    // Instances are only pushed while holding a slot, so none can be pushed once the pool is retired
+    if (pool.waiters.isEmpty() && pool.retire()) {
+      pools.remove(key, pool);
+      destroyIdle(key, pool);
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    closed = true;
+    clear();
+    for (KeyedPool pool : pools.values()) {
+      for (Waiter waiter : pool.waiters) {
+        LockSupport.unpark(waiter.thread);
+      }
+    }
+  }
+
+  @Override
+  public void setFactory(KeyedPoolableObjectFactory factory) throws IllegalStateException, UnsupportedOperationException {
+    clear();
+    this.factory = factory;
+  }
+
+  @Override
+  public int getMaxActive() {
+    return maxActive;
+  }
+
+  @Override
+  public void setMaxActive(int maxActive) {
+    this.maxActive = maxActive;
+    for (KeyedPool pool : pools.values()) {
+      signalWaiters(pool);
+    }
+  }
+
+  @Override
+  public int getMaxTotal() {
+    return maxTotal;
+  }
+
+  @Override
+  public void setMaxTotal(int maxTotal) {
+    this.maxTotal = maxTotal;
+  }
+
+  @Override
+  public long getMaxWait() {
+    return maxWait;
+  }
+
+  @Override
+  public void setMaxWait(long maxWait) {
+    this.maxWait = maxWait;
+  }
+
+  @Override
+  public int getMaxIdle() {
+    return maxIdle;
+  }
+
+  @Override
+  public void setMaxIdle(int maxIdle) {
+    this.maxIdle = maxIdle;
+  }
+
+  @Override
+  public byte getWhenExhaustedAction() {
+    return whenExhaustedAction;
+  }
+
+  @Override
+  public void setWhenExhaustedAction(byte whenExhaustedAction) {
+    if (whenExhaustedAction != WHEN_EXHAUSTED_FAIL && whenExhaustedAction != WHEN_EXHAUSTED_BLOCK
+        && whenExhaustedAction != WHEN_EXHAUSTED_GROW) {
+      throw new IllegalArgumentException("whenExhaustedAction " + whenExhaustedAction + " not recognized.");
+    }
+    this.whenExhaustedAction = whenExhaustedAction;
+  }
+
+  public boolean getTestOnBorrow() {
+    return testOnBorrow;
+  }
+
+  /**
+   * @param testOnBorrow whether instances taken from the idle stack are validated before being borrowed. Defaults to
+   *        {@code false}
+   */
+  public void setTestOnBorrow(boolean testOnBorrow) {
+    this.testOnBorrow = testOnBorrow;
+  }
+
+  public boolean getTestOnReturn() {
+    return testOnReturn;
+  }
+
+  /**
+   * @param testOnReturn whether returned instances are validated before going idle. Defaults to {@code true}
+   */
+  public void setTestOnReturn(boolean testOnReturn) {
+    this.testOnReturn = testOnReturn;
+  }
+
+  /**
+   * @return the histogram of how many microseconds each borrow took, including creating the instance if there was no idle one
+   */
+  public Histogram getBorrowWaitHistogram() {
+    return borrowWaitHistogram;
+  }
+
+  /**
+   * @return the histogram of how many instances of the borrowed key were active right after each borrow
+   */
+  public Histogram getUtilizationHistogram() {
+    return utilizationHistogram;
+  }
+
+  private KeyedPool getPool(Object key) {
+    return pools.computeIfAbsent(key, k -> new KeyedPool());
+  }
+
+  /**
+   * Reserves an active slot of the given pool, applying the exhausted action if there are none free.
+   *
+   * @return whether the slot was reserved, or {@code false} if the pool was retired and the borrow must be retried
+   */
+  private boolean reserve(KeyedPool pool, long start) throws Exception {
+    byte action = whenExhaustedAction;
+
+    // Do not overtake threads already waiting on this key
+    if (action != WHEN_EXHAUSTED_BLOCK || pool.waiters.isEmpty()) {
+      int reserved = pool.tryReserve(maxActive);
+      if (reserved == KeyedPool.RESERVED) {
+        return true;
+      } else if (reserved == KeyedPool.RETIRED) {
+        return false;
+      }
+    }
+
+    switch (action) {
+      case WHEN_EXHAUSTED_GROW:
+        return pool.forceReserve();
+      case WHEN_EXHAUSTED_FAIL:
+        throw new NoSuchElementException("Pool exhausted");
+      default:
+        return await(pool, start);
+    }
+  }
+
+  private boolean await(KeyedPool pool, long start) throws Exception {
+    Waiter waiter = new Waiter();
+    pool.waiters.add(waiter);
+
+    // A slot may have been released before this thread was queued
+    int reserved = pool.tryReserve(maxActive);
+    if (reserved == KeyedPool.RESERVED) {
+      if (!waiter.cancel(pool)) {
+        // Was also granted a slot meanwhile, only one is needed
+        release(pool);
+      }
+      return true;
+    }
+
+    while (!waiter.isGranted()) {
+      if (closed || pool.isRetired()) {
+        if (waiter.cancel(pool)) {
+          if (closed) {
+            throw new IllegalStateException("Pool not open");
+          }
+          return false;
+        }
+        break;
+      }
+
+      long remaining = maxWait > 0 ? MILLISECONDS.toNanos(maxWait) - (System.nanoTime() - start) : PARK_SLICE_NANOS;
+      if (remaining <= 0) {
+        if (waiter.cancel(pool)) {
+          throw new NoSuchElementException("Timeout waiting for idle object");
+        }
+        break;
+      }
+
+      LockSupport.parkNanos(this, Math.min(remaining, PARK_SLICE_NANOS));
+      if (Thread.interrupted()) {
+        if (!waiter.cancel(pool)) {
+          release(pool);
+        }
+        throw new InterruptedException();
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Gets an idle instance of the key or else creates a new one, while holding an active slot of its pool
+   */
+  private Object takeOrCreate(Object key, KeyedPool pool, long start) throws Exception {
+    while (true) {
+      Object instance = pool.popIdle();
+      if (instance != null) {
+        if (activate(key, instance) && (!testOnBorrow || validate(key, instance))) {
+          return instance;
+        }
+        destroy(key, instance);
+        continue;
+      }
+
+      if (!reserveInstance(key)) {
+        switch (whenExhaustedAction) {
+          case WHEN_EXHAUSTED_GROW:
+            totalInstances.incrementAndGet();
+            break;
+          case WHEN_EXHAUSTED_FAIL:
+            throw new NoSuchElementException("Pool exhausted");
+          default:
+            long elapsed = System.nanoTime() - start;
+            if (maxWait > 0 && elapsed >= MILLISECONDS.toNanos(maxWait)) {
+              throw new NoSuchElementException("Timeout waiting for idle object");
+            }
+            // Instances of other keys are not tracked, so poll until one of them goes away
+            LockSupport.parkNanos(this, PARK_SLICE_NANOS);
+            if (Thread.interrupted()) {
+              throw new InterruptedException();
+            }
+            continue;
+        }
+      }
+
+      Object created = make(key);
+      try {
+        factory.activateObject(key, created);
+      } catch (Exception e) {
+        destroy(key, created);
+        throw e;
+      }
+      return created;
+    }
+  }
+
+  /**
+   * Counts a new instance against {@link #getMaxTotal()}, destroying the oldest idle instance of another key to make room if
+   * needed.
+   */
+  private boolean reserveInstance(Object key) {
+    while (true) {
+      int total = totalInstances.get();
+      int limit = maxTotal;
+      if (limit < 0 || total < limit) {
+        if (totalInstances.compareAndSet(total, total + 1)) {
+          return true;
+        }
+        continue;
+      }
+
+      if (!evictIdle(key)) {
+        return false;
+      }
+    }
+  }
+
+  private boolean evictIdle(Object requestingKey) {
+    for (Map.Entry<Object, KeyedPool> entry : pools.entrySet()) {
+      if (entry.getKey().equals(requestingKey)) {
+        continue;
+      }
+      Object instance = entry.getValue().pollOldestIdle();
+      if (instance != null) {
+        destroy(entry.getKey(), instance);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Creates an instance which was already counted against {@link #getMaxTotal()}
+   */
+  private Object make(Object key) throws Exception {
+    try {
+      if (factory == null) {
+        throw new IllegalStateException("No keyed poolable object factory specified");
+      }
+      return factory.makeObject(key);
+    } catch (Exception e) {
+      totalInstances.decrementAndGet();
+      throw e;
+    }
+  }
+
+  private boolean activate(Object key, Object instance) {
+    try {
+      factory.activateObject(key, instance);
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private boolean validate(Object key, Object instance) {
+    try {
+      return factory.validateObject(key, instance);
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private void destroy(Object key, Object instance) {
+    totalInstances.decrementAndGet();
+    try {
+      factory.destroyObject(key, instance);
+    } catch (Exception e) {
+      logger.warn("Could not destroy pooled instance for key " + key, e);
+    }
+  }
+
+  private void destroyIdle(Object key, KeyedPool pool) {
+    Object instance;
+    while ((instance = pool.popIdle()) != null) {
+      destroy(key, instance);
+    }
+  }
+
+  /**
+   * Releases an active slot of the given pool, handing it over to the first thread waiting on it, if any
+   */
+  private void release(KeyedPool pool) {
+    if (pool.grantNext()) {
+      return;
+    }
+    pool.releaseSlot();
+    signalWaiters(pool);
+  }
+
+  /**
+   * Grants the free slots of the pool to its waiting threads. Covers a thread which queued itself after the pool was found to
+   * have no waiters, but checked for a free slot before it was released.
+   */
+  private void signalWaiters(KeyedPool pool) {
+    while (!pool.waiters.isEmpty() && pool.tryReserve(maxActive) == KeyedPool.RESERVED) {
+      if (!pool.grantNext()) {
+        pool.releaseSlot();
+      }
+    }
+  }
+
+  private void assertOpen() {
+    if (closed) {
+      throw new IllegalStateException("Pool not open");
+    }
+  }
+
+  private final class KeyedPool {
+
+    static final int RESERVED = 0;
+    static final int EXHAUSTED = 1;
+    static final int RETIRED = 2;
+
+    final ConcurrentLinkedDeque<Object> idle = new ConcurrentLinkedDeque<>();
+    final AtomicInteger idleCount = new AtomicInteger();
+    // Active slots, including the ones reserved to create an instance. Negative once retired
+    final AtomicInteger active = new AtomicInteger();
+    final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    int tryReserve(int max) {
+      while (true) {
+        int current = active.get();
+        if (current < 0) {
+          return RETIRED;
+        }
+        if (max >= 0 && current >= max) {
+          return EXHAUSTED;
+        }
+        if (active.compareAndSet(current, current + 1)) {
+          return RESERVED;
+        }
+      }
+    }
+
+    boolean forceReserve() {
+      return tryReserve(-1) == RESERVED;
+    }
+
+    void releaseSlot() {
+      // Never goes below 0, even if an instance which was not borrowed is returned
+      int current;
+      do {
+        current = active.get();
+      } while (current > 0 && !active.compareAndSet(current, current - 1));
+    }
+
+    boolean retire() {
+      return active.compareAndSet(0, -1);
+    }
+
+    boolean isRetired() {
+      return active.get() < 0;
+    }
+
+    boolean grantNext() {
+      Waiter waiter;
+      while ((waiter = waiters.poll()) != null) {
+        if (waiter.grant()) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    void pushIdle(Object instance) {
+      idleCount.incrementAndGet();
+      totalIdle.incrementAndGet();
+      idle.addFirst(instance);
+    }
+
+    Object popIdle() {
+      return counted(idle.pollFirst());
+    }
+
+    Object pollOldestIdle() {
+      return counted(idle.pollLast());
+    }
+
+    private Object counted(Object instance) {
+      if (instance != null) {
+        idleCount.decrementAndGet();
+        totalIdle.decrementAndGet();
+      }
+      return instance;
+    }
+  }
+
+  private static final class Waiter {
+
+    static final int WAITING = 0;
+    static final int GRANTED = 1;
+    static final int CANCELLED = 2;
+
+    final Thread thread = Thread.currentThread();
+    final AtomicInteger state = new AtomicInteger(WAITING);
+
+    boolean grant() {
+      if (state.compareAndSet(WAITING, GRANTED)) {
+        LockSupport.unpark(thread);
+        return true;
+      }
+      return false;
+    }
+
+    boolean isGranted() {
+      return state.get() == GRANTED;
+    }
+
+    /**
+     * @return whether the waiter was cancelled, or {@code false} if it had already been granted a slot
+     */
+    boolean cancel(KeyedPool pool) {
+      if (state.compareAndSet(WAITING, CANCELLED)) {
+        pool.waiters.remove(this);
+        return true;
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.compatibility.core.transport;
+
+/**
+ * Implements {@link org.mule.compatibility.core.transport.ConfigurableKeyedObjectPoolFactory} creating instances of
+ * {@link ConcurrentKeyedObjectPool}. This is the dispatcher pool factory used by connectors unless another one is configured.
+ *
+ * @since 4.0
+ */
+public class ConcurrentKeyedObjectPoolFactory implements ConfigurableKeyedObjectPoolFactory {
+
+  @Override
+  public ConfigurableKeyedObjectPool createObjectPool() {
+    return new ConcurrentKeyedObjectPool();
+  }
+}
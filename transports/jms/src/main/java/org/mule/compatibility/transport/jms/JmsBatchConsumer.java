@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.compatibility.transport.jms;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import org.mule.compatibility.core.api.endpoint.ImmutableEndpoint;
+import org.mule.runtime.core.api.transaction.TransactionConfig;
+import org.mule.runtime.core.api.transaction.TransactionFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.Session;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Consumes messages from a {@link MessageConsumer} in batches and completes each batch as a single unit, committing the session
+ * if it is transacted or acknowledging the last message of the batch if it uses {@link Session#CLIENT_ACKNOWLEDGE}.
+ * <p>
+ * A batch is closed once it holds {@code batchSize} messages or {@code batchTimeout} milliseconds after its first message was
+ * received, whichever comes first. Messages which the provider has already prefetched are still added to a batch after its
+ * timeout, as long as it is not full. The receiving loop runs as a task of the given {@link Executor}, typically the receiver
+ * {@link org.mule.runtime.core.api.context.WorkManager} of the connector, on which the messages of each batch are also handled
+ * concurrently.
+ * <p>
+ * If any message of a batch fails, the whole batch is rolled back, or recovered, and thus redelivered. So that a single failing
+ * message does not keep a whole batch from completing, the redelivered messages are then handled and completed one at a time,
+ * which lets the redelivery handler of the connector account for each of them. Batching resumes once they have been completed.
+ * <p>
+ * Only the thread of this consumer uses the session, as JMS requires.
+ *
+ * @since 4.0
+ */
+public class JmsBatchConsumer implements Runnable {
+
+  private static final Logger logger = LoggerFactory.getLogger(JmsBatchConsumer.class);
+
+  private static final long POLL_TIMEOUT = 1000;
+
+  /**
+   * Handles each of the messages of a batch
+   */
+  public interface BatchMessageHandler {
+
+    /**
+     * Handles a message. Might be invoked concurrently for the messages of the same batch.
+     *
+     * @param message the message to handle
+     * @throws Exception if the message should be redelivered, which rolls back its whole batch
+     */
+    void handle(Message message) throws Exception;
+  }
+
+  private final Session session;
+  private final MessageConsumer consumer;
+  private final int batchSize;
+  private final long batchTimeout;
+  private final Executor executor;
+  private final BatchMessageHandler handler;
+  private final String name;
+
+  private volatile boolean running = false;
+  private volatile Thread loopThread;
+  private CountDownLatch loopFinished;
+  private int pendingIndividually = 0;
+
+  /**
+   * Creates a new instance
+   *
+   * @param session the session to complete batches on
+   * @param consumer the consumer to receive messages from. It must not have a message listener
+   * @param batchSize the maximum amount of messages per batch
+   * @param batchTimeout how many milliseconds to wait for a batch to fill up after its first message was received
+   * @param executor the {@link Executor} on which the receiving loop runs and the messages of each batch are handled
+   * @param handler the {@link BatchMessageHandler} which handles each message
+   * @param name the name which identifies this consumer in the logs
+   */
+  public JmsBatchConsumer(Session session, MessageConsumer consumer, int batchSize, long batchTimeout,
+                          Executor executor, BatchMessageHandler handler, String name) {
+    this.session = session;
+    this.consumer = consumer;
+    this.batchSize = batchSize;
+    this.batchTimeout = batchTimeout;
+    this.executor = executor;
+    this.handler = handler;
+    this.name = name;
+  }
+
+  /**
+   * Batches can only be completed as a unit if the session is transacted or uses {@link Session#CLIENT_ACKNOWLEDGE}, since
+   * otherwise each message is acknowledged as soon as it is received. Besides, the endpoint must not take part in transactions
+   * other than the ones local to the JMS session, as those cannot span the messages of a batch.
+   *
+   * @param endpoint the endpoint on which messages are received
+   * @param session the session on which messages are received
+   * @return whether a {@link JmsBatchConsumer} can be used on the given session
+   * @throws JMSException if the session cannot be inspected
+   */
+  public static boolean supports(ImmutableEndpoint endpoint, Session session) throws JMSException {
+    TransactionConfig transactionConfig = endpoint.getTransactionConfig();
+    if (transactionConfig != null && transactionConfig.isTransacted()) {
+      TransactionFactory factory = transactionConfig.getFactory();
+      if (!(factory instanceof JmsTransactionFactory || factory instanceof JmsClientAcknowledgeTransactionFactory)) {
+        return false;
+      }
+    }
+
+    return session.getTransacted() || session.getAcknowledgeMode() == Session.CLIENT_ACKNOWLEDGE;
+  }
+
+  /**
+   * Starts receiving messages on a task of the {@link Executor}
+   *
+   * @throws RejectedExecutionException if the {@link Executor} cannot run the receiving loop
+   */
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+
+    running = true;
+    loopFinished = new CountDownLatch(1);
+    try {
+      executor.execute(this);
+    } catch (RuntimeException e) {
+      running = false;
+      loopFinished = null;
+      throw e;
+    }
+  }
+
+  /**
+   * Stops receiving messages and waits a bounded time for the batch in progress, if any, to complete. A batch which does not
+   * complete on time is redelivered once the session is closed.
+   */
+  public synchronized void stop() {
+    running = false;
+    if (loopFinished != null && loopThread != Thread.currentThread()) {
+      try {
+        if (!loopFinished.await(POLL_TIMEOUT + batchTimeout, MILLISECONDS)) {
+          logger.warn("Batch in progress on " + name + " did not complete on time, it will be redelivered");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    loopFinished = null;
+  }
+
+  /**
+   * @return whether this consumer is receiving messages
+   */
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public void run() {
+    final CountDownLatch finished = loopFinished;
+    loopThread = Thread.currentThread();
+    try {
+      loop();
+    } finally {
+      loopThread = null;
+      if (finished != null) {
+        finished.countDown();
+      }
+    }
+  }
+
+  private void loop() {
+    while (running) {
+      try {
+        consumeBatch();
+      } catch (JMSException e) {
+        if (!running) {
+          break;
+        }
+        logger.warn("Could not consume batch on " + name + ". Will retry: " + e.getMessage());
+        if (logger.isDebugEnabled()) {
+          logger.debug("Batch consumption failure", e);
+        }
+        try {
+          Thread.sleep(POLL_TIMEOUT);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Receives and handles one batch, waiting at most one second for its first message
+   *
+   * @return how many messages the batch had
+   * @throws JMSException if the batch could not be received, completed or rolled back
+   */
+  int consumeBatch() throws JMSException {
+    List<Message> batch = receive(pendingIndividually > 0 ? 1 : batchSize);
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    if (handle(batch)) {
+      complete(batch);
+      if (pendingIndividually > 0) {
+        pendingIndividually--;
+      }
+    } else {
+      rollback();
+      pendingIndividually = Math.max(pendingIndividually, batch.size());
+    }
+
+    return batch.size();
+  }
+
+  private List<Message> receive(int max) throws JMSException {
+    List<Message> batch = new ArrayList<>(max);
+
+    Message message = consumer.receive(POLL_TIMEOUT);
+    if (message == null) {
+      return batch;
+    }
+    batch.add(message);
+
+    long deadline = System.currentTimeMillis() + batchTimeout;
+    while (batch.size() < max) {
+      long remaining = deadline - System.currentTimeMillis();
+      // Once the timeout elapsed, only take what the provider has already prefetched
+      message = remaining > 0 ? consumer.receive(remaining) : consumer.receiveNoWait();
+      if (message == null) {
+        break;
+      }
+      batch.add(message);
+    }
+
+    return batch;
+  }
+
+  private boolean handle(List<Message> batch) {
+    if (batch.size() == 1) {
+      return handle(batch.get(0));
+    }
+
+    final AtomicBoolean succeeded = new AtomicBoolean(true);
+    final CountDownLatch done = new CountDownLatch(batch.size());
+
+    for (final Message message : batch) {
+      Runnable task = () -> {
+        try {
+          if (!handle(message)) {
+            succeeded.set(false);
+          }
+        } finally {
+          done.countDown();
+        }
+      };
+
+      try {
+        executor.execute(task);
+      } catch (RejectedExecutionException | IllegalStateException e) {
+        // Handle it on this thread rather than lose it
+        task.run();
+      }
+    }
+
+    try {
+      done.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+    return succeeded.get();
+  }
+
+  private boolean handle(Message message) {
+    try {
+      handler.handle(message);
+      return true;
+    } catch (Exception e) {
+      if (logger.isDebugEnabled()) {
+        logger.debug("Message of batch on " + name + " failed, the batch will be redelivered", e);
+      }
+      return false;
+    }
+  }
+
+  private void complete(List<Message> batch) throws JMSException {
+    if (session.getTransacted()) {
+      session.commit();
+    } else {
+      // Acknowledging a message acknowledges every message consumed by the session
+      batch.get(batch.size() - 1).acknowledge();
+    }
+  }
+
+  private void rollback() throws JMSException {
+    if (session.getTransacted()) {
+      session.rollback();
+    } else {
+      session.recover();
+    }
+  }
+}
@@ -42,11 +42,14 @@ import org.mule.runtime.core.routing.MessageFilter;
 import org.mule.runtime.core.transaction.TransactionCoordination;
 import org.mule.runtime.core.util.BeanUtils;
 import org.mule.runtime.core.util.concurrent.ThreadNameHelper;
+import org.mule.runtime.core.util.timer.HashedWheelTimer;
+import org.mule.runtime.core.util.timer.HashedWheelTimer.Timeout;
 
 import java.text.MessageFormat;
 import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.jms.Connection;
@@ -101,6 +104,16 @@ public class JmsConnector extends AbstractConnector implements ExceptionListener
 
   private boolean cacheJmsSessions = true;
 
+  /**
+   * How many messages each consumer receives and acknowledges, or commits, as a single unit. Batching is disabled by default.
+   */
+  private int receiveBatchSize = 1;
+
+  /**
+   * How many milliseconds a consumer waits for a batch to fill up after its first message was received.
+   */
+  private long receiveBatchTimeout = 100;
+
   /**
    * Whether to create a consumer on connect.
    */
@@ -168,6 +181,12 @@ public class JmsConnector extends AbstractConnector implements ExceptionListener
    */
   private boolean returnOriginalMessageAsReply = false;
 
+  /**
+   * determines whether request/response calls using temporary JMSReplyTo destinations share a single reply-to queue and consumer
+   * per dispatcher, matching responses by JMSCorrelationID, instead of creating them per request
+   */
+  private boolean sharedReplyToConsumer = false;
+
   /**
    * In-container embedded mode disables some features for strict Java EE compliance.
    */
@@ -189,6 +208,8 @@ public class JmsConnector extends AbstractConnector implements ExceptionListener
 
   private Timer responseTimeoutTimer;
 
+  private HashedWheelTimer responseTimeoutWheel;
+
   ////////////////////////////////////////////////////////////////////////
   // Methods
   ////////////////////////////////////////////////////////////////////////
@@ -210,7 +231,7 @@ public class JmsConnector extends AbstractConnector implements ExceptionListener
 
   @Override
   protected void doInitialise() throws InitialisationException {
-    responseTimeoutTimer = new Timer(ThreadNameHelper.getPrefix(muleContext) + name + ".ResponseTimeoutTimer");
+    responseTimeoutWheel = new HashedWheelTimer(ThreadNameHelper.getPrefix(muleContext) + name + ".ResponseTimeoutWheel");
     if (jmsSupport == null) {
       jmsSupport = createJmsSupport();
     }
@@ -346,7 +367,13 @@ public class JmsConnector extends AbstractConnector implements ExceptionListener
     if (jndiNameResolver != null) {
       jndiNameResolver.dispose();
     }
-    responseTimeoutTimer.cancel();
+    responseTimeoutWheel.stop();
+    synchronized (this) {
+      if (responseTimeoutTimer != null) {
+        responseTimeoutTimer.cancel();
+        responseTimeoutTimer = null;
+      }
+    }
   }
 
   protected Object lookupFromJndi(String jndiName) throws NamingException {
@@ -925,6 +952,22 @@ public class JmsConnector extends AbstractConnector implements ExceptionListener
     this.maxRedelivery = maxRedelivery;
   }
 
+  public int getReceiveBatchSize() {
+    return receiveBatchSize;
+  }
+
+  public void setReceiveBatchSize(int receiveBatchSize) {
+    this.receiveBatchSize = receiveBatchSize;
+  }
+
+  public long getReceiveBatchTimeout() {
+    return receiveBatchTimeout;
+  }
+
+  public void setReceiveBatchTimeout(long receiveBatchTimeout) {
+    this.receiveBatchTimeout = receiveBatchTimeout;
+  }
+
   @Override
   public boolean isResponseEnabled() {
     return true;
@@ -1124,6 +1167,14 @@ public class JmsConnector extends AbstractConnector implements ExceptionListener
     this.returnOriginalMessageAsReply = returnOriginalMessageAsReply;
   }
 
+  public boolean isSharedReplyToConsumer() {
+    return sharedReplyToConsumer;
+  }
+
+  public void setSharedReplyToConsumer(boolean sharedReplyToConsumer) {
+    this.sharedReplyToConsumer = sharedReplyToConsumer;
+  }
+
   /**
    * @return Returns underlying connection factory properties.
    */
@@ -1207,8 +1258,28 @@ public class JmsConnector extends AbstractConnector implements ExceptionListener
    *
    * @param timerTask task to be executed on timeout
    * @param timeout the number of milliseconds after which the timeout task should be executed
+   * @deprecated use {@link #scheduleTimeout(Runnable, long)} instead, which does not need a lock per scheduled task
    */
+  @Deprecated
   public void scheduleTimeoutTask(TimerTask timerTask, int timeout) {
-    responseTimeoutTimer.schedule(timerTask, timeout);
+    synchronized (this) {
+      if (responseTimeoutTimer == null) {
+        responseTimeoutTimer = new Timer(ThreadNameHelper.getPrefix(muleContext) + name + ".ResponseTimeoutTimer");
+      }
+      responseTimeoutTimer.schedule(timerTask, timeout);
+    }
+  }
+
+  /**
+   * Schedules a timeout task used for performing timeout of async responses. All the tasks of this connector are held on a
+   * single {@link HashedWheelTimer}, so they can be scheduled and cancelled cheaply and are run with a resolution of 100
+   * milliseconds.
+   *
+   * @param task task to be executed on timeout
+   * @param timeout the number of milliseconds after which the timeout task should be executed
+   * @return a {@link Timeout} which allows to cancel the task
+   */
+  public Timeout scheduleTimeout(Runnable task, long timeout) {
+    return responseTimeoutWheel.newTimeout(task, timeout, TimeUnit.MILLISECONDS);
   }
 }
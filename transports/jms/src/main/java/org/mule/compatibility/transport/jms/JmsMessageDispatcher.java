@@ -30,9 +30,12 @@ import org.mule.runtime.core.transaction.TransactionCoordination;
 import org.mule.runtime.core.util.ClassUtils;
 import org.mule.runtime.core.util.concurrent.Latch;
 import org.mule.runtime.core.util.concurrent.WaitableBoolean;
+import org.mule.runtime.core.util.timer.HashedWheelTimer.Timeout;
 
-import java.util.TimerTask;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.jms.DeliveryMode;
 import javax.jms.Destination;
@@ -55,6 +58,7 @@ public class JmsMessageDispatcher extends AbstractMessageDispatcher {
   private JmsConnector connector;
   private boolean disableTemporaryDestinations = false;
   private boolean returnOriginalMessageAsReply = false;
+  private ReplyToMultiplexer replyToMultiplexer;
 
   public JmsMessageDispatcher(OutboundEndpoint endpoint) {
     super(endpoint);
@@ -85,7 +89,7 @@ public class JmsMessageDispatcher extends AbstractMessageDispatcher {
 
   @Override
   protected void doDisconnect() throws Exception {
-    // template method
+    closeReplyToMultiplexer();
   }
 
   protected boolean isDisableTemporaryDestinations() {
@@ -142,7 +146,9 @@ public class JmsMessageDispatcher extends AbstractMessageDispatcher {
       session = connector.getTransactionalResource(endpoint);
       producer = createProducer(session, topic);
 
-      final Destination replyTo = getReplyToDestination(jmsMessage, session, event, useReplyToDestination, topic);
+      final ReplyToMultiplexer multiplexer = useReplyToDestination ? getReplyToMultiplexer(jmsMessage, event) : null;
+      Destination replyTo = multiplexer != null ? multiplexer.getReplyTo()
+          : getReplyToDestination(jmsMessage, session, event, useReplyToDestination, topic);
 
       // Set the replyTo property
       if (replyTo != null) {
@@ -155,6 +161,19 @@ public class JmsMessageDispatcher extends AbstractMessageDispatcher {
       // Allow overrides to alter the message if necessary
       processMessage(jmsMessage, event);
 
+      if (multiplexer != null) {
+        final String correlationId = jmsMessage.getJMSCorrelationID();
+        final CompletableFuture<Message> response = correlationId != null ? multiplexer.register(correlationId) : null;
+        if (response != null) {
+          return multiplexedSendAndReceive(multiplexer, correlationId, response, producer, jmsMessage, topic, ttl, priority,
+                                           persistent, endpoint.getResponseTimeout(), completionHandler);
+        }
+
+        // Without a correlation id, or with one already waiting, the response needs a destination of its own
+        replyTo = getReplyToDestination(jmsMessage, session, event, useReplyToDestination, topic);
+        jmsMessage.setJMSReplyTo(replyTo);
+      }
+
       if (useReplyToDestination && replyTo != null) {
         final MessageConsumer consumer = createReplyToConsumer(jmsMessage, event, session, replyTo, topic);
         final int timeout = endpoint.getResponseTimeout();
@@ -238,27 +257,30 @@ public class JmsMessageDispatcher extends AbstractMessageDispatcher {
                                                  final boolean transacted, int timeout,
                                                  final CompletionHandler<MuleMessage, Exception, Void> completionHandler)
       throws JMSException {
-    final TimerTask closeConsumerTask = new TimerTask() {
-
-      @Override
-      public void run() {
-        try {
-          completionHandler.onCompletion(createMuleMessage(null), (exception -> {
-            return null;
-          }));
-        } catch (MuleException e) {
-          completionHandler.onFailure(e);
-        } finally {
-          cleanup(producer, session, consumer, replyTo);
-        }
+    // Whichever of the response and the timeout comes first completes the exchange
+    final AtomicBoolean completed = new AtomicBoolean(false);
+    final Runnable closeConsumerTask = () -> {
+      if (!completed.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        completionHandler.onCompletion(createMuleMessage(null), (exception -> {
+          return null;
+        }));
+      } catch (MuleException e) {
+        completionHandler.onFailure(e);
+      } finally {
+        cleanup(producer, session, consumer, replyTo);
       }
     };
     consumer.setMessageListener(new CompletionHandlerReplyToListener(new CompletionHandler<Message, Exception, Void>() {
 
       @Override
       public void onCompletion(Message result, ExceptionCallback<Void, Exception> exceptionCallback) {
+        if (!completed.compareAndSet(false, true)) {
+          return;
+        }
         try {
-          closeConsumerTask.cancel();
           completionHandler.onCompletion(createResponseMuleMessage(result, replyTo), exceptionCallback);
         } catch (Exception e) {
           completionHandler.onFailure(e);
@@ -269,6 +291,9 @@ public class JmsMessageDispatcher extends AbstractMessageDispatcher {
 
       @Override
       public void onFailure(Exception exception) {
+        if (!completed.compareAndSet(false, true)) {
+          return;
+        }
         try {
           completionHandler.onFailure(exception);
         } finally {
@@ -278,7 +303,55 @@ public class JmsMessageDispatcher extends AbstractMessageDispatcher {
 
     }));
     connector.getJmsSupport().send(producer, jmsMessage, persistent, priority, ttl, topic, endpoint);
-    connector.scheduleTimeoutTask(closeConsumerTask, endpoint.getResponseTimeout());
+    connector.scheduleTimeout(closeConsumerTask, timeout);
+  }
+
+  private MuleMessage multiplexedSendAndReceive(final ReplyToMultiplexer multiplexer, final String correlationId,
+                                                final CompletableFuture<Message> response, MessageProducer producer,
+                                                Message jmsMessage, boolean topic, long ttl, int priority, boolean persistent,
+                                                int timeout, final CompletionHandler<MuleMessage, Exception, Void> completionHandler)
+      throws Exception {
+    final Destination replyTo = multiplexer.getReplyTo();
+    try {
+      connector.getJmsSupport().send(producer, jmsMessage, persistent, priority, ttl, topic, endpoint);
+    } catch (Exception e) {
+      multiplexer.unregister(correlationId);
+      throw e;
+    }
+
+    if (logger.isDebugEnabled()) {
+      logger.debug("Waiting for response event with JMSCorrelationID " + correlationId + " for: " + timeout + " ms on " + replyTo);
+    }
+
+    if (completionHandler == null) {
+      return createResponseMuleMessage(multiplexer.await(correlationId, response, timeout), replyTo);
+    }
+
+    final Timeout responseTimeout = connector.scheduleTimeout(() -> {
+      multiplexer.unregister(correlationId);
+      response.cancel(false);
+    }, timeout);
+
+    response.whenComplete((result, failure) -> {
+      responseTimeout.cancel();
+      try {
+        if (failure instanceof CancellationException) {
+          completionHandler.onCompletion(createMuleMessage(null), (exception -> {
+            return null;
+          }));
+        } else if (failure != null) {
+          completionHandler.onFailure(failure instanceof Exception ? (Exception) failure : new Exception(failure));
+        } else {
+          completionHandler.onCompletion(createResponseMuleMessage(result, replyTo), (exception -> {
+            // TODO MULE-9629
+            return null;
+          }));
+        }
+      } catch (Exception e) {
+        completionHandler.onFailure(e);
+      }
+    });
+    return null;
   }
 
   private void cleanup(MessageProducer producer, Session session, MessageConsumer consumer, Destination replyTo) {
@@ -400,7 +473,40 @@ public class JmsMessageDispatcher extends AbstractMessageDispatcher {
 
   @Override
   protected void doDispose() {
-    // template method
+    closeReplyToMultiplexer();
+  }
+
+  /**
+   * Returns the {@link ReplyToMultiplexer} through which the response to the given message should be received, creating it if
+   * needed. It is only used when {@link JmsConnector#isSharedReplyToConsumer()} is enabled and the response would otherwise go
+   * to a new temporary destination, that is, when no explicit reply-to is set on the message.
+   *
+   * @param message The JMS message that will be sent
+   * @param event the current event
+   * @return the multiplexer to use, or {@code null} if the response should be received on a reply-to destination of its own
+   */
+  protected ReplyToMultiplexer getReplyToMultiplexer(Message message, MuleEvent event) throws JMSException {
+    if (!connector.isSharedReplyToConsumer() || disableTemporaryDestinations || !isHandleReplyTo(message, event)) {
+      return null;
+    }
+    if (event.getMessage().getOutboundProperty(JmsConstants.JMS_REPLY_TO) != null
+        || event.getMessage().getOutboundProperty(MULE_REPLY_TO_PROPERTY) != null) {
+      return null;
+    }
+
+    synchronized (this) {
+      if (replyToMultiplexer == null || replyToMultiplexer.isClosed()) {
+        replyToMultiplexer = new ReplyToMultiplexer(connector, endpoint);
+      }
+      return replyToMultiplexer;
+    }
+  }
+
+  private synchronized void closeReplyToMultiplexer() {
+    if (replyToMultiplexer != null) {
+      replyToMultiplexer.close();
+      replyToMultiplexer = null;
+    }
   }
 
   /**
@@ -14,6 +14,7 @@ import org.mule.compatibility.core.transport.AbstractMessageReceiver;
 import org.mule.compatibility.core.transport.AbstractReceiverWorker;
 import org.mule.compatibility.transport.jms.filters.JmsSelectorFilter;
 import org.mule.compatibility.transport.jms.reconnect.ReconnectWorkManager;
+import org.mule.compatibility.transport.jms.redelivery.MessageRedeliveredException;
 import org.mule.compatibility.transport.jms.redelivery.RedeliveryHandler;
 import org.mule.runtime.core.api.DefaultMuleException;
 import org.mule.runtime.core.exception.MessagingException;
@@ -49,6 +50,9 @@ import org.slf4j.LoggerFactory;
  * In Mule an endpoint corresponds to a single receiver. It's up to the receiver to do multithreaded consumption and resource
  * allocation, if needed. This class honors the <code>numberOfConcurrentTransactedReceivers</code> strictly and will create
  * exactly this number of consumers.
+ * <p>
+ * If the connector has a <code>receiveBatchSize</code> greater than one, each consumer receives messages in batches through a
+ * {@link JmsBatchConsumer}, as long as its session allows to complete a batch as a single unit.
  */
 public class MultiConsumerJmsMessageReceiver extends AbstractMessageReceiver {
 
@@ -207,12 +211,42 @@ public class MultiConsumerJmsMessageReceiver extends AbstractMessageReceiver {
     return !this.isTopic;
   }
 
+  /**
+   * Processes a message which was received as part of a batch. Unlike {@link JmsWorker}, no transaction is started for it, since
+   * its batch is committed or acknowledged as a whole once all its messages have been processed.
+   *
+   * @param message the received message
+   * @throws Exception if the message should be redelivered, along with the rest of its batch
+   */
+  protected void processBatchMessage(Message message) throws Exception {
+    try {
+      if (message.getJMSRedelivered()) {
+        RedeliveryHandler redeliveryHandler = jmsConnector.getRedeliveryHandlerFactory().create();
+        redeliveryHandler.setConnector(jmsConnector);
+        redeliveryHandler.handleRedelivery(message, getEndpoint(), getFlowConstruct());
+      }
+      routeMessage(createMuleMessage(message, getEndpoint().getEncoding()));
+    } catch (MessageRedeliveredException e) {
+      // The message exhausted its redeliveries, so it is handed to the flow and consumed along with its batch
+      getFlowConstruct().getExceptionListener().handleException(e, e.getEvent());
+    } catch (MessagingException e) {
+      // Already handled by the flow
+      if (e.causedRollback()) {
+        throw e;
+      }
+    } catch (Exception e) {
+      getEndpoint().getMuleContext().getExceptionListener().handleException(e);
+      throw e;
+    }
+  }
+
   protected class SubReceiver implements MessageListener {
 
     private final Logger subLogger = LoggerFactory.getLogger(getClass());
 
     private volatile Session session;
     private volatile MessageConsumer consumer;
+    private volatile JmsBatchConsumer batchConsumer;
 
     protected volatile boolean connected;
     protected volatile boolean started;
@@ -263,9 +297,19 @@ public class MultiConsumerJmsMessageReceiver extends AbstractMessageReceiver {
       }
 
       try {
-        MessageListener currentMessageListener = consumer.getMessageListener();
-        if (currentMessageListener == null || currentMessageListener != this) {
-          consumer.setMessageListener(this);
+        if (jmsConnector.getReceiveBatchSize() > 1 && JmsBatchConsumer.supports(endpoint, session)) {
+          if (batchConsumer == null) {
+            batchConsumer = new JmsBatchConsumer(session, consumer, jmsConnector.getReceiveBatchSize(),
+                                                 jmsConnector.getReceiveBatchTimeout(), getWorkManager(),
+                                                 MultiConsumerJmsMessageReceiver.this::processBatchMessage,
+                                                 jmsConnector.getName() + ".batchConsumer." + consumers.indexOf(this));
+          }
+          batchConsumer.start();
+        } else {
+          MessageListener currentMessageListener = consumer.getMessageListener();
+          if (currentMessageListener == null || currentMessageListener != this) {
+            consumer.setMessageListener(this);
+          }
         }
         started = true;
       } catch (JMSException e) {
@@ -282,7 +326,11 @@ public class MultiConsumerJmsMessageReceiver extends AbstractMessageReceiver {
     protected void doStop(boolean force) throws MuleException {
       subLogger.debug("SUB doStop()");
 
-      if (consumer != null) {
+      if (batchConsumer != null) {
+        batchConsumer.stop();
+        batchConsumer = null;
+        started = false;
+      } else if (consumer != null) {
         try {
           consumer.setMessageListener(null);
           started = false;
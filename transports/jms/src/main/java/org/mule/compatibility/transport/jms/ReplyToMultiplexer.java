@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.compatibility.transport.jms;
+
+import org.mule.compatibility.core.api.endpoint.ImmutableEndpoint;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageListener;
+import javax.jms.Session;
+import javax.jms.TemporaryQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Receives the responses to many request-response exchanges through a single temporary queue and consumer, and hands each of
+ * them to the exchange it belongs to by matching its JMSCorrelationID.
+ * <p>
+ * This saves creating and closing a session, a temporary destination and a consumer per request. In exchange, the correlation
+ * ids of the requests which are waiting for a response at any given time must be unique, which {@link #register(String)}
+ * enforces.
+ * <p>
+ * The session of the multiplexer is only used by its consumer, which delivers the responses asynchronously, so instances are
+ * thread-safe.
+ *
+ * @since 4.0
+ */
+public class ReplyToMultiplexer implements MessageListener {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReplyToMultiplexer.class);
+
+  private final JmsConnector connector;
+  private final Session session;
+  private final TemporaryQueue replyTo;
+  private final MessageConsumer consumer;
+  private final ConcurrentMap<String, CompletableFuture<Message>> pending = new ConcurrentHashMap<>();
+  private volatile boolean closed = false;
+
+  /**
+   * Creates a new multiplexer, with its own session, temporary queue and consumer
+   *
+   * @param connector the {@link JmsConnector} which connection is used
+   * @param endpoint the endpoint on which the requests are sent
+   * @throws JMSException if the session, destination or consumer cannot be created
+   */
+  public ReplyToMultiplexer(JmsConnector connector, ImmutableEndpoint endpoint) throws JMSException {
+    this.connector = connector;
+    final JmsSupport jmsSupport = connector.getJmsSupport();
+
+    Session session = null;
+    TemporaryQueue replyTo = null;
+    try {
+      session = jmsSupport.createSession(connector.getConnection(), false, false, Session.AUTO_ACKNOWLEDGE, false);
+      replyTo = (TemporaryQueue) jmsSupport.createTemporaryDestination(session, false);
+      consumer = jmsSupport.createConsumer(session, replyTo, null, false, null, false, endpoint);
+      consumer.setMessageListener(this);
+    } catch (JMSException e) {
+      connector.closeQuietly(replyTo);
+      connector.closeQuietly(session);
+      throw e;
+    }
+
+    this.session = session;
+    this.replyTo = replyTo;
+  }
+
+  /**
+   * @return the destination which the requests must set as their JMSReplyTo
+   */
+  public TemporaryQueue getReplyTo() {
+    return replyTo;
+  }
+
+  /**
+   * Starts waiting for the response with the given correlation id. This must be invoked before the request is sent, so the
+   * response cannot arrive before anyone waits for it.
+   *
+   * @param correlationId the JMSCorrelationID of the request
+   * @return a future which is completed with the response, or {@code null} if another request with the same correlation id is
+   *         already waiting, in which case the request needs its own reply-to destination
+   */
+  public CompletableFuture<Message> register(String correlationId) {
+    if (closed) {
+      return null;
+    }
+
+    CompletableFuture<Message> response = new CompletableFuture<>();
+    return pending.putIfAbsent(correlationId, response) == null ? response : null;
+  }
+
+  /**
+   * Stops waiting for the response with the given correlation id. Responses which arrive afterwards are discarded.
+   *
+   * @param correlationId the JMSCorrelationID of the request
+   */
+  public void unregister(String correlationId) {
+    pending.remove(correlationId);
+  }
+
+  /**
+   * Waits for a response previously {@link #register(String) registered}, and unregisters it when done.
+   *
+   * @param correlationId the JMSCorrelationID of the request
+   * @param response the future returned by {@link #register(String)}
+   * @param timeout how many milliseconds to wait
+   * @return the response, or {@code null} if none arrived on time
+   * @throws Exception if the multiplexer was closed while waiting
+   */
+  public Message await(String correlationId, CompletableFuture<Message> response, long timeout) throws Exception {
+    try {
+      return response.get(timeout, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      return null;
+    } catch (ExecutionException e) {
+      throw (Exception) e.getCause();
+    } finally {
+      unregister(correlationId);
+    }
+  }
+
+  @Override
+  public void onMessage(Message message) {
+    String correlationId;
+    try {
+      correlationId = message.getJMSCorrelationID();
+    } catch (JMSException e) {
+      logger.warn("Could not read the JMSCorrelationID of a response on " + replyTo + ". It will be discarded", e);
+      return;
+    }
+
+    CompletableFuture<Message> response = correlationId != null ? pending.remove(correlationId) : null;
+    if (response != null) {
+      response.complete(message);
+    } else if (logger.isDebugEnabled()) {
+      logger.debug("Discarding response with JMSCorrelationID " + correlationId + " on " + replyTo
+          + " as no request is waiting for it");
+    }
+  }
+
+  /**
+   * @return whether this multiplexer was closed
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Closes the consumer, destination and session of this multiplexer. Requests which are still waiting for a response fail.
+   */
+  public void close() {
+    closed = true;
+
+    connector.closeQuietly(consumer);
+    connector.closeQuietly(replyTo);
+    connector.closeQuietly(session);
+
+    JMSException exception = new JMSException("Reply-to consumer on " + replyTo + " was closed while waiting for a response");
+    for (String correlationId : pending.keySet()) {
+      CompletableFuture<Message> response = pending.remove(correlationId);
+      if (response != null) {
+        response.completeExceptionally(exception);
+      }
+    }
+  }
+}
@@ -13,6 +13,7 @@ import org.mule.compatibility.core.connector.EndpointConnectException;
 import org.mule.compatibility.core.message.MuleCompatibilityMessage;
 import org.mule.compatibility.core.transport.AbstractMessageReceiver;
 import org.mule.compatibility.transport.jms.filters.JmsSelectorFilter;
+import org.mule.compatibility.transport.jms.redelivery.MessageRedeliveredException;
 import org.mule.compatibility.transport.jms.redelivery.RedeliveryHandler;
 import org.mule.runtime.core.exception.MessagingException;
 import org.mule.runtime.core.api.MuleEvent;
@@ -45,6 +46,7 @@ public class TransactedSingleResourceJmsMessageReceiver extends AbstractMessageR
   protected MessageConsumer consumer;
   protected Session session;
   protected boolean startOnConnect = false;
+  protected JmsBatchConsumer batchConsumer;
 
   /** determines whether messages will be received in a transaction template */
   protected boolean receiveMessagesInTransaction = true;
@@ -130,7 +132,14 @@ public class TransactedSingleResourceJmsMessageReceiver extends AbstractMessageR
         startOnConnect = true;
       } else {
         startOnConnect = false;
-        this.consumer.setMessageListener(this);
+        if (connector.getReceiveBatchSize() > 1 && JmsBatchConsumer.supports(endpoint, session)) {
+          batchConsumer = new JmsBatchConsumer(session, consumer, connector.getReceiveBatchSize(),
+                                               connector.getReceiveBatchTimeout(), getWorkManager(), this::processBatchMessage,
+                                               connector.getName() + ".batchConsumer." + endpoint.getEndpointURI().getAddress());
+          batchConsumer.start();
+        } else {
+          this.consumer.setMessageListener(this);
+        }
       }
     } catch (JMSException e) {
       throw new StartException(e, this);
@@ -142,7 +151,10 @@ public class TransactedSingleResourceJmsMessageReceiver extends AbstractMessageR
     super.doStop();
 
     try {
-      if (consumer != null) {
+      if (batchConsumer != null) {
+        batchConsumer.stop();
+        batchConsumer = null;
+      } else if (consumer != null) {
         consumer.setMessageListener(null);
       }
     } catch (JMSException e) {
@@ -231,6 +243,33 @@ public class TransactedSingleResourceJmsMessageReceiver extends AbstractMessageR
     }
   }
 
+  /**
+   * Processes a message which was received as part of a batch. No transaction is started for it, since its batch is committed
+   * or acknowledged as a whole once all its messages have been processed.
+   *
+   * @param message the received message
+   * @throws Exception if the message should be redelivered, along with the rest of its batch
+   */
+  protected void processBatchMessage(Message message) throws Exception {
+    try {
+      if (message.getJMSRedelivered()) {
+        redeliveryHandler.handleRedelivery(message, getEndpoint(), getFlowConstruct());
+      }
+      routeMessage(createMuleMessage(message, endpoint.getEncoding()));
+    } catch (MessageRedeliveredException e) {
+      // The message exhausted its redeliveries, so it is handed to the flow and consumed along with its batch
+      getFlowConstruct().getExceptionListener().handleException(e, e.getEvent());
+    } catch (MessagingException e) {
+      // Already handled by the flow
+      if (e.causedRollback()) {
+        throw e;
+      }
+    } catch (Exception e) {
+      getEndpoint().getMuleContext().getExceptionListener().handleException(e);
+      throw e;
+    }
+  }
+
   @Override
   public boolean shouldConsumeInEveryNode() {
     return !this.topic;
@@ -101,6 +101,7 @@ public class JmsTransportComponentBuildingDefinitionProvider extends TransportCo
         .withSetterParameterDefinition("specification", fromSimpleParameter("specification").build())
         .withSetterParameterDefinition("disableTemporaryReplyToDestinations",
                                        fromSimpleParameter("disableTemporaryReplyToDestinations").build())
+        .withSetterParameterDefinition("sharedReplyToConsumer", fromSimpleParameter("sharedReplyToConsumer").build())
         .withSetterParameterDefinition("returnOriginalMessageAsReply",
                                        fromSimpleParameter("returnOriginalMessageAsReply").build())
         .withSetterParameterDefinition("embeddedMode", fromSimpleParameter("embeddedMode").build())
@@ -111,6 +112,8 @@ public class JmsTransportComponentBuildingDefinitionProvider extends TransportCo
                                        fromSimpleReferenceParameter("redeliveryHandlerFactory-ref").build())
         .withSetterParameterDefinition("connectionFactory", fromSimpleReferenceParameter("connectionFactory-ref").build())
         .withSetterParameterDefinition("numberOfConsumers", fromSimpleParameter("numberOfConsumers").build())
+        .withSetterParameterDefinition("receiveBatchSize", fromSimpleParameter("receiveBatchSize").build())
+        .withSetterParameterDefinition("receiveBatchTimeout", fromSimpleParameter("receiveBatchTimeout").build())
         .withSetterParameterDefinition("numberOfConcurrentTransactedReceivers",
                                        fromSimpleParameter("numberOfConcurrentTransactedReceivers").build())
         .withSetterParameterDefinition("jndiNameResolver", fromChildConfiguration(JndiNameResolver.class).build());
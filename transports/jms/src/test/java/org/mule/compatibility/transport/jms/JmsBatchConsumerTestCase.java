@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.compatibility.transport.jms;
+
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mule.compatibility.core.api.endpoint.ImmutableEndpoint;
+import org.mule.runtime.core.api.transaction.TransactionConfig;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.Session;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class JmsBatchConsumerTestCase extends AbstractMuleTestCase {
+
+  private static final long RECEIVE_TIMEOUT = 5000;
+
+  private final Session session = mock(Session.class);
+  private final MessageConsumer consumer = mock(MessageConsumer.class);
+  private final List<Message> handled = new CopyOnWriteArrayList<>();
+  private final Message first = mock(Message.class);
+  private final Message second = mock(Message.class);
+  private final Message third = mock(Message.class);
+  private Message failing;
+
+  private final JmsBatchConsumer batchConsumer = new JmsBatchConsumer(session, consumer, 3, 50, Runnable::run, message -> {
+    if (message == failing) {
+      throw new Exception("expected");
+    }
+    handled.add(message);
+  }, "test");
+
+  @Before
+  public void before() throws Exception {
+    when(session.getTransacted()).thenReturn(true);
+  }
+
+  @Test
+  public void completesFullBatchAsOneUnit() throws Exception {
+    when(consumer.receive(anyLong())).thenReturn(first, second, third);
+
+    assertThat(batchConsumer.consumeBatch(), is(3));
+    assertThat(handled.size(), is(3));
+    verify(session, times(1)).commit();
+  }
+
+  @Test
+  public void closesBatchWhenNoMoreMessages() throws Exception {
+    when(consumer.receive(anyLong())).thenReturn(first, null);
+
+    assertThat(batchConsumer.consumeBatch(), is(1));
+    verify(session).commit();
+  }
+
+  @Test
+  public void takesPrefetchedMessagesAfterTimeout() throws Exception {
+    JmsBatchConsumer noWait = new JmsBatchConsumer(session, consumer, 3, 0, Runnable::run, handled::add, "test");
+    when(consumer.receive(anyLong())).thenReturn(first);
+    when(consumer.receiveNoWait()).thenReturn(second, third);
+
+    assertThat(noWait.consumeBatch(), is(3));
+    verify(session).commit();
+  }
+
+  @Test
+  public void emptyPollCompletesNothing() throws Exception {
+    assertThat(batchConsumer.consumeBatch(), is(0));
+    verify(session, never()).commit();
+    verify(session, never()).rollback();
+  }
+
+  @Test
+  public void failedBatchIsRolledBackAndRedeliveredOneByOne() throws Exception {
+    failing = second;
+    when(consumer.receive(anyLong())).thenReturn(first, second, third, first, second);
+
+    assertThat(batchConsumer.consumeBatch(), is(3));
+    verify(session).rollback();
+    verify(session, never()).commit();
+
+    failing = null;
+    assertThat(batchConsumer.consumeBatch(), is(1));
+    assertThat(batchConsumer.consumeBatch(), is(1));
+    verify(session, times(2)).commit();
+  }
+
+  @Test
+  public void clientAcknowledgeAcknowledgesLastMessage() throws Exception {
+    when(session.getTransacted()).thenReturn(false);
+    when(consumer.receive(anyLong())).thenReturn(first, second, null);
+
+    assertThat(batchConsumer.consumeBatch(), is(2));
+    verify(second).acknowledge();
+    verify(session, never()).commit();
+  }
+
+  @Test
+  public void receivingLoopRunsOnExecutor() throws Exception {
+    ExecutorService executor = newSingleThreadExecutor(runnable -> new Thread(runnable, "receiver"));
+    List<String> threadNames = new CopyOnWriteArrayList<>();
+    CountDownLatch received = new CountDownLatch(1);
+    JmsBatchConsumer loop = new JmsBatchConsumer(session, consumer, 3, 0, executor, message -> {
+      threadNames.add(Thread.currentThread().getName());
+      received.countDown();
+    }, "test");
+    when(consumer.receive(anyLong())).thenReturn(first, (Message) null);
+
+    try {
+      loop.start();
+      assertThat(received.await(RECEIVE_TIMEOUT, MILLISECONDS), is(true));
+      loop.stop();
+
+      assertThat(loop.isRunning(), is(false));
+      assertThat(threadNames, contains("receiver"));
+      executor.shutdown();
+      assertThat(executor.awaitTermination(RECEIVE_TIMEOUT, MILLISECONDS), is(true));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void supportsOnlySessionsWhichCompleteBatches() throws Exception {
+    ImmutableEndpoint endpoint = mock(ImmutableEndpoint.class);
+    when(endpoint.getTransactionConfig()).thenReturn(mock(TransactionConfig.class));
+    assertThat(JmsBatchConsumer.supports(endpoint, session), is(true));
+
+    when(session.getTransacted()).thenReturn(false);
+    when(session.getAcknowledgeMode()).thenReturn(Session.AUTO_ACKNOWLEDGE);
+    assertThat(JmsBatchConsumer.supports(endpoint, session), is(false));
+
+    when(session.getAcknowledgeMode()).thenReturn(Session.CLIENT_ACKNOWLEDGE);
+    assertThat(JmsBatchConsumer.supports(endpoint, session), is(true));
+  }
+}
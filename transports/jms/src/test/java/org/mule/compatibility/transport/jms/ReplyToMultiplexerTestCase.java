@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.compatibility.transport.jms;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mule.compatibility.core.api.endpoint.ImmutableEndpoint;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import javax.jms.Connection;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.Session;
+import javax.jms.TemporaryQueue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class ReplyToMultiplexerTestCase extends AbstractMuleTestCase {
+
+  private final JmsConnector connector = mock(JmsConnector.class);
+  private final Session session = mock(Session.class);
+  private final TemporaryQueue replyTo = mock(TemporaryQueue.class);
+  private final MessageConsumer consumer = mock(MessageConsumer.class);
+  private ReplyToMultiplexer multiplexer;
+
+  @Before
+  public void before() throws Exception {
+    JmsSupport jmsSupport = mock(JmsSupport.class);
+    Connection connection = mock(Connection.class);
+    ImmutableEndpoint endpoint = mock(ImmutableEndpoint.class);
+
+    when(connector.getJmsSupport()).thenReturn(jmsSupport);
+    when(connector.getConnection()).thenReturn(connection);
+    when(jmsSupport.createSession(eq(connection), anyBoolean(), anyBoolean(), anyInt(), anyBoolean())).thenReturn(session);
+    when(jmsSupport.createTemporaryDestination(session, false)).thenReturn(replyTo);
+    when(jmsSupport.createConsumer(eq(session), eq(replyTo), any(String.class), anyBoolean(), any(String.class), anyBoolean(),
+                                   any(ImmutableEndpoint.class))).thenReturn(consumer);
+
+    multiplexer = new ReplyToMultiplexer(connector, endpoint);
+  }
+
+  @Test
+  public void listensOnTemporaryQueue() throws Exception {
+    assertThat(multiplexer.getReplyTo(), is(sameInstance(replyTo)));
+    verify(consumer).setMessageListener(multiplexer);
+  }
+
+  @Test
+  public void routesResponsesByCorrelationId() throws Exception {
+    CompletableFuture<Message> first = multiplexer.register("1");
+    CompletableFuture<Message> second = multiplexer.register("2");
+    Message response = response("2");
+
+    multiplexer.onMessage(response);
+
+    assertThat(second.getNow(null), is(sameInstance(response)));
+    assertThat(first.isDone(), is(false));
+  }
+
+  @Test
+  public void rejectsCorrelationIdAlreadyWaiting() throws Exception {
+    assertThat(multiplexer.register("1"), is(notNullValue()));
+    assertThat(multiplexer.register("1"), is(nullValue()));
+  }
+
+  @Test
+  public void discardsResponsesNoOneWaitsFor() throws Exception {
+    CompletableFuture<Message> response = multiplexer.register("1");
+    multiplexer.unregister("1");
+
+    multiplexer.onMessage(response("1"));
+
+    assertThat(response.isDone(), is(false));
+    assertThat(multiplexer.register("1"), is(notNullValue()));
+  }
+
+  @Test
+  public void awaitTimesOut() throws Exception {
+    CompletableFuture<Message> response = multiplexer.register("1");
+
+    assertThat(multiplexer.await("1", response, 10), is(nullValue()));
+    assertThat(multiplexer.register("1"), is(notNullValue()));
+  }
+
+  @Test
+  public void closeFailsWaitingRequests() throws Exception {
+    CompletableFuture<Message> response = multiplexer.register("1");
+
+    multiplexer.close();
+
+    try {
+      response.get();
+      fail("Waiting request should have failed");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause(), is(instanceOf(JMSException.class)));
+    }
+    assertThat(multiplexer.isClosed(), is(true));
+    assertThat(multiplexer.register("2"), is(nullValue()));
+    verify(connector).closeQuietly(consumer);
+    verify(connector).closeQuietly(replyTo);
+    verify(connector).closeQuietly(session);
+  }
+
+  private Message response(String correlationId) throws JMSException {
+    Message message = mock(Message.class);
+    when(message.getJMSCorrelationID()).thenReturn(correlationId);
+    return message;
+  }
+}
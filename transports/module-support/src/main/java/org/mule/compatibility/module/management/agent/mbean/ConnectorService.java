@@ -7,10 +7,14 @@
 package org.mule.compatibility.module.management.agent.mbean;
 
 import org.mule.compatibility.core.api.transport.Connector;
+import org.mule.compatibility.core.endpoint.DynamicOutboundEndpoint;
+import org.mule.compatibility.core.transport.AbstractConnector;
 import org.mule.compatibility.core.util.TransportObjectNameHelper;
 import org.mule.runtime.core.api.MuleException;
 import org.mule.runtime.core.api.lifecycle.InitialisationException;
 
+import java.util.function.ToLongFunction;
+
 public class ConnectorService implements ConnectorServiceMBean {
 
   private final Connector connector;
@@ -56,6 +60,33 @@ public class ConnectorService implements ConnectorServiceMBean {
     connector.dispose();
   }
 
+  @Override
+  public long getDynamicEndpointsCacheSize() {
+    return sumDynamicEndpoints(DynamicOutboundEndpoint::getStaticEndpointsCacheSize);
+  }
+
+  @Override
+  public long getDynamicEndpointsCacheHitCount() {
+    return sumDynamicEndpoints(DynamicOutboundEndpoint::getStaticEndpointsCacheHitCount);
+  }
+
+  @Override
+  public long getDynamicEndpointsCacheMissCount() {
+    return sumDynamicEndpoints(DynamicOutboundEndpoint::getStaticEndpointsCacheMissCount);
+  }
+
+  @Override
+  public long getDynamicEndpointsCacheEvictionCount() {
+    return sumDynamicEndpoints(DynamicOutboundEndpoint::getStaticEndpointsCacheEvictionCount);
+  }
+
+  private long sumDynamicEndpoints(ToLongFunction<DynamicOutboundEndpoint> statistic) {
+    if (!(connector instanceof AbstractConnector)) {
+      return 0;
+    }
+    return ((AbstractConnector) connector).getDynamicEndpoints().stream().mapToLong(statistic).sum();
+  }
+
   @Override
   public void initialise() throws InitialisationException {
     connector.initialise();
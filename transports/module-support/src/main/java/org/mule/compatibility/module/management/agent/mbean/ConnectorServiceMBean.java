@@ -27,5 +27,28 @@ public interface ConnectorServiceMBean extends Initialisable {
 
   void dispose();
 
+  /**
+   * @return how many static endpoints are cached by the dynamic endpoints of this connector
+   * @since 4.0
+   */
+  long getDynamicEndpointsCacheSize();
+
+  /**
+   * @return how many times the dynamic endpoints of this connector found their static endpoint in the cache
+   * @since 4.0
+   */
+  long getDynamicEndpointsCacheHitCount();
+
+  /**
+   * @return how many times the dynamic endpoints of this connector had to build their static endpoint
+   * @since 4.0
+   */
+  long getDynamicEndpointsCacheMissCount();
+
+  /**
+   * @return how many static endpoints were evicted from the caches of the dynamic endpoints of this connector
+   * @since 4.0
+   */
+  long getDynamicEndpointsCacheEvictionCount();
 
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.compatibility.transport.tcp;
+
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.config.MuleProperties;
+
+import java.util.Properties;
+
+/**
+ * A {@link TcpConnector} which receives through {@link NioTcpMessageReceiver}, so that inbound connections are served by a few
+ * selector threads instead of a thread per connection. The configured protocol must implement {@link NonBlockingTcpProtocol}.
+ *
+ * @since 4.0
+ */
+public class NioTcpConnector extends TcpConnector {
+
+  public static final int DEFAULT_MAX_BUFFER_SIZE = 8 * 1024 * 1024;
+
+  /**
+   * How many threads select on the accepted connections of each receiver
+   */
+  private int selectorThreads = 1;
+
+  /**
+   * The largest amount of bytes buffered for a single connection while waiting for a complete message
+   */
+  private int maxBufferSize = DEFAULT_MAX_BUFFER_SIZE;
+
+  public NioTcpConnector(MuleContext context) {
+    super(context);
+    setServerSocketFactory(new NioTcpServerSocketFactory());
+    serviceOverrides = new Properties();
+    serviceOverrides.setProperty(MuleProperties.CONNECTOR_MESSAGE_RECEIVER_CLASS, NioTcpMessageReceiver.class.getName());
+  }
+
+  public int getSelectorThreads() {
+    return selectorThreads;
+  }
+
+  public void setSelectorThreads(int selectorThreads) {
+    if (selectorThreads < 1) {
+      throw new IllegalArgumentException("Selector threads must be at least 1: " + selectorThreads);
+    }
+    this.selectorThreads = selectorThreads;
+  }
+
+  public int getMaxBufferSize() {
+    return maxBufferSize;
+  }
+
+  public void setMaxBufferSize(int maxBufferSize) {
+    if (maxBufferSize < 1) {
+      throw new IllegalArgumentException("Max buffer size must be at least 1: " + maxBufferSize);
+    }
+    this.maxBufferSize = maxBufferSize;
+  }
+}
@@ -0,0 +1,516 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.compatibility.transport.tcp;
+
+import static java.lang.Math.min;
+import static java.nio.channels.SelectionKey.OP_ACCEPT;
+import static java.nio.channels.SelectionKey.OP_READ;
+import static java.nio.channels.SelectionKey.OP_WRITE;
+import static org.mule.runtime.core.api.config.MuleProperties.MULE_REMOTE_CLIENT_ADDRESS;
+
+import org.mule.compatibility.core.api.endpoint.InboundEndpoint;
+import org.mule.compatibility.core.api.transport.Connector;
+import org.mule.compatibility.core.connector.EndpointConnectException;
+import org.mule.compatibility.core.message.MuleCompatibilityMessage;
+import org.mule.compatibility.core.message.MuleCompatibilityMessageBuilder;
+import org.mule.compatibility.core.transport.AbstractMessageReceiver;
+import org.mule.compatibility.core.transport.AbstractReceiverWorker;
+import org.mule.compatibility.transport.tcp.i18n.TcpMessages;
+import org.mule.compatibility.transport.tcp.protocols.StreamingProtocol;
+import org.mule.runtime.core.api.MuleException;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.api.lifecycle.CreateException;
+import org.mule.runtime.core.api.lifecycle.DisposeException;
+import org.mule.runtime.core.api.transaction.Transaction;
+import org.mule.runtime.core.api.transaction.TransactionException;
+import org.mule.runtime.core.config.i18n.CoreMessages;
+import org.mule.runtime.core.connector.ConnectException;
+import org.mule.runtime.core.util.buffer.ByteBufferPool;
+import org.mule.runtime.core.util.buffer.PooledByteBufferOutputStream;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.resource.spi.work.Work;
+import javax.resource.spi.work.WorkException;
+import javax.resource.spi.work.WorkManager;
+
+/**
+ * <code>NioTcpMessageReceiver</code> acts like a TCP server to receive socket requests without dedicating a thread to each
+ * connection.
+ * <p>
+ * Connections are spread over {@link NioTcpConnector#getSelectorThreads()} selector threads, which accumulate the received bytes
+ * per connection and frame them through the {@link NonBlockingTcpProtocol} of the connector. Only complete messages are handed to
+ * the work manager. While those messages are being processed the connection is not read any further, so messages on a connection
+ * are processed, and answered, in the order in which they arrived. A connection which buffers more than
+ * {@link NioTcpConnector#getMaxBufferSize()} bytes without completing a message is closed.
+ *
+ * @since 4.0
+ */
+public class NioTcpMessageReceiver extends AbstractMessageReceiver {
+
+  private static final int READ_BUFFER_SIZE = 8192;
+  private static final long SELECT_TIMEOUT = 1000;
+
+  protected final AtomicBoolean disposing = new AtomicBoolean(false);
+
+  private final NioTcpConnector tcpConnector;
+  private final NonBlockingTcpProtocol protocol;
+  private final AtomicInteger nextLoop = new AtomicInteger();
+  private ServerSocket serverSocket = null;
+  private SelectorLoop[] loops;
+
+  public NioTcpMessageReceiver(Connector connector, FlowConstruct flowConstruct, InboundEndpoint endpoint)
+      throws CreateException {
+    super(connector, flowConstruct, endpoint);
+
+    if (connector instanceof NioTcpConnector) {
+      tcpConnector = (NioTcpConnector) connector;
+    } else {
+      throw new CreateException(TcpMessages.nonBlockingReceiverCannotBeUsed(), this);
+    }
+
+    TcpProtocol tcpProtocol = tcpConnector.getTcpProtocol();
+    // streaming hands a blocking stream over to the flow, so it can never decode out of a buffer
+    if (tcpProtocol instanceof NonBlockingTcpProtocol && !(tcpProtocol instanceof StreamingProtocol)) {
+      protocol = (NonBlockingTcpProtocol) tcpProtocol;
+    } else {
+      throw new CreateException(TcpMessages.protocolCannotBeUsedWithoutBlocking(tcpProtocol.getClass()), this);
+    }
+  }
+
+  @Override
+  protected void doConnect() throws ConnectException {
+    disposing.set(false);
+
+    URI uri = endpoint.getEndpointURI().getUri();
+
+    try {
+      serverSocket = tcpConnector.getServerSocket(uri);
+      ServerSocketChannel serverChannel = serverSocket.getChannel();
+      if (serverChannel == null) {
+        throw new IOException("Server socket is not backed by a channel: " + serverSocket);
+      }
+      serverChannel.configureBlocking(false);
+
+      loops = new SelectorLoop[tcpConnector.getSelectorThreads()];
+      for (int i = 0; i < loops.length; ++i) {
+        loops[i] = new SelectorLoop();
+      }
+      serverChannel.register(loops[0].selector, OP_ACCEPT);
+    } catch (Exception e) {
+      throw new EndpointConnectException(TcpMessages.failedToBindToUri(uri), e, this);
+    }
+
+    try {
+      for (SelectorLoop loop : loops) {
+        getWorkManager().scheduleWork(loop, WorkManager.INDEFINITE, null, connector);
+      }
+    } catch (WorkException e) {
+      throw new EndpointConnectException(CoreMessages.failedToScheduleWork(), e, this);
+    }
+  }
+
+  @Override
+  protected void doDisconnect() throws ConnectException {
+    // this will cause the selector threads to quit
+    disposing.set(true);
+
+    if (loops != null) {
+      for (SelectorLoop loop : loops) {
+        loop.selector.wakeup();
+      }
+    }
+
+    try {
+      if (serverSocket != null) {
+        if (logger.isDebugEnabled()) {
+          logger.debug("Closing: " + serverSocket);
+        }
+        serverSocket.close();
+      }
+    } catch (IOException e) {
+      logger.warn("Failed to close server socket: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  protected void doStart() throws MuleException {
+    // nothing to do
+  }
+
+  @Override
+  protected void doStop() throws MuleException {
+    // nothing to do
+  }
+
+  /**
+   * Obtain the serverSocket
+   *
+   * @return the server socket for this server
+   */
+  public ServerSocket getServerSocket() {
+    return serverSocket;
+  }
+
+  @Override
+  protected void doDispose() {
+    try {
+      if (serverSocket != null && !serverSocket.isClosed()) {
+        if (logger.isDebugEnabled()) {
+          logger.debug("Closing: " + serverSocket);
+        }
+        serverSocket.close();
+      }
+      serverSocket = null;
+    } catch (Exception e) {
+      logger.error(new DisposeException(TcpMessages.failedToCloseSocket(), e, this).toString());
+    }
+    logger.info("Closed Tcp port");
+  }
+
+  private SelectorLoop nextLoop() {
+    return loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)];
+  }
+
+  /**
+   * Selects on a set of connections. All the operations on those connections and their {@link SelectionKey}s happen in this
+   * thread; other threads hand them over through {@link #execute(Runnable)}.
+   */
+  private class SelectorLoop implements Work {
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private long lastExpiryCheck = System.currentTimeMillis();
+
+    private SelectorLoop() throws IOException {
+      selector = Selector.open();
+    }
+
+    private void execute(Runnable task) {
+      tasks.add(task);
+      selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (!disposing.get()) {
+          Runnable task;
+          while ((task = tasks.poll()) != null) {
+            task.run();
+          }
+
+          selector.select(SELECT_TIMEOUT);
+
+          Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+          while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+            if (key.isValid()) {
+              if (key.isAcceptable()) {
+                accept((ServerSocketChannel) key.channel());
+              } else {
+                ((NioConnection) key.attachment()).handle(key);
+              }
+            }
+          }
+
+          closeExpired();
+        }
+      } catch (Exception e) {
+        if (!disposing.get()) {
+          getEndpoint().getMuleContext().getExceptionListener().handleException(e);
+        }
+      } finally {
+        closeAll();
+      }
+    }
+
+    private void accept(ServerSocketChannel serverChannel) {
+      try {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+          channel.configureBlocking(false);
+          tcpConnector.configureSocket(TcpConnector.SERVER, channel.socket());
+
+          final SocketChannel accepted = channel;
+          final SelectorLoop loop = nextLoop();
+          loop.execute(() -> loop.register(accepted));
+        }
+      } catch (IOException e) {
+        if (!connector.isDisposed() && !disposing.get()) {
+          logger.warn("Failed to accept connection: " + e.getMessage());
+        }
+      }
+    }
+
+    private void register(SocketChannel channel) {
+      NioConnection connection = new NioConnection(this, channel);
+      try {
+        connection.key = channel.register(selector, OP_READ, connection);
+      } catch (IOException e) {
+        logger.warn("Failed to register connection: " + e.getMessage());
+        connection.close();
+      }
+    }
+
+    /**
+     * Closes the connections which have been idle for longer than the keep alive timeout, if one is set
+     */
+    private void closeExpired() {
+      long keepAliveTimeout = tcpConnector.getKeepAliveTimeout();
+      long now = System.currentTimeMillis();
+      if (keepAliveTimeout <= 0 || now - lastExpiryCheck < SELECT_TIMEOUT) {
+        return;
+      }
+      lastExpiryCheck = now;
+
+      for (SelectionKey key : selector.keys()) {
+        if (key.isValid() && key.attachment() instanceof NioConnection) {
+          NioConnection connection = (NioConnection) key.attachment();
+          if (key.interestOps() == OP_READ && now - connection.lastActivity > keepAliveTimeout) {
+            connection.close();
+          }
+        }
+      }
+    }
+
+    private void closeAll() {
+      for (SelectionKey key : selector.keys()) {
+        if (key.attachment() instanceof NioConnection) {
+          ((NioConnection) key.attachment()).close();
+        }
+      }
+      try {
+        selector.close();
+      } catch (IOException e) {
+        logger.warn("Failed to close selector: " + e.getMessage());
+      }
+    }
+
+    @Override
+    public void release() {
+      // nothing to do
+    }
+  }
+
+  /**
+   * The state of an accepted connection. Only used from the thread of its {@link SelectorLoop}.
+   */
+  private class NioConnection {
+
+    private final SelectorLoop loop;
+    private final SocketChannel channel;
+    private final Deque<ByteBuffer> output = new ArrayDeque<>();
+    private SelectionKey key;
+    private ByteBuffer input = ByteBufferPool.direct().acquire(READ_BUFFER_SIZE);
+    private boolean endOfStream = false;
+    private long lastActivity = System.currentTimeMillis();
+
+    private NioConnection(SelectorLoop loop, SocketChannel channel) {
+      this.loop = loop;
+      this.channel = channel;
+    }
+
+    private void handle(SelectionKey key) {
+      try {
+        if (key.isReadable()) {
+          read();
+        } else if (key.isWritable()) {
+          write();
+        }
+      } catch (IOException | CancelledKeyException e) {
+        if (logger.isDebugEnabled()) {
+          logger.debug("Closing connection " + channel + " after: " + e.getMessage());
+        }
+        close();
+      }
+    }
+
+    private void read() throws IOException {
+      if (!input.hasRemaining()) {
+        int maxBufferSize = tcpConnector.getMaxBufferSize();
+        if (input.capacity() >= maxBufferSize) {
+          logger.warn(String.format("Closing connection %s, which buffered %d bytes without completing a message", channel,
+                                    maxBufferSize));
+          close();
+          return;
+        }
+        input = ByteBufferPool.direct().grow(input, min(input.capacity() * 2, maxBufferSize));
+      }
+
+      if (channel.read(input) < 0) {
+        endOfStream = true;
+      }
+      lastActivity = System.currentTimeMillis();
+
+      List<Object> messages = decode();
+      if (!messages.isEmpty()) {
+        // stop reading until these are processed, so messages and responses keep their order
+        key.interestOps(0);
+        dispatch(messages);
+      } else if (endOfStream) {
+        close();
+      }
+    }
+
+    private List<Object> decode() throws IOException {
+      List<Object> messages = new ArrayList<>();
+      input.flip();
+      try {
+        Object message;
+        while ((message = protocol.decode(input, endOfStream)) != null) {
+          messages.add(message);
+        }
+      } finally {
+        input.compact();
+      }
+      return messages;
+    }
+
+    private void dispatch(List<Object> messages) {
+      try {
+        getWorkManager().scheduleWork(new NioTcpWorker(messages, this), WorkManager.INDEFINITE, null, connector);
+      } catch (WorkException e) {
+        close();
+        getEndpoint().getMuleContext().getExceptionListener().handleException(e);
+      }
+    }
+
+    private void write() throws IOException {
+      while (!output.isEmpty()) {
+        ByteBuffer next = output.peek();
+        channel.write(next);
+        if (next.hasRemaining()) {
+          // the socket buffer is full, wait to be writable again
+          return;
+        }
+        ByteBufferPool.direct().release(output.poll());
+      }
+      lastActivity = System.currentTimeMillis();
+      resume();
+    }
+
+    /**
+     * Invoked once the messages of this connection have been processed
+     *
+     * @param responses the encoded responses to send back
+     */
+    private void processed(List<ByteBuffer> responses) {
+      if (!channel.isOpen()) {
+        responses.forEach(ByteBufferPool.direct()::release);
+        return;
+      }
+      output.addAll(responses);
+      lastActivity = System.currentTimeMillis();
+      try {
+        resume();
+      } catch (CancelledKeyException e) {
+        close();
+      }
+    }
+
+    private void resume() {
+      if (!output.isEmpty()) {
+        key.interestOps(OP_WRITE);
+      } else if (endOfStream) {
+        close();
+      } else {
+        key.interestOps(OP_READ);
+      }
+    }
+
+    private void close() {
+      if (key != null) {
+        key.cancel();
+      }
+      try {
+        channel.close();
+      } catch (IOException e) {
+        logger.warn("Socket close failed with: " + e);
+      }
+      if (input != null) {
+        ByteBufferPool.direct().release(input);
+        input = null;
+        output.forEach(ByteBufferPool.direct()::release);
+        output.clear();
+      }
+    }
+  }
+
+  private class NioTcpWorker extends AbstractReceiverWorker {
+
+    private final NioConnection connection;
+    private final List<ByteBuffer> responses = new ArrayList<>();
+
+    private NioTcpWorker(List<Object> messages, NioConnection connection) {
+      super(messages, NioTcpMessageReceiver.this);
+      this.connection = connection;
+    }
+
+    @Override
+    protected void bindTransaction(Transaction tx) throws TransactionException {
+      // nothing to do
+    }
+
+    @Override
+    protected void handleResults(List messages) throws Exception {
+      // should send back only if remote synch is set or no outbound endpoints
+      if (endpoint.getExchangePattern().hasResponse()) {
+        for (Iterator iterator = messages.iterator(); iterator.hasNext();) {
+          Object o = iterator.next();
+          PooledByteBufferOutputStream encoded = new PooledByteBufferOutputStream(ByteBufferPool.direct(), READ_BUFFER_SIZE);
+          try {
+            protocol.write(encoded, o);
+          } catch (Exception e) {
+            encoded.close();
+            throw e;
+          }
+          responses.add(encoded.toByteBuffer());
+        }
+      }
+    }
+
+    @Override
+    protected MuleCompatibilityMessage preRouteMuleMessage(final MuleCompatibilityMessage message) throws Exception {
+      MuleCompatibilityMessage muleMessage = super.preRouteMuleMessage(message);
+
+      final SocketAddress clientAddress = connection.channel.socket().getRemoteSocketAddress();
+      if (clientAddress != null) {
+        final MuleCompatibilityMessageBuilder builder = new MuleCompatibilityMessageBuilder(muleMessage);
+        builder.addOutboundProperty(MULE_REMOTE_CLIENT_ADDRESS, clientAddress.toString());
+        return builder.build();
+      } else {
+        return muleMessage;
+      }
+    }
+
+    @Override
+    public void release() {
+      connection.loop.execute(() -> connection.processed(responses));
+    }
+  }
+
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.compatibility.transport.tcp;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.channels.ServerSocketChannel;
+
+/**
+ * A {@link TcpServerSocketFactory} which creates server sockets backed by a {@link ServerSocketChannel}, so that they can be
+ * registered with a selector through {@link ServerSocket#getChannel()}.
+ *
+ * @since 4.0
+ */
+public class NioTcpServerSocketFactory extends TcpServerSocketFactory {
+
+  @Override
+  protected ServerSocket newServerSocket() throws IOException {
+    return ServerSocketChannel.open().socket();
+  }
+
+}
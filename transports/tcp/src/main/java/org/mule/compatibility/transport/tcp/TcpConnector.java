@@ -11,6 +11,7 @@ import org.mule.compatibility.core.api.transport.Connector;
 import org.mule.compatibility.core.api.transport.MessageDispatcherFactory;
 import org.mule.compatibility.core.config.i18n.TransportCoreMessages;
 import org.mule.compatibility.core.transport.AbstractConnector;
+import org.mule.compatibility.core.transport.ConcurrentKeyedObjectPool;
 import org.mule.compatibility.core.transport.ConfigurableKeyedObjectPool;
 import org.mule.compatibility.transport.tcp.protocols.SafeProtocol;
 import org.mule.runtime.core.exception.MessagingException;
@@ -32,8 +33,6 @@ import java.net.Socket;
 import java.net.SocketException;
 import java.net.URI;
 
-import org.apache.commons.pool.impl.GenericKeyedObjectPool;
-
 /**
  * <code>TcpConnector</code> can bind or sent to a given TCP port on a given host. Other socket-based transports can be built on
  * top of this class by providing the appropriate socket factories and application level protocols as required (see the
@@ -70,7 +69,7 @@ public class TcpConnector extends AbstractConnector {
   private TcpProtocol tcpProtocol;
   private AbstractTcpSocketFactory socketFactory;
   private SimpleServerSocketFactory serverSocketFactory;
-  private GenericKeyedObjectPool socketsPool = new GenericKeyedObjectPool();
+  private ConcurrentKeyedObjectPool socketsPool = new ConcurrentKeyedObjectPool();
   private int keepAliveTimeout = 0;
   private ExpiryMonitor keepAliveMonitor;
   private Boolean failOnUnresolvedHost = Boolean.TRUE;
@@ -151,7 +150,7 @@ public class TcpConnector extends AbstractConnector {
     socketsPool.setTestOnReturn(true);
     socketsPool.setMaxActive(getDispatcherThreadingProfile().getMaxThreadsActive());
     socketsPool.setMaxIdle(getDispatcherThreadingProfile().getMaxThreadsIdle());
-    socketsPool.setWhenExhaustedAction(GenericKeyedObjectPool.WHEN_EXHAUSTED_BLOCK);
+    socketsPool.setWhenExhaustedAction(ConfigurableKeyedObjectPool.WHEN_EXHAUSTED_BLOCK);
     socketsPool.setMaxWait(socketMaxWait);
 
     // Use connector's classloader so that other temporary classloaders
@@ -39,12 +39,20 @@ public class TcpServerSocketFactory implements SimpleServerSocketFactory {
 
   @Override
   public ServerSocket createServerSocket(InetAddress address, int port, int backlog, Boolean reuse) throws IOException {
-    return configure(new ServerSocket(), reuse, new InetSocketAddress(address, port), backlog);
+    return configure(newServerSocket(), reuse, new InetSocketAddress(address, port), backlog);
   }
 
   @Override
   public ServerSocket createServerSocket(int port, int backlog, Boolean reuse) throws IOException {
-    return configure(new ServerSocket(), reuse, new InetSocketAddress(port), backlog);
+    return configure(newServerSocket(), reuse, new InetSocketAddress(port), backlog);
+  }
+
+  /**
+   * @return a new, unbound server socket
+   * @throws IOException
+   */
+  protected ServerSocket newServerSocket() throws IOException {
+    return new ServerSocket();
   }
 
   protected ServerSocket configure(ServerSocket socket, Boolean reuse, InetSocketAddress address, int backlog)
@@ -10,6 +10,7 @@ import org.mule.compatibility.config.spring.handlers.AbstractMuleTransportsNames
 import org.mule.compatibility.core.endpoint.URIBuilder;
 import org.mule.compatibility.transport.tcp.DefaultTcpClientSocketProperties;
 import org.mule.compatibility.transport.tcp.DefaultTcpServerSocketProperties;
+import org.mule.compatibility.transport.tcp.NioTcpConnector;
 import org.mule.compatibility.transport.tcp.PollingTcpConnector;
 import org.mule.compatibility.transport.tcp.TcpConnector;
 import org.mule.compatibility.transport.tcp.TcpProtocol;
@@ -43,6 +44,7 @@ public class TcpNamespaceHandler extends AbstractMuleTransportsNamespaceHandler
     registerConnectorDefinitionParser(TcpConnector.class);
 
     registerBeanDefinitionParser("polling-connector", new MuleOrphanDefinitionParser(PollingTcpConnector.class, true));
+    registerBeanDefinitionParser("nio-connector", new MuleOrphanDefinitionParser(NioTcpConnector.class, true));
     registerBeanDefinitionParser("custom-protocol", new ChildDefinitionParser("tcpProtocol", null, TcpProtocol.class, true));
     registerBeanDefinitionParser("xml-protocol", new ChildDefinitionParser("tcpProtocol", XmlMessageProtocol.class));
     registerBeanDefinitionParser("xml-eof-protocol", new ChildDefinitionParser("tcpProtocol", XmlMessageEOFProtocol.class));
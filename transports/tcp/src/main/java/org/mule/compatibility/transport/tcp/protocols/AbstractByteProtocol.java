@@ -45,6 +45,7 @@ public abstract class AbstractByteProtocol implements TcpProtocol {
   private static final Logger logger = LoggerFactory.getLogger(DirectProtocol.class);
   private static final long PAUSE_PERIOD = 100;
   public static final int EOF = -1;
+  private static final int TRANSFER_BUFFER_SIZE = 8192;
 
   // make this really clear in subclasses, because otherwise people will forget
   public static final boolean STREAM_OK = true;
@@ -62,7 +63,7 @@ public abstract class AbstractByteProtocol implements TcpProtocol {
     if (data instanceof InputStream) {
       if (streamOk) {
         InputStream is = (InputStream) data;
-        IOUtils.copyLarge(is, os);
+        transfer(is, os);
         os.flush();
         os.close();
         is.close();
@@ -88,6 +89,17 @@ public abstract class AbstractByteProtocol implements TcpProtocol {
     os.write(data);
   }
 
+  /**
+   * Copies a stream straight into the socket through a pooled transfer buffer, instead of collecting it in memory first
+   *
+   * @param is the stream to send
+   * @param os the stream to write to
+   * @throws IOException if reading or writing fails
+   */
+  protected void transfer(InputStream is, OutputStream os) throws IOException {
+    IOUtils.copyPooled(is, os, TRANSFER_BUFFER_SIZE);
+  }
+
   /**
    * Manage non-blocking reads and handle errors
    *
@@ -110,10 +122,24 @@ public abstract class AbstractByteProtocol implements TcpProtocol {
    * @throws IOException other than socket exceptions
    */
   protected int safeRead(InputStream is, byte[] buffer, int size) throws IOException {
+    return safeRead(is, buffer, 0, size);
+  }
+
+  /**
+   * Manage non-blocking reads and handle errors
+   *
+   * @param is The input stream to read from
+   * @param buffer The buffer to read into
+   * @param offset Where to start writing into the buffer
+   * @param size The amount of data (upper bound) to read
+   * @return The amount of data read (always non-zero, -1 on EOF or socket exception)
+   * @throws IOException other than socket exceptions
+   */
+  protected int safeRead(InputStream is, byte[] buffer, int offset, int size) throws IOException {
     int len;
     try {
       do {
-        len = is.read(buffer, 0, size);
+        len = is.read(buffer, offset, size);
         if (0 == len) {
           // wait for non-blocking input stream
           // use new lock since not expecting notification
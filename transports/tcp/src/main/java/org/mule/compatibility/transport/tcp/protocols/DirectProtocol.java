@@ -6,11 +6,15 @@
  */
 package org.mule.compatibility.transport.tcp.protocols;
 
+import org.mule.compatibility.transport.tcp.NonBlockingTcpProtocol;
+import org.mule.runtime.core.util.buffer.ByteBufferPool;
+
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
+import java.util.Arrays;
 
-import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,8 +27,12 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Writing simply writes the data to the socket.
  * </p>
+ * <p>
+ * When decoding without blocking, everything received so far makes up the message unless {@link #isRepeat(int, int)} asks to
+ * keep reading, in which case the message is only complete once the peer closes the stream.
+ * </p>
  */
-public class DirectProtocol extends AbstractByteProtocol {
+public class DirectProtocol extends AbstractByteProtocol implements NonBlockingTcpProtocol {
 
   protected static final int UNLIMITED = -1;
 
@@ -47,17 +55,23 @@ public class DirectProtocol extends AbstractByteProtocol {
   }
 
   public Object read(InputStream is, int limit) throws IOException {
-    // this can grow on repeated reads
-    ByteArrayOutputStream baos = new ByteArrayOutputStream(bufferSize);
+    // read straight into a pooled buffer, which can grow on repeated reads, so the only copy is the returned array
+    ByteBuffer buffer = ByteBufferPool.heap().acquire(bufferSize);
+    buffer.limit(buffer.capacity());
 
     try {
-      byte[] buffer = new byte[bufferSize];
       int len;
       int remain = remaining(limit, limit, 0);
       boolean repeat;
       do {
+        if (buffer.remaining() < remain) {
+          buffer = ByteBufferPool.heap().grow(buffer, Math.max(buffer.capacity() * 2, buffer.position() + remain));
+        }
 
-        len = copy(is, buffer, baos, remain);
+        len = safeRead(is, buffer.array(), buffer.arrayOffset() + buffer.position(), remain);
+        if (len > 0) {
+          buffer.position(buffer.position() + len);
+        }
         remain = remaining(limit, remain, len);
         repeat = EOF != len && remain > 0 && isRepeat(len, is.available());
 
@@ -65,11 +79,23 @@ public class DirectProtocol extends AbstractByteProtocol {
           logger.debug(MessageFormat.format("len/limit/repeat: {0}/{1}/{2}", len, limit, repeat));
         }
       } while (repeat);
+
+      return nullEmptyArray(Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.arrayOffset() + buffer.position()));
     } finally {
-      baos.flush();
-      baos.close();
+      ByteBufferPool.heap().release(buffer);
     }
-    return nullEmptyArray(baos.toByteArray());
+  }
+
+  @Override
+  public Object decode(ByteBuffer buffer, boolean endOfStream) throws IOException {
+    // nothing else is available right now, so only ask whether to wait for more
+    if (!buffer.hasRemaining() || (!endOfStream && isRepeat(buffer.remaining(), 0))) {
+      return null;
+    }
+
+    byte[] data = new byte[buffer.remaining()];
+    buffer.get(data);
+    return data;
   }
 
   protected int remaining(int limit, int remain, int len) {
@@ -6,11 +6,14 @@
  */
 package org.mule.compatibility.transport.tcp.protocols;
 
-import java.io.DataInputStream;
+import org.mule.runtime.core.util.IOUtils;
+
 import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,31 +45,34 @@ public class LengthProtocol extends DirectProtocol {
   }
 
   public Object read(InputStream is) throws IOException {
-    // original comments indicated that we need to use read(byte[]) rather than readInt()
-    // to avoid socket timeouts - don't understand, but don't want to risk change.
-
-    // first read the data necessary to know the length of the payload
-    DataInputStream dis = new DataInputStream(is);
-    dis.mark(SIZE_INT);
-    // this pulls through SIZE_INT bytes
-    if (null == super.read(dis, SIZE_INT)) {
+    // first read the data necessary to know the length of the payload, going through safeRead so a socket closed
+    // between messages is seen as the end of the stream
+    byte[] header = new byte[SIZE_INT];
+    int count = 0;
+    while (count < SIZE_INT) {
+      int len = safeRead(is, header, count, SIZE_INT - count);
+      if (EOF == len) {
+        break;
+      }
+      count += len;
+    }
+
+    if (0 == count) {
       return null; // eof
+    } else if (count < SIZE_INT) {
+      throw new EOFException();
     }
 
-    // reset and read the integer
-    dis.reset();
-    int length = dis.readInt();
+    int length = ByteBuffer.wrap(header).getInt();
     if (logger.isDebugEnabled()) {
       logger.debug("length: " + length);
     }
 
-    if (length < 0 || (getMaxMessageLength() > 0 && length > getMaxMessageLength())) {
-      throw new IOException("Length " + length + " exceeds limit: " + getMaxMessageLength());
-    }
+    validateLength(length);
 
-    // finally read the rest of the data
+    // finally read the rest of the data straight into the payload
     byte[] buffer = new byte[length];
-    dis.readFully(buffer);
+    IOUtils.readFully(is, buffer, 0, length);
     if (logger.isDebugEnabled()) {
       logger.debug("length read: " + buffer.length);
     }
@@ -74,6 +80,32 @@ public class LengthProtocol extends DirectProtocol {
     return buffer;
   }
 
+  @Override
+  public Object decode(ByteBuffer buffer, boolean endOfStream) throws IOException {
+    if (buffer.remaining() < SIZE_INT) {
+      return null;
+    }
+
+    // peek at the length so the buffer is left untouched if the payload is not complete
+    int length = buffer.getInt(buffer.position());
+    validateLength(length);
+
+    if (buffer.remaining() - SIZE_INT < length) {
+      return null;
+    }
+
+    buffer.position(buffer.position() + SIZE_INT);
+    byte[] data = new byte[length];
+    buffer.get(data);
+    return data;
+  }
+
+  private void validateLength(int length) throws IOException {
+    if (length < 0 || (getMaxMessageLength() > 0 && length > getMaxMessageLength())) {
+      throw new IOException("Length " + length + " exceeds limit: " + getMaxMessageLength());
+    }
+  }
+
   @Override
   protected void writeByteArray(OutputStream os, byte[] data) throws IOException {
     // Write the length and then the data.
@@ -13,6 +13,7 @@ import org.mule.runtime.core.transformer.wire.SerializedMuleMessageWireFormat;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * This Protocol will send the actual Mule Message over the TCP channel, and in this way we are preserving any headers which might
@@ -29,6 +30,11 @@ public class MuleMessageLengthProtocol extends LengthProtocol implements MuleCon
     return messageWorker.doRead(super.read(is));
   }
 
+  @Override
+  public Object decode(ByteBuffer buffer, boolean endOfStream) throws IOException {
+    return messageWorker.doRead(super.decode(buffer, endOfStream));
+  }
+
   @Override
   public void write(OutputStream os, Object unused) throws IOException {
     super.write(os, messageWorker.doWrite());
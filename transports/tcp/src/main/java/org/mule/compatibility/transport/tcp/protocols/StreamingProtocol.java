@@ -12,6 +12,7 @@ import org.mule.compatibility.transport.tcp.TcpProtocol;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 public class StreamingProtocol extends EOFProtocol implements TcpProtocol {
 
@@ -27,6 +28,14 @@ public class StreamingProtocol extends EOFProtocol implements TcpProtocol {
     return is;
   }
 
+  /**
+   * Streaming needs a blocking stream to hand over to the flow, so messages cannot be decoded out of a buffer.
+   */
+  @Override
+  public Object decode(ByteBuffer buffer, boolean endOfStream) throws IOException {
+    throw new IOException("TCP protocol " + getClass().getSimpleName() + " cannot be used with a non-blocking receiver");
+  }
+
   /**
    * 
    * @param is
@@ -6,9 +6,12 @@
  */
 package org.mule.compatibility.transport.tcp.protocols;
 
+import org.mule.compatibility.transport.tcp.NonBlockingTcpProtocol;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -36,10 +39,15 @@ import java.util.concurrent.ConcurrentMap;
  * bytes into it's own internal buffer and not the original stream. Therefore, the read buffer size is intentionally limited to
  * insure that unread characters remain on the stream so that all data may be read later.
  * </p>
+ * <p>
+ * When decoding without blocking there is no need for pushback, since the data after the next xml declaration are simply left in
+ * the buffer.
+ * </p>
  */
-public class XmlMessageProtocol extends AbstractByteProtocol {
+public class XmlMessageProtocol extends AbstractByteProtocol implements NonBlockingTcpProtocol {
 
   private static final String XML_PATTERN = "<?xml";
+  private static final byte[] XML_PATTERN_BYTES = XML_PATTERN.getBytes();
 
   private static final int READ_BUFFER_SIZE = 4096;
   private static final int PUSHBACK_BUFFER_SIZE = READ_BUFFER_SIZE * 2;
@@ -105,6 +113,43 @@ public class XmlMessageProtocol extends AbstractByteProtocol {
     }
   }
 
+  @Override
+  public Object decode(ByteBuffer buffer, boolean endOfStream) throws IOException {
+    if (!buffer.hasRemaining()) {
+      return null;
+    }
+
+    // start search at 2nd byte to indicate whether we have reached a new document.
+    int patternIndex = indexOf(buffer, XML_PATTERN_BYTES, 1);
+    int length;
+    if (patternIndex > 0) {
+      length = patternIndex;
+    } else if (endOfStream || !isRepeat(patternIndex, READ_BUFFER_SIZE, 0)) {
+      length = buffer.remaining();
+    } else {
+      return null;
+    }
+
+    byte[] data = new byte[length];
+    buffer.get(data);
+    return data;
+  }
+
+  private int indexOf(ByteBuffer buffer, byte[] pattern, int from) {
+    int start = buffer.position();
+    int last = buffer.limit() - pattern.length;
+    for (int i = start + from; i <= last; ++i) {
+      int j = 0;
+      while (j < pattern.length && buffer.get(i + j) == pattern[j]) {
+        ++j;
+      }
+      if (j == pattern.length) {
+        return i - start;
+      }
+    }
+    return -1;
+  }
+
   /**
    * Show we continue reading? This class, following previous implementations, only reads while input is saturated.
    * 
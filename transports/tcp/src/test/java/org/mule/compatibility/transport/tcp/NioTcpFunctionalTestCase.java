@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.compatibility.transport.tcp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.mule.functional.junit4.FunctionalTestCase;
+import org.mule.runtime.core.api.MuleMessage;
+import org.mule.runtime.core.api.client.MuleClient;
+import org.mule.tck.junit4.rule.DynamicPort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+
+public class NioTcpFunctionalTestCase extends FunctionalTestCase {
+
+  protected static String TEST_MESSAGE = "Test TCP Request";
+
+  @ClassRule
+  public static DynamicPort dynamicPort1 = new DynamicPort("port1");
+
+  @ClassRule
+  public static DynamicPort dynamicPort2 = new DynamicPort("port2");
+
+  @ClassRule
+  public static DynamicPort dynamicPort3 = new DynamicPort("port3");
+
+  public NioTcpFunctionalTestCase() {
+    setDisposeContextPerClass(true);
+  }
+
+  @Override
+  protected String getConfigFile() {
+    return "nio-tcp-functional-test-flow.xml";
+  }
+
+  @Test
+  public void testSend() throws Exception {
+    MuleClient client = muleContext.getClient();
+    MuleMessage result = client.send("clientEndpoint", TEST_MESSAGE, null).getRight();
+    assertEquals(TEST_MESSAGE + " Received", getPayloadAsString(result));
+  }
+
+  @Test
+  public void testManySendsOverKeptOpenSocket() throws Exception {
+    MuleClient client = muleContext.getClient();
+    for (int i = 0; i < 20; ++i) {
+      MuleMessage result = client.send("clientEndpoint", TEST_MESSAGE + i, null).getRight();
+      assertEquals(TEST_MESSAGE + i + " Received", getPayloadAsString(result));
+    }
+  }
+
+  @Test
+  public void testSendWithSafeProtocol() throws Exception {
+    MuleClient client = muleContext.getClient();
+    MuleMessage result = client.send("safeClientEndpoint", TEST_MESSAGE, null).getRight();
+    assertEquals(TEST_MESSAGE + " Received", getPayloadAsString(result));
+  }
+
+  @Test
+  public void testConnectionExceedingMaxBufferSizeIsClosed() throws Exception {
+    byte[] chunk = new byte[1024];
+    Arrays.fill(chunk, (byte) 'a');
+
+    try (Socket socket = new Socket("localhost", dynamicPort3.getNumber())) {
+      socket.setSoTimeout(RECEIVE_TIMEOUT);
+      try {
+        OutputStream out = socket.getOutputStream();
+        out.write("<?xml version=\"1.0\"?><message>".getBytes());
+        for (int i = 0; i < 64; ++i) {
+          out.write(chunk);
+        }
+        out.flush();
+      } catch (IOException e) {
+        // the receiver closed the connection before everything was written
+      }
+
+      try {
+        assertEquals(-1, socket.getInputStream().read());
+      } catch (SocketTimeoutException e) {
+        fail("Connection was not closed");
+      } catch (IOException e) {
+        // a reset connection was closed as well
+      }
+    }
+  }
+}
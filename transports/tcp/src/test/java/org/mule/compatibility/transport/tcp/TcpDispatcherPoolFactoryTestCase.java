@@ -10,10 +10,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import org.mule.compatibility.core.api.transport.Connector;
+import org.mule.compatibility.core.transport.ConcurrentKeyedObjectPool;
+import org.mule.compatibility.core.transport.ConcurrentKeyedObjectPoolFactory;
 import org.mule.compatibility.core.transport.ConfigurableKeyedObjectPool;
 import org.mule.compatibility.core.transport.ConfigurableKeyedObjectPoolFactory;
 import org.mule.compatibility.core.transport.DefaultConfigurableKeyedObjectPool;
-import org.mule.compatibility.core.transport.DefaultConfigurableKeyedObjectPoolFactory;
 import org.mule.compatibility.transport.tcp.TcpConnector;
 import org.mule.functional.junit4.FunctionalTestCase;
 
@@ -44,8 +45,8 @@ public class TcpDispatcherPoolFactoryTestCase extends FunctionalTestCase {
 
     assertTrue(connector instanceof TcpConnector);
     TcpConnector tcpConnector = (TcpConnector) connector;
-    assertEquals(DefaultConfigurableKeyedObjectPoolFactory.class, tcpConnector.getDispatcherPoolFactory().getClass());
-    assertEquals(DefaultConfigurableKeyedObjectPool.class, tcpConnector.getDispatchers().getClass());
+    assertEquals(ConcurrentKeyedObjectPoolFactory.class, tcpConnector.getDispatcherPoolFactory().getClass());
+    assertEquals(ConcurrentKeyedObjectPool.class, tcpConnector.getDispatchers().getClass());
   }
 
   @Test
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.compatibility.transport.tcp.protocols;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.mule.compatibility.transport.tcp.TcpProtocol;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+@SmallTest
+public class NonBlockingProtocolTestCase extends AbstractMuleTestCase {
+
+  private static final String XML_MESSAGE = "<?xml version=\"1.0\"?><data>hello</data>";
+
+  @Test
+  public void lengthWaitsForWholeMessage() throws Exception {
+    LengthProtocol protocol = new LengthProtocol();
+    byte[] encoded = encode(protocol, "hello", "goodbye");
+
+    ByteBuffer buffer = ByteBuffer.wrap(encoded, 0, 6);
+    assertThat(protocol.decode(buffer, false), is(nullValue()));
+    assertThat(buffer.position(), is(0));
+
+    buffer = ByteBuffer.wrap(encoded);
+    assertThat(new String((byte[]) protocol.decode(buffer, false)), equalTo("hello"));
+    assertThat(new String((byte[]) protocol.decode(buffer, false)), equalTo("goodbye"));
+    assertThat(protocol.decode(buffer, false), is(nullValue()));
+  }
+
+  @Test(expected = IOException.class)
+  public void lengthOverLimit() throws Exception {
+    LengthProtocol protocol = new LengthProtocol(2);
+    protocol.decode(ByteBuffer.wrap(encode(new LengthProtocol(), "hello")), false);
+  }
+
+  @Test
+  public void safeKeepsCookieUntilWholeMessage() throws Exception {
+    SafeProtocol protocol = new SafeProtocol();
+    byte[] encoded = encode(protocol, "hello");
+
+    ByteBuffer buffer = ByteBuffer.wrap(encoded, 0, encoded.length - 1);
+    assertThat(protocol.decode(buffer, false), is(nullValue()));
+    assertThat(buffer.position(), is(0));
+
+    buffer = ByteBuffer.wrap(encoded);
+    assertThat(new String((byte[]) protocol.decode(buffer, false)), equalTo("hello"));
+    assertThat(buffer.hasRemaining(), is(false));
+  }
+
+  @Test(expected = IOException.class)
+  public void safeRejectsOtherProtocols() throws Exception {
+    new SafeProtocol().decode(ByteBuffer.wrap(encode(new LengthProtocol(), "not a cookie, but long enough")), false);
+  }
+
+  @Test
+  public void directTakesEverythingAvailable() throws Exception {
+    ByteBuffer buffer = ByteBuffer.wrap("hello".getBytes());
+    assertThat(new String((byte[]) new DirectProtocol().decode(buffer, false)), equalTo("hello"));
+    assertThat(new DirectProtocol().decode(buffer, false), is(nullValue()));
+  }
+
+  @Test
+  public void eofWaitsForEndOfStream() throws Exception {
+    ByteBuffer buffer = ByteBuffer.wrap("hello".getBytes());
+    assertThat(new EOFProtocol().decode(buffer, false), is(nullValue()));
+    assertThat(new String((byte[]) new EOFProtocol().decode(buffer, true)), equalTo("hello"));
+  }
+
+  @Test
+  public void xmlSplitsOnDeclaration() throws Exception {
+    XmlMessageProtocol protocol = new XmlMessageEOFProtocol();
+    ByteBuffer buffer = ByteBuffer.wrap((XML_MESSAGE + XML_MESSAGE).getBytes());
+
+    assertThat(new String((byte[]) protocol.decode(buffer, false)), equalTo(XML_MESSAGE));
+    assertThat(protocol.decode(buffer, false), is(nullValue()));
+    assertThat(new String((byte[]) protocol.decode(buffer, true)), equalTo(XML_MESSAGE));
+  }
+
+  private byte[] encode(TcpProtocol protocol, String... messages) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (String message : messages) {
+      protocol.write(out, message);
+    }
+    return out.toByteArray();
+  }
+}
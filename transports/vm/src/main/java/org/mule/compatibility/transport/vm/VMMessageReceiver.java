@@ -27,7 +27,6 @@ import org.mule.runtime.core.util.queue.QueueSession;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.RejectedExecutionException;
 
@@ -142,24 +141,16 @@ public class VMMessageReceiver extends TransactedPollingMessageReceiver {
     QueueSession qs = connector.getTransactionalResource(endpoint);
     Queue queue = qs.getQueue(endpoint.getEndpointURI().getAddress());
 
-    // The list of retrieved messages that will be returned
-    List<MuleMessage> messages = new LinkedList<>();
-
     int batchSize = getBatchSize(queue.size());
 
-    // try to get the first event off the queue
-    MuleMessage message = getMessage(queue, connector.getQueueTimeout());
+    // wait for the first event and take as many more as are already available, in a single call
+    List<Serializable> polledItems = new ArrayList<>(batchSize + 1);
+    queue.drainTo(polledItems, batchSize + 1, connector.getQueueTimeout());
 
-    if (message != null) {
-      messages.add(message);
-
-      // keep batching if more events are available
-      for (int i = 0; i < batchSize && message != null; i++) {
-        message = getMessage(queue, 0);
-        if (message != null) {
-          messages.add(message);
-        }
-      }
+    // The list of retrieved messages that will be returned
+    List<MuleMessage> messages = new ArrayList<>(polledItems.size());
+    for (Serializable polledItem : polledItems) {
+      messages.add(toMessage(polledItem));
     }
 
     // let our workManager handle the batch of events
@@ -167,7 +158,10 @@ public class VMMessageReceiver extends TransactedPollingMessageReceiver {
   }
 
   private MuleMessage getMessage(Queue queue, int timeout) throws InterruptedException {
-    Serializable polledItem = queue.poll(timeout);
+    return toMessage(queue.poll(timeout));
+  }
+
+  private MuleMessage toMessage(Serializable polledItem) {
     if (polledItem instanceof MuleEvent) {
       return ((MuleEvent) polledItem).getMessage();
     } else {